@@ -0,0 +1,65 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 사용자 정보 응답 디코딩
+ * - mapThenWalk: 기존 경로 (DefaultOAuth2UserService처럼 Map<String, Object>로 변환 + kakao_account.profile을 값마다 따라감)
+ * - streaming: KakaoProfile.read (필요한 필드만 읽고 나머지는 건너뜀)
+ * -prof gc 의 gc.alloc.rate.norm(B/op)으로 로그인당 할당량 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KakaoProfileDecodingBenchmark {
+
+    // 동의항목을 모두 받은 실제 응답 형태
+    private static final byte[] RESPONSE = """
+            {"id":3141592653,"connected_at":"2025-03-14T01:45:28Z",
+             "properties":{"nickname":"홍길동","profile_image":"http://k.kakaocdn.net/dn/abc/img_640x640.jpg",
+                           "thumbnail_image":"http://k.kakaocdn.net/dn/abc/img_110x110.jpg"},
+             "kakao_account":{"profile_nickname_needs_agreement":false,"profile_image_needs_agreement":false,
+               "profile":{"nickname":"홍길동","thumbnail_image_url":"http://k.kakaocdn.net/dn/abc/img_110x110.jpg",
+                          "profile_image_url":"http://k.kakaocdn.net/dn/abc/img_640x640.jpg",
+                          "is_default_image":false,"is_default_nickname":false},
+               "has_email":true,"email_needs_agreement":false,"is_email_valid":true,"is_email_verified":true,
+               "email":"sample@sample.com"},
+             "for_partner":{"uuid":"abcdefg123456"}}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void mapThenWalk(Blackhole bh) throws IOException {
+        Map<String, Object> attrs = objectMapper.readValue(RESPONSE, Map.class);
+        bh.consume(attrs.get("id"));
+        bh.consume(profileValue(attrs, "nickname"));
+        bh.consume(profileValue(attrs, "thumbnail_image_url"));
+        bh.consume(profileValue(attrs, "profile_image_url"));
+    }
+
+    @Benchmark
+    public KakaoProfile streaming() throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(RESPONSE)) {
+            return KakaoProfile.read(parser);
+        }
+    }
+
+    private static Object profileValue(Map<String, Object> attrs, String name) {
+        if (!(attrs.get("kakao_account") instanceof Map<?, ?> account)) return null;
+        if (!(account.get("profile") instanceof Map<?, ?> profile)) return null;
+        return profile.get(name);
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.hyeonseo.auth.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fppt.jedismock.RedisServer;
+import io.github.hyeonseo.auth.common.codec.PayloadCodecProperties;
+import io.github.hyeonseo.auth.common.codec.PayloadFormat;
+import io.github.hyeonseo.auth.common.id.TsidGenerator;
+import io.github.hyeonseo.auth.token.AccessTokenService;
+import io.github.hyeonseo.auth.token.FastAccessTokenVerifier;
+import io.github.hyeonseo.auth.token.JwtKeyRing;
+import io.github.hyeonseo.auth.token.JwtProperties;
+import io.github.hyeonseo.auth.token.RedisRefreshSessionStore;
+import io.github.hyeonseo.auth.token.RefreshSessionStore;
+import io.github.hyeonseo.auth.token.RefreshSessionProperties;
+import io.github.hyeonseo.auth.token.RefreshTokenPayloadCodec;
+import io.github.hyeonseo.auth.token.RefreshTokenService;
+import io.github.hyeonseo.auth.token.SignedRefreshTokens;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 공용 객체 생성 (스프링 컨텍스트 없이 직접 조립)
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {}
+
+    public static JwtProperties jwtProperties() {
+        return new JwtProperties(
+                "kakao-oauth2-jwt",
+                "benchmark-secret-benchmark-secret-0123456789",
+                null,
+                List.of(),
+                900,
+                1209600
+        );
+    }
+
+    public static RefreshSessionProperties singleSession() {
+        return new RefreshSessionProperties(RefreshSessionProperties.Mode.SINGLE, 1, false);
+    }
+
+    public static JwtKeyRing keyRing(JwtProperties props) {
+        return new JwtKeyRing(props, new StandardEnvironment());
+    }
+
+    public static AccessTokenService accessTokenService(JwtProperties props) {
+        JwtKeyRing keyRing = keyRing(props);
+        return new AccessTokenService(props, keyRing, new FastAccessTokenVerifier(props, keyRing));
+    }
+
+    public static ObjectMapper objectMapper() {
+        return new ObjectMapper();
+    }
+
+    public static RefreshTokenPayloadCodec refreshCodec(PayloadFormat format) {
+        return new RefreshTokenPayloadCodec(objectMapper(), new PayloadCodecProperties(format));
+    }
+
+    public static RefreshTokenService refreshTokenService(InProcessRedis redis, PayloadFormat format) {
+        return refreshTokenService(new RedisRefreshSessionStore(redis.template(), redis.payloadTemplate()), format);
+    }
+
+    public static RefreshTokenService refreshTokenService(RefreshSessionStore store, PayloadFormat format) {
+        JwtProperties props = jwtProperties();
+        return new RefreshTokenService(store, refreshCodec(format), props, singleSession(),
+                new SignedRefreshTokens(props, keyRing(props)));
+    }
+
+    /**
+     * 프로세스 안에서 동작하는 Redis 대체 서버 (RESP 프로토콜, Lua 지원)
+     * - 실제 Lettuce 클라이언트로 접속하므로 직렬화/네트워크 왕복 비용까지 측정됨
+     */
+    public static final class InProcessRedis implements AutoCloseable {
+
+        private final RedisServer server;
+        private final LettuceConnectionFactory connectionFactory;
+        private final StringRedisTemplate template;
+        private final RedisTemplate<String, byte[]> payloadTemplate;
+
+        public InProcessRedis() throws IOException {
+            server = RedisServer.newRedisServer().start();
+
+            connectionFactory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration(server.getHost(), server.getBindPort()));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            template = new StringRedisTemplate(connectionFactory);
+
+            payloadTemplate = new RedisTemplate<>();
+            payloadTemplate.setConnectionFactory(connectionFactory);
+            payloadTemplate.setKeySerializer(RedisSerializer.string());
+            payloadTemplate.setValueSerializer(RedisSerializer.byteArray());
+            payloadTemplate.afterPropertiesSet();
+        }
+
+        public StringRedisTemplate template() {
+            return template;
+        }
+
+        public RedisTemplate<String, byte[]> payloadTemplate() {
+            return payloadTemplate;
+        }
+
+        public LettuceConnectionFactory connectionFactory() {
+            return connectionFactory;
+        }
+
+        @Override
+        public void close() throws IOException {
+            connectionFactory.destroy();
+            server.stop();
+        }
+    }
+
+    /**
+     * 메모리 DB (H2, MySQL 모드) + JPA (스키마는 엔티티에서 생성)
+     * - 앱과 같은 batch insert 설정 (hibernate.jdbc.batch_size / order_inserts)
+     */
+    public static final class EmbeddedDatabase implements AutoCloseable {
+
+        private final DriverManagerDataSource dataSource;
+        private final LocalContainerEntityManagerFactoryBean emfBean;
+        private final EntityManager entityManager;
+        private final JpaTransactionManager transactionManager;
+
+        public EmbeddedDatabase(String name) {
+            TsidGenerator.configureShared(0); // 벤치마크는 프로세스 하나 (IdConfig 없이 엔티티 id 발급)
+            dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+
+            emfBean = new LocalContainerEntityManagerFactoryBean();
+            emfBean.setDataSource(dataSource);
+            emfBean.setPackagesToScan("io.github.hyeonseo.auth.user.domain");
+            emfBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            emfBean.setJpaPropertyMap(Map.of(
+                    "hibernate.hbm2ddl.auto", "create-drop",
+                    "hibernate.jdbc.batch_size", "100",
+                    "hibernate.order_inserts", "true"
+            ));
+            emfBean.afterPropertiesSet();
+
+            EntityManagerFactory emf = emfBean.getObject();
+            entityManager = SharedEntityManagerCreator.createSharedEntityManager(emf);
+            transactionManager = new JpaTransactionManager(emf);
+        }
+
+        public <T> T repository(Class<T> repositoryInterface) {
+            return new JpaRepositoryFactory(entityManager).getRepository(repositoryInterface);
+        }
+
+        public TransactionTemplate transactionTemplate() {
+            return new TransactionTemplate(transactionManager);
+        }
+
+        public JdbcTemplate jdbcTemplate() {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Override
+        public void close() {
+            emfBean.destroy();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.hyeonseo.auth.bench;
+
+import io.github.hyeonseo.auth.common.codec.PayloadCodec;
+import io.github.hyeonseo.auth.common.codec.PayloadCodecProperties;
+import io.github.hyeonseo.auth.common.codec.PayloadFormat;
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.signup.ticket.SignupTicketPayload;
+import io.github.hyeonseo.auth.signup.ticket.SignupTicketPayloadCodec;
+import io.github.hyeonseo.auth.token.RefreshTokenPayloadCodec;
+import io.github.hyeonseo.auth.token.RefreshTokenService.RefreshTokenPayload;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+/**
+ * payload 형식(JSON / BINARY)별 Redis 키당 메모리 비교
+ * - 항상: 인코딩된 값 크기(바이트) 출력
+ * - REDIS_URL(기본 redis://localhost:6379)에 접속되면: 키를 SAMPLES개씩 저장하고 MEMORY USAGE 평균 출력 (끝나면 삭제)
+ * 실행: ./gradlew payloadMemory
+ */
+public final class PayloadMemoryComparison {
+
+    private static final int SAMPLES = 1000;
+    private static final String KEY_PREFIX = "bench:payload:";
+
+    public static void main(String[] args) {
+        long now = Instant.now().getEpochSecond();
+        IntFunction<RefreshTokenPayload> refresh = i ->
+                new RefreshTokenPayload(ThreadLocalRandom.current().nextLong(1, 10_000_000), UserRole.CUSTOMER, now);
+        IntFunction<SignupTicketPayload> ticket = i ->
+                new SignupTicketPayload(AuthProvider.KAKAO, String.valueOf(3_000_000_000L + i), UserRole.CUSTOMER, now);
+
+        System.out.println("== encoded value size (bytes) ==");
+        for (PayloadFormat format : PayloadFormat.values()) {
+            System.out.printf("%-7s refresh=%d, signupTicket=%d%n", format,
+                    refreshCodec(format).encode(refresh.apply(0)).length,
+                    ticketCodec(format).encode(ticket.apply(0)).length);
+        }
+
+        String url = System.getenv().getOrDefault("REDIS_URL", "redis://localhost:6379");
+        RedisClient client = RedisClient.create(url);
+        try (StatefulRedisConnection<byte[], byte[]> connection = client.connect(ByteArrayCodec.INSTANCE)) {
+            RedisCommands<byte[], byte[]> redis = connection.sync();
+
+            System.out.println("== MEMORY USAGE per key (avg of " + SAMPLES + ", " + url + ") ==");
+            for (PayloadFormat format : PayloadFormat.values()) {
+                System.out.printf("%-7s refresh=%.1f, signupTicket=%.1f%n", format,
+                        memoryUsage(redis, "auth:refresh:token:", refreshCodec(format), refresh),
+                        memoryUsage(redis, "signup:ticket:", ticketCodec(format), ticket));
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Redis not reachable (" + url + "), MEMORY USAGE skipped: " + e.getMessage());
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    /**
+     * 실제 키 형태(prefix + UUID)로 저장한 뒤 MEMORY USAGE 평균
+     */
+    private static <T> double memoryUsage(RedisCommands<byte[], byte[]> redis, String keyPrefix,
+                                          PayloadCodec<T> codec, IntFunction<T> payloads) {
+        byte[][] keys = new byte[SAMPLES][];
+        long total = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            keys[i] = (KEY_PREFIX + keyPrefix + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+            redis.setex(keys[i], 600, codec.encode(payloads.apply(i)));
+            total += redis.memoryUsage(keys[i]);
+        }
+        redis.del(keys);
+        return (double) total / SAMPLES;
+    }
+
+    private static RefreshTokenPayloadCodec refreshCodec(PayloadFormat format) {
+        return new RefreshTokenPayloadCodec(BenchmarkFixtures.objectMapper(), new PayloadCodecProperties(format));
+    }
+
+    private static SignupTicketPayloadCodec ticketCodec(PayloadFormat format) {
+        return new SignupTicketPayloadCodec(BenchmarkFixtures.objectMapper(), new PayloadCodecProperties(format));
+    }
+
+    private PayloadMemoryComparison() {}
+}
@@ -0,0 +1,163 @@
+package io.github.hyeonseo.auth.bench;
+
+import io.github.hyeonseo.auth.common.codec.PayloadFormat;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.security.filter.VerifiedTokenCache;
+import io.github.hyeonseo.auth.security.filter.VerifiedTokenCacheProperties;
+import io.github.hyeonseo.auth.security.principal.UserPrincipal;
+import io.github.hyeonseo.auth.token.AccessTokenService;
+import io.github.hyeonseo.auth.token.RefreshTokenService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 높은 동시성에서 스레드 모델별 로그인/재발급 처리량 (spring.threads.virtual.enabled 비교용)
+ * - PLATFORM: Tomcat 기본값과 같은 플랫폼 스레드 200개 풀
+ * - VIRTUAL: 요청마다 가상 스레드
+ * - 한 번 호출에 concurrency개 요청을 동시에 넣고 모두 끝날 때까지 대기
+ * - login: 카카오 토큰/사용자 정보 API 2번(upstreamLatencyMillis씩 sleep으로 대체) + access/refresh 발급
+ * - refresh: refresh 로테이션(Redis 대체 서버 왕복) + access 발급
+ * - authenticate: 처음 보는 access token 검증 (VerifiedTokenCache 미스 -> SHA-256 + 빠른 경로 검증)
+ *   -> VIRTUAL에서는 요청마다 스레드가 새로 생기므로 스레드별 캐시(ThreadLocal)를 쓰면 매번 버퍼/Mac을 새로 만들게 됨
+ *      (빠른 경로는 플랫폼 스레드면 ThreadLocal, 가상 스레드면 공유 슬롯을 쓰므로 두 모델 모두 gc.alloc.rate.norm이 낮아야 함)
+ * - 결과의 requests(ops/s)가 초당 처리 요청 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ThreadModelLoadBenchmark {
+
+    public enum ThreadModel { PLATFORM, VIRTUAL }
+
+    private static final int PLATFORM_POOL_SIZE = 200; // server.tomcat.threads.max 기본값
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ThreadModel threadModel;
+
+    @Param({"1000"})
+    public int concurrency;
+
+    @Param({"50"})
+    public long upstreamLatencyMillis;
+
+    private BenchmarkFixtures.InProcessRedis redis;
+    private AccessTokenService accessTokenService;
+    private RefreshTokenService refreshTokenService;
+    private VerifiedTokenCache verifiedTokenCache;
+    private ExecutorService executor;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Requests {
+        public long requests;
+    }
+
+    @State(Scope.Thread)
+    public static class RefreshTokens {
+        List<String> tokens;
+
+        // 로테이션하면 기존 토큰은 폐기되므로 매 호출 전에 새로 발급 (측정 시간에서 제외)
+        @Setup(Level.Invocation)
+        public void issue(ThreadModelLoadBenchmark bench) {
+            tokens = new ArrayList<>(bench.concurrency);
+            for (int i = 0; i < bench.concurrency; i++) {
+                tokens.add(bench.refreshTokenService.issueSingleSession(i + 1, UserRole.CUSTOMER).token());
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class AccessTokens {
+        List<String> tokens;
+
+        // 모두 캐시 미스가 되도록 매 호출 전에 캐시를 비우고 새로 발급 (측정 시간에서 제외)
+        @Setup(Level.Invocation)
+        public void issue(ThreadModelLoadBenchmark bench) {
+            bench.verifiedTokenCache.clear();
+            tokens = new ArrayList<>(bench.concurrency);
+            for (int i = 0; i < bench.concurrency; i++) {
+                tokens.add(bench.accessTokenService.issueAccessToken(String.valueOf(i + 1), UserRole.CUSTOMER));
+            }
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        redis = new BenchmarkFixtures.InProcessRedis();
+        accessTokenService = BenchmarkFixtures.accessTokenService(BenchmarkFixtures.jwtProperties());
+        refreshTokenService = BenchmarkFixtures.refreshTokenService(redis, PayloadFormat.BINARY);
+        verifiedTokenCache = new VerifiedTokenCache(new VerifiedTokenCacheProperties(true, concurrency * 2, 60));
+        executor = threadModel == ThreadModel.VIRTUAL
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        redis.close();
+    }
+
+    @Benchmark
+    public void login(Requests counter) throws Exception {
+        List<Callable<String>> tasks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            long userId = i + 1;
+            tasks.add(() -> {
+                Thread.sleep(upstreamLatencyMillis); // 카카오 토큰 교환
+                Thread.sleep(upstreamLatencyMillis); // 카카오 사용자 정보
+                String accessToken = accessTokenService.issueAccessToken(String.valueOf(userId), UserRole.CUSTOMER);
+                refreshTokenService.issue(userId, UserRole.CUSTOMER);
+                return accessToken;
+            });
+        }
+        runAll(tasks);
+        counter.requests += concurrency;
+    }
+
+    @Benchmark
+    public void refresh(Requests counter, RefreshTokens refreshTokens) throws Exception {
+        List<Callable<String>> tasks = new ArrayList<>(concurrency);
+        for (String token : refreshTokens.tokens) {
+            tasks.add(() -> {
+                var rotated = refreshTokenService.rotate(token);
+                return accessTokenService.issueAccessToken(String.valueOf(rotated.payload().userId()), rotated.payload().role());
+            });
+        }
+        runAll(tasks);
+        counter.requests += concurrency;
+    }
+
+    @Benchmark
+    public void authenticate(Requests counter, AccessTokens accessTokens) throws Exception {
+        List<Callable<String>> tasks = new ArrayList<>(concurrency);
+        for (String token : accessTokens.tokens) {
+            tasks.add(() -> {
+                var entry = verifiedTokenCache.getOrVerify(token, t -> {
+                    var verified = accessTokenService.verify(t);
+                    return new VerifiedTokenCache.Entry(new UserPrincipal(verified.userId(), verified.role()),
+                            List.of(), verified.expiresAtEpochSec() * 1000, verified);
+                });
+                return entry.principal().role().name();
+            });
+        }
+        runAll(tasks);
+        counter.requests += concurrency;
+    }
+
+    private void runAll(List<Callable<String>> tasks) throws Exception {
+        for (Future<String> f : executor.invokeAll(tasks)) {
+            f.get(); // 실패하면 그대로 예외
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.hyeonseo.auth.security.filter;
+
+import io.github.hyeonseo.auth.bench.BenchmarkFixtures;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.token.AccessTokenRevocationProperties;
+import io.github.hyeonseo.auth.token.AccessTokenRevocations;
+import io.github.hyeonseo.auth.token.AccessTokenService;
+import io.github.hyeonseo.auth.token.JwtProperties;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter.doFilterInternal 한 번 (Bearer 헤더 -> SecurityContext 설정)
+ * - cacheEnabled=false: 매 요청 서명 검증
+ * - cacheEnabled=true: 같은 토큰 반복 요청 (VerifiedTokenCache 적중)
+ * - revocationEnabled=true: 폐기 목록 확인 추가 (폐기 안 된 토큰 -> Bloom filter 음성, Redis 호출 없음)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    @Param({"false", "true"})
+    public boolean revocationEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private BenchmarkFixtures.InProcessRedis redis;
+    private final FilterChain chain = (req, res) -> {};
+
+    @Setup
+    public void setup() throws Exception {
+        JwtProperties props = BenchmarkFixtures.jwtProperties();
+        AccessTokenService accessTokenService = BenchmarkFixtures.accessTokenService(props);
+        VerifiedTokenCache cache = new VerifiedTokenCache(new VerifiedTokenCacheProperties(cacheEnabled, 10_000, 60));
+
+        redis = new BenchmarkFixtures.InProcessRedis();
+        AccessTokenRevocations revocations = new AccessTokenRevocations(redis.template(), accessTokenService,
+                new AccessTokenRevocationProperties(revocationEnabled, 100_000, 0.001, 30), props);
+        filter = new JwtAuthenticationFilter(accessTokenService, BenchmarkFixtures.objectMapper(), cache, revocations);
+
+        String token = accessTokenService.issueAccessToken("123456", UserRole.CUSTOMER);
+        request = new MockHttpServletRequest("GET", "/api/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @Benchmark
+    public Object doFilterInternal() throws Exception {
+        filter.doFilterInternal(request, response, chain);
+        Object auth = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return auth;
+    }
+}
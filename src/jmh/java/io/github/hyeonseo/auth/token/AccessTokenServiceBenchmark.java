@@ -0,0 +1,61 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.bench.BenchmarkFixtures;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AccessTokenService 발급/검증
+ * - issueAccessToken: 서명 + 직렬화
+ * - parseClaims: jjwt 검증 + extractRole (기존 필터 경로)
+ * - fastVerify: FastAccessTokenVerifier (바이트 단위 검증)
+ * - fastVerifyContended: 코어 수만큼의 스레드가 동시에 fastVerify (Scratch 재사용 방식의 경합 비용, 1스레드 대비 처리량이 코어 수에 비례해야 함)
+ * -prof gc 의 gc.alloc.rate.norm(B/op)으로 요청당 할당량 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessTokenServiceBenchmark {
+
+    private AccessTokenService accessTokenService;
+    private FastAccessTokenVerifier fastVerifier;
+    private String token;
+
+    @Setup
+    public void setup() {
+        JwtProperties props = BenchmarkFixtures.jwtProperties();
+        JwtKeyRing keyRing = BenchmarkFixtures.keyRing(props);
+        fastVerifier = new FastAccessTokenVerifier(props, keyRing);
+        accessTokenService = new AccessTokenService(props, keyRing, fastVerifier);
+        token = accessTokenService.issueAccessToken("123456", UserRole.CUSTOMER);
+    }
+
+    @Benchmark
+    public String issueAccessToken() {
+        return accessTokenService.issueAccessToken("123456", UserRole.CUSTOMER);
+    }
+
+    @Benchmark
+    public UserRole parseClaims() {
+        Claims claims = accessTokenService.parseClaims(token);
+        Long.valueOf(claims.getSubject());
+        return accessTokenService.extractRole(claims);
+    }
+
+    @Benchmark
+    public VerifiedAccessToken fastVerify() {
+        return fastVerifier.verify(token);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public VerifiedAccessToken fastVerifyContended() {
+        return fastVerifier.verify(token);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.bench.BenchmarkFixtures;
+import io.github.hyeonseo.auth.common.codec.PayloadFormat;
+import io.github.hyeonseo.auth.common.store.TokenStoreProperties;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RefreshTokenService 로그인 발급/재발급
+ * - REDIS: 프로세스 내 Redis 대체 서버 (네트워크 왕복 횟수가 그대로 드러나므로 Redis 호출 수를 줄이는 변경의 기준선)
+ * - MEMORY: InMemoryRefreshSessionStore (app.store.type=MEMORY)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RefreshTokenServiceBenchmark {
+
+    @Param({"JSON", "BINARY"})
+    public PayloadFormat format;
+
+    @Param({"REDIS", "MEMORY"})
+    public TokenStoreProperties.Type store;
+
+    private AutoCloseable backend;
+    private RefreshTokenService refreshTokenService;
+
+    @State(Scope.Thread)
+    public static class Session {
+        long userId;
+        String token;
+
+        @Setup
+        public void setup(RefreshTokenServiceBenchmark bench) {
+            userId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+            token = bench.refreshTokenService.issueSingleSession(userId, UserRole.CUSTOMER).token();
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        if (store == TokenStoreProperties.Type.MEMORY) {
+            var memory = new InMemoryRefreshSessionStore(BenchmarkFixtures.refreshCodec(format), new TokenStoreProperties(store, 0, 0, 0));
+            backend = memory;
+            refreshTokenService = BenchmarkFixtures.refreshTokenService(memory, format);
+            return;
+        }
+
+        var redis = new BenchmarkFixtures.InProcessRedis();
+        backend = redis;
+        refreshTokenService = BenchmarkFixtures.refreshTokenService(redis, format);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        backend.close();
+    }
+
+    @Benchmark
+    public RefreshTokenService.IssuedRefreshToken issueSingleSession(Session session) {
+        return refreshTokenService.issueSingleSession(session.userId, UserRole.CUSTOMER);
+    }
+
+    @Benchmark
+    public RefreshTokenService.RotatedRefreshToken rotateSingleSession(Session session) {
+        var rotated = refreshTokenService.rotateSingleSession(session.token);
+        session.token = rotated.token();
+        return rotated;
+    }
+}
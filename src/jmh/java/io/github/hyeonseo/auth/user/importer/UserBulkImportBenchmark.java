@@ -0,0 +1,96 @@
+package io.github.hyeonseo.auth.user.importer;
+
+import io.github.hyeonseo.auth.bench.BenchmarkFixtures;
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.Gender;
+import io.github.hyeonseo.auth.user.domain.Customer;
+import io.github.hyeonseo.auth.user.repository.CustomerRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 일괄 등록 (H2 메모리 DB)
+ * - jpaSaveAll: TSID id라 Hibernate batch insert 동작 (batch_size=100)
+ * - jdbcBatch: UserBulkImportService (JDBC batch, 엔티티 생성 없음)
+ * - 결과 단위 ops/s = 초당 등록 행 수 (@OperationsPerInvocation)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserBulkImportBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private BenchmarkFixtures.EmbeddedDatabase db;
+    private CustomerRepository customerRepository;
+    private TransactionTemplate tx;
+    private JdbcTemplate jdbcTemplate;
+    private UserBulkImportService importService;
+
+    @Setup
+    public void setup() {
+        db = new BenchmarkFixtures.EmbeddedDatabase("import");
+        customerRepository = db.repository(CustomerRepository.class);
+        tx = db.transactionTemplate();
+        jdbcTemplate = db.jdbcTemplate();
+        importService = new UserBulkImportService(jdbcTemplate, tx);
+    }
+
+    // 행이 계속 쌓여서 뒤 iteration일수록 인덱스가 커지지 않도록
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("truncate table customers");
+    }
+
+    @TearDown
+    public void tearDown() {
+        db.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int jpaSaveAll() {
+        List<Customer> customers = new ArrayList<>(ROWS);
+        for (LegacyUser u : nextUsers()) {
+            customers.add(Customer.builder()
+                    .providerId(u.providerId())
+                    .providerType(u.providerType())
+                    .email(u.email())
+                    .phoneNumber(u.phoneNumber())
+                    .birth(u.birth())
+                    .name(u.name())
+                    .gender(u.gender())
+                    .pin(u.pin())
+                    .build());
+        }
+        return tx.execute(status -> customerRepository.saveAll(customers).size());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int jdbcBatch() {
+        return importService.importCustomers(nextUsers(), 500).rows();
+    }
+
+    private List<LegacyUser> nextUsers() {
+        List<LegacyUser> users = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            long n = sequence.incrementAndGet();
+            users.add(new LegacyUser(AuthProvider.KAKAO, "legacy-" + n, null, "010-" + n,
+                    LocalDate.of(1990, 1, 1), "user" + n, Gender.MALE, 1234));
+        }
+        return users;
+    }
+}
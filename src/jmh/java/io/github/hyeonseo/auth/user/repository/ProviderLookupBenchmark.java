@@ -0,0 +1,85 @@
+package io.github.hyeonseo.auth.user.repository;
+
+import io.github.hyeonseo.auth.bench.BenchmarkFixtures;
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.Gender;
+import io.github.hyeonseo.auth.user.domain.Customer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 가입 여부 조회: 엔티티 로드 vs id projection
+ * - DB는 H2(MySQL 모드, 메모리)로 대체 -> 네트워크 없이 조회/하이드레이션 비용만 비교
+ * - 앱과 같이 호출마다 readOnly 트랜잭션 (open-in-view: false)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProviderLookupBenchmark {
+
+    private static final int USERS = 10_000;
+
+    private BenchmarkFixtures.EmbeddedDatabase db;
+    private CustomerRepository customerRepository;
+    private TransactionTemplate readOnly;
+
+    @Setup
+    public void setup() {
+        db = new BenchmarkFixtures.EmbeddedDatabase("lookup");
+        customerRepository = db.repository(CustomerRepository.class);
+
+        readOnly = db.transactionTemplate();
+        readOnly.setReadOnly(true);
+
+        db.transactionTemplate().executeWithoutResult(status -> {
+            List<Customer> customers = new ArrayList<>(USERS);
+            for (int i = 0; i < USERS; i++) {
+                customers.add(Customer.builder()
+                        .providerId(providerId(i))
+                        .providerType(AuthProvider.KAKAO)
+                        .phoneNumber("010-" + i)
+                        .birth(LocalDate.of(1990, 1, 1))
+                        .name("user" + i)
+                        .gender(Gender.FEMALE)
+                        .pin(1234)
+                        .build());
+            }
+            customerRepository.saveAll(customers);
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        db.close();
+    }
+
+    @Benchmark
+    public Long entityLoad() {
+        String providerId = providerId(ThreadLocalRandom.current().nextInt(USERS));
+        return readOnly.execute(status -> customerRepository
+                .findByProviderTypeAndProviderId(AuthProvider.KAKAO, providerId)
+                .map(Customer::getCustomerId)
+                .orElse(null));
+    }
+
+    @Benchmark
+    public Long idProjection() {
+        String providerId = providerId(ThreadLocalRandom.current().nextInt(USERS));
+        return readOnly.execute(status -> customerRepository
+                .findIdByProvider(AuthProvider.KAKAO, providerId)
+                .orElse(null));
+    }
+
+    private static String providerId(int i) {
+        return String.valueOf(3_000_000_000L + i);
+    }
+}
@@ -2,8 +2,10 @@ package io.github.hyeonseo.auth;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class KakaoOauth2JwtApplication {
 
 	public static void main(String[] args) {
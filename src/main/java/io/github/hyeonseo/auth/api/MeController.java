@@ -13,7 +13,7 @@ public class MeController {
     @GetMapping("/api/me")
     public Map<String, Object> me(@AuthenticationPrincipal UserPrincipal principal) {
         return Map.of(
-                "id", principal.id(),
+                "id", String.valueOf(principal.id()), // TSID(63비트)는 JS Number로 정확히 못 읽으므로 문자열 (JWT sub와 같은 형식)
                 "role", principal.role()
         );
     }
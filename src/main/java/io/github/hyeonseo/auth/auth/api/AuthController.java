@@ -1,19 +1,24 @@
 package io.github.hyeonseo.auth.auth.api;
 
+import io.github.hyeonseo.auth.security.principal.UserPrincipal;
+import io.github.hyeonseo.auth.token.AccessTokenRevocations;
 import io.github.hyeonseo.auth.token.RefreshTokenService;
 import io.github.hyeonseo.auth.token.AccessTokenService;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
@@ -23,6 +28,7 @@ public class AuthController {
 
     private final RefreshTokenService refreshTokenService;
     private final AccessTokenService accessTokenService;
+    private final AccessTokenRevocations accessTokenRevocations;
 
     @PostMapping("/refresh")
     public ResponseEntity<Map<String, Object>> refresh(HttpServletRequest request, HttpServletResponse response) {
@@ -38,7 +44,7 @@ public class AuthController {
         }
 
         // rotate
-        var rotated = refreshTokenService.rotateSingleSession(refreshToken);
+        var rotated = refreshTokenService.rotate(refreshToken);
         if (rotated == null) {
             clearRefreshCookie(response); // 안전하게 쿠키도 날려버리자
             return ResponseEntity.status(401).body(Map.of(
@@ -50,8 +56,8 @@ public class AuthController {
         // 새 refresh 쿠키 세팅
         setRefreshCookie(response, rotated.token(), rotated.ttlSeconds());
 
-        // 새 access 발급 (role/userId는 rotate 과정에서 payload로 이미 검증)
-        var payload = refreshTokenService.verify(rotated.token()); // 토큰 발급 직후라 항상 존재
+        // 새 access 발급 (role/userId는 rotate 스크립트에서 payload로 이미 검증)
+        var payload = rotated.payload();
         String subject = String.valueOf(payload.userId());
         String accessToken = accessTokenService.issueAccessToken(subject, payload.role());
 
@@ -70,9 +76,12 @@ public class AuthController {
 
         // Redis 토큰 정리
         if (refreshToken != null && !refreshToken.isBlank()) {
-            refreshTokenService.logoutSingleSession(refreshToken);
+            refreshTokenService.logout(refreshToken);
         }
 
+        // 같이 보낸 access token도 만료 전에 바로 폐기
+        accessTokenRevocations.revoke(bearerToken(request.getHeader(HttpHeaders.AUTHORIZATION)));
+
         // refresh 쿠키 삭제(Set-Cookie)
         clearRefreshCookie(response);
 
@@ -83,6 +92,27 @@ public class AuthController {
         ));
     }
 
+    /**
+     * 모든 기기 로그아웃 (access token 인증 필요)
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<Map<String, Object>> logoutAll(
+            @AuthenticationPrincipal UserPrincipal principal,
+            HttpServletResponse response
+    ) {
+        long revoked = refreshTokenService.logoutAll(principal.id(), principal.role());
+        accessTokenRevocations.revokeUser(principal.role(), principal.id()); // 이미 발급된 access token도 전부 폐기
+
+        // 현재 기기의 refresh 쿠키도 삭제
+        clearRefreshCookie(response);
+
+        return ResponseEntity.ok(Map.of(
+                "status", "SUCCESS",
+                "message", "모든 기기에서 로그아웃 완료",
+                "revokedSessions", revoked
+        ));
+    }
+
     private void setRefreshCookie(HttpServletResponse response, String refreshToken, long ttlSeconds) {
         ResponseCookie cookie = ResponseCookie.from(REFRESH_COOKIE_NAME, refreshToken)
                 .httpOnly(true)
@@ -107,6 +137,11 @@ public class AuthController {
         response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
     }
 
+    private static String bearerToken(String header) {
+        if (header == null || !header.startsWith("Bearer ")) return null;
+        return header.substring("Bearer ".length()).trim();
+    }
+
     private String extractCookie(HttpServletRequest request, String name) {
         Cookie[] cookies = request.getCookies();
         if (cookies == null) return null;
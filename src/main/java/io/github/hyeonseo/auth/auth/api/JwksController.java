@@ -0,0 +1,36 @@
+package io.github.hyeonseo.auth.auth.api;
+
+import io.github.hyeonseo.auth.token.JwksService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * 다른 서비스가 access token을 직접(오프라인) 검증할 수 있도록 공개키 제공
+ * - ETag가 같으면 304 (If-None-Match 처리는 ResponseEntity에서 자동)
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwksService jwksService;
+
+    @Value("${app.auth.jwt.jwks-max-age-seconds:300}")
+    private long maxAgeSeconds;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        var jwks = jwksService.current();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic())
+                .eTag(jwks.etag())
+                .body(jwks.json());
+    }
+}
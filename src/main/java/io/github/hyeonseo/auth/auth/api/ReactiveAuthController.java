@@ -0,0 +1,129 @@
+package io.github.hyeonseo.auth.auth.api;
+
+import io.github.hyeonseo.auth.security.principal.UserPrincipal;
+import io.github.hyeonseo.auth.token.AccessTokenRevocations;
+import io.github.hyeonseo.auth.token.AccessTokenService;
+import io.github.hyeonseo.auth.token.ReactiveRefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+/**
+ * AuthController의 리액티브 버전 (경로/응답 형식 동일)
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+
+    private static final String REFRESH_COOKIE_NAME = "REFRESH_TOKEN";
+    private static final String REFRESH_COOKIE_PATH = "/api/auth"; // 발급할 때 path와 반드시 동일해야 삭제됨
+
+    private final ReactiveRefreshTokenService refreshTokenService;
+    private final AccessTokenService accessTokenService;
+    private final AccessTokenRevocations accessTokenRevocations; // 블로킹 Redis 호출 -> boundedElastic
+
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<Map<String, Object>>> refresh(
+            @CookieValue(name = REFRESH_COOKIE_NAME, required = false) String refreshToken
+    ) {
+        // 쿠키가 없으면 재발급 불가
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return Mono.just(ResponseEntity.status(401).body(Map.of(
+                    "status", "ERROR",
+                    "message", "리프레시 토큰이 없습니다."
+            )));
+        }
+
+        return refreshTokenService.rotate(refreshToken)
+                .map(rotated -> {
+                    // 새 access 발급 (role/userId는 rotate 스크립트에서 payload로 이미 검증)
+                    var payload = rotated.payload();
+                    String accessToken = accessTokenService.issueAccessToken(String.valueOf(payload.userId()), payload.role());
+
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.SET_COOKIE, refreshCookie(rotated.token(), rotated.ttlSeconds()).toString())
+                            .body(Map.<String, Object>of(
+                                    "status", "SUCCESS",
+                                    "role", payload.role().name(),
+                                    "accessToken", accessToken,
+                                    "tokenType", "Bearer",
+                                    "expiresIn", accessTokenService.accessTtlSeconds()
+                            ));
+                })
+                .defaultIfEmpty(ResponseEntity.status(401)
+                        .header(HttpHeaders.SET_COOKIE, refreshCookie("", 0).toString()) // 안전하게 쿠키도 삭제
+                        .body(Map.of(
+                                "status", "ERROR",
+                                "message", "리프레시 토큰이 유효하지 않습니다."
+                        )));
+    }
+
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Map<String, Object>>> logout(
+            @CookieValue(name = REFRESH_COOKIE_NAME, required = false) String refreshToken,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization
+    ) {
+        Mono<Void> revoke = (refreshToken != null && !refreshToken.isBlank())
+                ? refreshTokenService.logout(refreshToken)
+                : Mono.empty();
+
+        // 같이 보낸 access token도 만료 전에 바로 폐기
+        revoke = revoke.then(Mono.<Void>fromRunnable(() -> accessTokenRevocations.revoke(bearerToken(authorization)))
+                .subscribeOn(Schedulers.boundedElastic()));
+
+        // 성공 응답 (idempotent)
+        return revoke.thenReturn(ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, refreshCookie("", 0).toString())
+                .body(Map.of(
+                        "status", "SUCCESS",
+                        "message", "로그아웃 완료"
+                )));
+    }
+
+    /**
+     * 모든 기기 로그아웃 (access token 인증 필요)
+     */
+    @PostMapping("/logout-all")
+    public Mono<ResponseEntity<Map<String, Object>>> logoutAll(@AuthenticationPrincipal UserPrincipal principal) {
+        Mono<Void> revokeAccess = Mono.<Void>fromRunnable(() -> accessTokenRevocations.revokeUser(principal.role(), principal.id()))
+                .subscribeOn(Schedulers.boundedElastic());
+
+        return refreshTokenService.logoutAll(principal.id(), principal.role())
+                .flatMap(revoked -> revokeAccess.thenReturn(revoked)) // 이미 발급된 access token도 전부 폐기
+                .map(revoked -> ResponseEntity.ok()
+                        .header(HttpHeaders.SET_COOKIE, refreshCookie("", 0).toString()) // 현재 기기의 refresh 쿠키도 삭제
+                        .body(Map.<String, Object>of(
+                                "status", "SUCCESS",
+                                "message", "모든 기기에서 로그아웃 완료",
+                                "revokedSessions", revoked
+                        )));
+    }
+
+    private static String bearerToken(String header) {
+        if (header == null || !header.startsWith("Bearer ")) return null;
+        return header.substring("Bearer ".length()).trim();
+    }
+
+    /**
+     * refresh 쿠키 (maxAge 0이면 삭제)
+     */
+    private static ResponseCookie refreshCookie(String refreshToken, long ttlSeconds) {
+        return ResponseCookie.from(REFRESH_COOKIE_NAME, refreshToken)
+                .httpOnly(true)
+                .secure(false)      // 운영은 true(HTTPS)
+                .sameSite("Lax")
+                .path(REFRESH_COOKIE_PATH)
+                .maxAge(ttlSeconds)
+                .build();
+    }
+}
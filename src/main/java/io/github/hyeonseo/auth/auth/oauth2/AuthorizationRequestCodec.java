@@ -0,0 +1,77 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OAuth2AuthorizationRequest <-> JSON (쿠키/저장소 공용)
+ * - 자바 직렬화 대신 필요한 필드만 JSON으로 (PKCE code_verifier, registration_id 등은 attributes에 포함)
+ * - 만료 시각을 함께 담아서 읽을 때 확인
+ */
+final class AuthorizationRequestCodec {
+
+    private final ObjectMapper objectMapper;
+
+    record Stored(
+            String authorizationUri,
+            String clientId,
+            String redirectUri,
+            Set<String> scopes,
+            String state,
+            Map<String, Object> additionalParameters,
+            Map<String, Object> attributes,
+            String authorizationRequestUri,
+            long expiresAtEpochSec
+    ) {}
+
+    AuthorizationRequestCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    byte[] encode(OAuth2AuthorizationRequest request, long ttlSeconds) {
+        Stored stored = new Stored(
+                request.getAuthorizationUri(),
+                request.getClientId(),
+                request.getRedirectUri(),
+                request.getScopes(),
+                request.getState(),
+                request.getAdditionalParameters(),
+                request.getAttributes(),
+                request.getAuthorizationRequestUri(),
+                Instant.now().getEpochSecond() + ttlSeconds);
+        try {
+            return objectMapper.writeValueAsBytes(stored);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode authorization request", e);
+        }
+    }
+
+    /**
+     * @return 저장된 요청 (형식 오류/만료면 null)
+     */
+    OAuth2AuthorizationRequest decode(byte[] json) {
+        Stored s;
+        try {
+            s = objectMapper.readValue(json, Stored.class);
+        } catch (IOException e) {
+            return null;
+        }
+        if (s.expiresAtEpochSec() < Instant.now().getEpochSecond()) return null;
+
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(s.authorizationUri())
+                .clientId(s.clientId())
+                .redirectUri(s.redirectUri())
+                .scopes(s.scopes())
+                .state(s.state())
+                .additionalParameters(s.additionalParameters() != null ? s.additionalParameters() : Map.of())
+                .attributes(s.attributes() != null ? s.attributes() : Map.of())
+                .authorizationRequestUri(s.authorizationRequestUri())
+                .build();
+    }
+}
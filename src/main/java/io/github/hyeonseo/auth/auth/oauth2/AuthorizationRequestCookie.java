@@ -0,0 +1,54 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+/**
+ * 로그인 시작(/oauth2/authorization/*) -> 콜백(/login/oauth2/code/*) 사이에 인가 요청을 이어 주는 쿠키
+ * - 콜백 경로에만 전송 (다른 API 요청에는 붙지 않음), HttpOnly
+ */
+final class AuthorizationRequestCookie {
+
+    static final String NAME = "OAUTH2_AUTH_REQUEST";
+    private static final String PATH = "/login/oauth2/code"; // OAuth2LoginAuthenticationFilter 기본 콜백 경로
+
+    private final long maxAgeSeconds;
+    private final boolean secure;
+    private final String sameSite;
+
+    AuthorizationRequestCookie(AuthorizationRequestProperties props) {
+        this.maxAgeSeconds = props.ttlSeconds();
+        this.secure = props.cookieSecure();
+        this.sameSite = props.cookieSameSite();
+    }
+
+    String read(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return null;
+        for (Cookie cookie : cookies) {
+            if (NAME.equals(cookie.getName()) && !cookie.getValue().isBlank()) return cookie.getValue();
+        }
+        return null;
+    }
+
+    void write(HttpServletResponse response, String value) {
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie(value, maxAgeSeconds).toString());
+    }
+
+    void clear(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie("", 0).toString());
+    }
+
+    private ResponseCookie cookie(String value, long maxAge) {
+        return ResponseCookie.from(NAME, value)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite(sameSite)
+                .path(PATH)
+                .maxAge(maxAge)
+                .build();
+    }
+}
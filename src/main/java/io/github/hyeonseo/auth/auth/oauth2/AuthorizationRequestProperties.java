@@ -0,0 +1,23 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.auth.oauth2.authorization-request")
+public record AuthorizationRequestProperties(
+        Mode mode,             // COOKIE: 암호화된 쿠키에 요청 자체를 담음 / REDIS: 저장소(app.store.type)에 두고 쿠키에는 id만
+        String secret,         // COOKIE 암호화 키 재료 (SHA-256 -> AES-256 키, JWT/티켓 secret과 다른 값)
+        long ttlSeconds,       // 카카오 로그인 화면에 머물 수 있는 시간 (지나면 콜백 거부)
+        boolean cookieSecure,  // 로컬은 false, 운영(HTTPS)은 true
+        String cookieSameSite  // 카카오 -> 콜백은 최상위 GET 이동이라 Lax면 쿠키가 붙음
+) {
+
+    public enum Mode {
+        COOKIE, REDIS
+    }
+
+    public AuthorizationRequestProperties {
+        if (mode == null) mode = Mode.COOKIE;
+        if (ttlSeconds <= 0) ttlSeconds = 300;
+        if (cookieSameSite == null || cookieSameSite.isBlank()) cookieSameSite = "Lax";
+    }
+}
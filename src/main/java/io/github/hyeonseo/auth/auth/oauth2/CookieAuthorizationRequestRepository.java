@@ -0,0 +1,96 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 인가 요청을 HttpSession 대신 암호화된 쿠키에 보관 (app.auth.oauth2.authorization-request.mode=COOKIE)
+ * - JWE(dir + A256GCM): 클라이언트가 내용(state, PKCE code_verifier 등)을 읽거나 바꿀 수 없음
+ * - 서버에 아무것도 저장하지 않으므로 로그인 시작과 콜백이 다른 서버로 가도 됨 (sticky session 불필요)
+ * - 콜백의 state가 쿠키 안의 state와 같을 때만 인정 (다른 브라우저에서 시작한 요청으로 로그인 불가)
+ */
+public class CookieAuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    private final AuthorizationRequestCodec codec;
+    private final AuthorizationRequestCookie cookie;
+    private final long ttlSeconds;
+    private final SecretKey key;
+    private final JwtParser parser;
+
+    public CookieAuthorizationRequestRepository(ObjectMapper objectMapper, AuthorizationRequestProperties props) {
+        if (props.secret() == null || props.secret().isBlank()) {
+            throw new IllegalStateException("app.auth.oauth2.authorization-request.secret is required for COOKIE authorization requests");
+        }
+        this.codec = new AuthorizationRequestCodec(objectMapper);
+        this.cookie = new AuthorizationRequestCookie(props);
+        this.ttlSeconds = props.ttlSeconds();
+        this.key = new SecretKeySpec(sha256(props.secret()), "AES");
+        this.parser = Jwts.parser().decryptWith(key).build();
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String state = request.getParameter(OAuth2ParameterNames.STATE);
+        if (state == null) return null;
+
+        String sealed = cookie.read(request);
+        if (sealed == null) return null;
+
+        OAuth2AuthorizationRequest stored = open(sealed);
+        return stored != null && state.equals(stored.getState()) ? stored : null;
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request, HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            cookie.clear(response);
+            return;
+        }
+
+        String sealed = Jwts.builder()
+                .content(codec.encode(authorizationRequest, ttlSeconds))
+                .encryptWith(key, Jwts.ENC.A256GCM)
+                .compact();
+        cookie.write(response, sealed);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response) {
+        OAuth2AuthorizationRequest stored = loadAuthorizationRequest(request);
+        if (stored != null) cookie.clear(response);
+        return stored;
+    }
+
+    /**
+     * @return 복호화된 요청 (위조/만료/형식 오류면 null)
+     */
+    private OAuth2AuthorizationRequest open(String sealed) {
+        try {
+            return codec.decode(parser.parseEncryptedContent(sealed).getPayload());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static byte[] sha256(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
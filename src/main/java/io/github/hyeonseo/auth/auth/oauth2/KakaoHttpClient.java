@@ -0,0 +1,173 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import io.github.hyeonseo.auth.common.metrics.LatencyHistogram;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 카카오 호출 전용 HTTP 클라이언트 (토큰 교환 token-uri / 사용자 정보 user-info-uri)
+ * - JDK HttpClient 하나를 서블릿(RestClient)과 리액티브(WebClient)가 공유 -> 연결 풀/keep-alive 공유, HTTP/2 협상(ALPN) 가능하면 HTTP/2
+ * - 연결/응답 제한 시간 명시 (기본 RestTemplate은 제한 없음)
+ * - 재시도는 멱등인 사용자 정보 조회만 (연결 오류/제한 시간 초과/5xx/429, 지수 대기 + 지터)
+ *   토큰 교환(POST, 인가 코드 1회용)은 재시도하지 않음
+ * - 엔드포인트별 지연 분포 (요청 시작 ~ 응답 헤더, 재시도는 시도마다 기록)
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(KakaoHttpClientProperties.class)
+public class KakaoHttpClient {
+
+    public enum Endpoint {
+        TOKEN, USER_INFO
+    }
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final int userInfoMaxAttempts;
+    private final long retryBackoffMillis;
+    private final Map<Endpoint, LatencyHistogram> latency = new EnumMap<>(Endpoint.class);
+
+    public KakaoHttpClient(KakaoHttpClientProperties props) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2) // 서버가 지원하지 않으면 HTTP/1.1 (keep-alive 연결 재사용)
+                .connectTimeout(Duration.ofMillis(props.connectTimeoutMillis()))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.readTimeout = Duration.ofMillis(props.readTimeoutMillis());
+        this.userInfoMaxAttempts = props.userInfoMaxAttempts();
+        this.retryBackoffMillis = props.retryBackoffMillis();
+        for (Endpoint endpoint : Endpoint.values()) latency.put(endpoint, new LatencyHistogram());
+    }
+
+    /**
+     * 서블릿용 (공유 연결 풀 + 응답 제한 시간 + 지연 기록)
+     */
+    public RestClient.Builder restClientBuilder(Endpoint endpoint) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        LatencyHistogram histogram = latency.get(endpoint);
+        ClientHttpRequestInterceptor timing = (request, body, execution) -> {
+            long start = System.nanoTime();
+            try {
+                return execution.execute(request, body);
+            } finally {
+                histogram.record(System.nanoTime() - start);
+            }
+        };
+
+        return RestClient.builder().requestFactory(requestFactory).requestInterceptor(timing);
+    }
+
+    /**
+     * 리액티브용 (같은 연결 풀, 응답 제한 시간 + 지연 기록은 필터로)
+     */
+    public WebClient.Builder webClientBuilder(Endpoint endpoint) {
+        LatencyHistogram histogram = latency.get(endpoint);
+        ExchangeFilterFunction timing = (request, next) -> {
+            long[] start = new long[1];
+            return next.exchange(request)
+                    .timeout(readTimeout)
+                    .doOnSubscribe(s -> start[0] = System.nanoTime())
+                    .doFinally(signal -> histogram.record(System.nanoTime() - start[0]));
+        };
+
+        return WebClient.builder().clientConnector(new JdkClientHttpConnector(httpClient)).filter(timing);
+    }
+
+    /**
+     * 멱등 호출(사용자 정보 조회) 재시도 - 서블릿
+     * @return 마지막 시도의 결과 (모두 실패하면 마지막 예외)
+     */
+    public <T> T retryIdempotent(Callable<T> call) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.call();
+            } catch (Exception e) {
+                if (attempt >= userInfoMaxAttempts || !retryable(e)) throw e;
+                Thread.sleep(backoffMillis(attempt));
+            }
+        }
+    }
+
+    /**
+     * 멱등 호출(사용자 정보 조회) 재시도 - 리액티브 (같은 조건/대기)
+     */
+    public Retry idempotentRetry() {
+        return Retry.backoff(userInfoMaxAttempts - 1, Duration.ofMillis(retryBackoffMillis))
+                .jitter(0.5)
+                .filter(KakaoHttpClient::retryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    /**
+     * 다시 보내면 성공할 수 있는 실패 (연결/응답 제한 시간/일시적 서버 오류/요청 제한)
+     */
+    static boolean retryable(Throwable e) {
+        if (e instanceof ResourceAccessException || e instanceof WebClientRequestException
+                || e instanceof IOException || e instanceof TimeoutException) {
+            return true;
+        }
+        if (e instanceof HttpServerErrorException || e instanceof HttpClientErrorException.TooManyRequests) return true;
+        if (e instanceof WebClientResponseException w) return retryable(w.getStatusCode());
+        return false;
+    }
+
+    static boolean retryable(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == 429;
+    }
+
+    public LatencyHistogram.Snapshot latency(Endpoint endpoint) {
+        return latency.get(endpoint).snapshot();
+    }
+
+    @Scheduled(fixedDelayString = "${app.kakao.http.stats-log-interval-seconds:300}", timeUnit = TimeUnit.SECONDS)
+    public void logStats() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            LatencyHistogram.Snapshot s = latency(endpoint);
+            if (s.count() == 0) continue;
+            log.info("kakao http: endpoint={} count={} meanMs={} p50Ms<={} p99Ms<={} maxMs={}",
+                    endpoint, s.count(), String.format("%.1f", s.meanMillis()),
+                    s.percentileMillis(0.5), s.percentileMillis(0.99), String.format("%.1f", s.maxMillis()));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        httpClient.close();
+    }
+
+    /**
+     * 기준 * 2^(attempt-1), ±50% 지터 (여러 서버가 동시에 재시도해서 몰리지 않도록)
+     */
+    private long backoffMillis(int attempt) {
+        long base = retryBackoffMillis << Math.min(attempt - 1, 10);
+        return base / 2 + ThreadLocalRandom.current().nextLong(base + 1);
+    }
+}
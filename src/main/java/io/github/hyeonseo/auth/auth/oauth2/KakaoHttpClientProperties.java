@@ -0,0 +1,21 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.kakao.http")
+public record KakaoHttpClientProperties(
+        long connectTimeoutMillis,   // TCP/TLS 연결 수립 제한
+        long readTimeoutMillis,      // 요청 후 응답(헤더)까지 제한
+        int userInfoMaxAttempts,     // 사용자 정보 조회(GET, 멱등) 최대 시도 횟수 (토큰 교환은 재시도 없음)
+        long retryBackoffMillis,     // 재시도 대기 기준 (시도마다 2배, ±50% 지터)
+        long statsLogIntervalSeconds // 엔드포인트별 지연 분포 로그 주기
+) {
+
+    public KakaoHttpClientProperties {
+        if (connectTimeoutMillis <= 0) connectTimeoutMillis = 1000;
+        if (readTimeoutMillis <= 0) readTimeoutMillis = 3000;
+        if (userInfoMaxAttempts <= 0) userInfoMaxAttempts = 3;
+        if (retryBackoffMillis <= 0) retryBackoffMillis = 100;
+        if (statsLogIntervalSeconds <= 0) statsLogIntervalSeconds = 300;
+    }
+}
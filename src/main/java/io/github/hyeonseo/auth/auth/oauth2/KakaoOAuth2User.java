@@ -0,0 +1,76 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2UserAuthority;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카카오 로그인 principal (KakaoOAuth2UserService / KakaoReactiveOAuth2UserService가 만듦)
+ * - 성공 핸들러는 profile()로 바로 꺼내 씀 (attributes Map을 다시 훑지 않음)
+ * - getName() = 카카오 id (user-name-attribute=id와 같음)
+ * - getAttributes()는 OAuth2User 계약용 평평한 Map (id + 동의한 프로필 값, 카카오 원본 구조 아님)
+ */
+public final class KakaoOAuth2User implements OAuth2User, Serializable {
+
+    private final KakaoProfile profile;
+    private final List<GrantedAuthority> authorities;
+    private final Map<String, Object> attributes;
+
+    public KakaoOAuth2User(KakaoProfile profile, Collection<? extends GrantedAuthority> authorities) {
+        this.profile = profile;
+        this.authorities = List.copyOf(authorities);
+
+        Map<String, Object> attrs = new LinkedHashMap<>(4);
+        attrs.put("id", profile.id());
+        if (profile.nickname() != null) attrs.put("nickname", profile.nickname());
+        if (profile.thumbnailImageUrl() != null) attrs.put("thumbnail_image_url", profile.thumbnailImageUrl());
+        if (profile.profileImageUrl() != null) attrs.put("profile_image_url", profile.profileImageUrl());
+        this.attributes = Collections.unmodifiableMap(attrs);
+    }
+
+    /**
+     * DefaultOAuth2UserService와 같은 권한 (OAUTH2_USER + 허용된 scope마다 SCOPE_*)
+     */
+    static KakaoOAuth2User of(KakaoProfile profile, OAuth2UserRequest request) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new OAuth2UserAuthority(Map.of("id", profile.id()), "id"));
+        for (String scope : request.getAccessToken().getScopes()) {
+            authorities.add(new SimpleGrantedAuthority("SCOPE_" + scope));
+        }
+        return new KakaoOAuth2User(profile, authorities);
+    }
+
+    public KakaoProfile profile() {
+        return profile;
+    }
+
+    @Override
+    public String getName() {
+        return Long.toString(profile.id());
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String toString() {
+        return "KakaoOAuth2User[id=" + profile.id() + "]";
+    }
+}
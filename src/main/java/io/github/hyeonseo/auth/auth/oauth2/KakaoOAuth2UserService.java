@@ -0,0 +1,84 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.io.InputStream;
+
+/**
+ * 카카오 사용자 정보 조회 (DefaultOAuth2UserService 대체)
+ * - 응답 본문을 Map<String, Object>로 만들지 않고 스트림에서 바로 KakaoProfile로 읽음
+ * - user-info-uri는 provider 설정(spring.security.oauth2.client.provider.kakao) 그대로 사용
+ * - 연결 풀/제한 시간/재시도/지연 기록은 KakaoHttpClient (재시도는 연결 오류/5xx/429만, 잘못된 본문은 바로 실패)
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class KakaoOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
+
+    static final String INVALID_USER_INFO = "invalid_user_info_response";
+
+    private final ObjectMapper objectMapper;
+    private final KakaoHttpClient kakaoHttpClient;
+    private final RestClient restClient;
+
+    public KakaoOAuth2UserService(ObjectMapper objectMapper, KakaoHttpClient kakaoHttpClient) {
+        this.objectMapper = objectMapper;
+        this.kakaoHttpClient = kakaoHttpClient;
+        this.restClient = kakaoHttpClient.restClientBuilder(KakaoHttpClient.Endpoint.USER_INFO).build();
+    }
+
+    @Override
+    public OAuth2User loadUser(OAuth2UserRequest request) throws OAuth2AuthenticationException {
+        String uri = request.getClientRegistration().getProviderDetails().getUserInfoEndpoint().getUri();
+        if (uri == null || uri.isBlank()) throw error("Missing user info uri: " + request.getClientRegistration().getRegistrationId(), null);
+
+        KakaoProfile profile;
+        try {
+            // 조회는 멱등이라 연결 오류/5xx/429면 재시도 (KakaoHttpClient)
+            profile = kakaoHttpClient.retryIdempotent(() -> restClient.get()
+                    .uri(uri)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + request.getAccessToken().getTokenValue())
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange((req, res) -> {
+                        HttpStatusCode status = res.getStatusCode();
+                        if (KakaoHttpClient.retryable(status)) {
+                            throw status.is5xxServerError()
+                                    ? HttpServerErrorException.create(status, res.getStatusText(), res.getHeaders(), null, null)
+                                    : HttpClientErrorException.create(status, res.getStatusText(), res.getHeaders(), null, null);
+                        }
+                        if (status.isError()) throw error("Kakao user info request failed: " + status.value(), null);
+                        try (InputStream body = res.getBody(); JsonParser parser = objectMapper.getFactory().createParser(body)) {
+                            return KakaoProfile.read(parser);
+                        } catch (JsonProcessingException e) {
+                            // 형식이 잘못된 응답은 다시 받아도 같음 -> IOException(재시도 대상)으로 새지 않게 바로 실패 (리액티브와 동일)
+                            throw error("Failed to read Kakao user info: " + e.getOriginalMessage(), e);
+                        }
+                    }));
+        } catch (OAuth2AuthenticationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw error("Failed to read Kakao user info: " + e.getMessage(), e);
+        }
+
+        return KakaoOAuth2User.of(profile, request);
+    }
+
+    static OAuth2AuthenticationException error(String message, Throwable cause) {
+        OAuth2Error error = new OAuth2Error(INVALID_USER_INFO, message, null);
+        return cause != null ? new OAuth2AuthenticationException(error, cause) : new OAuth2AuthenticationException(error);
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * 카카오 사용자 정보(/v2/user/me)에서 쓰는 값만 담은 결과
+ * - 응답을 Map으로 만들지 않고 스트리밍 파서로 한 번 훑으면서 필요한 필드만 읽음 (나머지는 건너뜀)
+ *   id / kakao_account.profile.{nickname, thumbnail_image_url, profile_image_url}
+ * - 동의하지 않은 항목은 null
+ */
+public record KakaoProfile(
+        long id,
+        String nickname,
+        String thumbnailImageUrl,
+        String profileImageUrl
+) implements Serializable {
+
+    /**
+     * 응답 본문 전체를 읽음 (parser는 아직 첫 토큰을 읽지 않은 상태)
+     * @throws JsonParseException 객체가 아니거나 id가 없으면
+     */
+    public static KakaoProfile read(JsonParser p) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT) throw new JsonParseException(p, "Kakao user info must be an object");
+
+        Long id = null;
+        String[] profile = new String[3];
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (name) {
+                case "id" -> id = readId(p, value);
+                case "kakao_account" -> {
+                    if (value == JsonToken.START_OBJECT) readAccount(p, profile);
+                    else p.skipChildren();
+                }
+                default -> p.skipChildren(); // properties, connected_at, for_partner ...
+            }
+        }
+
+        if (id == null) throw new JsonParseException(p, "Kakao user info has no id");
+        return new KakaoProfile(id, profile[0], profile[1], profile[2]);
+    }
+
+    private static long readId(JsonParser p, JsonToken value) throws IOException {
+        if (value != JsonToken.VALUE_NUMBER_INT && value != JsonToken.VALUE_STRING) {
+            throw new JsonParseException(p, "Kakao user id must be a number");
+        }
+        return p.getValueAsLong();
+    }
+
+    private static void readAccount(JsonParser p, String[] profile) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            JsonToken value = p.nextToken();
+            if (name.equals("profile") && value == JsonToken.START_OBJECT) {
+                readProfile(p, profile);
+            } else {
+                p.skipChildren(); // email, *_needs_agreement ...
+            }
+        }
+    }
+
+    private static void readProfile(JsonParser p, String[] profile) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "nickname" -> profile[0] = p.getValueAsString();
+                case "thumbnail_image_url" -> profile[1] = p.getValueAsString();
+                case "profile_image_url" -> profile[2] = p.getValueAsString();
+                default -> p.skipChildren(); // is_default_image ...
+            }
+        }
+    }
+}
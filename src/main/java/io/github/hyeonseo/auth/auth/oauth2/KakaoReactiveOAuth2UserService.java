@@ -0,0 +1,66 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.ReactiveOAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * KakaoOAuth2UserService의 리액티브 버전
+ * - ServerHttpSecurity.oauth2Login은 이 타입의 빈이 있으면 DefaultReactiveOAuth2UserService 대신 사용
+ * - 본문은 byte[] 하나로 받아서 스트리밍 파서로 읽음 (Map 변환 없음)
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class KakaoReactiveOAuth2UserService implements ReactiveOAuth2UserService<OAuth2UserRequest, OAuth2User> {
+
+    private final ObjectMapper objectMapper;
+    private final KakaoHttpClient kakaoHttpClient;
+    private final WebClient webClient;
+
+    public KakaoReactiveOAuth2UserService(ObjectMapper objectMapper, KakaoHttpClient kakaoHttpClient) {
+        this.objectMapper = objectMapper;
+        this.kakaoHttpClient = kakaoHttpClient;
+        this.webClient = kakaoHttpClient.webClientBuilder(KakaoHttpClient.Endpoint.USER_INFO).build();
+    }
+
+    @Override
+    public Mono<OAuth2User> loadUser(OAuth2UserRequest request) throws OAuth2AuthenticationException {
+        String uri = request.getClientRegistration().getProviderDetails().getUserInfoEndpoint().getUri();
+        if (uri == null || uri.isBlank()) {
+            return Mono.error(KakaoOAuth2UserService.error("Missing user info uri: " + request.getClientRegistration().getRegistrationId(), null));
+        }
+
+        return webClient.get()
+                .uri(uri)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + request.getAccessToken().getTokenValue())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchangeToMono(res -> {
+                    if (KakaoHttpClient.retryable(res.statusCode())) return res.createException().flatMap(e -> Mono.<byte[]>error(e));
+                    if (res.statusCode().isError()) {
+                        return res.releaseBody().then(Mono.error(KakaoOAuth2UserService.error(
+                                "Kakao user info request failed: " + res.statusCode().value(), null)));
+                    }
+                    return res.bodyToMono(byte[].class);
+                })
+                .retryWhen(kakaoHttpClient.idempotentRetry()) // 조회는 멱등이라 연결 오류/5xx/429면 재시도
+                .map(body -> {
+                    try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+                        return (OAuth2User) KakaoOAuth2User.of(KakaoProfile.read(parser), request);
+                    } catch (Exception e) {
+                        throw KakaoOAuth2UserService.error("Failed to read Kakao user info: " + e.getMessage(), e);
+                    }
+                })
+                .switchIfEmpty(Mono.error(() -> KakaoOAuth2UserService.error("Empty Kakao user info response", null)))
+                .onErrorMap(e -> !(e instanceof OAuth2AuthenticationException),
+                        e -> KakaoOAuth2UserService.error("Failed to read Kakao user info: " + e.getMessage(), e));
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.user.identity.UserIdentityCache;
+import io.github.hyeonseo.auth.user.repository.CustomerRepository;
+import io.github.hyeonseo.auth.user.repository.OwnerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * OAuth2 로그인 성공 후 가입 여부 조회 (서블릿/리액티브 성공 핸들러 공용)
+ * - 블로킹(Redis/DB) 호출이므로 리액티브 쪽은 boundedElastic에서 호출
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginUserLookup {
+
+    private final CustomerRepository customerRepository;
+    private final OwnerRepository ownerRepository;
+    private final UserIdentityCache userIdentityCache; // DB 앞단 캐시
+
+    /**
+     * application.yml에서 등록한 OAuth2 클라이언트 이름으로 role 결정
+     * @param registrationId kakao-customer / kakao-owner
+     */
+    public static UserRole roleOf(String registrationId) {
+        return switch (registrationId) {
+            case "kakao-customer" -> UserRole.CUSTOMER;
+            case "kakao-owner" -> UserRole.OWNER;
+            default -> throw new IllegalStateException("Unknown registrationId: " + registrationId);
+        };
+    }
+
+    /**
+     * 회원가입된 사용자 조회 (identity 캐시 -> 없으면 DB)
+     * @return userId (미가입이면 null)
+     */
+    public Long findUserId(UserRole role, AuthProvider providerType, String providerId) {
+        return userIdentityCache.findUserId(role, providerType, providerId,
+                () -> loadUserId(role, providerType, providerId));
+    }
+
+    /**
+     * DB에서 가입 여부 조회 (엔티티 대신 id만 읽는 projection)
+     * @return userId (미가입이면 null)
+     */
+    private Long loadUserId(UserRole role, AuthProvider providerType, String providerId) {
+        return role == UserRole.CUSTOMER
+                ? customerRepository.findIdByProvider(providerType, providerId).orElse(null)
+                : ownerRepository.findIdByProvider(providerType, providerId).orElse(null);
+    }
+}
@@ -8,32 +8,29 @@ import io.github.hyeonseo.auth.token.AccessTokenService;
 import io.github.hyeonseo.auth.signup.ticket.SignupTicketPayload;
 import io.github.hyeonseo.auth.signup.ticket.SignupTicketPayloadFactory;
 import io.github.hyeonseo.auth.signup.ticket.SignupTicketService;
-import io.github.hyeonseo.auth.user.repository.CustomerRepository;
-import io.github.hyeonseo.auth.user.repository.OwnerRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.util.Map;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class OAuth2JsonSuccessHandler implements AuthenticationSuccessHandler {
 
     private final ObjectMapper objectMapper; // 자바 객체(Map 등)를 JSON 문자열로 바꿔서 response에 쓰기 위함
-    private final CustomerRepository customerRepository;
-    private final OwnerRepository ownerRepository;
-    private final SignupTicketService signupTicketService; // 미가입일 때 Redis에 티켓 저장하고 ticket(UUID) 발급
+    private final LoginUserLookup loginUserLookup; // 가입 여부 조회 (identity 캐시 -> DB)
+    private final SignupTicketService signupTicketService; // 미가입일 때 회원가입 티켓 발급 (Redis 저장 또는 암호화 티켓)
 
     private final AccessTokenService accessTokenService; // accessToken(JWT) 발급
     private final RefreshTokenService refreshTokenService; //  refreshToken(UUID) 발급
@@ -51,57 +48,33 @@ public class OAuth2JsonSuccessHandler implements AuthenticationSuccessHandler {
             String registrationId = token.getAuthorizedClientRegistrationId(); // (kakao-customer / kakao-owner)
 
             // role 결정
-            UserRole role = switch (registrationId) {
-                case "kakao-customer" -> UserRole.CUSTOMER;
-                case "kakao-owner" -> UserRole.OWNER;
-                default -> throw new IllegalStateException("Unknown registrationId: " + registrationId);
-            };
+            UserRole role = LoginUserLookup.roleOf(registrationId);
 
-            OAuth2User user = token.getPrincipal();
-            String providerId = user.getName(); // 카카오 id (user-name-attribute=id 설정)
-
-            // 동의항목에서 받은 프로필 정보 추출
-            Map<String, Object> attrs = user.getAttributes();
-            String nickname = getKakaoNickname(attrs);
-            String thumbnailUrl = getKakaoThumbnailImageUrl(attrs);
-            String profileUrl = getKakaoProfileImageUrl(attrs);
+            // KakaoOAuth2UserService가 사용자 정보 응답을 바로 읽어 둔 결과 (동의하지 않은 항목은 null)
+            KakaoProfile profile = ((KakaoOAuth2User) token.getPrincipal()).profile();
+            String providerId = Long.toString(profile.id()); // 카카오 id
+            String nickname = profile.nickname();
+            String thumbnailUrl = profile.thumbnailImageUrl();
+            String profileUrl = profile.profileImageUrl();
 
             AuthProvider providerType = AuthProvider.KAKAO; // 지금은 카카오만 붙이니까 고정
 
-            if (role == UserRole.CUSTOMER) {
-                // 회원가입된 사용자가 있는지 조회
-                var existing = customerRepository.findByProviderTypeAndProviderId(providerType, providerId);
-                if (existing.isPresent()) { // 있으면 → JWT 발급해서 SUCCESS 응답
-                    long userId = existing.get().getCustomerId();
-
-                    if (wantsHtml) { // test
-                        String accessToken = issueTokensAndSetCookie(response, userId, role);
-                        redirectToSuccessPage(response, accessToken, role, nickname, thumbnailUrl, profileUrl);
-                        return;
-                    } // test
-
-                    respondLoginSuccess(response, userId, role);
-                    return;
-                }
-            } else {
-                var existing = ownerRepository.findByProviderTypeAndProviderId(providerType, providerId);
-                if (existing.isPresent()) {
-                    long userId = existing.get().getOwnerId();
-
-                    if (wantsHtml) { // test
-                        String accessToken = issueTokensAndSetCookie(response, userId, role);
-                        redirectToSuccessPage(response, accessToken, role, nickname, thumbnailUrl, profileUrl);
-                        return;
-                    } // test
-
-                    respondLoginSuccess(response, userId, role);
+            // 회원가입된 사용자가 있는지 조회 (identity 캐시 -> 없으면 DB)
+            Long userId = loginUserLookup.findUserId(role, providerType, providerId);
+            if (userId != null) { // 있으면 → JWT 발급해서 SUCCESS 응답
+                if (wantsHtml) { // test
+                    String accessToken = issueTokensAndSetCookie(response, userId, role);
+                    redirectToSuccessPage(response, accessToken, role, nickname, thumbnailUrl, profileUrl);
                     return;
-                }
+                } // test
+
+                respondLoginSuccess(response, userId, role);
+                return;
             }
 
             // 미가입 → ticket 발급
             SignupTicketPayload payload = SignupTicketPayloadFactory.payload(role, providerType, providerId);
-            String ticket = signupTicketService.create(payload, Duration.ofMinutes(10));
+            String ticket = signupTicketService.create(payload, SignupTicketService.TICKET_TTL);
 
             if (wantsHtml) { // test
                 response.sendRedirect("/test/signup?ticket=" + url(ticket) + "&role=" + url(role.name()));
@@ -112,7 +85,7 @@ public class OAuth2JsonSuccessHandler implements AuthenticationSuccessHandler {
                     "status", "SIGNUP_REQUIRED",
                     "role", role.name(),
                     "ticket", ticket,
-                    "expiresIn", 600
+                    "expiresIn", SignupTicketService.TICKET_TTL.toSeconds()
             ));
         } catch (Exception e) {
             try {
@@ -128,7 +101,7 @@ public class OAuth2JsonSuccessHandler implements AuthenticationSuccessHandler {
         String accessToken = accessTokenService.issueAccessToken(subject, role);
 
         // 2) refresh 발급 (opaque UUID, Redis 저장)
-        var issued = refreshTokenService.issueSingleSession(userId, role);
+        var issued = refreshTokenService.issue(userId, role);
 
         // 3) refresh를 HttpOnly 쿠키로 내려줌
         setRefreshCookie(response, issued.token(), issued.ttlSeconds());
@@ -166,38 +139,6 @@ public class OAuth2JsonSuccessHandler implements AuthenticationSuccessHandler {
         response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
     }
 
-    @SuppressWarnings("unchecked")
-    private static Map<?, ?> getKakaoProfile(Map<String, Object> attrs) {
-        Object kakaoAccountObj = attrs.get("kakao_account");
-        if (!(kakaoAccountObj instanceof Map<?, ?> kakaoAccount)) return null;
-
-        Object profileObj = kakaoAccount.get("profile");
-        if (!(profileObj instanceof Map<?, ?> profile)) return null;
-
-        return profile;
-    }
-
-    private static String getKakaoNickname(Map<String, Object> attrs) {
-        Map<?, ?> profile = getKakaoProfile(attrs);
-        if (profile == null) return null;
-        Object v = profile.get("nickname");
-        return v != null ? String.valueOf(v) : null;
-    }
-
-    private static String getKakaoThumbnailImageUrl(Map<String, Object> attrs) {
-        Map<?, ?> profile = getKakaoProfile(attrs);
-        if (profile == null) return null;
-        Object v = profile.get("thumbnail_image_url");
-        return v != null ? String.valueOf(v) : null;
-    }
-
-    private static String getKakaoProfileImageUrl(Map<String, Object> attrs) {
-        Map<?, ?> profile = getKakaoProfile(attrs);
-        if (profile == null) return null;
-        Object v = profile.get("profile_image_url");
-        return v != null ? String.valueOf(v) : null;
-    }
-
     // test
     private boolean isBrowser(HttpServletRequest request) {
         String accept = request.getHeader("Accept");
@@ -239,7 +180,7 @@ public class OAuth2JsonSuccessHandler implements AuthenticationSuccessHandler {
 
         String accessToken = accessTokenService.issueAccessToken(subject, role);
 
-        var issued = refreshTokenService.issueSingleSession(userId, role);
+        var issued = refreshTokenService.issue(userId, role);
         setRefreshCookie(response, issued.token(), issued.ttlSeconds());
 
         return accessToken;
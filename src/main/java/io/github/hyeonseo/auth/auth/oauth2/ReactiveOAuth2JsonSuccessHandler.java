@@ -0,0 +1,160 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.signup.ticket.ReactiveSignupTicketService;
+import io.github.hyeonseo.auth.signup.ticket.SignupTicketPayloadFactory;
+import io.github.hyeonseo.auth.signup.ticket.SignupTicketService;
+import io.github.hyeonseo.auth.token.AccessTokenService;
+import io.github.hyeonseo.auth.token.ReactiveRefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationSuccessHandler;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * OAuth2JsonSuccessHandler의 리액티브 버전 (응답 형식 동일)
+ * - 가입 여부 조회(identity 캐시/DB)는 블로킹이라 boundedElastic에서 실행
+ * - 티켓/refresh 발급은 리액티브 Redis
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveOAuth2JsonSuccessHandler implements ServerAuthenticationSuccessHandler {
+
+    private final ObjectMapper objectMapper;
+    private final LoginUserLookup loginUserLookup;
+    private final ReactiveSignupTicketService signupTicketService;
+    private final AccessTokenService accessTokenService;
+    private final ReactiveRefreshTokenService refreshTokenService;
+
+    @Override
+    public Mono<Void> onAuthenticationSuccess(WebFilterExchange webFilterExchange, Authentication authentication) {
+        ServerHttpResponse response = webFilterExchange.getExchange().getResponse();
+        boolean wantsHtml = isBrowser(webFilterExchange); // test
+
+        OAuth2AuthenticationToken token = (OAuth2AuthenticationToken) authentication;
+        KakaoProfile profile = ((KakaoOAuth2User) token.getPrincipal()).profile(); // KakaoReactiveOAuth2UserService
+        String providerId = Long.toString(profile.id()); // 카카오 id
+        AuthProvider providerType = AuthProvider.KAKAO;
+
+        return Mono.fromCallable(() -> LoginUserLookup.roleOf(token.getAuthorizedClientRegistrationId()))
+                .flatMap(role -> Mono.fromCallable(() -> Optional.ofNullable(loginUserLookup.findUserId(role, providerType, providerId)))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMap(userId -> userId.isPresent()
+                                ? loginSuccess(response, userId.get(), role, wantsHtml, profile)
+                                : signupRequired(response, role, providerType, providerId, wantsHtml)))
+                .onErrorResume(e -> writeJson(response, HttpStatus.INTERNAL_SERVER_ERROR,
+                        Map.of("status", "ERROR", "message", String.valueOf(e.getMessage()))));
+    }
+
+    private Mono<Void> loginSuccess(ServerHttpResponse response, long userId, UserRole role, boolean wantsHtml, KakaoProfile profile) {
+        String accessToken = accessTokenService.issueAccessToken(String.valueOf(userId), role);
+
+        return refreshTokenService.issue(userId, role).flatMap(issued -> {
+            response.addCookie(refreshCookie(issued.token(), issued.ttlSeconds()));
+
+            if (wantsHtml) { // test
+                return redirect(response, "/test/success"
+                        + "#accessToken=" + url(accessToken)
+                        + "&role=" + url(role.name())
+                        + "&nickname=" + url(nullToEmpty(profile.nickname()))
+                        + "&thumbnailUrl=" + url(nullToEmpty(profile.thumbnailImageUrl()))
+                        + "&profileUrl=" + url(nullToEmpty(profile.profileImageUrl())));
+            } // test
+
+            return writeJson(response, HttpStatus.OK, Map.of(
+                    "status", "SUCCESS",
+                    "role", role.name(),
+                    "accessToken", accessToken,
+                    "tokenType", "Bearer",
+                    "expiresIn", accessTokenService.accessTtlSeconds()
+            ));
+        });
+    }
+
+    private Mono<Void> signupRequired(ServerHttpResponse response, UserRole role, AuthProvider providerType, String providerId, boolean wantsHtml) {
+        var payload = SignupTicketPayloadFactory.payload(role, providerType, providerId);
+
+        return signupTicketService.create(payload, SignupTicketService.TICKET_TTL).flatMap(ticket -> {
+            if (wantsHtml) { // test
+                return redirect(response, "/test/signup?ticket=" + url(ticket) + "&role=" + url(role.name()));
+            } // test
+
+            return writeJson(response, HttpStatus.OK, Map.of(
+                    "status", "SIGNUP_REQUIRED",
+                    "role", role.name(),
+                    "ticket", ticket,
+                    "expiresIn", SignupTicketService.TICKET_TTL.toSeconds()
+            ));
+        });
+    }
+
+    private Mono<Void> writeJson(ServerHttpResponse response, HttpStatus status, Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (Exception e) {
+            return Mono.error(e);
+        }
+
+        response.setStatusCode(status);
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        // 캐시 방지
+        headers.set(HttpHeaders.CACHE_CONTROL, "no-store");
+        headers.set(HttpHeaders.PRAGMA, "no-cache");
+
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(json)));
+    }
+
+    private static ResponseCookie refreshCookie(String refreshToken, long ttlSeconds) {
+        return ResponseCookie.from("REFRESH_TOKEN", refreshToken)
+                .httpOnly(true)
+                .secure(false)
+                .sameSite("Lax")
+                .path("/api/auth")
+                .maxAge(ttlSeconds)
+                .build();
+    }
+
+    // test
+    private static boolean isBrowser(WebFilterExchange webFilterExchange) {
+        String accept = webFilterExchange.getExchange().getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains("text/html");
+    }
+
+    // test
+    private static Mono<Void> redirect(ServerHttpResponse response, String location) {
+        response.setStatusCode(HttpStatus.FOUND);
+        response.getHeaders().setLocation(URI.create(location));
+        return response.setComplete();
+    }
+
+    // test
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+
+    // test
+    private static String url(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+}
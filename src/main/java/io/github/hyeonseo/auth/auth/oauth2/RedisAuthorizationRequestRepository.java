@@ -0,0 +1,77 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.store.TokenStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 인가 요청을 HttpSession 대신 저장소(TokenStore, 기본 Redis)에 보관 (app.auth.oauth2.authorization-request.mode=REDIS)
+ * - 쿠키에는 임의 id만 (요청 내용은 브라우저로 나가지 않음, secret 불필요)
+ * - 콜백에서 꺼내면서 삭제 (GETDEL) -> 같은 요청으로 두 번 로그인 불가
+ * - 콜백의 state가 저장된 state와 같을 때만 인정
+ */
+public class RedisAuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    static final String PREFIX = "oauth2:authz:";
+
+    private final TokenStore store;
+    private final AuthorizationRequestCodec codec;
+    private final AuthorizationRequestCookie cookie;
+    private final long ttlSeconds;
+
+    public RedisAuthorizationRequestRepository(TokenStore store, ObjectMapper objectMapper, AuthorizationRequestProperties props) {
+        this.store = store;
+        this.codec = new AuthorizationRequestCodec(objectMapper);
+        this.cookie = new AuthorizationRequestCookie(props);
+        this.ttlSeconds = props.ttlSeconds();
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String state = request.getParameter(OAuth2ParameterNames.STATE);
+        String id = cookie.read(request);
+        if (state == null || id == null) return null;
+
+        byte[] stored = store.get(PREFIX + id);
+        return matching(stored, state);
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request, HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            String id = cookie.read(request);
+            if (id != null) store.delete(PREFIX + id);
+            cookie.clear(response);
+            return;
+        }
+
+        String id = UUID.randomUUID().toString();
+        store.set(PREFIX + id, codec.encode(authorizationRequest, ttlSeconds), Duration.ofSeconds(ttlSeconds));
+        cookie.write(response, id);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response) {
+        String state = request.getParameter(OAuth2ParameterNames.STATE);
+        String id = cookie.read(request);
+        if (state == null || id == null) return null;
+
+        OAuth2AuthorizationRequest stored = matching(store.consume(PREFIX + id), state);
+        cookie.clear(response);
+        return stored;
+    }
+
+    private OAuth2AuthorizationRequest matching(byte[] stored, String state) {
+        if (stored == null) return null;
+        OAuth2AuthorizationRequest decoded = codec.decode(stored);
+        return decoded != null && state.equals(decoded.getState()) ? decoded : null;
+    }
+}
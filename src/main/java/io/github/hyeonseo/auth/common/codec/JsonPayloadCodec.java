@@ -0,0 +1,42 @@
+package io.github.hyeonseo.auth.common.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Jackson JSON 코덱 (기존 저장 형식)
+ */
+public class JsonPayloadCodec<T> implements PayloadCodec<T> {
+
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+
+    public JsonPayloadCodec(ObjectMapper objectMapper, Class<T> type) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    @Override
+    public byte[] encode(T payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode " + type.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to decode " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * JSON 객체로 저장된 값인지 ('{'로 시작) - 바이너리 형식은 버전 바이트(0x01~)로 시작하므로 겹치지 않음
+     */
+    public static boolean isJson(byte[] bytes) {
+        return bytes.length > 0 && bytes[0] == '{';
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.hyeonseo.auth.common.codec;
+
+/**
+ * Redis에 저장하는 payload <-> byte[] 변환
+ * - decode는 저장 형식(JSON / 바이너리)에 상관없이 읽을 수 있어야 함 (형식 전환 중 기존 값 호환)
+ */
+public interface PayloadCodec<T> {
+
+    byte[] encode(T payload);
+
+    T decode(byte[] bytes);
+}
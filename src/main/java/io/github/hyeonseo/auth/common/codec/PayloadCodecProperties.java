@@ -0,0 +1,13 @@
+package io.github.hyeonseo.auth.common.codec;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.redis.payload")
+public record PayloadCodecProperties(
+        PayloadFormat format // 쓰기 형식 (읽기는 항상 JSON/BINARY 모두 지원)
+) {
+
+    public PayloadCodecProperties {
+        if (format == null) format = PayloadFormat.JSON;
+    }
+}
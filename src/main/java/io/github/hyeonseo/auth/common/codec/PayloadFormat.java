@@ -0,0 +1,10 @@
+package io.github.hyeonseo.auth.common.codec;
+
+/**
+ * 새로 저장할 payload 형식
+ * - JSON: 기존 형식 (Jackson)
+ * - BINARY: 버전 바이트 + varint 등으로 구성한 압축 형식
+ */
+public enum PayloadFormat {
+    JSON, BINARY
+}
@@ -0,0 +1,36 @@
+package io.github.hyeonseo.auth.common.codec;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 부호 없는 LEB128 varint (7비트씩, 하위 그룹부터)
+ * - 작은 값일수록 적은 바이트: epoch sec는 5바이트, 일반적인 id는 1~4바이트
+ */
+public final class VarInts {
+
+    private VarInts() {}
+
+    public static void write(ByteArrayOutputStream out, long value) {
+        if (value < 0) throw new IllegalArgumentException("varint must be non-negative: " + value);
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * @param pos pos[0]에서 읽기 시작, 읽은 뒤 다음 위치로 갱신
+     */
+    public static long read(byte[] bytes, int[] pos) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (pos[0] >= bytes.length || shift > 63) throw new IllegalStateException("Malformed varint");
+            byte b = bytes[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+            shift += 7;
+        }
+    }
+}
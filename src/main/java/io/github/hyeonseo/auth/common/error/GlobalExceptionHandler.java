@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -35,6 +36,23 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("ERROR", code.name(), msg));
     }
 
+    // @RequestBody validation 실패 (리액티브 모드) -> 400
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleReactiveValidation(WebExchangeBindException e) {
+        ErrorCode code = ErrorCode.VALIDATION_FAILED;
+
+        String msg = e.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .findFirst()
+                .map(err -> err.getField() + ": " + err.getDefaultMessage())
+                .orElse(code.getMessage());
+
+        return ResponseEntity
+                .status(code.getHttpStatus())
+                .body(new ErrorResponse("ERROR", code.name(), msg));
+    }
+
     // DB 무결성(Unique 등) -> 409
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponse> handleDuplicate(DataIntegrityViolationException e) {
@@ -0,0 +1,26 @@
+package io.github.hyeonseo.auth.common.id;
+
+import io.github.hyeonseo.auth.common.store.TokenStoreProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * TSID 노드 번호 설정
+ * - id 생성기는 Hibernate가 직접 만들기 때문에 스프링 빈 대신 공유 인스턴스(TsidGenerator.shared())를 교체
+ * - 서버가 여러 대일 수 있는 구성(app.store.type=REDIS)에서는 node-id 필수 (같은 번호를 쓰는 서버끼리 id가 겹칠 수 있음)
+ * - MEMORY 저장소는 프로세스 하나뿐이라 지정하지 않으면 0
+ */
+@Configuration
+@EnableConfigurationProperties(IdProperties.class)
+public class IdConfig {
+
+    public IdConfig(IdProperties props, TokenStoreProperties storeProps) {
+        if (props.nodeId() != null) {
+            TsidGenerator.configureShared(props.nodeId());
+        } else if (storeProps.type() == TokenStoreProperties.Type.MEMORY) {
+            TsidGenerator.configureShared(0);
+        } else {
+            throw new IllegalStateException("app.id.node-id is required when app.store.type=REDIS (each server needs its own 0.." + TsidGenerator.MAX_NODE + ")");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.hyeonseo.auth.common.id;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.id")
+public record IdProperties(
+        Integer nodeId // TSID 노드 번호 (0~1023, 서버마다 다르게 / app.store.type=REDIS면 필수)
+) {}
@@ -0,0 +1,77 @@
+package io.github.hyeonseo.auth.common.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 64비트 id (Snowflake/TSID 형식)
+ * [1비트 0][41비트 ms (2024-01-01 기준, 약 69년)][10비트 노드][12비트 ms 내 순번]
+ * - 락 없이 CAS 한 번으로 발급 (같은 ms에 4096개를 넘으면 다음 ms를 당겨 씀 -> 단조 증가 유지)
+ * - 시계가 뒤로 가도 마지막 시각에서 이어서 발급하므로 중복/역전 없음
+ * - 노드 번호가 다르면 서버끼리 겹치지 않음 (app.id.node-id, 서버마다 다르게 직접 지정)
+ * - 63비트라 JS Number(53비트)로는 정확히 표현되지 않음 -> JSON 응답에는 문자열로 내려줄 것
+ */
+public final class TsidGenerator {
+
+    static final long EPOCH_MILLIS = 1_704_067_200_000L; // 2024-01-01T00:00:00Z
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static volatile TsidGenerator shared; // IdConfig가 노드 번호를 정하기 전에는 null
+
+    private final long node;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong(); // (ms << SEQUENCE_BITS) | 순번
+
+    public TsidGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock epoch ms (테스트에서 시계를 직접 움직일 때)
+     */
+    TsidGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE) throw new IllegalArgumentException("TSID node id must be 0.." + MAX_NODE + ": " + nodeId);
+        this.node = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 엔티티 id 생성기(TsidIdentifierGenerator)와 일괄 등록이 같이 쓰는 인스턴스
+     * - 노드 번호 없이 임의 값으로 발급하지 않도록 설정 전에는 실패
+     */
+    public static TsidGenerator shared() {
+        TsidGenerator generator = shared;
+        if (generator == null) throw new IllegalStateException("TSID node id is not configured (app.id.node-id)");
+        return generator;
+    }
+
+    /**
+     * 시작 시 설정된 노드 번호로 교체 (IdConfig)
+     */
+    public static void configureShared(long nodeId) {
+        shared = new TsidGenerator(nodeId);
+    }
+
+    public long next() {
+        while (true) {
+            long prev = state.get();
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            long next = now > (prev >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : prev + 1;
+            if (state.compareAndSet(prev, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                        | (node << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * id에 들어있는 발급 시각 (epoch ms)
+     */
+    public static long timestampMillis(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+}
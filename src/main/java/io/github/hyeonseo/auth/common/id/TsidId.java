@@ -0,0 +1,18 @@
+package io.github.hyeonseo.auth.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @Id 필드에 붙이면 insert 전에 TSID를 할당
+ * - IDENTITY와 달리 insert 후 키를 다시 읽지 않아도 되므로 Hibernate JDBC batch insert가 동작함
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidId {
+}
@@ -0,0 +1,64 @@
+package io.github.hyeonseo.auth.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 구간 지연 시간 히스토그램 (락 없음, 구간마다 LongAdder)
+ * - 구간 상한(ms): 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 그 이상
+ * - 백분위는 해당 구간의 상한으로 근사 (p99 <= 250ms 같은 형태로 읽음)
+ */
+public final class LatencyHistogram {
+
+    private static final long[] BOUNDS_MILLIS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MILLIS.length + 1];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param buckets 구간별 건수 (마지막은 5000ms 초과)
+     */
+    public record Snapshot(long count, double meanMillis, double maxMillis, long[] buckets) {
+
+        /**
+         * @param quantile 0 ~ 1
+         * @return 해당 백분위가 속한 구간의 상한 (ms, 마지막 구간이면 최댓값, 기록이 없으면 0)
+         */
+        public double percentileMillis(double quantile) {
+            if (count == 0) return 0;
+            long rank = (long) Math.ceil(quantile * count);
+            long seen = 0;
+            for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) return BOUNDS_MILLIS[i];
+            }
+            return maxMillis;
+        }
+    }
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+    }
+
+    public void record(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int i = 0;
+        while (i < BOUNDS_MILLIS.length && millis > BOUNDS_MILLIS[i]) i++;
+        buckets[i].increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[buckets.length];
+        long count = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+        double mean = count == 0 ? 0 : totalNanos.sum() / 1e6 / count;
+        return new Snapshot(count, mean, maxNanos.get() / 1e6, counts);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.hyeonseo.auth.common.store;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 크기 상한이 있는 프로세스 내 캐시용 맵 (ConcurrentHashMap 기반, 스레드 안전)
+ * - 새 값을 넣을 때 가득 차 있으면 만료된 값부터 지우고, 그래도 넘으면 임의의 엔트리를 지움
+ * - 한 번 정리할 때 상한의 10% 정도 여유를 만들어서 가득 찬 상태에서 넣을 때마다 정리하지 않음
+ * - 상한은 근사치 (동시에 넣으면 잠깐 조금 넘을 수 있음)
+ * - 지워진 엔트리는 호출하는 쪽이 원래 저장소(Redis/DB)에서 다시 읽는다고 가정
+ */
+public final class BoundedMap<K, V> {
+
+    private final ConcurrentHashMap<K, V> map = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final ToLongFunction<? super V> expiresAtMillis; // null이면 만료 없음
+
+    /**
+     * 만료 시각이 없는 값 (크기로만 정리)
+     */
+    public BoundedMap(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * @param expiresAtMillis 값의 만료 시각 (정리할 때 이 시각이 지난 값부터 지움)
+     */
+    public BoundedMap(int maxSize, ToLongFunction<? super V> expiresAtMillis) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        this.maxSize = maxSize;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public V get(K key) {
+        return map.get(key);
+    }
+
+    public void put(K key, V value) {
+        makeRoom();
+        map.put(key, value);
+    }
+
+    public void merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remapping) {
+        makeRoom();
+        map.merge(key, value, remapping);
+    }
+
+    /**
+     * 현재 값이 expected일 때만 교체 (이미 있는 키라서 정리하지 않음)
+     */
+    public boolean replace(K key, V expected, V value) {
+        return map.replace(key, expected, value);
+    }
+
+    public void remove(K key) {
+        map.remove(key);
+    }
+
+    public boolean remove(K key, V value) {
+        return map.remove(key, value);
+    }
+
+    public void clear() {
+        map.clear();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    private void makeRoom() {
+        if (map.size() < maxSize) return;
+
+        if (expiresAtMillis != null) {
+            long now = System.currentTimeMillis();
+            map.values().removeIf(v -> expiresAtMillis.applyAsLong(v) <= now);
+        }
+
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<K> it = map.keySet().iterator();
+        while (map.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.hyeonseo.auth.common.store;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 구현 (단일 서버 / 테스트용, Redis 불필요)
+ * - 단일 키 연산은 ConcurrentHashMap의 원자 연산(compute/remove)으로 처리
+ * - 만료: 읽을 때 만료 시각 확인 + TimerWheel로 만료된 키 메모리 회수
+ */
+public class InMemoryTokenStore implements TokenStore, AutoCloseable {
+
+    private record Entry(byte[] value, long expiresAtMillis) {
+        boolean live(long now) {
+            return expiresAtMillis > now;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final TimerWheel<String> expiry;
+
+    public InMemoryTokenStore(TokenStoreProperties props) {
+        this.expiry = new TimerWheel<>("token-store-expiry", props.tickMillis(), props.wheelSize(), this::expire);
+    }
+
+    @Override
+    public byte[] get(String key) {
+        Entry e = entries.get(key);
+        return e != null && e.live(System.currentTimeMillis()) ? e.value() : null;
+    }
+
+    @Override
+    public void set(String key, byte[] value, Duration ttl) {
+        Entry e = new Entry(value, System.currentTimeMillis() + ttl.toMillis());
+        entries.put(key, e);
+        expiry.schedule(key, e.expiresAtMillis());
+    }
+
+    @Override
+    public boolean setIfAbsent(String key, byte[] value, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Entry created = new Entry(value, now + ttl.toMillis());
+
+        Entry result = entries.compute(key, (k, existing) -> existing != null && existing.live(now) ? existing : created);
+        if (result != created) return false;
+
+        expiry.schedule(key, created.expiresAtMillis());
+        return true;
+    }
+
+    @Override
+    public byte[] consume(String key) {
+        Entry e = entries.remove(key);
+        return e != null && e.live(System.currentTimeMillis()) ? e.value() : null;
+    }
+
+    @Override
+    public boolean delete(String key) {
+        Entry e = entries.remove(key);
+        return e != null && e.live(System.currentTimeMillis());
+    }
+
+    /**
+     * 만료 시각이 지난 경우에만 삭제 (그 사이 다시 저장된 키는 유지)
+     */
+    private void expire(String key) {
+        long now = System.currentTimeMillis();
+        entries.computeIfPresent(key, (k, e) -> e.live(now) ? e : null);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void close() {
+        expiry.close();
+    }
+}
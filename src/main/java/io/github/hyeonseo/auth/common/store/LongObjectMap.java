@@ -0,0 +1,128 @@
+package io.github.hyeonseo.auth.common.store;
+
+import java.util.Arrays;
+
+/**
+ * long 키 해시맵 (오픈 어드레싱, 키 박싱 없음)
+ * - 사용자 id 인덱스처럼 키가 long인 큰 맵에서 Long 객체/Entry 노드 할당을 없애기 위한 용도
+ * - 스레드 안전하지 않음: 호출하는 쪽 락 안에서만 사용
+ * - null 값은 저장하지 않음 (빈 칸 표시로 사용)
+ */
+public final class LongObjectMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+
+    public LongObjectMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize * 2 - 1, MIN_CAPACITY - 1)) << 1;
+        allocate(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            Object v = values[i];
+            if (v == null) return null;
+            if (keys[i] == key) return (V) v;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) throw new IllegalArgumentException("null value");
+
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            Object v = values[i];
+            if (v == null) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size * 2 > values.length) resize(values.length << 1); // load factor 0.5
+                return null;
+            }
+            if (keys[i] == key) {
+                values[i] = value;
+                return (V) v;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            Object v = values[i];
+            if (v == null) return null;
+            if (keys[i] == key) {
+                shiftBack(i);
+                size--;
+                return (V) v;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * 삭제한 칸 뒤의 충돌 체인을 앞으로 당김 (tombstone 없이 조회 길이 유지)
+     */
+    private void shiftBack(int hole) {
+        int i = hole;
+        while (true) {
+            i = (i + 1) & mask;
+            Object v = values[i];
+            if (v == null) break;
+
+            int home = slot(keys[i]);
+            // home이 (hole, i] 구간 밖이면 hole로 옮겨도 조회 경로가 끊기지 않음
+            boolean movable = hole <= i ? (home <= hole || home > i) : (home <= hole && home > i);
+            if (movable) {
+                keys[hole] = keys[i];
+                values[hole] = v;
+                hole = i;
+            }
+        }
+        values[hole] = null;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) continue;
+            int j = slot(oldKeys[i]);
+            while (values[j] != null) j = (j + 1) & mask;
+            keys[j] = oldKeys[i];
+            values[j] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L; // 연속된 id(TSID 등)도 고르게 분산
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
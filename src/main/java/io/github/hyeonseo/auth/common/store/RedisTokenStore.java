@@ -0,0 +1,45 @@
+package io.github.hyeonseo.auth.common.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * Redis 구현 (값은 byte[] 그대로 저장)
+ */
+@RequiredArgsConstructor
+public class RedisTokenStore implements TokenStore {
+
+    private final RedisTemplate<String, byte[]> payloadRedis;
+
+    @Override
+    public byte[] get(String key) {
+        return payloadRedis.opsForValue().get(key);
+    }
+
+    @Override
+    public void set(String key, byte[] value, Duration ttl) {
+        payloadRedis.opsForValue().set(key, value, ttl);
+    }
+
+    @Override
+    public boolean setIfAbsent(String key, byte[] value, Duration ttl) {
+        return Boolean.TRUE.equals(payloadRedis.opsForValue().setIfAbsent(key, value, ttl));
+    }
+
+    @Override
+    public byte[] consume(String key) {
+        return payloadRedis.opsForValue().getAndDelete(key);
+    }
+
+    @Override
+    public boolean delete(String key) {
+        return Boolean.TRUE.equals(payloadRedis.delete(key));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Boolean.TRUE.equals(payloadRedis.hasKey(key));
+    }
+}
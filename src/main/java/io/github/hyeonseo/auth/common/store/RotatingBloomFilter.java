@@ -0,0 +1,134 @@
+package io.github.hyeonseo.auth.common.store;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 세대 2개짜리 Bloom filter (최근에 추가한 문자열 집합, 삭제 대신 세대 교체로 비움)
+ * - add는 현재 세대에만, mightContain은 현재 + 이전 세대 확인
+ * - rotate: 현재 -> 이전, 새 빈 세대가 현재 (가장 오래된 세대는 버림)
+ *   -> 추가한 항목은 최소 한 번의 교체 주기 동안 남아 있음 (계속 필요한 항목은 주기마다 다시 add)
+ * - 스레드 안전 (비트 단위 CAS, 락 없음) / 거짓 양성은 있고 거짓 음성은 없음 (같은 세대 안에서)
+ */
+public final class RotatingBloomFilter {
+
+    private static final class Generation {
+        final AtomicLongArray words;
+
+        Generation(int words) {
+            this.words = new AtomicLongArray(words);
+        }
+    }
+
+    private record Generations(Generation current, Generation previous) {}
+
+    private final int bits;
+    private final int hashes;
+    private volatile Generations generations;
+
+    /**
+     * @param expectedInsertions 한 세대에 들어갈 것으로 예상하는 항목 수
+     * @param falsePositiveRate  그때의 목표 거짓 양성 비율 (0 ~ 1)
+     */
+    public RotatingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) throw new IllegalArgumentException("expectedInsertions must be positive");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = (int) Math.min(Math.max(m, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+        this.generations = new Generations(newGeneration(), newGeneration());
+    }
+
+    /**
+     * (kind, value) 추가 - kind는 같은 value라도 종류가 다르면 다른 항목으로 보기 위한 구분자
+     */
+    public void add(char kind, String value) {
+        add(hash(kind, value, 0x9E3779B97F4A7C15L), hash(kind, value, 0xC2B2AE3D27D4EB4FL) | 1); // h2 홀수 -> 모든 칸을 돎
+    }
+
+    /**
+     * (kind, long 값) 추가 (문자열을 만들지 않는 버전)
+     */
+    public void add(char kind, long value) {
+        add(hash(kind, value, 0x9E3779B97F4A7C15L), hash(kind, value, 0xC2B2AE3D27D4EB4FL) | 1);
+    }
+
+    public boolean mightContain(char kind, String value) {
+        return mightContain(hash(kind, value, 0x9E3779B97F4A7C15L), hash(kind, value, 0xC2B2AE3D27D4EB4FL) | 1);
+    }
+
+    public boolean mightContain(char kind, long value) {
+        return mightContain(hash(kind, value, 0x9E3779B97F4A7C15L), hash(kind, value, 0xC2B2AE3D27D4EB4FL) | 1);
+    }
+
+    public void rotate() {
+        generations = new Generations(newGeneration(), generations.current());
+    }
+
+    public int bitSize() {
+        return bits;
+    }
+
+    public int hashCount() {
+        return hashes;
+    }
+
+    private void add(long h1, long h2) {
+        Generation g = generations.current();
+        for (int i = 0; i < hashes; i++) set(g, index(h1, h2, i));
+    }
+
+    private boolean mightContain(long h1, long h2) {
+        Generations gs = generations;
+        return contains(gs.current(), h1, h2) || contains(gs.previous(), h1, h2);
+    }
+
+    private boolean contains(Generation g, long h1, long h2) {
+        for (int i = 0; i < hashes; i++) {
+            int index = index(h1, h2, i);
+            if ((g.words.get(index >>> 6) & (1L << index)) == 0) return false;
+        }
+        return true;
+    }
+
+    private static void set(Generation g, int index) {
+        int word = index >>> 6;
+        long mask = 1L << index;
+        long current;
+        while (((current = g.words.get(word)) & mask) == 0) {
+            if (g.words.compareAndSet(word, current, current | mask)) return;
+        }
+    }
+
+    private int index(long h1, long h2, int i) {
+        return (int) Long.remainderUnsigned(h1 + i * h2, bits);
+    }
+
+    private Generation newGeneration() {
+        return new Generation((bits + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    /**
+     * 문자 단위 해시 + 최종 섞기 (splitmix64) - seed만 바꿔서 독립적인 해시 2개를 만듦
+     */
+    private static long hash(char kind, String value, long seed) {
+        long h = seed ^ kind;
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(h ^ value.length());
+    }
+
+    private static long hash(char kind, long value, long seed) {
+        return mix((seed ^ kind) * 0x100000001B3L ^ value);
+    }
+
+    private static long mix(long h) {
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.hyeonseo.auth.common.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 만료 정리용 해시 타이머 휠 (프로세스 내 저장소 공용)
+ * - 키마다 스레드/타이머를 만들지 않고, 만료 시각(tick)에 해당하는 칸에 넣어 두었다가 그 칸 차례에 onExpire 호출
+ * - 한 바퀴보다 먼 만료는 칸에 남아 있다가 해당 바퀴에서 처리
+ * - 칸마다 락이 따로 있어 등록(요청 스레드)과 정리(tick 스레드)가 서로 다른 칸이면 경합 없음
+ * - 메모리 회수용: 정리가 늦어도 읽기 쪽이 만료 시각을 직접 확인하므로 결과는 항상 정확
+ *   (onExpire는 같은 키가 다시 저장됐을 수 있으므로 현재 만료 시각을 확인하고 지워야 함)
+ */
+public final class TimerWheel<K> implements AutoCloseable {
+
+    private record Timeout<K>(K key, long deadlineTick) {}
+
+    private static final class Bucket<K> {
+        final ReentrantLock lock = new ReentrantLock(); // 가상 스레드 pinning 없음 (synchronized 대신)
+        List<Timeout<K>> timeouts = new ArrayList<>();
+    }
+
+    private final long tickMillis;
+    private final int mask;
+    private final Bucket<K>[] buckets;
+    private final Consumer<K> onExpire;
+    private final ScheduledExecutorService ticker;
+
+    private volatile long processedTick; // 여기까지 처리 완료 (tick 스레드만 갱신)
+
+    /**
+     * @param name tick 스레드 이름
+     * @param wheelSize 칸 수 (2의 거듭제곱으로 올림)
+     * @param onExpire 만료 시각이 지난 키 (tick 스레드에서 호출)
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(String name, long tickMillis, int wheelSize, Consumer<K> onExpire) {
+        int size = Integer.highestOneBit(Math.max(wheelSize - 1, 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new Bucket[size];
+        for (int i = 0; i < size; i++) buckets[i] = new Bucket<>();
+        this.onExpire = onExpire;
+        this.processedTick = tick(System.currentTimeMillis());
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        });
+        ticker.scheduleAtFixedRate(() -> advance(System.currentTimeMillis()), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 만료 시각에 onExpire(key)가 호출되도록 등록
+     */
+    public void schedule(K key, long deadlineMillis) {
+        // 이미 처리한 tick이면 다음 tick 칸으로 (한 바퀴 늦게 처리되지 않도록)
+        long deadlineTick = Math.max(tick(deadlineMillis), processedTick + 1);
+        Bucket<K> bucket = buckets[(int) (deadlineTick & mask)];
+
+        bucket.lock.lock();
+        try {
+            bucket.timeouts.add(new Timeout<>(key, deadlineTick));
+        } finally {
+            bucket.lock.unlock();
+        }
+    }
+
+    /**
+     * now까지 지난 tick의 칸들을 처리 (tick 스레드)
+     */
+    void advance(long nowMillis) {
+        long target = tick(nowMillis);
+        long from = processedTick + 1;
+        // 밀린 tick이 한 바퀴를 넘으면 모든 칸을 한 번씩만 처리
+        if (target - from > mask) from = target - mask;
+
+        for (long t = from; t <= target; t++) {
+            expire(buckets[(int) (t & mask)], t);
+        }
+        processedTick = target;
+    }
+
+    private void expire(Bucket<K> bucket, long currentTick) {
+        List<Timeout<K>> due;
+        bucket.lock.lock();
+        try {
+            due = bucket.timeouts;
+            bucket.timeouts = new ArrayList<>();
+        } finally {
+            bucket.lock.unlock();
+        }
+
+        List<Timeout<K>> later = null;
+        for (Timeout<K> timeout : due) {
+            if (timeout.deadlineTick() > currentTick) { // 다음 바퀴 이후
+                if (later == null) later = new ArrayList<>();
+                later.add(timeout);
+                continue;
+            }
+            try {
+                onExpire.accept(timeout.key());
+            } catch (RuntimeException ignored) {
+                // 한 키의 정리 실패가 나머지 정리를 막지 않도록
+            }
+        }
+
+        if (later != null) {
+            bucket.lock.lock();
+            try {
+                bucket.timeouts.addAll(later);
+            } finally {
+                bucket.lock.unlock();
+            }
+        }
+    }
+
+    private long tick(long millis) {
+        return millis / tickMillis;
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.hyeonseo.auth.common.store;
+
+import java.time.Duration;
+
+/**
+ * 만료 시간이 있는 단일 키 저장소 SPI (회원가입 티켓 등)
+ * - 구현: RedisTokenStore (기본) / InMemoryTokenStore (단일 서버, 테스트)
+ * - 만료된 키는 모든 메서드에서 없는 키로 취급
+ */
+public interface TokenStore {
+
+    /**
+     * @return 저장된 값 (없거나 만료됐으면 null)
+     */
+    byte[] get(String key);
+
+    /**
+     * 값 저장 (이미 있으면 덮어쓰고 TTL도 새로)
+     */
+    void set(String key, byte[] value, Duration ttl);
+
+    /**
+     * 키가 없을 때만 저장 (SET NX)
+     * @return 저장했으면 true
+     */
+    boolean setIfAbsent(String key, byte[] value, Duration ttl);
+
+    /**
+     * 값을 꺼내면서 삭제 (원자적, GETDEL) - 같은 키를 동시에 꺼내면 하나만 값을 받음
+     * @return 꺼낸 값 (없으면 null)
+     */
+    byte[] consume(String key);
+
+    /**
+     * @return 삭제했으면 true
+     */
+    boolean delete(String key);
+
+    default boolean exists(String key) {
+        return get(key) != null;
+    }
+}
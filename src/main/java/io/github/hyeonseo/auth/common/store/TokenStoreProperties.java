@@ -0,0 +1,21 @@
+package io.github.hyeonseo.auth.common.store;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.store")
+public record TokenStoreProperties(
+        Type type,          // REDIS: 여러 서버가 공유 / MEMORY: 프로세스 내 (단일 서버, Redis 없이 실행)
+        long tickMillis,    // MEMORY: 만료 정리 주기 (읽기는 항상 만료 시각을 직접 확인)
+        int wheelSize,      // MEMORY: 타이머 휠 칸 수 (tickMillis * wheelSize = 한 바퀴)
+        int lockStripes     // MEMORY: 사용자별 세션 인덱스 락 개수
+) {
+
+    public enum Type { REDIS, MEMORY }
+
+    public TokenStoreProperties {
+        if (type == null) type = Type.REDIS;
+        if (tickMillis <= 0) tickMillis = 1000;
+        if (wheelSize <= 0) wheelSize = 4096;
+        if (lockStripes <= 0) lockStripes = 64;
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.hyeonseo.auth.config;
+
+import io.github.hyeonseo.auth.auth.oauth2.KakaoHttpClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.endpoint.ReactiveOAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.RestClientAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.WebClientReactiveAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+
+/**
+ * 카카오 토큰 교환(token-uri)을 KakaoHttpClient로 (기본 클라이언트는 연결 풀/제한 시간 설정 없음)
+ * - 서블릿: SecurityConfig에서 oauth2Login tokenEndpoint로 등록
+ * - 리액티브: ServerHttpSecurity.oauth2Login이 이 타입의 빈을 찾아서 사용
+ * - 토큰 교환은 인가 코드가 1회용이라 재시도하지 않음
+ */
+@Configuration
+public class KakaoClientConfig {
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> kakaoAccessTokenResponseClient(KakaoHttpClient kakaoHttpClient) {
+        // setRestClient를 쓰면 기본 변환기/오류 처리도 직접 지정해야 함 (기본 클라이언트와 같은 구성)
+        var restClient = kakaoHttpClient.restClientBuilder(KakaoHttpClient.Endpoint.TOKEN)
+                .messageConverters(converters -> {
+                    converters.clear();
+                    converters.add(new FormHttpMessageConverter());
+                    converters.add(new OAuth2AccessTokenResponseHttpMessageConverter());
+                })
+                .defaultStatusHandler(new OAuth2ErrorResponseErrorHandler())
+                .build();
+
+        var client = new RestClientAuthorizationCodeTokenResponseClient();
+        client.setRestClient(restClient);
+        return client;
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveOAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> kakaoReactiveAccessTokenResponseClient(KakaoHttpClient kakaoHttpClient) {
+        var client = new WebClientReactiveAuthorizationCodeTokenResponseClient();
+        client.setWebClient(kakaoHttpClient.webClientBuilder(KakaoHttpClient.Endpoint.TOKEN).build());
+        return client;
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.hyeonseo.auth.config;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 진단
+ * - synchronized 블록/네이티브 호출 안에서 블로킹(Redis/JDBC/HTTP I/O)하면 가상 스레드가 캐리어 스레드를 붙잡고 있게 됨
+ *   -> 동시 처리량이 캐리어 수(CPU 코어 수)로 제한됨
+ * - JFR jdk.VirtualThreadPinned 이벤트를 구독해서 발생 위치(이 프로젝트 코드 기준 첫 프레임)별로 집계
+ * - 위치마다 처음 한 번은 전체 스택을 로그로 남기고, 종료 시 집계를 출력
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(PinningMonitorProperties.class)
+@ConditionalOnProperty(name = {"spring.threads.virtual.enabled", "app.diagnostics.pinning.enabled"}, havingValue = "true")
+public class PinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "io.github.hyeonseo.";
+
+    private final RecordingStream stream;
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+
+    /**
+     * 발생 위치별 집계
+     */
+    public record Stats(String site, long count, long maxMillis) {}
+
+    private static final class Site {
+        final LongAdder count = new LongAdder();
+        volatile long maxNanos;
+    }
+
+    public PinningMonitor(PinningMonitorProperties props) {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(Duration.ofMillis(props.thresholdMillis())).withStackTrace();
+        stream.onEvent(EVENT, this::record);
+        stream.startAsync();
+    }
+
+    /**
+     * 지금까지의 집계 (횟수 많은 순)
+     */
+    public List<Stats> stats() {
+        return sites.entrySet().stream()
+                .map(e -> new Stats(e.getKey(), e.getValue().count.sum(), e.getValue().maxNanos / 1_000_000))
+                .sorted((a, b) -> Long.compare(b.count(), a.count()))
+                .collect(Collectors.toList());
+    }
+
+    @PreDestroy
+    public void close() {
+        stream.close();
+        stats().forEach(s -> log.info("virtual thread pinned: {} x{} (max {}ms)", s.site(), s.count(), s.maxMillis()));
+    }
+
+    private void record(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String site = site(stackTrace);
+
+        Site stats = sites.computeIfAbsent(site, k -> {
+            log.warn("virtual thread pinned for {}ms at {}\n{}", event.getDuration().toMillis(), k, format(stackTrace));
+            return new Site();
+        });
+        stats.count.increment();
+        long nanos = event.getDuration().toNanos();
+        if (nanos > stats.maxNanos) stats.maxNanos = nanos; // 근사치면 충분 (경합 시 작은 값이 남을 수 있음)
+    }
+
+    /**
+     * 이 프로젝트 코드의 첫 프레임 (없으면 최상단 프레임)
+     */
+    private static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) return "<unknown>";
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame chosen = frames.stream()
+                .filter(f -> f.getMethod().getType().getName().startsWith(APP_PACKAGE))
+                .findFirst()
+                .orElse(frames.get(0));
+        return chosen.getMethod().getType().getName() + "." + chosen.getMethod().getName() + ":" + chosen.getLineNumber();
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return "";
+        return stackTrace.getFrames().stream()
+                .map(f -> "    at " + f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.hyeonseo.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.diagnostics.pinning")
+public record PinningMonitorProperties(
+        boolean enabled,       // 가상 스레드 모드(spring.threads.virtual.enabled)일 때만 의미 있음
+        long thresholdMillis   // 이 시간 이상 캐리어 스레드에 고정(pinned)된 경우만 기록
+) {
+
+    public PinningMonitorProperties {
+        if (thresholdMillis <= 0) thresholdMillis = 20;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.hyeonseo.auth.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyRouteProvider;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
+
+/**
+ * 리액티브 모드 서버를 Reactor Netty로 고정
+ * - web + webflux 스타터가 함께 있으면 Boot는 리액티브 모드에서도 Tomcat(서블릿 어댑터)을 먼저 고름
+ *   (ReactiveWebServerFactoryAutoConfiguration이 EmbeddedTomcat을 EmbeddedNetty보다 먼저 import)
+ *   -> 연결당 스레드를 쓰지 않는 이벤트 루프 서버여야 리액티브 모드의 의미가 있음
+ * - 이 빈이 있으면 Boot의 Tomcat/Netty 팩토리는 만들어지지 않음 (server.port, server.netty.* 등 설정은 그대로 적용)
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(
+            ObjectProvider<ReactorResourceFactory> resourceFactory,
+            ObjectProvider<NettyRouteProvider> routes,
+            ObjectProvider<NettyServerCustomizer> serverCustomizers
+    ) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        resourceFactory.ifAvailable(factory::setResourceFactory);
+        routes.orderedStream().forEach(factory::addRouteProviders);
+        factory.getServerCustomizers().addAll(serverCustomizers.orderedStream().toList());
+        return factory;
+    }
+}
@@ -1,14 +1,21 @@
 package io.github.hyeonseo.auth.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.codec.PayloadCodecProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @Configuration
+@EnableConfigurationProperties(PayloadCodecProperties.class)
 public class RedisConfig {
 
     @Bean
@@ -29,4 +36,36 @@ public class RedisConfig {
 
         return template;
     }
+
+    /**
+     * refresh 토큰 / 회원가입 티켓 payload용 (값을 PayloadCodec이 만든 byte[] 그대로 저장)
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> payloadRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        // key: string
+        template.setKeySerializer(new StringRedisSerializer());
+
+        // value: byte[] 그대로
+        template.setValueSerializer(RedisSerializer.byteArray());
+
+        return template;
+    }
+
+    /**
+     * payloadRedisTemplate의 리액티브 버전 (리액티브 모드의 refresh 토큰 / 회원가입 티켓)
+     * - 키/값 직렬화가 같아서 두 모드가 같은 키와 값을 그대로 읽고 씀
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]> reactivePayloadRedisTemplate(ReactiveRedisConnectionFactory connectionFactory) {
+        RedisSerializationContext<String, byte[]> context = RedisSerializationContext
+                .<String, byte[]>newSerializationContext(RedisSerializer.byteArray())
+                .key(StringRedisSerializer.UTF_8)
+                .hashKey(StringRedisSerializer.UTF_8)
+                .build();
+
+        return new ReactiveRedisTemplate<>(connectionFactory, context);
+    }
 }
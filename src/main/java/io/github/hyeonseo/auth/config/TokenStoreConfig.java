@@ -0,0 +1,124 @@
+package io.github.hyeonseo.auth.config;
+
+import io.github.hyeonseo.auth.common.store.InMemoryTokenStore;
+import io.github.hyeonseo.auth.common.store.RedisTokenStore;
+import io.github.hyeonseo.auth.common.store.TokenStore;
+import io.github.hyeonseo.auth.common.store.TokenStoreProperties;
+import io.github.hyeonseo.auth.token.ActiveTokenCacheProperties;
+import io.github.hyeonseo.auth.token.ActiveTokenNearCache;
+import io.github.hyeonseo.auth.token.InMemoryRefreshSessionStore;
+import io.github.hyeonseo.auth.token.RedisRefreshSessionStore;
+import io.github.hyeonseo.auth.token.RefreshSessionProperties;
+import io.github.hyeonseo.auth.token.RefreshSessionStore;
+import io.github.hyeonseo.auth.token.RefreshTokenPayloadCodec;
+import io.github.hyeonseo.auth.token.RefreshVersionCache;
+import io.github.hyeonseo.auth.token.RefreshVersionCacheProperties;
+import io.lettuce.core.RedisClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.reactive.context.ReactiveWebApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 토큰 저장소 선택 (app.store.type)
+ * - REDIS(기본): 여러 서버가 refresh 세션/회원가입 티켓을 공유
+ * - MEMORY: 프로세스 내 저장 (단일 서버 설치, 테스트) - 재시작하면 세션이 사라짐
+ *   리액티브 모드는 리액티브 Redis를 직접 쓰므로 MEMORY 미지원
+ * - app.auth.refresh.active-cache.enabled: REDIS 저장소의 ACTIVE 포인터 확인을 프로세스 내 캐시로 (RESP3 추적)
+ * - app.auth.refresh.version-cache.enabled: REDIS 저장소의 세션 버전 확인(SIGNED)을 프로세스 내 캐시로 (pub/sub 갱신)
+ */
+@Configuration
+@EnableConfigurationProperties({TokenStoreProperties.class, ActiveTokenCacheProperties.class, RefreshVersionCacheProperties.class})
+public class TokenStoreConfig {
+
+    @Bean
+    public TokenStore tokenStore(
+            TokenStoreProperties props,
+            RedisTemplate<String, byte[]> payloadRedisTemplate,
+            ApplicationContext context
+    ) {
+        if (!memory(props, context)) return new RedisTokenStore(payloadRedisTemplate);
+        return new InMemoryTokenStore(props);
+    }
+
+    @Bean
+    public RefreshSessionStore refreshSessionStore(
+            TokenStoreProperties props,
+            StringRedisTemplate stringRedisTemplate,
+            RedisTemplate<String, byte[]> payloadRedisTemplate,
+            RefreshTokenPayloadCodec codec,
+            RefreshSessionProperties sessionProps,
+            ObjectProvider<ActiveTokenNearCache> activeTokenCache,
+            ObjectProvider<RefreshVersionCache> versionCache,
+            ApplicationContext context
+    ) {
+        if (!memory(props, context)) {
+            return new RedisRefreshSessionStore(stringRedisTemplate, payloadRedisTemplate,
+                    activeTokenCache.getIfAvailable(), sessionProps.legacyKeys(), versionCache.getIfAvailable());
+        }
+        return new InMemoryRefreshSessionStore(codec, props);
+    }
+
+    /**
+     * ACTIVE 포인터 캐시 전용 연결 (Spring이 만든 Lettuce 클라이언트를 그대로 사용 -> 주소/인증/TLS 설정 공유)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.auth.refresh.active-cache.enabled", havingValue = "true")
+    public ActiveTokenNearCache activeTokenNearCache(
+            TokenStoreProperties storeProps,
+            ActiveTokenCacheProperties props,
+            LettuceConnectionFactory connectionFactory
+    ) {
+        if (storeProps.type() != TokenStoreProperties.Type.REDIS) {
+            throw new IllegalStateException("app.auth.refresh.active-cache requires app.store.type=REDIS");
+        }
+        if (!(connectionFactory.getNativeClient() instanceof RedisClient client)) {
+            throw new IllegalStateException("app.auth.refresh.active-cache is not supported with Redis Cluster");
+        }
+        return new ActiveTokenNearCache(client, props);
+    }
+
+    /**
+     * 세션 버전 캐시 (버전 스크립트가 PUBLISH한 "<tag>:<version>"을 구독해서 갱신)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.auth.refresh.version-cache.enabled", havingValue = "true")
+    public RefreshVersionCache refreshVersionCache(
+            TokenStoreProperties storeProps,
+            RefreshVersionCacheProperties props
+    ) {
+        if (storeProps.type() != TokenStoreProperties.Type.REDIS) {
+            throw new IllegalStateException("app.auth.refresh.version-cache requires app.store.type=REDIS");
+        }
+        return new RefreshVersionCache(props);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.auth.refresh.version-cache.enabled", havingValue = "true")
+    public RedisMessageListenerContainer refreshVersionListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RefreshVersionCache versionCache
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(versionCache, new ChannelTopic(RefreshVersionCache.CHANNEL));
+        return container;
+    }
+
+    private static boolean memory(TokenStoreProperties props, ApplicationContext context) {
+        if (props.type() != TokenStoreProperties.Type.MEMORY) return false;
+        if (context instanceof ReactiveWebApplicationContext) {
+            throw new IllegalStateException("app.store.type=MEMORY is not supported in reactive mode");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.hyeonseo.auth.security.config;
+
+import io.github.hyeonseo.auth.common.store.TokenStoreProperties;
+import io.github.hyeonseo.auth.security.filter.VerifiedTokenCache;
+import io.github.hyeonseo.auth.security.filter.VerifiedTokenCacheProperties;
+import io.github.hyeonseo.auth.signup.ticket.SignupTicketProperties;
+import io.github.hyeonseo.auth.token.AccessTokenRevocationProperties;
+import io.github.hyeonseo.auth.token.AccessTokenRevocations;
+import io.github.hyeonseo.auth.token.AccessTokenService;
+import io.github.hyeonseo.auth.token.JwtProperties;
+import io.github.hyeonseo.auth.token.RefreshSessionProperties;
+import io.github.hyeonseo.auth.user.identity.UserIdentityCacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 서블릿/리액티브 모드 공용 설정 (SecurityConfig / ReactiveSecurityConfig 중 하나만 등록됨)
+ */
+@Configuration
+@EnableConfigurationProperties({
+        JwtProperties.class,
+        VerifiedTokenCacheProperties.class,
+        AccessTokenRevocationProperties.class,
+        RefreshSessionProperties.class,
+        SignupTicketProperties.class,
+        UserIdentityCacheProperties.class
+})
+public class AuthConfig {
+
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(VerifiedTokenCacheProperties props) {
+        return new VerifiedTokenCache(props);
+    }
+
+    /**
+     * access token 폐기 목록 (disabled면 확인/폐기 모두 아무것도 하지 않음)
+     */
+    @Bean
+    public AccessTokenRevocations accessTokenRevocations(
+            StringRedisTemplate stringRedisTemplate,
+            AccessTokenService accessTokenService,
+            AccessTokenRevocationProperties props,
+            JwtProperties jwtProps,
+            TokenStoreProperties storeProps
+    ) {
+        if (props.enabled() && storeProps.type() != TokenStoreProperties.Type.REDIS) {
+            throw new IllegalStateException("app.auth.jwt.revocation requires app.store.type=REDIS");
+        }
+        return new AccessTokenRevocations(stringRedisTemplate, accessTokenService, props, jwtProps);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.auth.jwt.revocation.enabled", havingValue = "true")
+    public RedisMessageListenerContainer accessTokenRevocationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            AccessTokenRevocations revocations
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(revocations, new ChannelTopic(AccessTokenRevocations.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.hyeonseo.auth.security.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.auth.oauth2.ReactiveOAuth2JsonSuccessHandler;
+import io.github.hyeonseo.auth.security.filter.ReactiveJwtAuthenticationFilter;
+import io.github.hyeonseo.auth.security.filter.ReactiveNoStoreAuthResponseFilter;
+import io.github.hyeonseo.auth.security.filter.VerifiedTokenCache;
+import io.github.hyeonseo.auth.token.AccessTokenRevocations;
+import io.github.hyeonseo.auth.token.AccessTokenService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
+
+/**
+ * SecurityConfig의 리액티브 버전 (spring.main.web-application-type=reactive일 때만 등록)
+ * - 인가 규칙/필터 순서를 SecurityConfig와 맞춰 두 모드의 API 동작이 같게 유지
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public ReactiveJwtAuthenticationFilter reactiveJwtAuthenticationFilter(
+            AccessTokenService accessTokenService,
+            ObjectMapper objectMapper,
+            VerifiedTokenCache verifiedTokenCache,
+            AccessTokenRevocations accessTokenRevocations
+    ) {
+        return new ReactiveJwtAuthenticationFilter(accessTokenService, objectMapper, verifiedTokenCache, accessTokenRevocations);
+    }
+
+    @Bean
+    CorsConfigurationSource reactiveCorsConfigurationSource() {
+        CorsConfiguration config = new CorsConfiguration();
+        config.setAllowedOrigins(List.of("https://front.example.com")); // 프론트 도메인
+        config.setAllowedMethods(List.of("GET","POST","PUT","DELETE","OPTIONS"));
+        config.setAllowedHeaders(List.of("*"));
+        config.setAllowCredentials(true); // 쿠키 포함 허용
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", config);
+        return source;
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(
+            ServerHttpSecurity http,
+            ReactiveOAuth2JsonSuccessHandler successHandler,
+            ReactiveJwtAuthenticationFilter jwtFilter
+    ) {
+        http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .cors(cors -> cors.configurationSource(reactiveCorsConfigurationSource()))
+                .authorizeExchange(auth -> auth
+                        .pathMatchers("/", "/test/**", "/api/signup/**").permitAll()
+                        .pathMatchers("/api/auth/refresh", "/api/auth/logout").permitAll()
+                        .pathMatchers("/.well-known/jwks.json").permitAll()
+                        .pathMatchers("/api/me").authenticated()
+
+                        .pathMatchers("/api/customer/**").hasRole("CUSTOMER")
+                        .pathMatchers("/api/owner/**").hasRole("OWNER")
+
+                        .anyExchange().authenticated()
+                )
+                .oauth2Login(oauth -> oauth.authenticationSuccessHandler(successHandler))
+                .addFilterAt(new ReactiveNoStoreAuthResponseFilter(), SecurityWebFiltersOrder.FIRST)
+                .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION);
+
+        return http.build();
+    }
+}
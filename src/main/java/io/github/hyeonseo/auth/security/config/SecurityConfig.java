@@ -1,16 +1,29 @@
 package io.github.hyeonseo.auth.security.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.auth.oauth2.AuthorizationRequestProperties;
+import io.github.hyeonseo.auth.auth.oauth2.CookieAuthorizationRequestRepository;
+import io.github.hyeonseo.auth.auth.oauth2.RedisAuthorizationRequestRepository;
+import io.github.hyeonseo.auth.common.store.TokenStore;
 import io.github.hyeonseo.auth.security.filter.NoStoreAuthResponseFilter;
 import io.github.hyeonseo.auth.security.filter.JwtAuthenticationFilter;
+import io.github.hyeonseo.auth.security.filter.VerifiedTokenCache;
+import io.github.hyeonseo.auth.token.AccessTokenRevocations;
 import io.github.hyeonseo.auth.token.AccessTokenService;
+import io.github.hyeonseo.auth.auth.oauth2.KakaoOAuth2UserService;
 import io.github.hyeonseo.auth.auth.oauth2.OAuth2JsonSuccessHandler;
-import io.github.hyeonseo.auth.token.JwtProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.context.SecurityContextHolderFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -20,15 +33,33 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.List;
 
 @Configuration
-@EnableConfigurationProperties(JwtProperties.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(AuthorizationRequestProperties.class)
 public class SecurityConfig {
 
+    /**
+     * 로그인 시작 ~ 콜백 사이의 인가 요청 보관 (HttpSession 대신 -> 로그인 중에도 세션 없음, 서버 간 sticky 불필요)
+     */
+    @Bean
+    public AuthorizationRequestRepository<OAuth2AuthorizationRequest> authorizationRequestRepository(
+            AuthorizationRequestProperties props,
+            ObjectMapper objectMapper,
+            TokenStore tokenStore
+    ) {
+        return switch (props.mode()) {
+            case COOKIE -> new CookieAuthorizationRequestRepository(objectMapper, props);
+            case REDIS -> new RedisAuthorizationRequestRepository(tokenStore, objectMapper, props);
+        };
+    }
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(
             AccessTokenService accessTokenService,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            VerifiedTokenCache verifiedTokenCache,
+            AccessTokenRevocations accessTokenRevocations
     ) {
-        return new JwtAuthenticationFilter(accessTokenService, objectMapper);
+        return new JwtAuthenticationFilter(accessTokenService, objectMapper, verifiedTokenCache, accessTokenRevocations);
     }
 
     @Bean
@@ -53,16 +84,25 @@ public class SecurityConfig {
     public SecurityFilterChain filterChain(
             HttpSecurity http,
             OAuth2JsonSuccessHandler successHandler,
+            KakaoOAuth2UserService kakaoUserService,
+            OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> kakaoTokenClient,
+            AuthorizationRequestRepository<OAuth2AuthorizationRequest> authorizationRequestRepository,
             JwtAuthenticationFilter jwtFilter,
             NoStoreAuthResponseFilter noStoreFilter
     ) throws Exception {
 
+        // 로그인 실패 시 예외를 세션에 남기지 않음 (기본 핸들러는 세션을 만들어서 저장)
+        SimpleUrlAuthenticationFailureHandler failureHandler = new SimpleUrlAuthenticationFailureHandler("/login?error");
+        failureHandler.setAllowSessionCreation(false);
+
         http
                 .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 인증은 JWT, 로그인 흐름도 세션 없이
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/", "/test/**", "/api/signup/**").permitAll() // permitAll()은 인증 없이도 접근 허용
                         .requestMatchers("/api/auth/refresh", "/api/auth/logout").permitAll()
+                        .requestMatchers("/.well-known/jwks.json").permitAll() // 공개키 (다른 서비스의 오프라인 검증용)
                         .requestMatchers("/api/me").authenticated() // authenticated()은 인증 필요
 
                         // (선택) 역할 기반 인가 테스트
@@ -72,7 +112,13 @@ public class SecurityConfig {
 
                         .anyRequest().authenticated() // 위에서 따로 허용해주지 않은 나머지 모든 요청은 “인증 필요”
                 )
-                .oauth2Login(oauth -> oauth.successHandler(successHandler))
+                .oauth2Login(oauth -> oauth
+                        .authorizationEndpoint(authorization -> authorization
+                                .authorizationRequestRepository(authorizationRequestRepository)) // 쿠키 또는 Redis
+                        .tokenEndpoint(token -> token.accessTokenResponseClient(kakaoTokenClient)) // KakaoHttpClient (연결 풀/제한 시간)
+                        .userInfoEndpoint(userInfo -> userInfo.userService(kakaoUserService)) // 사용자 정보를 KakaoProfile로 바로 읽음
+                        .successHandler(successHandler)
+                        .failureHandler(failureHandler))
                 .addFilterBefore(noStoreFilter, SecurityContextHolderFilter.class)
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -1,12 +1,8 @@
 package io.github.hyeonseo.auth.security.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.token.AccessTokenRevocations;
 import io.github.hyeonseo.auth.token.AccessTokenService;
-import io.github.hyeonseo.auth.security.principal.UserPrincipal;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,13 +10,11 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.Map;
 
 @RequiredArgsConstructor
@@ -28,6 +22,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter { // OncePerRe
 
     private final AccessTokenService accessTokenService;
     private final ObjectMapper objectMapper;
+    private final VerifiedTokenCache verifiedTokenCache; // 검증된 토큰 캐시 (disabled면 매번 검증)
+    private final AccessTokenRevocations revocations;    // 폐기 목록 (대부분 Bloom filter만 확인, disabled면 확인 안 함)
 
     /**
      * 매 요청마다 실행되는 메서드
@@ -41,63 +37,48 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter { // OncePerRe
     {
         // Authorization 헤더가 없거나 "Bearer "로 시작하지 않으면 JWT 인증을 시도하지 않고 다음 필터로 넘긴다.
         // 그 요청을 막을지 말지는 SecurityConfig의 인가 규칙(anyRequest().authenticated()) 또는 뒤 필터/컨트롤러에서 결정됨.
-        String header = request.getHeader("Authorization");
-        if (header == null || !header.startsWith("Bearer ")) {
+        String token = JwtAuthentications.bearerToken(request.getHeader("Authorization"));
+        if (token == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String token = header.substring("Bearer ".length()).trim();
-        if (token.isBlank() || token.equals("null") || token.equals("undefined")) {
-            filterChain.doFilter(request, response);
+        VerifiedTokenCache.Entry verified;
+        try {
+            // 토큰 검증/파싱 (캐시에 있으면 서명 검증 생략)
+            verified = verifiedTokenCache.getOrVerify(token, t -> JwtAuthentications.verify(accessTokenService, t));
+        } catch (Exception e) {
+            // 만료/변조/서명/형식 오류 등
+            SecurityContextHolder.clearContext();
+            writeUnauthorized(response, JwtAuthentications.unauthorizedBody(e));
             return;
         }
 
-        try {
-            // 토큰 검증/파싱
-            Claims claims = accessTokenService.parseClaims(token);
-            Long id = Long.valueOf(claims.getSubject()); // 유저 id
-            UserRole role = accessTokenService.extractRole(claims);  // CUSTOMER / OWNER
-
-            // UserPrincipal 객체 생성
-            UserPrincipal principal = new UserPrincipal(id, role);
-
-            // Authentication 생성
-            var auth = new UsernamePasswordAuthenticationToken(
-                    principal, // UserPrincipal 객체
-                    null,
-                    List.of(new SimpleGrantedAuthority("ROLE_" + role.name()))
-            );
-
-            // SecurityContext에 심기 (핵심)
-            SecurityContextHolder.getContext().setAuthentication(auth);
-            filterChain.doFilter(request, response);
-
-        } catch (ExpiredJwtException e) {
-            // 만료: 프론트가 refresh 트리거하도록 코드 내려줌
+        // 폐기된 토큰 (캐시에서 꺼낸 토큰도 확인)
+        if (revocations.isRevoked(verified.token())) {
             SecurityContextHolder.clearContext();
-            writeUnauthorized(response, "ACCESS_TOKEN_EXPIRED", "엑세스 토큰이 만료되었습니다.");
+            writeUnauthorized(response, JwtAuthentications.revokedBody());
+            return;
+        }
 
-        } catch (JwtException e) {
-            // 변조/서명/형식 오류 등
-            SecurityContextHolder.clearContext();
-            writeUnauthorized(response, "ACCESS_TOKEN_INVALID", "유효하지 않은 엑세스 토큰입니다.");
+        // Authentication 생성
+        var auth = new UsernamePasswordAuthenticationToken(
+                verified.principal(), // UserPrincipal 객체
+                null,
+                verified.authorities()
+        );
 
-        } catch (Exception e) {
-            // 예상 못한 에러
-            SecurityContextHolder.clearContext();
-            writeUnauthorized(response, "UNAUTHORIZED", "인증 처리 중 오류가 발생했습니다.");
-        }
+        // SecurityContext에 심기 (핵심)
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        filterChain.doFilter(request, response);
     }
 
-    private void writeUnauthorized(HttpServletResponse response, String code, String message) {
+    private void writeUnauthorized(HttpServletResponse response, Map<String, String> body) {
         try {
             response.setStatus(401);
             response.setCharacterEncoding(StandardCharsets.UTF_8.name());
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            response.getWriter().write(objectMapper.writeValueAsString(
-                    Map.of("status", "ERRPR", "code", code, "message", message)
-            ));
+            response.getWriter().write(objectMapper.writeValueAsString(body));
         } catch (Exception ignored) {}
     }
 }
@@ -0,0 +1,78 @@
+package io.github.hyeonseo.auth.security.filter;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.security.principal.UserPrincipal;
+import io.github.hyeonseo.auth.token.AccessTokenService;
+import io.github.hyeonseo.auth.token.VerifiedAccessToken;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JwtAuthenticationFilter / ReactiveJwtAuthenticationFilter 공용 (토큰 추출, 검증 결과 변환, 401 응답 본문)
+ */
+final class JwtAuthentications {
+
+    // role별 권한 목록은 고정이라 미리 만들어 둠
+    private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    private JwtAuthentications() {}
+
+    /**
+     * Authorization 헤더에서 Bearer 토큰 추출
+     * @return 토큰 (헤더가 없거나 비어 있으면 null -> 인증 시도 없이 다음 필터로)
+     */
+    static String bearerToken(String header) {
+        if (header == null || !header.startsWith("Bearer ")) return null;
+
+        String token = header.substring("Bearer ".length()).trim();
+        if (token.isBlank() || token.equals("null") || token.equals("undefined")) return null;
+        return token;
+    }
+
+    /**
+     * 서명 검증 -> UserPrincipal/권한 변환
+     */
+    static VerifiedTokenCache.Entry verify(AccessTokenService accessTokenService, String token) {
+        VerifiedAccessToken verified = accessTokenService.verify(token);
+
+        // UserPrincipal 객체 생성
+        UserPrincipal principal = new UserPrincipal(verified.userId(), verified.role());
+
+        long expiresAtMillis = verified.expiresAtEpochSec() * 1000; // exp 없으면 0 -> 캐시하지 않음
+        return new VerifiedTokenCache.Entry(principal, AUTHORITIES.get(verified.role()), expiresAtMillis, verified);
+    }
+
+    /**
+     * 인증 실패 응답 본문
+     * - 만료: 프론트가 refresh 트리거하도록 ACCESS_TOKEN_EXPIRED
+     * - 변조/서명/형식 오류: ACCESS_TOKEN_INVALID
+     */
+    static Map<String, String> unauthorizedBody(Exception e) {
+        if (e instanceof ExpiredJwtException) return body("ACCESS_TOKEN_EXPIRED", "엑세스 토큰이 만료되었습니다.");
+        if (e instanceof JwtException) return body("ACCESS_TOKEN_INVALID", "유효하지 않은 엑세스 토큰입니다.");
+        return body("UNAUTHORIZED", "인증 처리 중 오류가 발생했습니다."); // 예상 못한 에러
+    }
+
+    /**
+     * 폐기된 토큰 (로그아웃/모든 기기 로그아웃) - refresh도 같이 폐기됐으므로 다시 로그인해야 함
+     */
+    static Map<String, String> revokedBody() {
+        return body("ACCESS_TOKEN_REVOKED", "폐기된 엑세스 토큰입니다.");
+    }
+
+    private static Map<String, String> body(String code, String message) {
+        return Map.of("status", "ERRPR", "code", code, "message", message);
+    }
+}
@@ -12,13 +12,17 @@ public class NoStoreAuthResponseFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
+        return !appliesTo(request.getRequestURI());
+    }
 
-        // 토큰이 응답으로 내려갈 가능성이 있는 경로만 적용
-        return !(path.startsWith("/api/auth")
+    /**
+     * 토큰이 응답으로 내려갈 가능성이 있는 경로만 적용 (ReactiveNoStoreAuthResponseFilter와 공용)
+     */
+    static boolean appliesTo(String path) {
+        return path.startsWith("/api/auth")
                 || path.startsWith("/api/signup")
                 || path.startsWith("/login/oauth2/code")
-                || path.startsWith("/oauth2/authorization")); // optional
+                || path.startsWith("/oauth2/authorization"); // optional
     }
 
     @Override
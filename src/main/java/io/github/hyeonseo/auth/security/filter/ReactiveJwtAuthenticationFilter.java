@@ -0,0 +1,72 @@
+package io.github.hyeonseo.auth.security.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.token.AccessTokenRevocations;
+import io.github.hyeonseo.auth.token.AccessTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+/**
+ * JwtAuthenticationFilter의 리액티브 버전 (토큰 추출/검증/401 응답 동일)
+ * - 서명 검증은 CPU 작업이라 이벤트 루프에서 바로 처리 (VerifiedTokenCache 공유)
+ * - 인증 정보는 SecurityContextHolder 대신 Reactor Context로 전달
+ * - 폐기 목록: Bloom filter는 이벤트 루프에서, 양성일 때의 Redis 확인(블로킹)만 boundedElastic에서
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private final AccessTokenService accessTokenService;
+    private final ObjectMapper objectMapper;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocations revocations;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = JwtAuthentications.bearerToken(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        if (token == null) return chain.filter(exchange);
+
+        VerifiedTokenCache.Entry verified;
+        try {
+            verified = verifiedTokenCache.getOrVerify(token, t -> JwtAuthentications.verify(accessTokenService, t));
+        } catch (Exception e) {
+            return writeUnauthorized(exchange.getResponse(), JwtAuthentications.unauthorizedBody(e));
+        }
+
+        var auth = new UsernamePasswordAuthenticationToken(verified.principal(), null, verified.authorities());
+        if (!revocations.mightBeRevoked(verified.token())) {
+            return chain.filter(exchange)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth));
+        }
+
+        return Mono.fromCallable(() -> revocations.isRevoked(verified.token()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(revoked -> revoked
+                        ? writeUnauthorized(exchange.getResponse(), JwtAuthentications.revokedBody())
+                        : chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth)));
+    }
+
+    private Mono<Void> writeUnauthorized(ServerHttpResponse response, Map<String, String> body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (Exception e) {
+            return Mono.error(e);
+        }
+
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(json)));
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.hyeonseo.auth.security.filter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * NoStoreAuthResponseFilter의 리액티브 버전 (적용 경로 동일)
+ */
+public class ReactiveNoStoreAuthResponseFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (NoStoreAuthResponseFilter.appliesTo(exchange.getRequest().getPath().value())) {
+            HttpHeaders headers = exchange.getResponse().getHeaders();
+            if (!headers.containsKey(HttpHeaders.CACHE_CONTROL)) {
+                headers.set(HttpHeaders.CACHE_CONTROL, "no-store");
+                headers.set(HttpHeaders.PRAGMA, "no-cache");
+                headers.set(HttpHeaders.EXPIRES, "0"); // optional (legacy)
+            }
+        }
+        return chain.filter(exchange);
+    }
+}
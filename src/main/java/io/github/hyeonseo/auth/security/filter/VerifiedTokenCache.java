@@ -0,0 +1,102 @@
+package io.github.hyeonseo.auth.security.filter;
+
+import io.github.hyeonseo.auth.common.store.BoundedMap;
+import io.github.hyeonseo.auth.security.principal.UserPrincipal;
+import io.github.hyeonseo.auth.token.VerifiedAccessToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 access token -> (UserPrincipal, 권한) 캐시
+ * - 키: Bearer 토큰 원문의 SHA-256 (토큰 원문은 메모리에 남기지 않음)
+ * - 만료: min(토큰 exp, 저장 시각 + maxTtl)
+ * - 크기 제한: maxSize를 넘으면 만료된 엔트리부터, 그래도 넘으면 임의 엔트리를 정리
+ * - 폐기 여부는 캐시하지 않음 (캐시에서 꺼낸 뒤에도 필터가 AccessTokenRevocations로 확인)
+ */
+public class VerifiedTokenCache {
+
+    // 호출마다 복제 (ThreadLocal은 가상 스레드 모드에서 요청마다 getInstance가 되므로 provider 조회 없는 clone 사용)
+    private static final MessageDigest SHA_256 = sha256();
+
+    private final boolean enabled;
+    private final long maxTtlMillis;
+
+    private final BoundedMap<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public record Entry(UserPrincipal principal, List<GrantedAuthority> authorities, long expiresAtMillis, VerifiedAccessToken token) {}
+
+    public record Stats(long hits, long misses, int size) {}
+
+    public VerifiedTokenCache(VerifiedTokenCacheProperties props) {
+        this.enabled = props.enabled();
+        this.maxTtlMillis = props.maxTtlSeconds() * 1000;
+        this.entries = new BoundedMap<>(props.maxSize(), Entry::expiresAtMillis);
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환, 없으면 verifier로 검증 후 저장
+     * - verifier가 던진 예외(만료/변조 등)는 그대로 전파되고 캐시에 남지 않음
+     * @param token Bearer 토큰 원문
+     * @param verifier 서명 검증 + principal 생성 (expiresAtMillis = 토큰 exp)
+     * @return 검증된 엔트리
+     */
+    public Entry getOrVerify(String token, Function<String, Entry> verifier) {
+        if (!enabled) return verifier.apply(token);
+
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        Entry cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                hits.increment();
+                return cached;
+            }
+            entries.remove(key, cached); // 만료된 엔트리 정리
+        }
+
+        misses.increment();
+        Entry verified = verifier.apply(token);
+
+        long expiresAt = Math.min(verified.expiresAtMillis(), now + maxTtlMillis);
+        if (expiresAt > now) {
+            entries.put(key, new Entry(verified.principal(), verified.authorities(), expiresAt, verified.token()));
+        }
+        return verified;
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), entries.size());
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private static String digest(String token) {
+        MessageDigest md;
+        try {
+            md = (MessageDigest) SHA_256.clone();
+        } catch (CloneNotSupportedException e) {
+            md = sha256(); // 복제를 지원하지 않는 provider
+        }
+        return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.hyeonseo.auth.security.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.auth.jwt.verified-cache")
+public record VerifiedTokenCacheProperties(
+        boolean enabled,     // 기본 off
+        int maxSize,         // 최대 엔트리 수 (넘으면 만료분부터 정리)
+        long maxTtlSeconds   // 토큰 exp와 별개로 캐시에 머무를 최대 시간 (키 로테이션/폐기 반영 지연 상한)
+) {
+
+    public VerifiedTokenCacheProperties {
+        if (maxSize <= 0) maxSize = 10_000;
+        if (maxTtlSeconds <= 0) maxTtlSeconds = 60;
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.hyeonseo.auth.signup.api;
+
+import io.github.hyeonseo.auth.signup.application.ReactiveSignupService;
+import io.github.hyeonseo.auth.signup.application.SignupService.IssuedAuthTokens;
+import io.github.hyeonseo.auth.signup.dto.AuthTokenResponse;
+import io.github.hyeonseo.auth.signup.dto.CustomerSignupRequest;
+import io.github.hyeonseo.auth.signup.dto.OwnerSignupRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * SignupController의 리액티브 버전 (경로/응답 형식 동일)
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/signup")
+@RequiredArgsConstructor
+public class ReactiveSignupController {
+
+    private final ReactiveSignupService signupService;
+
+    @PostMapping("/customer")
+    public Mono<ResponseEntity<AuthTokenResponse>> signupCustomer(@Valid @RequestBody CustomerSignupRequest req) {
+        return signupService.signupCustomer(req).map(this::toResponse);
+    }
+
+    @PostMapping("/owner")
+    public Mono<ResponseEntity<AuthTokenResponse>> signupOwner(@Valid @RequestBody OwnerSignupRequest req) {
+        return signupService.signupOwner(req).map(this::toResponse);
+    }
+
+    private ResponseEntity<AuthTokenResponse> toResponse(IssuedAuthTokens issued) {
+        ResponseCookie cookie = ResponseCookie.from("REFRESH_TOKEN", issued.refreshToken())
+                .httpOnly(true)
+                .secure(false)
+                .sameSite("Lax")
+                .path("/api/auth")
+                .maxAge(issued.refreshTtlSeconds())
+                .build();
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .header("Pragma", "no-cache")
+                .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                .body(issued.body());
+    }
+}
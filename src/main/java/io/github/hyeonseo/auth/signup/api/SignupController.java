@@ -6,12 +6,14 @@ import io.github.hyeonseo.auth.signup.dto.CustomerSignupRequest;
 import io.github.hyeonseo.auth.signup.dto.OwnerSignupRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/signup")
 @RequiredArgsConstructor
 public class SignupController {
@@ -0,0 +1,84 @@
+package io.github.hyeonseo.auth.signup.application;
+
+import io.github.hyeonseo.auth.common.error.CustomException;
+import io.github.hyeonseo.auth.common.error.ErrorCode;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.signup.application.SignupService.IssuedAuthTokens;
+import io.github.hyeonseo.auth.signup.dto.AuthTokenResponse;
+import io.github.hyeonseo.auth.signup.dto.CustomerSignupRequest;
+import io.github.hyeonseo.auth.signup.dto.OwnerSignupRequest;
+import io.github.hyeonseo.auth.signup.ticket.ReactiveSignupTicketService;
+import io.github.hyeonseo.auth.signup.ticket.SignupTicketPayload;
+import io.github.hyeonseo.auth.signup.ticket.SignupTicketService.ConsumedTicket;
+import io.github.hyeonseo.auth.token.AccessTokenService;
+import io.github.hyeonseo.auth.token.ReactiveRefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Supplier;
+
+/**
+ * SignupService의 리액티브 버전 (처리 순서/에러 코드 동일)
+ * - 티켓/refresh는 리액티브 Redis, DB 저장(SignupRegistrar)은 boundedElastic에서 실행
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveSignupService {
+
+    private final ReactiveSignupTicketService signupTicketService;
+    private final SignupRegistrar signupRegistrar;
+    private final AccessTokenService accessTokenService;
+    private final ReactiveRefreshTokenService refreshTokenService;
+
+    public Mono<IssuedAuthTokens> signupCustomer(CustomerSignupRequest req) {
+        return consumeTicket(req.ticket(), UserRole.CUSTOMER)
+                .flatMap(consumed -> registerOrRestore(consumed, () -> signupRegistrar.registerCustomer(req, consumed.payload()))
+                        .flatMap(userId -> completeSignup(consumed.payload(), userId)));
+    }
+
+    public Mono<IssuedAuthTokens> signupOwner(OwnerSignupRequest req) {
+        return consumeTicket(req.ticket(), UserRole.OWNER)
+                .flatMap(consumed -> registerOrRestore(consumed, () -> signupRegistrar.registerOwner(req, consumed.payload()))
+                        .flatMap(userId -> completeSignup(consumed.payload(), userId)));
+    }
+
+    /**
+     * register(트랜잭션)를 boundedElastic에서 실행, 실패하면 꺼낸 티켓을 되돌리고 원래 예외 전파
+     */
+    private Mono<Long> registerOrRestore(ConsumedTicket consumed, Supplier<Long> register) {
+        return Mono.fromSupplier(register)
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> signupTicketService.restore(consumed).then(Mono.error(e)));
+    }
+
+    /**
+     * (커밋 후) identity 캐시 갱신 + 토큰 발급
+     */
+    private Mono<IssuedAuthTokens> completeSignup(SignupTicketPayload payload, long userId) {
+        UserRole role = payload.role();
+
+        return Mono.fromRunnable(() -> signupRegistrar.registered(payload, userId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(refreshTokenService.issue(userId, role))
+                .map(issuedRefresh -> {
+                    String accessToken = accessTokenService.issueAccessToken(String.valueOf(userId), role);
+                    AuthTokenResponse body = new AuthTokenResponse("SUCCESS", role.name(), accessToken, "Bearer", accessTokenService.accessTtlSeconds());
+                    return new IssuedAuthTokens(body, issuedRefresh.token(), issuedRefresh.ttlSeconds());
+                });
+    }
+
+    /**
+     * ticket 꺼내기(사용 처리) + 유효성(존재/role) 검증 (SignupService.consumeTicket과 동일)
+     */
+    private Mono<ConsumedTicket> consumeTicket(String ticket, UserRole expectedRole) {
+        return signupTicketService.consume(ticket)
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.SIGNUP_TICKET_INVALID)))
+                .flatMap(consumed -> consumed.payload().role() == expectedRole
+                        ? Mono.just(consumed)
+                        : signupTicketService.restore(consumed).<ConsumedTicket>then(Mono.error(new CustomException(ErrorCode.SIGNUP_ROLE_MISMATCH))));
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.hyeonseo.auth.signup.application;
+
+import io.github.hyeonseo.auth.signup.dto.CustomerSignupRequest;
+import io.github.hyeonseo.auth.signup.dto.OwnerSignupRequest;
+import io.github.hyeonseo.auth.signup.ticket.SignupTicketPayload;
+import io.github.hyeonseo.auth.user.domain.Customer;
+import io.github.hyeonseo.auth.user.domain.Owner;
+import io.github.hyeonseo.auth.user.identity.UserIdentityCache;
+import io.github.hyeonseo.auth.user.repository.CustomerRepository;
+import io.github.hyeonseo.auth.user.repository.OwnerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회원가입 DB 저장 (SignupService / ReactiveSignupService 공용)
+ * - 각 메서드가 자체 트랜잭션으로 조회/저장만 처리 (티켓/토큰 등 Redis 작업은 호출하는 쪽에서 트랜잭션 밖에서)
+ * - 블로킹(JDBC) 호출이므로 리액티브 쪽은 boundedElastic에서 호출
+ * - id(TSID)를 미리 할당하므로 save만으로는 insert가 커밋 시점까지 미뤄짐 -> saveAndFlush로 try 안에서 unique 위반을 받음
+ */
+@Component
+@RequiredArgsConstructor
+public class SignupRegistrar {
+
+    private final CustomerRepository customerRepository;
+    private final OwnerRepository ownerRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * (트랜잭션) 손님 저장, 이미 가입된 상태면 기존 id (중복 가입 방지)
+     */
+    public long registerCustomer(CustomerSignupRequest req, SignupTicketPayload payload) {
+        return transactionTemplate.execute(status -> {
+            var existing = customerRepository.findIdByProvider(payload.providerType(), payload.providerId());
+            if (existing.isPresent()) return existing.get();
+
+            try {
+                return customerRepository.saveAndFlush(toCustomer(req, payload)).getCustomerId();
+            } catch (DataIntegrityViolationException e) {
+                throw new IllegalStateException("Duplicate email/phone/provider", e);
+            }
+        });
+    }
+
+    /**
+     * (트랜잭션) 점주 저장, 이미 가입된 상태면 기존 id (중복 가입 방지)
+     */
+    public long registerOwner(OwnerSignupRequest req, SignupTicketPayload payload) {
+        return transactionTemplate.execute(status -> {
+            var existing = ownerRepository.findIdByProvider(payload.providerType(), payload.providerId());
+            if (existing.isPresent()) return existing.get();
+
+            try {
+                return ownerRepository.saveAndFlush(toOwner(req, payload)).getOwnerId();
+            } catch (DataIntegrityViolationException e) {
+                throw new IllegalStateException("Duplicate email/phone/provider", e);
+            }
+        });
+    }
+
+    /**
+     * (커밋 후) 미가입으로 캐시돼 있던 엔트리를 덮어써서 바로 로그인 가능하게
+     */
+    public void registered(SignupTicketPayload payload, long userId) {
+        userIdentityCache.put(payload.role(), payload.providerType(), payload.providerId(), userId);
+    }
+
+    private Customer toCustomer(CustomerSignupRequest req, SignupTicketPayload payload) {
+        return Customer.builder()
+                .providerId(payload.providerId())
+                .providerType(payload.providerType())
+                .phoneNumber(req.phoneNumber())
+                .birth(req.birth())
+                .name(req.name())
+                .gender(req.gender())
+                .pin(req.pin())
+                .build();
+    }
+
+    private Owner toOwner(OwnerSignupRequest req, SignupTicketPayload payload) {
+        return Owner.builder()
+                .providerId(payload.providerId())
+                .providerType(payload.providerType())
+                .phoneNumber(req.phoneNumber())
+                .birth(req.birth())
+                .name(req.name())
+                .gender(req.gender())
+                .build();
+    }
+}
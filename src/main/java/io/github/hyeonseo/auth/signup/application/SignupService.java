@@ -10,24 +10,17 @@ import io.github.hyeonseo.auth.signup.ticket.SignupTicketService;
 import io.github.hyeonseo.auth.signup.dto.AuthTokenResponse;
 import io.github.hyeonseo.auth.signup.dto.CustomerSignupRequest;
 import io.github.hyeonseo.auth.signup.dto.OwnerSignupRequest;
-import io.github.hyeonseo.auth.user.domain.Customer;
-import io.github.hyeonseo.auth.user.domain.Owner;
-import io.github.hyeonseo.auth.user.repository.CustomerRepository;
-import io.github.hyeonseo.auth.user.repository.OwnerRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class SignupService {
 
     private final SignupTicketService signupTicketService;
-    private final CustomerRepository customerRepository;
-    private final OwnerRepository ownerRepository;
+    private final SignupRegistrar signupRegistrar; // DB 작업만 트랜잭션으로 (토큰 발급은 커밋 후)
     private final AccessTokenService accessTokenService;
     private final RefreshTokenService refreshTokenService;
 
@@ -35,68 +28,63 @@ public class SignupService {
 
     /**
      * 손님 회원가입
+     * - DB 트랜잭션은 조회/저장만 감싸고, Redis 작업(티켓 사용 처리, 토큰 발급)은 트랜잭션 밖에서 실행
+     *   (Redis가 느려도 JDBC 커넥션을 붙잡고 기다리지 않음)
      * @param req
      * @return
      */
-    @Transactional
     public IssuedAuthTokens signupCustomer(CustomerSignupRequest req) {
-        SignupTicketPayload payload = validateAndLoadTicket(req.ticket(), UserRole.CUSTOMER);
-
-        // 혹시 이미 가입된 상태면 그대로 토큰 발급(중복 가입 방지)
-        var existing = customerRepository.findByProviderTypeAndProviderId(payload.providerType(), payload.providerId());
-        if (existing.isPresent()) {
-            invalidateAfterCommit(req.ticket()); // DB 커밋 성공 이후에 ticket 삭제 예약
-            long userId = existing.get().getCustomerId();
-            return issueSuccessToken(userId, payload.role());
-        }
-
-        // 회원 가입
-        try {
-            Customer saved = customerRepository.save(toCustomer(req, payload));
-            invalidateAfterCommit(req.ticket()); // DB 커밋 성공 이후에 ticket 삭제 예약
-            return issueSuccessToken(saved.getCustomerId(), payload.role());
-        } catch (DataIntegrityViolationException e) {
-            throw new IllegalStateException("Duplicate email/phone/provider", e);
-        }
+        var consumed = consumeTicket(req.ticket(), UserRole.CUSTOMER);
+        long userId = registerOrRestore(consumed, () -> signupRegistrar.registerCustomer(req, consumed.payload()));
+        return completeSignup(consumed.payload(), userId);
     }
 
     /**
-     * 점주 회원가입
+     * 점주 회원가입 (트랜잭션 범위는 signupCustomer와 동일)
      * @param req
      * @return
      */
-    @Transactional
     public IssuedAuthTokens signupOwner(OwnerSignupRequest req) {
-        SignupTicketPayload payload = validateAndLoadTicket(req.ticket(), UserRole.OWNER);
-
-        // 혹시 이미 가입된 상태면 그대로 토큰 발급(중복 가입 방지)
-        var existing = ownerRepository.findByProviderTypeAndProviderId(payload.providerType(), payload.providerId());
-        if (existing.isPresent()) {
-            invalidateAfterCommit(req.ticket()); // DB 커밋 성공 이후에 ticket 삭제 예약
-            long userId = existing.get().getOwnerId();
-            return issueSuccessToken(userId, payload.role());
-        }
+        var consumed = consumeTicket(req.ticket(), UserRole.OWNER);
+        long userId = registerOrRestore(consumed, () -> signupRegistrar.registerOwner(req, consumed.payload()));
+        return completeSignup(consumed.payload(), userId);
+    }
 
-        // 회원 가입
+    /**
+     * register(트랜잭션) 실행, 실패(롤백)하면 꺼낸 티켓을 되돌려서 다시 가입 시도할 수 있게 함
+     */
+    private long registerOrRestore(SignupTicketService.ConsumedTicket consumed, Supplier<Long> register) {
         try {
-            Owner saved = ownerRepository.save(toOwner(req, payload));
-            invalidateAfterCommit(req.ticket()); // DB 커밋 성공 이후에 ticket 삭제 예약
-            return issueSuccessToken(saved.getOwnerId(), payload.role());
-        } catch (DataIntegrityViolationException e) {
-            throw new IllegalStateException("Duplicate email/phone/provider", e);
+            return register.get();
+        } catch (RuntimeException e) {
+            signupTicketService.restore(consumed);
+            throw e;
         }
     }
 
     /**
-     * ticket -> payload 로드 + 유효성(존재/role) 검증
+     * (커밋 후) identity 캐시 갱신 + 토큰 발급
+     * - 토큰 발급이 실패해도 가입은 이미 커밋됨 -> 카카오 로그인을 다시 하면 기존 회원으로 로그인
      */
-    private SignupTicketPayload validateAndLoadTicket(String ticket, UserRole expectedRole) {
-        SignupTicketPayload payload = signupTicketService.getPayload(ticket);
+    private IssuedAuthTokens completeSignup(SignupTicketPayload payload, long userId) {
+        signupRegistrar.registered(payload, userId);
+        return issueSuccessToken(userId, payload.role());
+    }
 
-        if (payload == null) throw new CustomException(ErrorCode.SIGNUP_TICKET_INVALID);
-        if (payload.role() != expectedRole) throw new CustomException(ErrorCode.SIGNUP_ROLE_MISMATCH);
+    /**
+     * ticket 꺼내기(사용 처리) + 유효성(존재/role) 검증
+     * - 꺼내는 순간 Redis에서 삭제되므로 같은 ticket의 동시 요청은 여기서 SIGNUP_TICKET_INVALID
+     * - role이 다르면 티켓을 되돌리고 SIGNUP_ROLE_MISMATCH
+     */
+    private SignupTicketService.ConsumedTicket consumeTicket(String ticket, UserRole expectedRole) {
+        var consumed = signupTicketService.consume(ticket);
+        if (consumed == null) throw new CustomException(ErrorCode.SIGNUP_TICKET_INVALID);
 
-        return payload;
+        if (consumed.payload().role() != expectedRole) {
+            signupTicketService.restore(consumed);
+            throw new CustomException(ErrorCode.SIGNUP_ROLE_MISMATCH);
+        }
+        return consumed;
     }
 
     /**
@@ -106,51 +94,10 @@ public class SignupService {
     private IssuedAuthTokens issueSuccessToken(long userId, UserRole role) {
         String subject = String.valueOf(userId);
         String accessToken = accessTokenService.issueAccessToken(subject, role);
-        var issuedRefresh = refreshTokenService.issueSingleSession(userId, role);
+        var issuedRefresh = refreshTokenService.issue(userId, role);
 
         AuthTokenResponse body = new AuthTokenResponse("SUCCESS", role.name(), accessToken, "Bearer", accessTokenService.accessTtlSeconds());
 
         return new IssuedAuthTokens(body, issuedRefresh.token(), issuedRefresh.ttlSeconds());
     }
-
-    private Customer toCustomer(CustomerSignupRequest req, SignupTicketPayload payload) {
-        return Customer.builder()
-                .providerId(payload.providerId())
-                .providerType(payload.providerType())
-                .phoneNumber(req.phoneNumber())
-                .birth(req.birth())
-                .name(req.name())
-                .gender(req.gender())
-                .pin(req.pin())
-                .build();
-    }
-
-    private Owner toOwner(OwnerSignupRequest req, SignupTicketPayload payload) {
-        return Owner.builder()
-                .providerId(payload.providerId())
-                .providerType(payload.providerType())
-                .phoneNumber(req.phoneNumber())
-                .birth(req.birth())
-                .name(req.name())
-                .gender(req.gender())
-                .build();
-    }
-
-    /**
-     * 현재 트랜잭션에 “커밋 후 실행할 콜백”을 등록
-     * 티켓을 삭제하는 메서드
-     * @param ticket
-     */
-    private void invalidateAfterCommit(String ticket) {
-        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-            signupTicketService.invalidate(ticket); // 트랜잭션 없으면 즉시 삭제
-            return;
-        }
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                signupTicketService.invalidate(ticket);
-            }
-        });
-    }
 }
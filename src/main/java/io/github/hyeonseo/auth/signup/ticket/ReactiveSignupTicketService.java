@@ -0,0 +1,94 @@
+package io.github.hyeonseo.auth.signup.ticket;
+
+import io.github.hyeonseo.auth.signup.ticket.SignupTicketService.ConsumedTicket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static io.github.hyeonseo.auth.signup.ticket.SignupTicketService.PREFIX;
+import static io.github.hyeonseo.auth.signup.ticket.SignupTicketService.TICKET_TTL;
+import static io.github.hyeonseo.auth.signup.ticket.SignupTicketService.USED;
+import static io.github.hyeonseo.auth.signup.ticket.SignupTicketService.USED_PREFIX;
+
+/**
+ * SignupTicketService의 리액티브 버전 (리액티브 모드에서만 등록)
+ * - 키/코덱/암호화(STATELESS)는 SignupTicketService와 같음 -> 한쪽 모드에서 발급한 티켓을 다른 쪽에서도 사용 가능
+ * - 없거나 이미 사용된 티켓은 null 대신 빈 Mono
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveSignupTicketService {
+
+    private final ReactiveRedisTemplate<String, byte[]> payloadRedis;
+    private final SignupTicketPayloadCodec codec;
+    private final SignupTicketCipher cipher;
+    private final SignupTicketProperties props;
+
+    /**
+     * 티켓 발급 (REDIS: UUID + payload 저장 / STATELESS: 암호화된 티켓)
+     */
+    public Mono<String> create(SignupTicketPayload payload, Duration ttl) {
+        if (stateless()) return Mono.fromCallable(() -> cipher.encrypt(payload, ttl));
+
+        String ticket = UUID.randomUUID().toString();
+        return payloadRedis.opsForValue().set(PREFIX + ticket, codec.encode(payload), ttl)
+                .thenReturn(ticket)
+                .onErrorMap(e -> new IllegalStateException("Failed to create signup ticket", e));
+    }
+
+    /**
+     * 티켓을 꺼내면서 동시에 사용 처리 (SignupTicketService.consume과 동일)
+     * @return 꺼낸 티켓 (없거나 이미 사용됐으면 empty)
+     */
+    public Mono<ConsumedTicket> consume(String ticket) {
+        if (stateless()) return consumeStateless(ticket);
+
+        return payloadRedis.opsForValue().getAndDelete(PREFIX + ticket)
+                .map(stored -> {
+                    try {
+                        return new ConsumedTicket(ticket, codec.decode(stored), stored, null);
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Failed to parse signup ticket", e);
+                    }
+                });
+    }
+
+    /**
+     * consume으로 꺼낸 티켓을 되돌림 (SignupTicketService.restore와 동일)
+     */
+    public Mono<Void> restore(ConsumedTicket consumed) {
+        if (consumed.usedKey() != null) return payloadRedis.delete(consumed.usedKey()).then();
+
+        long expiresAt = consumed.payload().issuedAtEpochSec() + TICKET_TTL.toSeconds();
+        long remaining = expiresAt - Instant.now().getEpochSecond();
+        if (remaining <= 0) return Mono.empty();
+
+        return payloadRedis.opsForValue()
+                .setIfAbsent(PREFIX + consumed.ticket(), consumed.stored(), Duration.ofSeconds(remaining))
+                .then();
+    }
+
+    private Mono<ConsumedTicket> consumeStateless(String ticket) {
+        SignupTicketCipher.DecryptedTicket decrypted = cipher.decrypt(ticket);
+        if (decrypted == null) return Mono.empty();
+
+        long remaining = decrypted.expiresAtEpochSec() - Instant.now().getEpochSecond();
+        if (remaining <= 0) return Mono.empty();
+
+        String usedKey = USED_PREFIX + decrypted.jti();
+        return payloadRedis.opsForValue().setIfAbsent(usedKey, USED, Duration.ofSeconds(remaining))
+                .filter(Boolean.TRUE::equals) // 이미 사용된 티켓이면 empty
+                .map(first -> new ConsumedTicket(ticket, decrypted.payload(), null, usedKey));
+    }
+
+    private boolean stateless() {
+        return props.mode() == SignupTicketProperties.Mode.STATELESS;
+    }
+}
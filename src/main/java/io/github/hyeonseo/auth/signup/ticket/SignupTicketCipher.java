@@ -0,0 +1,92 @@
+package io.github.hyeonseo.auth.signup.ticket;
+
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * STATELESS 모드 회원가입 티켓 (JWE: dir + A256GCM)
+ * - payload를 암호화해서 티켓 자체에 담으므로 발급 시 Redis에 아무것도 쓰지 않음
+ * - 클라이언트가 내용을 읽거나 바꿀 수 없고(GCM 인증 태그), exp가 지나면 복호화 단계에서 거부
+ * - 1회 사용은 jti로 보장 (SignupTicketService의 사용 기록)
+ */
+@Component
+class SignupTicketCipher {
+
+    private static final String CLAIM_PROVIDER = "pvd";
+    private static final String CLAIM_ROLE = "role";
+    static final int MIN_SECRET_BYTES = 32; // SHA-256으로 늘려도 키 엔트로피는 secret 길이를 넘지 못함
+
+    private final SecretKey key;   // STATELESS가 아니면 null
+    private final JwtParser parser;
+
+    record DecryptedTicket(String jti, SignupTicketPayload payload, long expiresAtEpochSec) {}
+
+    SignupTicketCipher(SignupTicketProperties props) {
+        if (props.mode() != SignupTicketProperties.Mode.STATELESS) {
+            this.key = null;
+            this.parser = null;
+            return;
+        }
+        if (props.secret() == null || props.secret().isBlank()) {
+            throw new IllegalStateException("app.auth.signup-ticket.secret is required for STATELESS signup tickets");
+        }
+        if (props.secret().getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.auth.signup-ticket.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        this.key = new SecretKeySpec(sha256(props.secret()), "AES");
+        this.parser = Jwts.parser().decryptWith(key).build();
+    }
+
+    String encrypt(SignupTicketPayload payload, Duration ttl) {
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(payload.providerId())
+                .claim(CLAIM_PROVIDER, payload.providerType().name())
+                .claim(CLAIM_ROLE, payload.role().name())
+                .issuedAt(new Date(payload.issuedAtEpochSec() * 1000))
+                .expiration(new Date((payload.issuedAtEpochSec() + ttl.toSeconds()) * 1000))
+                .encryptWith(key, Jwts.ENC.A256GCM)
+                .compact();
+    }
+
+    /**
+     * @param ticket
+     * @return 복호화된 티켓 (위조/만료/형식 오류면 null)
+     */
+    DecryptedTicket decrypt(String ticket) {
+        try {
+            Claims claims = parser.parseEncryptedClaims(ticket).getPayload();
+            SignupTicketPayload payload = new SignupTicketPayload(
+                    AuthProvider.valueOf(claims.get(CLAIM_PROVIDER, String.class)),
+                    claims.getSubject(),
+                    UserRole.valueOf(claims.get(CLAIM_ROLE, String.class)),
+                    claims.getIssuedAt().getTime() / 1000
+            );
+            return new DecryptedTicket(claims.getId(), payload, claims.getExpiration().getTime() / 1000);
+        } catch (JwtException | IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    private static byte[] sha256(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
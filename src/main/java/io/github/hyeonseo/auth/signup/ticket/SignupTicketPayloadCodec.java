@@ -0,0 +1,63 @@
+package io.github.hyeonseo.auth.signup.ticket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.codec.JsonPayloadCodec;
+import io.github.hyeonseo.auth.common.codec.PayloadCodec;
+import io.github.hyeonseo.auth.common.codec.PayloadCodecProperties;
+import io.github.hyeonseo.auth.common.codec.PayloadFormat;
+import io.github.hyeonseo.auth.common.codec.VarInts;
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 회원가입 티켓 payload 코덱
+ * 바이너리 v1: [0x01][role ordinal][providerType ordinal][varint issuedAtEpochSec][providerId UTF-8 (나머지 전부)]
+ * - UserRole/AuthProvider 순서(ordinal)가 저장 형식에 들어가므로 enum 순서를 바꾸면 안 됨 (추가는 맨 뒤에)
+ */
+@Component
+public class SignupTicketPayloadCodec implements PayloadCodec<SignupTicketPayload> {
+
+    static final byte VERSION_1 = 0x01;
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final AuthProvider[] PROVIDERS = AuthProvider.values();
+
+    private final JsonPayloadCodec<SignupTicketPayload> json;
+    private final PayloadFormat format;
+
+    public SignupTicketPayloadCodec(ObjectMapper objectMapper, PayloadCodecProperties props) {
+        this.json = new JsonPayloadCodec<>(objectMapper, SignupTicketPayload.class);
+        this.format = props.format();
+    }
+
+    @Override
+    public byte[] encode(SignupTicketPayload payload) {
+        if (format == PayloadFormat.JSON) return json.encode(payload);
+
+        byte[] providerId = payload.providerId().getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + providerId.length);
+        out.write(VERSION_1);
+        out.write(payload.role().ordinal());
+        out.write(payload.providerType().ordinal());
+        VarInts.write(out, payload.issuedAtEpochSec());
+        out.writeBytes(providerId);
+        return out.toByteArray();
+    }
+
+    @Override
+    public SignupTicketPayload decode(byte[] bytes) {
+        if (JsonPayloadCodec.isJson(bytes)) return json.decode(bytes); // 형식 전환 전 저장된 값
+        if (bytes.length < 4 || bytes[0] != VERSION_1) throw new IllegalStateException("Unknown signup ticket payload format");
+
+        int[] pos = {3};
+        UserRole role = ROLES[bytes[1]];
+        AuthProvider providerType = PROVIDERS[bytes[2]];
+        long issuedAt = VarInts.read(bytes, pos);
+        String providerId = new String(bytes, pos[0], bytes.length - pos[0], StandardCharsets.UTF_8);
+        return new SignupTicketPayload(providerType, providerId, role, issuedAt);
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.hyeonseo.auth.signup.ticket;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.auth.signup-ticket")
+public record SignupTicketProperties(
+        Mode mode,     // REDIS: 티켓(UUID) -> payload를 Redis에 저장 / STATELESS: 암호화된 티켓 자체에 payload를 담음
+        String secret  // STATELESS 암호화 키 재료 (SHA-256 -> AES-256 키)
+) {
+
+    public enum Mode {
+        REDIS, STATELESS
+    }
+
+    public SignupTicketProperties {
+        if (mode == null) mode = Mode.REDIS;
+    }
+}
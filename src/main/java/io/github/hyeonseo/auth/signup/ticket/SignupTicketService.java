@@ -1,34 +1,43 @@
 package io.github.hyeonseo.auth.signup.ticket;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.store.TokenStore;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class SignupTicketService {
 
-    private static final String PREFIX = "signup:ticket:";
-    private final StringRedisTemplate redis;
-    private final ObjectMapper objectMapper;
+    static final String PREFIX = "signup:ticket:";
+    static final String USED_PREFIX = "signup:ticket:used:"; // STATELESS: 사용된 티켓 jti (티켓 만료 시각까지만 유지)
+    static final byte[] USED = {1};
+    public static final Duration TICKET_TTL = Duration.ofMinutes(10); // 티켓 유효 시간 (발급 시각 기준)
+
+    private final TokenStore store; // payload는 코덱이 만든 byte[] 그대로 저장 (app.store.type)
+    private final SignupTicketPayloadCodec codec;
+    private final SignupTicketCipher cipher;
+    private final SignupTicketProperties props;
 
     /**
-     * 가입이 필요한 사용자가 생겼을 때 “티켓”을 발급하고 Redis에 저장하는 메서드
+     * 가입이 필요한 사용자가 생겼을 때 “티켓”을 발급하는 메서드
+     * - REDIS: ticket(UUID) 발급 + 저장소에 payload 저장
+     * - STATELESS: payload를 암호화한 티켓 발급 (저장소 쓰기 없음)
      * @param payload
      * @param ttl
      * @return ticket
      */
     public String create(SignupTicketPayload payload, Duration ttl) {
+        if (stateless()) return cipher.encrypt(payload, ttl);
+
         String ticket = UUID.randomUUID().toString();
         String key = PREFIX + ticket;
 
         try {
-            String json = objectMapper.writeValueAsString(payload);
-            redis.opsForValue().set(key, json, ttl); // Redis String 타입으로 저장 (SET)
+            store.set(key, codec.encode(payload), ttl); // Redis면 String 타입으로 저장 (SET)
             return ticket;
         } catch (Exception e) {
             throw new IllegalStateException("Failed to create signup ticket", e);
@@ -37,29 +46,104 @@ public class SignupTicketService {
 
     /**
      * 프론트가 회원가입 API를 호출할 때 ticket을 넘겨주면,
-     * 그 ticket으로 Redis에서 payload를 꺼내오는 메서드
+     * 그 ticket으로 payload를 꺼내오는 메서드 (사용 처리는 하지 않음)
      * @param ticket
      * @return payload
      */
     public SignupTicketPayload getPayload(String ticket) {
+        if (stateless()) {
+            SignupTicketCipher.DecryptedTicket decrypted = cipher.decrypt(ticket);
+            if (decrypted == null || store.exists(USED_PREFIX + decrypted.jti())) return null;
+            return decrypted.payload();
+        }
+
         String key = PREFIX + ticket;
 
-        String json = redis.opsForValue().get(key); // Redis에서 조회(GET)
-        if (json == null) return null; // TODO: ticket 존재 안 하면 null 말고 명확한 예외
+        byte[] stored = store.get(key); // 조회(GET)
+        if (stored == null) return null; // TODO: ticket 존재 안 하면 null 말고 명확한 예외
+
+        try {
+            return codec.decode(stored);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to parse signup ticket", e);
+        }
+    }
+
+    /**
+     * 티켓을 꺼내면서 동시에 사용 처리 (왕복 1번)
+     * - REDIS: GETDEL
+     * - STATELESS: 복호화 후 사용 기록(jti)을 SET NX (티켓 만료 시각까지만 유지)
+     * - 같은 티켓으로 동시에 가입 요청이 와도 하나만 payload를 받고 나머지는 null
+     *   (중복 요청이 DB unique 제약 위반까지 가지 않고 Redis에서 걸러짐)
+     * - 가입 트랜잭션이 롤백되면 restore로 되돌려야 함
+     * @param ticket
+     * @return 꺼낸 티켓 (없거나 이미 사용됐으면 null)
+     */
+    public ConsumedTicket consume(String ticket) {
+        if (stateless()) return consumeStateless(ticket);
+
+        byte[] stored = store.consume(PREFIX + ticket);
+        if (stored == null) return null;
 
         try {
-            return objectMapper.readValue(json, SignupTicketPayload.class);
+            return new ConsumedTicket(ticket, codec.decode(stored), stored, null);
         } catch (Exception e) {
             throw new IllegalStateException("Failed to parse signup ticket", e);
         }
     }
 
     /**
-     * 티켓 무효화(삭제) 메서드
+     * consume으로 꺼낸 티켓을 다시 사용 가능하게 되돌림 (가입 실패 시 재시도 가능하도록)
+     * - REDIS: 남은 유효 시간만큼 다시 저장 (이미 만료됐을 시각이면 복구하지 않음, SET NX로 덮어쓰기 방지)
+     * - STATELESS: 사용 기록 삭제
+     * @param consumed
+     */
+    public void restore(ConsumedTicket consumed) {
+        if (consumed.usedKey() != null) {
+            store.delete(consumed.usedKey());
+            return;
+        }
+
+        long expiresAt = consumed.payload().issuedAtEpochSec() + TICKET_TTL.toSeconds();
+        long remaining = expiresAt - Instant.now().getEpochSecond();
+        if (remaining <= 0) return;
+
+        store.setIfAbsent(PREFIX + consumed.ticket(), consumed.stored(), Duration.ofSeconds(remaining));
+    }
+
+    /**
+     * 티켓 무효화 메서드 (REDIS: 삭제 / STATELESS: 사용 처리)
      * @param ticket
      */
     public void invalidate(String ticket) {
-        redis.delete(PREFIX + ticket);
+        if (stateless()) {
+            consumeStateless(ticket);
+            return;
+        }
+        store.delete(PREFIX + ticket);
+    }
+
+    private ConsumedTicket consumeStateless(String ticket) {
+        SignupTicketCipher.DecryptedTicket decrypted = cipher.decrypt(ticket);
+        if (decrypted == null) return null;
+
+        long remaining = decrypted.expiresAtEpochSec() - Instant.now().getEpochSecond();
+        if (remaining <= 0) return null;
+
+        String usedKey = USED_PREFIX + decrypted.jti();
+        if (!store.setIfAbsent(usedKey, USED, Duration.ofSeconds(remaining))) return null; // 이미 사용된 티켓
+
+        return new ConsumedTicket(ticket, decrypted.payload(), null, usedKey);
     }
 
+    private boolean stateless() {
+        return props.mode() == SignupTicketProperties.Mode.STATELESS;
+    }
+
+    /**
+     * consume 결과
+     * - stored: REDIS 모드에서 Redis에 있던 값 그대로 (복구할 때 다시 인코딩하지 않고 사용)
+     * - usedKey: STATELESS 모드의 사용 기록 키 (복구할 때 삭제)
+     */
+    public record ConsumedTicket(String ticket, SignupTicketPayload payload, byte[] stored, String usedKey) {}
 }
@@ -0,0 +1,18 @@
+package io.github.hyeonseo.auth.token;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.auth.jwt.revocation")
+public record AccessTokenRevocationProperties(
+        boolean enabled,            // 기본 off (app.store.type=REDIS 필요)
+        int expectedRevocations,    // access TTL 동안 예상 폐기 건수 (Bloom filter 크기 기준)
+        double falsePositiveRate,   // 그때의 Bloom filter 거짓 양성 비율 (양성이면 Redis로 확인)
+        long syncIntervalSeconds    // Redis 목록 전체 재동기화 주기 (pub/sub 메시지를 놓쳤을 때 반영 지연 상한)
+) {
+
+    public AccessTokenRevocationProperties {
+        if (expectedRevocations <= 0) expectedRevocations = 100_000;
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) falsePositiveRate = 0.001;
+        if (syncIntervalSeconds <= 0) syncIntervalSeconds = 30;
+    }
+}
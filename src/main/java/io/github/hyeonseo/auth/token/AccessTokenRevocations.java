@@ -0,0 +1,229 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.store.BoundedMap;
+import io.github.hyeonseo.auth.common.store.RotatingBloomFilter;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * access token 폐기 목록 (만료 전에 바로 막아야 할 때: 로그아웃, 모든 기기 로그아웃/계정 탈취)
+ * - 정본: Redis ZSET auth:access:revoked (member -> 유지 시각, 지난 항목은 폐기할 때/동기화할 때 정리)
+ *   - "j:<jti>"  : 토큰 하나 (유지 시각 = 토큰 exp)
+ *   - "u:<tag>"  : 사용자의 그 시각 이전 발급 토큰 전부 (유지 시각 = 폐기 시각 + access TTL, exp가 이보다 작으면 폐기된 토큰)
+ * - 각 서버: 최근 폐기 항목의 Bloom filter (pub/sub로 추가, sync 주기마다 ZSET 전체 재적재, access TTL마다 세대 교체)
+ *   -> 대부분의 요청은 Bloom filter 확인만 (네트워크 없음), 양성일 때만 Redis로 정확히 확인 (결과는 잠깐 캐시)
+ * - pub/sub을 놓쳐도 다음 sync에서 반영 (지연 상한 = sync-interval-seconds)
+ * - 확인 중 Redis 장애면 폐기되지 않은 것으로 봄 (요청 자체는 막지 않음, 경고 로그)
+ */
+@Slf4j
+public class AccessTokenRevocations implements MessageListener {
+
+    public static final String CHANNEL = "auth:access:revoked";
+    static final String KEY = "auth:access:revoked";
+
+    private static final String JTI_PREFIX = "j:";
+    private static final String USER_PREFIX = "u:";
+    private static final char JTI_KIND = 'j';
+    private static final char USER_KIND = 0x100; // + role ordinal (jti와 겹치지 않는 구분자)
+
+    private static final RedisScript<Long> REVOKE =
+            RedisScript.of(new ClassPathResource("redis/revoke-access-token.lua"), Long.class);
+
+    private final StringRedisTemplate redis;
+    private final AccessTokenService accessTokenService;
+    private final boolean enabled;
+    private final long accessTtlSeconds;
+    private final long syncIntervalMillis;
+
+    private final RotatingBloomFilter filter;
+    private final BoundedMap<String, Confirmed> confirmed; // member -> Redis에서 확인한 유지 시각
+    private volatile long rotatedAtMillis = System.currentTimeMillis();
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder filterHits = new LongAdder();
+    private final LongAdder lookups = new LongAdder();
+
+    /**
+     * @param until 유지 시각 (epoch sec, 목록에 없으면 0)
+     */
+    private record Confirmed(long until, long expiresAtMillis) {}
+
+    public record Stats(long checks, long filterHits, long lookups) {}
+
+    public AccessTokenRevocations(
+            StringRedisTemplate redis,
+            AccessTokenService accessTokenService,
+            AccessTokenRevocationProperties props,
+            JwtProperties jwtProps
+    ) {
+        this.redis = redis;
+        this.accessTokenService = accessTokenService;
+        this.enabled = props.enabled();
+        this.accessTtlSeconds = jwtProps.accessTtlSeconds();
+        this.syncIntervalMillis = props.syncIntervalSeconds() * 1000;
+        this.confirmed = new BoundedMap<>(props.expectedRevocations(), Confirmed::expiresAtMillis);
+        this.filter = enabled ? new RotatingBloomFilter(props.expectedRevocations(), props.falsePositiveRate()) : null;
+
+        if (enabled) sync(); // 시작 시 현재 목록 적재
+    }
+
+    /**
+     * Bloom filter만 확인 (네트워크 없음)
+     * @return false면 폐기되지 않은 토큰이 확실, true면 isRevoked로 확인 필요
+     */
+    public boolean mightBeRevoked(VerifiedAccessToken token) {
+        if (!enabled) return false;
+        checks.increment();
+
+        boolean hit = (token.jti() != null && filter.mightContain(JTI_KIND, token.jti()))
+                || filter.mightContain(userKind(token.role()), token.userId());
+        if (hit) filterHits.increment();
+        return hit;
+    }
+
+    /**
+     * 폐기 여부 (Bloom filter 양성일 때만 Redis 확인 -> 블로킹 호출이 있을 수 있음)
+     */
+    public boolean isRevoked(VerifiedAccessToken token) {
+        if (!mightBeRevoked(token)) return false;
+
+        try {
+            if (token.jti() != null && confirm(JTI_PREFIX + token.jti()) > 0) return true;
+            return token.expiresAtEpochSec() < confirm(USER_PREFIX + RefreshTokens.ownerTag(token.role(), token.userId()));
+        } catch (Exception e) {
+            log.warn("Failed to check access token revocation, treating as not revoked", e);
+            return false;
+        }
+    }
+
+    /**
+     * 토큰 하나 폐기 (로그아웃) - 이미 만료/무효인 토큰이거나 jti가 없는 이전 토큰이면 무시
+     * @param accessToken Bearer 토큰 원문
+     */
+    public void revoke(String accessToken) {
+        if (!enabled || accessToken == null) return;
+
+        VerifiedAccessToken token;
+        try {
+            token = accessTokenService.verify(accessToken);
+        } catch (Exception e) {
+            return; // 어차피 인증에 쓸 수 없는 토큰
+        }
+        if (token.jti() == null) return;
+
+        add(JTI_PREFIX + token.jti(), token.expiresAtEpochSec());
+    }
+
+    /**
+     * 사용자가 지금까지 발급받은 access token 전부 폐기 (모든 기기 로그아웃 / 계정 탈취)
+     * - 같은 초에 발급된 토큰은 남음 (exp 초 단위 비교)
+     */
+    public void revokeUser(UserRole role, long userId) {
+        if (!enabled) return;
+        add(USER_PREFIX + RefreshTokens.ownerTag(role, userId), Instant.now().getEpochSecond() + accessTtlSeconds);
+    }
+
+    /**
+     * 폐기 목록 재적재 + access TTL마다 Bloom filter 세대 교체
+     * - 교체 직후 재적재하므로 아직 유효한 항목은 새 세대에도 들어감 (지난 항목은 두 번 교체되면 사라짐)
+     */
+    @Scheduled(fixedDelayString = "${app.auth.jwt.revocation.sync-interval-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public void sync() {
+        if (!enabled) return;
+
+        long now = System.currentTimeMillis();
+        if (now - rotatedAtMillis >= accessTtlSeconds * 1000) {
+            filter.rotate();
+            rotatedAtMillis = now;
+        }
+
+        try {
+            long nowSec = now / 1000;
+            redis.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, nowSec - 1);
+            Set<String> members = redis.opsForZSet().rangeByScore(KEY, nowSec, Double.POSITIVE_INFINITY);
+            if (members != null) members.forEach(this::addToFilter);
+        } catch (Exception e) {
+            log.warn("Failed to sync access token revocation list", e);
+        }
+    }
+
+    /**
+     * 다른 서버(또는 이 서버)가 폐기한 "<member> <유지 시각>"
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!enabled) return;
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(' ');
+        if (separator <= 0) return;
+
+        String member = body.substring(0, separator);
+        try {
+            long until = Long.parseLong(body.substring(separator + 1));
+            addToFilter(member);
+            remember(member, until);
+        } catch (RuntimeException ignored) {} // 다른 형식의 메시지는 무시
+    }
+
+    public Stats stats() {
+        return new Stats(checks.sum(), filterHits.sum(), lookups.sum());
+    }
+
+    private void add(String member, long until) {
+        long nowSec = Instant.now().getEpochSecond();
+        redis.execute(REVOKE, List.of(KEY), member, String.valueOf(until), String.valueOf(nowSec), CHANNEL);
+
+        // 이 서버는 메시지를 기다리지 않고 바로 반영
+        addToFilter(member);
+        remember(member, until);
+    }
+
+    /**
+     * Redis에서 확인한 유지 시각 (sync 주기 동안 캐시 -> 거짓 양성 토큰이 요청마다 Redis를 부르지 않도록)
+     */
+    private long confirm(String member) {
+        long now = System.currentTimeMillis();
+        Confirmed cached = confirmed.get(member);
+        if (cached != null && cached.expiresAtMillis() > now) return cached.until();
+
+        lookups.increment();
+        Double score = redis.opsForZSet().score(KEY, member);
+        long until = score != null ? score.longValue() : 0;
+        remember(member, until);
+        return until;
+    }
+
+    private void remember(String member, long until) {
+        long now = System.currentTimeMillis();
+        confirmed.merge(member, new Confirmed(until, now + syncIntervalMillis),
+                (old, e) -> old.until() > e.until() ? new Confirmed(old.until(), e.expiresAtMillis()) : e);
+    }
+
+    private void addToFilter(String member) {
+        if (member.startsWith(JTI_PREFIX)) {
+            filter.add(JTI_KIND, member.substring(JTI_PREFIX.length()));
+        } else if (member.startsWith(USER_PREFIX) && member.length() > USER_PREFIX.length() + 1) {
+            // tag = role ordinal 한 자리 + userId (RefreshTokens.ownerTag)
+            UserRole role = UserRole.values()[member.charAt(USER_PREFIX.length()) - '0'];
+            filter.add(userKind(role), Long.parseLong(member.substring(USER_PREFIX.length() + 1)));
+        }
+    }
+
+    private static char userKind(UserRole role) {
+        return (char) (USER_KIND + role.ordinal());
+    }
+}
@@ -2,20 +2,44 @@ package io.github.hyeonseo.auth.token;
 
 import io.github.hyeonseo.auth.common.types.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PrivateKey;
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 public class AccessTokenService {
 
     private final JwtProperties props; // JWT 발급/검증에 필요한 설정 값 보관
+    private final JwtKeyRing keyRing;  // kid별 서명/검증 키 (시작 시 1회 생성, 로테이션 시 교체)
+    private final JwtParser parser;    // 요청마다 새로 만들지 않도록 미리 만들어 둔 파서
+    private final FastAccessTokenVerifier fastVerifier; // 우리 HMAC 토큰 전용 빠른 경로
+
+    public AccessTokenService(JwtProperties props, JwtKeyRing keyRing, FastAccessTokenVerifier fastVerifier) {
+        this.props = props;
+        this.keyRing = keyRing;
+        this.fastVerifier = fastVerifier;
+
+        // 검증 키는 헤더의 kid로 키 링에서 찾는다 (로테이션되어도 파서는 그대로 재사용)
+        // 비대칭 키면 공개키로 검증 -> 헤더 alg와 키 종류가 다르면 jjwt가 거부
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(ProtectedHeader header) {
+                        return keyRing.verificationKey(header.getKeyId());
+                    }
+                })
+                .requireIssuer(props.issuer())
+                .build();
+    }
 
     /**
      * Access Token(JWT)을 만들어 문자열로 반환하는 메서드
@@ -27,19 +51,32 @@ public class AccessTokenService {
         Instant now = Instant.now();
         Instant exp = now.plusSeconds(props.accessTtlSeconds()); // 만료시간
 
-        byte[] keyBytes = props.secret().getBytes(StandardCharsets.UTF_8);
-        var key = Keys.hmacShaKeyFor(keyBytes); // HMAC-SHA 서명용 키
+        var key = keyRing.active(); // 현재 서명 키 (kid 포함)
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .header().keyId(key.kid()).and() // 검증 시 키를 찾을 수 있도록 kid 기록
+                .id(UUID.randomUUID().toString()) // 폐기 목록(AccessTokenRevocations)에서 토큰 하나를 가리킬 때 사용
                 .issuer(props.issuer())
                 .subject(subject)
                 .claim("role", role.name())
                 .issuedAt(Date.from(now)) // 발급 시간
-                .expiration(Date.from(exp)) // 만료 시간
-                .signWith(key) // 서명
+                .expiration(Date.from(exp)); // 만료 시간
+
+        return signWith(builder, key) // 서명
                 .compact(); // 문자열로 직렬화
     }
 
+    /**
+     * 키 종류에 맞는 알고리즘으로 서명 (서명된 refresh 토큰도 같은 키 링을 사용)
+     */
+    static JwtBuilder signWith(JwtBuilder builder, JwtKeyRing.ActiveKey key) {
+        return switch (key.algorithm()) {
+            case HMAC -> builder.signWith(key.key()); // 키 길이에 맞는 HS256/384/512 자동 선택
+            case ED25519 -> builder.signWith((PrivateKey) key.key(), Jwts.SIG.EdDSA);
+            case ES256 -> builder.signWith((PrivateKey) key.key(), Jwts.SIG.ES256);
+        };
+    }
+
     /**
      * application.yaml 설정값 그대로 반환
      * @return Access Token(JWT) 유효시간
@@ -54,16 +91,26 @@ public class AccessTokenService {
      * @return
      */
     public Claims parseClaims(String token) {
-        var key = Keys.hmacShaKeyFor(props.secret().getBytes(StandardCharsets.UTF_8));
-
-        return Jwts.parser()
-                .verifyWith(key)
-                .requireIssuer(props.issuer())
-                .build()
+        return parser
                 .parseSignedClaims(token) // JWT 파싱 + 검증 수행
                 .getPayload(); // Claims(내용) 부분만 반환
     }
 
+    /**
+     * 필터용 검증: 빠른 경로(바이트 단위 HMAC 검증) -> 실패하거나 특이한 토큰이면 jjwt로 다시 검증
+     * - 실패 시 예외는 parseClaims와 동일 (ExpiredJwtException / JwtException)
+     * @param token
+     * @return 검증된 sub/role/exp/jti
+     */
+    public VerifiedAccessToken verify(String token) {
+        VerifiedAccessToken fast = fastVerifier.verify(token);
+        if (fast != null) return fast;
+
+        Claims claims = parseClaims(token);
+        long exp = claims.getExpiration() != null ? claims.getExpiration().getTime() / 1000 : 0L;
+        return new VerifiedAccessToken(Long.parseLong(claims.getSubject()), extractRole(claims), exp, claims.getId());
+    }
+
     /**
      * Claims에서 "role"을 문자열로 꺼내서 UserRole enum으로 변환
      * @param claims
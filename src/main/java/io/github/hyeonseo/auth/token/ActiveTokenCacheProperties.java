@@ -0,0 +1,16 @@
+package io.github.hyeonseo.auth.token;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.auth.refresh.active-cache")
+public record ActiveTokenCacheProperties(
+        boolean enabled,               // 기본 off (app.store.type=REDIS, 서블릿 모드에서만)
+        int maxSize,                   // 최대 엔트리 수 (넘으면 일부 정리 후 다시 Redis에서 읽음)
+        long statsLogIntervalSeconds   // 적중률/무효화 수 로그 주기
+) {
+
+    public ActiveTokenCacheProperties {
+        if (maxSize <= 0) maxSize = 100_000;
+        if (statsLogIntervalSeconds <= 0) statsLogIntervalSeconds = 300;
+    }
+}
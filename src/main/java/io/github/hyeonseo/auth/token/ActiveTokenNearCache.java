@@ -0,0 +1,266 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.store.BoundedMap;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 싱글세션 ACTIVE 포인터(auth:refresh:active:{tag}) 프로세스 내 캐시
+ * - 전용 RESP3 연결로 CLIENT TRACKING을 켜고 읽음 -> 읽은 키가 (어느 서버에서든) 바뀌면 Redis가 invalidate 푸시
+ * - 읽는 중에 무효화가 오면 읽은 값은 버림 (읽기 전에 자리표시를 넣고, 그대로 남아 있을 때만 교체)
+ * - 연결이 끊기면 추적도 끊기므로 전부 비우고, 다시 추적을 켤 때까지 캐시 없이 Redis에서 읽음
+ * - 무효화는 비동기라 잠깐 옛 값이 보일 수 있음 -> 일치할 때만 캐시를 믿고, 다르면 Redis에서 다시 확인 (isActive)
+ */
+@Slf4j
+public class ActiveTokenNearCache implements AutoCloseable {
+
+    private final TrackedConnection connection;
+
+    private final BoundedMap<String, Slot> slots; // 가득 차면 일부 정리 (제거한 키는 다음에 Redis에서 다시 읽음)
+    private volatile boolean tracking;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * 캐시 값 (equals 없이 동일성 비교 -> 읽는 도중 다른 값으로 바뀌었는지 확인용)
+     * - loading: Redis에서 읽는 중 (아직 값 없음)
+     */
+    private static final class Slot {
+        final String token;
+        final boolean loading;
+
+        Slot(String token, boolean loading) {
+            this.token = token;
+            this.loading = loading;
+        }
+    }
+
+    public record Stats(long hits, long misses, long invalidations, int size) {
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    /**
+     * 추적 연결 (운영은 LettuceConnection, 테스트는 대체 구현)
+     * - open 이후 invalidate 푸시는 onPush, 연결 끊김/재연결은 onDisconnected/onReconnected로 전달
+     */
+    interface TrackedConnection {
+
+        /**
+         * 연결 + CLIENT TRACKING 켜기 (실패하면 예외)
+         */
+        void open(ActiveTokenNearCache cache);
+
+        String get(String key);
+
+        /**
+         * 재연결 후 CLIENT TRACKING 다시 켜기 (비동기)
+         */
+        CompletionStage<?> retrack();
+
+        void close();
+    }
+
+    public ActiveTokenNearCache(RedisClient client, ActiveTokenCacheProperties props) {
+        this(new LettuceConnection(client), props);
+    }
+
+    ActiveTokenNearCache(TrackedConnection connection, ActiveTokenCacheProperties props) {
+        this.connection = connection;
+        this.slots = new BoundedMap<>(props.maxSize());
+        this.tracking = true;
+
+        try {
+            connection.open(this);
+        } catch (RuntimeException e) {
+            connection.close();
+            throw new IllegalStateException("Failed to enable Redis client-side caching (RESP3 / Redis 6+ required)", e);
+        }
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 추적 연결로 GET 후 저장
+     * @param key ACTIVE 포인터 키
+     * @return 현재 토큰 (없으면 null)
+     */
+    public String get(String key) {
+        if (!tracking) {
+            misses.increment();
+            return connection.get(key);
+        }
+
+        Slot cached = slots.get(key);
+        if (cached != null && !cached.loading) {
+            hits.increment();
+            return cached.token;
+        }
+
+        return load(key);
+    }
+
+    /**
+     * token이 현재 토큰인지 확인
+     * - 캐시가 일치하면 바로 true, 다르거나 없으면 Redis에서 다시 읽어서 확인 (무효화 지연 중 오판 방지)
+     */
+    public boolean isActive(String key, String token) {
+        if (tracking) {
+            Slot cached = slots.get(key);
+            if (cached != null && !cached.loading && token.equals(cached.token)) {
+                hits.increment();
+                return true;
+            }
+        }
+        return token.equals(tracking ? load(key) : get(key));
+    }
+
+    /**
+     * 이 서버에서 바꾼 키는 푸시를 기다리지 않고 바로 제거
+     */
+    public void invalidate(String key) {
+        slots.remove(key);
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), invalidations.sum(), slots.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.refresh.active-cache.stats-log-interval-seconds:300}", timeUnit = TimeUnit.SECONDS)
+    public void logStats() {
+        Stats s = stats();
+        if (s.hits() + s.misses() == 0) return;
+        log.info("active token cache: hitRate={} hits={} misses={} invalidations={} size={} tracking={}",
+                String.format("%.3f", s.hitRate()), s.hits(), s.misses(), s.invalidations(), s.size(), tracking);
+    }
+
+    @Override
+    public void close() {
+        tracking = false;
+        slots.clear();
+        connection.close();
+    }
+
+    private String load(String key) {
+        misses.increment();
+
+        Slot marker = new Slot(null, true);
+        slots.put(key, marker);
+
+        String token = connection.get(key);
+        slots.replace(key, marker, new Slot(token, false)); // 읽는 사이 무효화됐으면 자리표시가 없어서 저장 안 함
+        return token;
+    }
+
+    /**
+     * 추적 중인 키가 바뀌면 ["invalidate", [keys]] / FLUSHALL 등은 ["invalidate", null]
+     */
+    @SuppressWarnings("unchecked")
+    void onPush(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) return;
+
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys == null) {
+            invalidations.add(slots.size());
+            slots.clear();
+            return;
+        }
+        for (Object key : (List<Object>) keys) {
+            invalidations.increment();
+            slots.remove(key.toString());
+        }
+    }
+
+    /**
+     * 연결이 끊기면 추적도 끊김 -> 그동안의 변경은 푸시로 오지 않으므로 전부 비우고 캐시 없이 읽음
+     */
+    void onDisconnected() {
+        tracking = false;
+        slots.clear();
+    }
+
+    /**
+     * 재연결 후 추적을 다시 켬 (이벤트 루프에서 호출되므로 비동기)
+     */
+    void onReconnected() {
+        connection.retrack().whenComplete((ok, e) -> {
+            if (e != null) {
+                log.warn("Failed to re-enable Redis client tracking, active token cache bypassed", e);
+                return;
+            }
+            slots.clear();
+            tracking = true;
+        });
+    }
+
+    /**
+     * 전용 RESP3 연결 (Spring이 만든 Lettuce 클라이언트 공유)
+     */
+    private static final class LettuceConnection implements TrackedConnection {
+
+        private final RedisClient client;
+        private StatefulRedisConnection<String, String> connection;
+        private RedisConnectionStateListener stateListener;
+
+        LettuceConnection(RedisClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public void open(ActiveTokenNearCache cache) {
+            connection = client.connect(StringCodec.UTF8);
+            connection.addListener(cache::onPush);
+            connection.sync().clientTracking(TrackingArgs.Builder.enabled()); // RESP3: 같은 연결로 invalidate 푸시
+
+            stateListener = new RedisConnectionStateListener() {
+                @Override
+                public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress address) {
+                    if (handler == connection) cache.onReconnected();
+                }
+
+                @Override
+                public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+                    if (handler == connection) cache.onDisconnected();
+                }
+
+                @Override
+                public void onRedisExceptionCaught(RedisChannelHandler<?, ?> handler, Throwable cause) {
+                }
+            };
+            client.addListener(stateListener);
+        }
+
+        @Override
+        public String get(String key) {
+            return connection.sync().get(key);
+        }
+
+        @Override
+        public CompletionStage<?> retrack() {
+            return connection.async().clientTracking(TrackingArgs.Builder.enabled());
+        }
+
+        @Override
+        public void close() {
+            if (stateListener != null) client.removeListener(stateListener);
+            if (connection != null) connection.close();
+        }
+    }
+}
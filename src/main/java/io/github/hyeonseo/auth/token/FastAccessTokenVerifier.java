@@ -0,0 +1,505 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 우리 서버가 발급한 HMAC(HS256/384/512) access token 전용 검증기
+ * - 토큰을 재사용 버퍼(Scratch)에 그대로 복사해서 base64url 디코딩/HMAC 계산/JSON 파싱을 모두 바이트 단위로 처리
+ * - payload에서는 iss, sub, role, exp, jti만 읽고 나머지는 건너뜀 (String/Map/Claims 객체를 만들지 않음)
+ * - 형식이 조금이라도 특이하거나 검증에 실패하면 null -> 호출자가 jjwt로 다시 검증 (예외/에러 코드는 jjwt 기준)
+ *   -> null이 아닌 결과는 jjwt도 받아들이는 토큰에만 나옴 (FastAccessTokenVerifierTest에서 jjwt와 비교)
+ */
+@Component
+public class FastAccessTokenVerifier {
+
+    private static final int MAX_TOKEN_LENGTH = 2048;
+    private static final int MAX_HEADER_BYTES = 256;
+    private static final int MAX_PAYLOAD_BYTES = 1536;
+    private static final int MAX_SIGNATURE_BYTES = 64; // HS512
+
+    private static final int MAX_JSON_KEYS = 16;        // 헤더/페이로드 key 수 상한 (중복 key 확인용)
+
+    // 가상 스레드용 공유 슬롯 수 (2의 거듭제곱, 검증은 블로킹 없이 CPU만 쓰므로 코어 수의 몇 배면 충분)
+    private static final int SHARED_SLOTS = Integer.highestOneBit(Math.max(4, Runtime.getRuntime().availableProcessors() * 4) - 1) << 1;
+
+    private static final byte[] ALG = ascii("alg");
+    private static final byte[] KID = ascii("kid");
+    private static final byte[] TYP = ascii("typ");
+    private static final byte[] HS256 = ascii("HS256");
+    private static final byte[] HS384 = ascii("HS384");
+    private static final byte[] HS512 = ascii("HS512");
+
+    private static final byte[] ISS = ascii("iss");
+    private static final byte[] SUB = ascii("sub");
+    private static final byte[] ROLE = ascii("role");
+    private static final byte[] EXP = ascii("exp");
+    private static final byte[] JTI = ascii("jti");
+    private static final byte[] NBF = ascii("nbf");
+    private static final byte[] AUD = ascii("aud");
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final byte[][] ROLE_NAMES = new byte[ROLES.length][];
+
+    static {
+        for (int i = 0; i < ROLES.length; i++) ROLE_NAMES[i] = ascii(ROLES[i].name());
+    }
+
+    private final JwtKeyRing keyRing;
+    private final byte[] issuer;
+    private final ThreadLocal<Scratch> threadScratch = ThreadLocal.withInitial(Scratch::new);
+    private final AtomicReferenceArray<Scratch> sharedScratch = new AtomicReferenceArray<>(SHARED_SLOTS);
+
+    public FastAccessTokenVerifier(JwtProperties props, JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.issuer = props.issuer().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 빠른 경로 검증
+     * @param token Bearer 토큰 원문
+     * @return 검증 성공 시 결과, 그 외(만료/서명 불일치/특이한 형식 등)는 null
+     */
+    public VerifiedAccessToken verify(String token) {
+        int len = token.length();
+        if (len > MAX_TOKEN_LENGTH) return null;
+
+        // 플랫폼 스레드(Tomcat 워커 등 오래 사는 스레드): 스레드별 Scratch -> 락/CAS 없이 계속 재사용
+        Thread thread = Thread.currentThread();
+        if (!thread.isVirtual()) return verify(token, len, threadScratch.get());
+
+        // 가상 스레드는 요청마다 새로 생겨서 ThreadLocal이 재사용되지 않음 -> 공유 슬롯에서 getAndSet으로 빌림 (락 없음)
+        // 같은 슬롯을 동시에 쓰는 경우에만 새로 만들고, 반납할 때 덮어써진 쪽은 버림
+        int slot = (int) (thread.threadId() & (SHARED_SLOTS - 1));
+        Scratch s = sharedScratch.getAndSet(slot, null);
+        if (s == null) s = new Scratch();
+        try {
+            return verify(token, len, s);
+        } finally {
+            sharedScratch.set(slot, s);
+        }
+    }
+
+    private VerifiedAccessToken verify(String token, int len, Scratch s) {
+        byte[] in = s.input;
+
+        // 1) ASCII 복사 + '.' 위치 찾기
+        int dot1 = -1, dot2 = -1;
+        for (int i = 0; i < len; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7f) return null;
+            if (c == '.') {
+                if (dot1 < 0) dot1 = i;
+                else if (dot2 < 0) dot2 = i;
+                else return null; // JWE 등
+            }
+            in[i] = (byte) c;
+        }
+        if (dot1 <= 0 || dot2 <= dot1 + 1 || dot2 >= len - 1) return null;
+
+        // 2) header: alg/kid만 허용
+        int headerLen = Base64Url.decode(in, 0, dot1, s.header);
+        if (headerLen < 0 || !parseHeader(s, headerLen)) return null;
+
+        // 3) 서명 키 + Scratch 전용 Mac 준비
+        if (!prepareMac(s)) return null;
+
+        // 4) 서명 검증 (header.payload 바이트 그대로)
+        int sigLen = Base64Url.decode(in, dot2 + 1, len, s.signature);
+        if (sigLen != s.mac.getMacLength()) return null;
+        try {
+            s.mac.update(in, 0, dot2);
+            s.mac.doFinal(s.expected, 0);
+        } catch (Exception e) {
+            return null;
+        }
+        if (!constantTimeEquals(s.expected, s.signature, sigLen)) return null;
+
+        // 5) payload: iss/sub/role/exp/jti
+        int payloadLen = Base64Url.decode(in, dot1 + 1, dot2, s.payload);
+        if (payloadLen < 0 || !parsePayload(s, payloadLen)) return null;
+
+        // 만료는 jjwt가 ExpiredJwtException으로 처리하도록 넘김
+        if (System.currentTimeMillis() > s.exp * 1000) return null;
+
+        String jti = s.jtiStart < 0 ? null : new String(s.payload, s.jtiStart, s.jtiEnd - s.jtiStart, StandardCharsets.UTF_8);
+        return new VerifiedAccessToken(s.sub, s.role, s.exp, jti);
+    }
+
+    private boolean parseHeader(Scratch s, int len) {
+        JsonCursor c = s.cursor.reset(s.header, len);
+        s.alg = null;
+        s.kidStart = -1;
+
+        if (!c.beginObject()) return false;
+        while (c.nextKey()) {
+            int type = c.readValue();
+            if (c.keyEquals(ALG)) {
+                if (type != JsonCursor.STRING) return false;
+                if (c.valueEquals(HS256)) s.alg = "HmacSHA256";
+                else if (c.valueEquals(HS384)) s.alg = "HmacSHA384";
+                else if (c.valueEquals(HS512)) s.alg = "HmacSHA512";
+                else return false;
+            } else if (c.keyEquals(KID)) {
+                if (type != JsonCursor.STRING) return false;
+                s.kidStart = c.valueStart;
+                s.kidEnd = c.valueEnd;
+            } else if (!c.keyEquals(TYP) || type != JsonCursor.STRING) {
+                return false; // crit, b64, zip 등은 jjwt에 맡김
+            }
+        }
+        return c.endedCleanly() && s.alg != null;
+    }
+
+    private boolean parsePayload(Scratch s, int len) {
+        JsonCursor c = s.cursor.reset(s.payload, len);
+        boolean iss = false, sub = false, exp = false;
+        s.role = null;
+        s.jtiStart = -1;
+
+        if (!c.beginObject()) return false;
+        while (c.nextKey()) {
+            int type = c.readValue();
+            if (type == JsonCursor.INVALID) return false;
+
+            if (c.keyEquals(ISS)) {
+                if (type != JsonCursor.STRING || !c.valueEquals(issuer)) return false;
+                iss = true;
+            } else if (c.keyEquals(SUB)) {
+                if (type != JsonCursor.STRING) return false;
+                long v = c.parseValueAsLong();
+                if (v < 0) return false;
+                s.sub = v;
+                sub = true;
+            } else if (c.keyEquals(ROLE)) {
+                if (type != JsonCursor.STRING) return false;
+                for (int i = 0; i < ROLES.length; i++) {
+                    if (c.valueEquals(ROLE_NAMES[i])) s.role = ROLES[i];
+                }
+                if (s.role == null) return false;
+            } else if (c.keyEquals(EXP)) {
+                if (type != JsonCursor.NUMBER) return false;
+                s.exp = c.number;
+                exp = true;
+            } else if (c.keyEquals(JTI)) {
+                if (type != JsonCursor.STRING) return false;
+                s.jtiStart = c.valueStart;
+                s.jtiEnd = c.valueEnd;
+            } else if (c.keyEquals(NBF) || c.keyEquals(AUD)) {
+                return false; // jjwt가 검증해야 하는 클레임
+            }
+            // 그 외(iat 등)는 건너뜀
+        }
+        return c.endedCleanly() && iss && sub && exp && s.role != null;
+    }
+
+    private boolean prepareMac(Scratch s) {
+        long version = keyRing.version();
+        byte[] header = s.header;
+
+        boolean sameKid = s.cachedKeyVersion == version && s.cachedKid != null
+                && rangeEquals(header, s.kidStart, s.kidEnd, s.cachedKid);
+        boolean sameDefault = s.cachedKeyVersion == version && s.cachedKid == null && s.kidStart < 0
+                && s.cachedKey != null;
+
+        if (!sameKid && !sameDefault) {
+            byte[] kidBytes = s.kidStart < 0 ? null : Arrays.copyOfRange(header, s.kidStart, s.kidEnd);
+            Key key;
+            try {
+                key = keyRing.verificationKey(kidBytes == null ? null : new String(kidBytes, StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                return false; // 모르는 kid
+            }
+            if (!(key instanceof SecretKey secretKey)) return false; // 비대칭 키는 jjwt에 맡김
+
+            s.cachedKid = kidBytes;
+            s.cachedKey = secretKey;
+            s.cachedKeyBits = secretKey.getEncoded().length * 8;
+            s.cachedKeyVersion = version;
+        }
+
+        // jjwt와 동일하게 알고리즘보다 짧은 키는 거부
+        int requiredBits = switch (s.alg) {
+            case "HmacSHA256" -> 256;
+            case "HmacSHA384" -> 384;
+            default -> 512;
+        };
+        if (s.cachedKeyBits < requiredBits) return false;
+
+        try {
+            if (s.mac == null || !s.mac.getAlgorithm().equals(s.alg)) {
+                s.mac = Mac.getInstance(s.alg);
+                s.macKey = null;
+            }
+            if (s.macKey != s.cachedKey) {
+                s.mac.init(s.cachedKey);
+                s.macKey = s.cachedKey;
+            }
+            return true;
+        } catch (Exception e) {
+            s.mac = null;
+            return false;
+        }
+    }
+
+    private static boolean constantTimeEquals(byte[] a, byte[] b, int len) {
+        int diff = 0;
+        for (int i = 0; i < len; i++) diff |= a[i] ^ b[i];
+        return diff == 0;
+    }
+
+    private static boolean rangeEquals(byte[] b, int start, int end, byte[] expected) {
+        if (start < 0 || end - start != expected.length) return false;
+        for (int i = 0; i < expected.length; i++) {
+            if (b[start + i] != expected[i]) return false;
+        }
+        return true;
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 스레드별/공유 슬롯에서 빌려 쓰는 버퍼/상태 (요청마다 새로 할당하지 않음, 한 번에 한 요청만 사용)
+     */
+    private static final class Scratch {
+        final byte[] input = new byte[MAX_TOKEN_LENGTH];
+        final byte[] header = new byte[MAX_HEADER_BYTES];
+        final byte[] payload = new byte[MAX_PAYLOAD_BYTES];
+        final byte[] signature = new byte[MAX_SIGNATURE_BYTES];
+        final byte[] expected = new byte[MAX_SIGNATURE_BYTES];
+        final JsonCursor cursor = new JsonCursor();
+
+        // header 파싱 결과
+        String alg;
+        int kidStart;
+        int kidEnd;
+
+        // payload 파싱 결과
+        long sub;
+        UserRole role;
+        long exp;
+        int jtiStart;
+        int jtiEnd;
+
+        // kid -> key 캐시 (키 링 버전이 바뀌면 다시 조회)
+        long cachedKeyVersion = -1;
+        byte[] cachedKid;
+        SecretKey cachedKey;
+        int cachedKeyBits;
+
+        Mac mac;
+        SecretKey macKey;
+    }
+
+    /**
+     * base64url(패딩 없음) 디코더 - 입력 범위를 지정해서 디코딩
+     * - 패딩('=')과 남는 비트가 0이 아닌 비정규 인코딩은 거부 (같은 바이트로 디코딩되는 다른 문자열은 jjwt에 맡김)
+     */
+    static final class Base64Url {
+
+        private static final int[] TABLE = new int[128];
+
+        static {
+            Arrays.fill(TABLE, -1);
+            String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+            for (int i = 0; i < alphabet.length(); i++) TABLE[alphabet.charAt(i)] = i;
+        }
+
+        /**
+         * @return 디코딩된 바이트 수, 잘못된 입력이거나 dst가 작으면 -1
+         */
+        static int decode(byte[] src, int from, int to, byte[] dst) {
+            int n = to - from;
+            if (n % 4 == 1) return -1;
+            int outLen = n / 4 * 3 + (n % 4 == 0 ? 0 : n % 4 - 1);
+            if (outLen > dst.length) return -1;
+
+            int o = 0, bits = 0, acc = 0;
+            for (int i = from; i < to; i++) {
+                int v = TABLE[src[i] & 0x7f];
+                if (v < 0) return -1;
+                acc = (acc << 6) | v;
+                bits += 6;
+                if (bits >= 8) {
+                    bits -= 8;
+                    dst[o++] = (byte) (acc >> bits);
+                }
+            }
+            if ((acc & ((1 << bits) - 1)) != 0) return -1; // 마지막 문자의 쓰이지 않는 비트
+            return o;
+        }
+    }
+
+    /**
+     * 평평한(중첩 없는) JSON 객체만 읽는 작은 스트리밍 파서
+     * - 문자열 이스케이프/비ASCII, 소수/지수, 중첩 객체/배열은 지원하지 않음 -> INVALID
+     * - 중복 key, 앞에 0이 붙은 숫자, true/false/null이 아닌 리터럴도 거부 (jjwt(Jackson)와 해석이 갈릴 수 있는 입력)
+     */
+    static final class JsonCursor {
+
+        static final int INVALID = 0;
+        static final int STRING = 1;
+        static final int NUMBER = 2;
+        static final int LITERAL = 3;
+
+        private static final byte[] TRUE = ascii("true");
+        private static final byte[] FALSE = ascii("false");
+        private static final byte[] NULL = ascii("null");
+
+        private byte[] b;
+        private int pos;
+        private int end;
+        private boolean first;
+        private boolean closed;
+        private final int[] keyStarts = new int[MAX_JSON_KEYS];
+        private final int[] keyEnds = new int[MAX_JSON_KEYS];
+        private int keyCount;
+
+        int keyStart, keyEnd;
+        int valueStart, valueEnd;
+        long number;
+
+        JsonCursor reset(byte[] b, int end) {
+            this.b = b;
+            this.pos = 0;
+            this.end = end;
+            this.first = true;
+            this.closed = false;
+            this.keyCount = 0;
+            return this;
+        }
+
+        boolean beginObject() {
+            skipWs();
+            return pos < end && b[pos++] == '{';
+        }
+
+        /**
+         * 다음 key까지 읽음 (객체가 끝나면 false)
+         */
+        boolean nextKey() {
+            skipWs();
+            if (pos >= end) return false;
+            if (b[pos] == '}') {
+                pos++;
+                closed = true;
+                return false;
+            }
+            if (!first) {
+                if (b[pos++] != ',') return false;
+                skipWs();
+            }
+            first = false;
+
+            if (!readString()) return false;
+            keyStart = valueStart;
+            keyEnd = valueEnd;
+            if (!rememberKey()) return false;
+
+            skipWs();
+            return pos < end && b[pos++] == ':';
+        }
+
+        int readValue() {
+            skipWs();
+            if (pos >= end) return INVALID;
+            byte c = b[pos];
+            if (c == '"') return readString() ? STRING : INVALID;
+            if (c == '-' || (c >= '0' && c <= '9')) return readNumber() ? NUMBER : INVALID;
+            if (c == 't' || c == 'f' || c == 'n') {
+                valueStart = pos;
+                while (pos < end && b[pos] >= 'a' && b[pos] <= 'z') pos++;
+                valueEnd = pos;
+                return valueEquals(TRUE) || valueEquals(FALSE) || valueEquals(NULL) ? LITERAL : INVALID;
+            }
+            return INVALID;
+        }
+
+        boolean endedCleanly() {
+            skipWs();
+            return closed && pos == end;
+        }
+
+        boolean keyEquals(byte[] expected) {
+            return rangeEquals(b, keyStart, keyEnd, expected);
+        }
+
+        boolean valueEquals(byte[] expected) {
+            return rangeEquals(b, valueStart, valueEnd, expected);
+        }
+
+        /**
+         * 문자열 값을 0 이상의 long으로 해석 (숫자가 아니거나 너무 길면 -1)
+         */
+        long parseValueAsLong() {
+            int n = valueEnd - valueStart;
+            if (n == 0 || n > 18) return -1;
+            long v = 0;
+            for (int i = valueStart; i < valueEnd; i++) {
+                int d = b[i] - '0';
+                if (d < 0 || d > 9) return -1;
+                v = v * 10 + d;
+            }
+            return v;
+        }
+
+        private boolean readString() {
+            if (pos >= end || b[pos] != '"') return false;
+            pos++;
+            valueStart = pos;
+            while (pos < end) {
+                byte c = b[pos];
+                if (c == '"') {
+                    valueEnd = pos++;
+                    return true;
+                }
+                if (c == '\\' || c < 0x20) return false; // 이스케이프/제어문자/비ASCII(음수 byte)는 jjwt에 맡김
+                pos++;
+            }
+            return false;
+        }
+
+        private boolean readNumber() {
+            boolean negative = b[pos] == '-';
+            if (negative) pos++;
+            int start = pos;
+            long v = 0;
+            while (pos < end && b[pos] >= '0' && b[pos] <= '9') {
+                if (pos - start >= 18) return false;
+                v = v * 10 + (b[pos++] - '0');
+            }
+            if (pos == start) return false;
+            if (b[start] == '0' && pos - start > 1) return false; // 007 같은 숫자는 JSON이 아님
+            if (pos < end && (b[pos] == '.' || b[pos] == 'e' || b[pos] == 'E')) return false;
+            number = negative ? -v : v;
+            return true;
+        }
+
+        /**
+         * 이번 key가 앞에서 나온 적 없으면 기록 (같은 key가 두 번이면 어느 값을 쓸지 jjwt와 다를 수 있음)
+         */
+        private boolean rememberKey() {
+            if (keyCount == MAX_JSON_KEYS) return false;
+            for (int i = 0; i < keyCount; i++) {
+                if (keyEnds[i] - keyStarts[i] == keyEnd - keyStart
+                        && Arrays.equals(b, keyStarts[i], keyEnds[i], b, keyStart, keyEnd)) return false;
+            }
+            keyStarts[keyCount] = keyStart;
+            keyEnds[keyCount++] = keyEnd;
+            return true;
+        }
+
+        private void skipWs() {
+            while (pos < end && (b[pos] == ' ' || b[pos] == '\n' || b[pos] == '\r' || b[pos] == '\t')) pos++;
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.store.LongObjectMap;
+import io.github.hyeonseo.auth.common.store.TimerWheel;
+import io.github.hyeonseo.auth.common.store.TokenStoreProperties;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.token.RefreshTokenService.RefreshTokenPayload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 프로세스 내 구현 (단일 서버 / 테스트용, Redis 불필요)
+ * - token -> Entry는 ConcurrentHashMap, (role, userId) -> Owner는 락 스트라이프별 long 키 맵 (userId 박싱 없음)
+ * - 한 사용자의 토큰/포인터/세션 목록은 그 사용자의 스트라이프 락 안에서만 변경 -> 교체/폐기가 원자적
+ *   (다른 스트라이프 사용자끼리는 경합 없음, 읽기(get)는 락 없음)
+ * - 만료: 읽을 때 만료 시각 확인 + TimerWheel로 만료된 토큰과 비게 된 사용자 항목 회수
+ * - 서명된 토큰의 세션 버전은 사용자 tag -> Version 맵 (compute로 원자적 갱신, 같은 TimerWheel로 회수)
+ */
+public class InMemoryRefreshSessionStore implements RefreshSessionStore, AutoCloseable {
+
+    private record Entry(byte[] payload, UserRole role, long userId, long expiresAtMillis) {
+        boolean live(long now) {
+            return expiresAtMillis > now;
+        }
+    }
+
+    private record Session(String token, long issuedAtEpochSec) {}
+
+    private record Version(long value, long expiresAtMillis) {
+        boolean live(long now) {
+            return expiresAtMillis > now;
+        }
+    }
+
+    private static final String VERSION_EXPIRY_PREFIX = "version:"; // 타이머 휠 항목 구분 (토큰에는 ':'가 없음)
+
+    /**
+     * 사용자별 상태 (스트라이프 락 안에서만 접근)
+     */
+    private static final class Owner {
+        String active;                                  // 싱글세션 현재 토큰
+        long activeExpiresAtMillis;
+        final List<Session> sessions = new ArrayList<>(2); // 멀티세션 (발급 시각, 토큰 순)
+
+        String active(long now) {
+            return active != null && activeExpiresAtMillis > now ? active : null;
+        }
+
+        boolean removeSession(String token) {
+            return sessions.removeIf(s -> s.token().equals(token));
+        }
+
+        void addSession(Session session) {
+            int i = sessions.size();
+            while (i > 0 && compare(sessions.get(i - 1), session) > 0) i--;
+            sessions.add(i, session);
+        }
+
+        private static int compare(Session a, Session b) {
+            int c = Long.compare(a.issuedAtEpochSec(), b.issuedAtEpochSec());
+            return c != 0 ? c : a.token().compareTo(b.token());
+        }
+    }
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock(); // 가상 스레드 pinning 없음 (synchronized 대신)
+        final LongObjectMap<Owner>[] owners;            // role ordinal -> userId -> Owner
+
+        @SuppressWarnings("unchecked")
+        Stripe() {
+            owners = new LongObjectMap[UserRole.values().length];
+            for (int i = 0; i < owners.length; i++) owners[i] = new LongObjectMap<>();
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Version> versions = new ConcurrentHashMap<>(); // 사용자 tag -> 세션 버전
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final RefreshTokenPayloadCodec codec; // 교체 시 발급 시각만 바꾼 payload 인코딩
+    private final TimerWheel<String> expiry;
+
+    public InMemoryRefreshSessionStore(RefreshTokenPayloadCodec codec, TokenStoreProperties props) {
+        int size = Integer.highestOneBit(Math.max(props.lockStripes() - 1, 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) stripes[i] = new Stripe();
+        this.stripeMask = size - 1;
+        this.codec = codec;
+        this.expiry = new TimerWheel<>("refresh-store-expiry", props.tickMillis(), props.wheelSize(), this::expire);
+    }
+
+    @Override
+    public byte[] get(String token) {
+        Entry e = live(token, System.currentTimeMillis());
+        return e != null ? e.payload() : null;
+    }
+
+    @Override
+    public String activeToken(UserRole role, long userId) {
+        Stripe s = stripe(userId);
+        s.lock.lock();
+        try {
+            Owner o = s.owners[role.ordinal()].get(userId);
+            return o != null ? o.active(System.currentTimeMillis()) : null;
+        } finally {
+            s.lock.unlock();
+        }
+    }
+
+    /**
+     * 토큰 삭제 (이 토큰을 가리키는 포인터/세션 항목도 같이 정리 - payload 없는 토큰은 어차피 검증/교체 불가)
+     */
+    @Override
+    public void delete(String token) {
+        Entry e = tokens.get(token);
+        if (e == null) return;
+
+        Stripe s = stripe(e.userId());
+        s.lock.lock();
+        try {
+            if (tokens.remove(token, e)) unlink(s, e, token);
+        } finally {
+            s.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clearActive(UserRole role, long userId) {
+        Stripe s = stripe(userId);
+        s.lock.lock();
+        try {
+            Owner o = s.owners[role.ordinal()].get(userId);
+            if (o == null) return;
+            o.active = null;
+            removeIfEmpty(s, role, userId, o);
+        } finally {
+            s.lock.unlock();
+        }
+    }
+
+    @Override
+    public void issueSingle(UserRole role, long userId, String token, byte[] payload, long ttlSeconds) {
+        long now = System.currentTimeMillis();
+        long deadline = now + ttlSeconds * 1000;
+
+        Stripe s = stripe(userId);
+        s.lock.lock();
+        try {
+            Owner o = owner(s, role, userId);
+
+            // 기존 토큰 있으면 폐기
+            String old = o.active(now);
+            if (old != null) tokens.remove(old);
+
+            tokens.put(token, new Entry(payload, role, userId, deadline));
+            o.active = token;
+            o.activeExpiresAtMillis = deadline;
+        } finally {
+            s.lock.unlock();
+        }
+        expiry.schedule(token, deadline);
+    }
+
+    @Override
+    public byte[] rotateSingle(String token, String newToken, long issuedAtEpochSec, long ttlSeconds) {
+        long now = System.currentTimeMillis();
+        Entry e = live(token, now);
+        if (e == null) return null;
+
+        long deadline = now + ttlSeconds * 1000;
+        byte[] payload;
+
+        Stripe s = stripe(e.userId());
+        s.lock.lock();
+        try {
+            if (tokens.get(token) != e) return null; // 그 사이 교체/폐기됨
+
+            // 현재 토큰이 아니면(= 구세션/동시 재발급에서 진 쪽) 무효 처리
+            Owner o = s.owners[e.role().ordinal()].get(e.userId());
+            if (o == null || !token.equals(o.active(now))) {
+                tokens.remove(token);
+                unlink(s, e, token);
+                return null;
+            }
+
+            payload = withIssuedAt(e, issuedAtEpochSec);
+            tokens.put(newToken, new Entry(payload, e.role(), e.userId(), deadline));
+            tokens.remove(token);
+            o.active = newToken;
+            o.activeExpiresAtMillis = deadline;
+        } finally {
+            s.lock.unlock();
+        }
+        expiry.schedule(newToken, deadline);
+        return payload;
+    }
+
+    @Override
+    public long issueSession(UserRole role, long userId, String token, byte[] payload, long issuedAtEpochSec, long ttlSeconds, int maxSessions) {
+        long now = System.currentTimeMillis();
+        long deadline = now + ttlSeconds * 1000;
+        long removed = 0;
+
+        Stripe s = stripe(userId);
+        s.lock.lock();
+        try {
+            Owner o = owner(s, role, userId);
+
+            // 만료/삭제된 토큰의 세션 항목 정리
+            o.sessions.removeIf(session -> live(session.token(), now) == null);
+
+            tokens.put(token, new Entry(payload, role, userId, deadline));
+            o.addSession(new Session(token, issuedAtEpochSec));
+
+            // 최대 개수를 넘으면 가장 오래된 세션부터 폐기 (방금 발급한 토큰은 제외)
+            int excess = o.sessions.size() - maxSessions;
+            for (int i = 0; i < o.sessions.size() && removed < excess; ) {
+                Session oldest = o.sessions.get(i);
+                if (oldest.token().equals(token)) {
+                    i++;
+                    continue;
+                }
+                o.sessions.remove(i);
+                tokens.remove(oldest.token());
+                removed++;
+            }
+        } finally {
+            s.lock.unlock();
+        }
+        expiry.schedule(token, deadline);
+        return removed;
+    }
+
+    @Override
+    public byte[] rotateSession(String token, String newToken, long issuedAtEpochSec, long ttlSeconds) {
+        long now = System.currentTimeMillis();
+        Entry e = live(token, now);
+        if (e == null) return null;
+
+        long deadline = now + ttlSeconds * 1000;
+        byte[] payload;
+
+        Stripe s = stripe(e.userId());
+        s.lock.lock();
+        try {
+            if (tokens.get(token) != e) return null; // 그 사이 교체/폐기됨
+
+            Owner o = s.owners[e.role().ordinal()].get(e.userId());
+            if (o == null) {
+                tokens.remove(token);
+                return null;
+            }
+            if (!o.removeSession(token)) {
+                // 세션 목록에 없으면: 싱글세션 현재 토큰만 인정하고 세션 목록으로 옮김
+                if (!token.equals(o.active(now))) {
+                    tokens.remove(token);
+                    unlink(s, e, token);
+                    return null;
+                }
+                o.active = null;
+            }
+
+            payload = withIssuedAt(e, issuedAtEpochSec);
+            tokens.put(newToken, new Entry(payload, e.role(), e.userId(), deadline));
+            tokens.remove(token);
+            o.addSession(new Session(newToken, issuedAtEpochSec));
+        } finally {
+            s.lock.unlock();
+        }
+        expiry.schedule(newToken, deadline);
+        return payload;
+    }
+
+    @Override
+    public boolean revokeSession(String token) {
+        Entry e = live(token, System.currentTimeMillis());
+        if (e == null) return false;
+
+        Stripe s = stripe(e.userId());
+        s.lock.lock();
+        try {
+            if (!tokens.remove(token, e)) return false; // 그 사이 교체/폐기됨
+            unlink(s, e, token);
+            return true;
+        } finally {
+            s.lock.unlock();
+        }
+    }
+
+    @Override
+    public long revokeAll(UserRole role, long userId) {
+        long now = System.currentTimeMillis();
+        long removed = 0;
+
+        Stripe s = stripe(userId);
+        s.lock.lock();
+        try {
+            Owner o = s.owners[role.ordinal()].remove(userId);
+            if (o == null) return 0;
+
+            for (Session session : o.sessions) {
+                Entry e = tokens.remove(session.token());
+                if (e != null && e.live(now)) removed++;
+            }
+            String active = o.active(now);
+            if (active != null) {
+                Entry e = tokens.remove(active);
+                if (e != null && e.live(now)) removed++;
+            }
+        } finally {
+            s.lock.unlock();
+        }
+        return removed;
+    }
+
+    @Override
+    public long currentVersion(UserRole role, long userId) {
+        Version v = versions.get(RefreshTokens.ownerTag(role, userId));
+        return v != null && v.live(System.currentTimeMillis()) ? v.value() : 0;
+    }
+
+    @Override
+    public long issueVersion(UserRole role, long userId, long floor, long ttlSeconds) {
+        long now = System.currentTimeMillis();
+        long deadline = now + ttlSeconds * 1000;
+        String tag = RefreshTokens.ownerTag(role, userId);
+
+        Version issued = versions.compute(tag, (k, v) -> {
+            long current = v != null && v.live(now) ? v.value() : 0;
+            return new Version(Math.max(current + 1, floor), deadline);
+        });
+        expiry.schedule(VERSION_EXPIRY_PREFIX + tag, deadline);
+        return issued.value();
+    }
+
+    @Override
+    public long rotateVersion(UserRole role, long userId, long expected, long ttlSeconds) {
+        long now = System.currentTimeMillis();
+        long deadline = now + ttlSeconds * 1000;
+        String tag = RefreshTokens.ownerTag(role, userId);
+
+        boolean[] rotated = new boolean[1];
+
+        versions.computeIfPresent(tag, (k, v) -> {
+            if (!v.live(now) || v.value() != expected) return v; // 이미 교체/폐기된 토큰
+            rotated[0] = true;
+            return new Version(expected + 1, deadline);
+        });
+        if (!rotated[0]) return 0;
+
+        expiry.schedule(VERSION_EXPIRY_PREFIX + tag, deadline);
+        return expected + 1;
+    }
+
+    @Override
+    public boolean revokeVersion(UserRole role, long userId) {
+        long now = System.currentTimeMillis();
+        boolean[] revoked = new boolean[1];
+
+        versions.computeIfPresent(RefreshTokens.ownerTag(role, userId), (k, v) -> {
+            if (!v.live(now)) return v;
+            revoked[0] = true;
+            return new Version(v.value() + 1, v.expiresAtMillis());
+        });
+        return revoked[0];
+    }
+
+    /**
+     * 만료 시각이 지난 토큰만 삭제 + 사용자 항목 정리 (tick 스레드)
+     */
+    private void expire(String token) {
+        long now = System.currentTimeMillis();
+        if (token.startsWith(VERSION_EXPIRY_PREFIX)) {
+            versions.computeIfPresent(token.substring(VERSION_EXPIRY_PREFIX.length()), (k, v) -> v.live(now) ? v : null);
+            return;
+        }
+        Entry e = tokens.get(token);
+        if (e == null || e.live(now)) return;
+
+        Stripe s = stripe(e.userId());
+        s.lock.lock();
+        try {
+            if (tokens.remove(token, e)) unlink(s, e, token);
+        } finally {
+            s.lock.unlock();
+        }
+    }
+
+    /**
+     * 삭제된 토큰을 가리키는 세션 항목/포인터 제거 (락 안)
+     */
+    private void unlink(Stripe s, Entry e, String token) {
+        Owner o = s.owners[e.role().ordinal()].get(e.userId());
+        if (o == null) return;
+
+        o.removeSession(token);
+        if (token.equals(o.active)) o.active = null;
+        removeIfEmpty(s, e.role(), e.userId(), o);
+    }
+
+    private static void removeIfEmpty(Stripe s, UserRole role, long userId, Owner o) {
+        if (o.active == null && o.sessions.isEmpty()) s.owners[role.ordinal()].remove(userId);
+    }
+
+    private static Owner owner(Stripe s, UserRole role, long userId) {
+        LongObjectMap<Owner> owners = s.owners[role.ordinal()];
+        Owner o = owners.get(userId);
+        if (o == null) {
+            o = new Owner();
+            owners.put(userId, o);
+        }
+        return o;
+    }
+
+    private Entry live(String token, long now) {
+        Entry e = tokens.get(token);
+        return e != null && e.live(now) ? e : null;
+    }
+
+    private byte[] withIssuedAt(Entry e, long issuedAtEpochSec) {
+        return codec.encode(new RefreshTokenPayload(e.userId(), e.role(), issuedAtEpochSec));
+    }
+
+    private Stripe stripe(long userId) {
+        long h = userId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h ^ (h >>> 32)) & stripeMask];
+    }
+
+    @Override
+    public void close() {
+        expiry.close();
+    }
+}
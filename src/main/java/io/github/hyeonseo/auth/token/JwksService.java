@@ -0,0 +1,104 @@
+package io.github.hyeonseo.auth.token;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키 링의 공개키를 JWKS(JSON Web Key Set) 문서로 변환
+ * - 키 링 버전별로 한 번만 만들어 두고 재사용 (ETag도 같이 계산)
+ * - HMAC 키는 공개하지 않으므로 HMAC만 쓰면 keys는 빈 배열
+ */
+@Service
+@RequiredArgsConstructor
+public class JwksService {
+
+    private static final Base64.Encoder B64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final JwtKeyRing keyRing;
+    private final ObjectMapper objectMapper;
+
+    private volatile Jwks cached;
+
+    public record Jwks(long version, String json, String etag) {}
+
+    public Jwks current() {
+        Jwks jwks = cached;
+        long version = keyRing.version();
+        if (jwks != null && jwks.version() == version) return jwks;
+
+        jwks = render(version, keyRing.publicKeys());
+        cached = jwks;
+        return jwks;
+    }
+
+    private Jwks render(long version, List<JwtKeyRing.PublicVerificationKey> keys) {
+        try {
+            List<Map<String, Object>> jwks = keys.stream().map(JwksService::toJwk).toList();
+            String json = objectMapper.writeValueAsString(Map.of("keys", jwks));
+
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            String etag = "\"" + B64URL.encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+
+            return new Jwks(version, json, etag);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to render JWKS", e);
+        }
+    }
+
+    private static Map<String, Object> toJwk(JwtKeyRing.PublicVerificationKey k) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        switch (k.algorithm()) {
+            case ED25519 -> {
+                jwk.put("kty", "OKP");
+                jwk.put("crv", "Ed25519");
+                jwk.put("x", B64URL.encodeToString(rawEd25519(k.key())));
+                jwk.put("alg", "EdDSA");
+            }
+            case ES256 -> {
+                ECPublicKey ec = (ECPublicKey) k.key();
+                jwk.put("kty", "EC");
+                jwk.put("crv", "P-256");
+                jwk.put("x", B64URL.encodeToString(unsigned(ec.getW().getAffineX(), 32)));
+                jwk.put("y", B64URL.encodeToString(unsigned(ec.getW().getAffineY(), 32)));
+                jwk.put("alg", "ES256");
+            }
+            case HMAC -> throw new IllegalStateException("HMAC keys must never be published");
+        }
+        jwk.put("use", "sig");
+        jwk.put("kid", k.kid());
+        return jwk;
+    }
+
+    /**
+     * X.509 SubjectPublicKeyInfo 인코딩의 마지막 32바이트가 Ed25519 공개키 원문
+     */
+    private static byte[] rawEd25519(PublicKey key) {
+        byte[] encoded = key.getEncoded();
+        return Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+    }
+
+    /**
+     * 좌표값을 고정 길이 big-endian 바이트로 (BigInteger의 부호 바이트 제거 / 앞쪽 0 채움)
+     */
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == length) return bytes;
+        if (bytes.length > length) return Arrays.copyOfRange(bytes, bytes.length - length, bytes.length);
+
+        byte[] padded = new byte[length];
+        System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+        return padded;
+    }
+}
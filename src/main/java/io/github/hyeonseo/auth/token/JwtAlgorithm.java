@@ -0,0 +1,10 @@
+package io.github.hyeonseo.auth.token;
+
+/**
+ * 키 링에 등록하는 키의 서명 방식
+ * - HMAC: 공유 비밀키 (secret) - 이 서버만 검증 가능
+ * - ED25519 / ES256: 비대칭 키 (private-key/public-key PEM) - 공개키를 JWKS로 공개해서 다른 서비스가 직접 검증
+ */
+public enum JwtAlgorithm {
+    HMAC, ED25519, ES256
+}
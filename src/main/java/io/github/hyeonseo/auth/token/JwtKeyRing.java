@@ -0,0 +1,162 @@
+package io.github.hyeonseo.auth.token;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JWT 서명/검증 키 링
+ * - 시작 시 한 번만 키를 만들어 두고, 요청마다 키를 다시 만들지 않는다.
+ * - 키는 kid로 구분: 발급은 activeKid 키로, 검증은 토큰 헤더의 kid로 키를 찾는다.
+ * - HMAC 키는 비밀키 하나로 서명/검증, ED25519/ES256 키는 개인키로 서명하고 공개키로 검증
+ * - app.auth.jwt 설정이 바뀌면 재시작 없이 새 스냅샷으로 교체(로테이션)
+ */
+@Component
+public class JwtKeyRing {
+
+    public static final String DEFAULT_KID = "default"; // secret 단일 설정일 때의 kid
+
+    private final Environment environment;
+    private volatile Snapshot snapshot;
+
+    public record ActiveKey(String kid, JwtAlgorithm algorithm, Key key) {}
+
+    /**
+     * JWKS로 공개하는 공개키 (비대칭 키만)
+     */
+    public record PublicVerificationKey(String kid, JwtAlgorithm algorithm, PublicKey key) {}
+
+    private record Snapshot(
+            long version,
+            JwtProperties source,
+            ActiveKey active,
+            Map<String, Key> keys,                   // kid -> 검증 키 (SecretKey 또는 PublicKey)
+            List<PublicVerificationKey> publicKeys
+    ) {}
+
+    public JwtKeyRing(JwtProperties props, Environment environment) {
+        this.environment = environment;
+        this.snapshot = build(1, props);
+    }
+
+    /**
+     * 새 토큰 서명에 사용할 현재 키
+     */
+    public ActiveKey active() {
+        return snapshot.active();
+    }
+
+    /**
+     * 헤더의 kid로 검증 키 조회
+     * - kid가 없는 토큰(키 링 도입 전 발급분)은 default 키로 검증
+     * @param kid
+     * @return 검증 키 (HMAC이면 SecretKey, 비대칭이면 PublicKey / 모르는 kid면 JwtException)
+     */
+    public Key verificationKey(String kid) {
+        Key key = snapshot.keys().get(kid != null ? kid : DEFAULT_KID);
+        if (key == null) throw new JwtException("Unknown JWT key id: " + kid);
+        return key;
+    }
+
+    /**
+     * 외부 서비스가 오프라인 검증에 쓸 공개키 목록 (HMAC 키는 절대 포함하지 않음)
+     */
+    public List<PublicVerificationKey> publicKeys() {
+        return snapshot.publicKeys();
+    }
+
+    /**
+     * 키 링이 교체될 때마다 증가 (키를 따로 캐시하는 쪽에서 교체 여부 확인용)
+     */
+    public long version() {
+        return snapshot.version();
+    }
+
+    /**
+     * 설정을 다시 바인딩해서 키가 바뀌었으면 교체
+     * - 외부 설정 소스(config server, actuator env 등)로 키를 갱신하면 재시작 없이 반영됨
+     */
+    @Scheduled(fixedDelayString = "${app.auth.jwt.key-reload-interval-ms:60000}")
+    public void reloadFromEnvironment() {
+        Binder.get(environment)
+                .bind("app.auth.jwt", JwtProperties.class)
+                .ifBound(this::reload);
+    }
+
+    /**
+     * 키 설정이 달라졌을 때만 새 스냅샷을 만들어 원자적으로 교체
+     * @param props
+     */
+    public void reload(JwtProperties props) {
+        Snapshot current = snapshot;
+        if (sameKeys(current.source(), props)) return;
+
+        this.snapshot = build(current.version() + 1, props);
+    }
+
+    private static boolean sameKeys(JwtProperties a, JwtProperties b) {
+        return Objects.equals(a.secret(), b.secret())
+                && Objects.equals(a.activeKid(), b.activeKid())
+                && a.keys().equals(b.keys());
+    }
+
+    private static Snapshot build(long version, JwtProperties props) {
+        Map<String, Key> keys = new LinkedHashMap<>();
+        Map<String, ActiveKey> signers = new LinkedHashMap<>();
+        List<PublicVerificationKey> publicKeys = new ArrayList<>();
+
+        if (props.secret() != null && !props.secret().isBlank()) {
+            Key key = hmacKey(props.secret());
+            keys.put(DEFAULT_KID, key);
+            signers.put(DEFAULT_KID, new ActiveKey(DEFAULT_KID, JwtAlgorithm.HMAC, key));
+        }
+        for (JwtProperties.SigningKey k : props.keys()) {
+            if (k.algorithm() == JwtAlgorithm.HMAC) {
+                Key key = hmacKey(k.secret());
+                keys.put(k.kid(), key);
+                signers.put(k.kid(), new ActiveKey(k.kid(), k.algorithm(), key));
+                continue;
+            }
+
+            PublicKey publicKey = PemKeys.publicKey(k.publicKey(), k.algorithm());
+            keys.put(k.kid(), publicKey);
+            publicKeys.add(new PublicVerificationKey(k.kid(), k.algorithm(), publicKey));
+
+            // 개인키가 없는 키는 검증 전용 (로테이션 후 기존 토큰 만료까지 남겨두는 용도)
+            if (k.privateKey() != null && !k.privateKey().isBlank()) {
+                PrivateKey privateKey = PemKeys.privateKey(k.privateKey(), k.algorithm());
+                signers.put(k.kid(), new ActiveKey(k.kid(), k.algorithm(), privateKey));
+            }
+        }
+
+        if (keys.isEmpty()) throw new IllegalStateException("No JWT signing key configured (app.auth.jwt.secret or app.auth.jwt.keys)");
+
+        // activeKid가 없으면: keys 마지막 항목(가장 최근에 추가한 키) -> 없으면 default
+        String activeKid = props.activeKid();
+        if (activeKid == null || activeKid.isBlank()) {
+            activeKid = props.keys().isEmpty() ? DEFAULT_KID : props.keys().get(props.keys().size() - 1).kid();
+        }
+
+        ActiveKey active = signers.get(activeKid);
+        if (active == null) throw new IllegalStateException("Active JWT key id not found or has no signing key: " + activeKid);
+
+        return new Snapshot(version, props, active, Map.copyOf(keys), List.copyOf(publicKeys));
+    }
+
+    private static Key hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)); // HMAC-SHA 서명용 키
+    }
+}
@@ -2,13 +2,35 @@ package io.github.hyeonseo.auth.token;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.List;
+
 @ConfigurationProperties(prefix = "app.auth.jwt")
 public record JwtProperties(
         String issuer,
-        String secret,
+        String secret,          // 단일 키 (keys가 비어 있으면 kid="default"로 사용, 기존 토큰 검증용으로도 유지)
+        String activeKid,       // 새 토큰 서명에 사용할 키의 kid
+        List<SigningKey> keys,  // 키 링 (로테이션 중에는 이전 키도 검증용으로 남겨둠)
         long accessTtlSeconds,
         long refreshTtlSeconds
-) {}
+) {
+
+    public record SigningKey(
+            String kid,
+            JwtAlgorithm algorithm, // 기본 HMAC
+            String secret,          // HMAC
+            String privateKey,      // ED25519 / ES256 (PKCS#8 PEM, 검증 전용으로 남겨둘 키는 생략 가능)
+            String publicKey        // ED25519 / ES256 (X.509 PEM)
+    ) {
+
+        public SigningKey {
+            if (algorithm == null) algorithm = JwtAlgorithm.HMAC;
+        }
+    }
+
+    public JwtProperties {
+        keys = keys == null ? List.of() : List.copyOf(keys);
+    }
+}
 
 /*
 @ConfigurationProperties(prefix = "app.auth.jwt")
@@ -17,4 +39,4 @@ public record JwtProperties(
 @Component 어노테이션을 붙이거나
 or
 SecurityConfig 클래스에 @EnableConfigurationProperties(JwtProperties.class) 이렇게 등록해주어야 한다.
- */
\ No newline at end of file
+ */
@@ -0,0 +1,255 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.token.RefreshTokenService.IssuedRefreshToken;
+import io.github.hyeonseo.auth.token.RefreshTokenService.RefreshTokenPayload;
+import io.github.hyeonseo.auth.token.RefreshTokenService.RotatedRefreshToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * RefreshTokenService의 리액티브 버전 (리액티브 모드에서만 등록)
+ * - 키/스크립트/인자는 RefreshCommands를 같이 써서 서블릿 모드와 동작이 같음
+ * - 실패(유효하지 않은 토큰)는 null 대신 빈 Mono
+ * - SIGNED: 버전 캐시 없이 매번 버전 스크립트 (교체/로그아웃은 어차피 Redis에서 비교 후 증가)
+ */
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveRefreshTokenService {
+
+    private final ReactiveStringRedisTemplate redis;                 // ACTIVE 포인터 (token 문자열)
+    private final ReactiveRedisTemplate<String, byte[]> payloadRedis; // token -> payload + 스크립트 실행
+    private final RefreshTokenPayloadCodec codec;
+    private final JwtProperties props;
+    private final RefreshSessionProperties sessionProps;
+    private final SignedRefreshTokens signedTokens;
+    private final RedisRoundTrips issueRoundTrips = new RedisRoundTrips(); // 발급(로그인/가입)당 왕복 수
+
+    /**
+     * 로그인/회원가입 시 refresh 발급 (app.auth.refresh.mode 정책에 따라)
+     */
+    public Mono<IssuedRefreshToken> issue(long userId, UserRole role) {
+        return switch (sessionProps.mode()) {
+            case SINGLE -> issueSingleSession(userId, role);
+            case MULTI -> issueMultiSession(userId, role);
+            case SIGNED -> issueSignedSession(userId, role);
+        };
+    }
+
+    /**
+     * 재발급 (app.auth.refresh.mode 정책에 따라)
+     * @return 새 토큰 + 검증된 payload (실패 시 empty)
+     */
+    public Mono<RotatedRefreshToken> rotate(String refreshToken) {
+        if (signed()) return rotateSignedSession(refreshToken);
+
+        long now = Instant.now().getEpochSecond();
+        long ttl = props.refreshTtlSeconds();
+
+        return nextToken(refreshToken).flatMap(newToken -> {
+            RefreshCommands.ScriptCall<byte[]> call = multiSession()
+                    ? RefreshCommands.rotateSession(refreshToken, newToken, now, ttl)
+                    : RefreshCommands.rotateSingle(refreshToken, newToken, now, ttl);
+
+            return execute(call)
+                    .map(rotated -> new RotatedRefreshToken(newToken, ttl, decode(rotated, "Failed to rotate refresh token")));
+        });
+    }
+
+    /**
+     * 현재 기기 로그아웃 (app.auth.refresh.mode 정책에 따라, idempotent)
+     */
+    public Mono<Void> logout(String refreshToken) {
+        if (signed()) return logoutSignedSession(refreshToken);
+        if (!accepted(refreshToken)) return Mono.empty();
+        if (multiSession()) return execute(RefreshCommands.revokeSession(refreshToken)).then();
+
+        String tokenKey = RefreshCommands.tokenKey(refreshToken);
+        return verifySingleSession(refreshToken)
+                .flatMap(payload -> redis.delete(RefreshCommands.activeKeyOf(refreshToken, payload.role(), payload.userId())))
+                .then(redis.delete(tokenKey))
+                .then();
+    }
+
+    /**
+     * 사용자의 모든 기기 로그아웃 (싱글/멀티 세션 모두)
+     * @return 폐기한 세션 수
+     */
+    public Mono<Long> logoutAll(long userId, UserRole role) {
+        if (signed()) return execute(RefreshCommands.revokeVersion(role, userId)).defaultIfEmpty(0L);
+        return execute(RefreshCommands.logoutAll(userId, role, sessionProps.legacyKeys())).defaultIfEmpty(0L);
+    }
+
+    public long refreshTtlSeconds() {
+        return props.refreshTtlSeconds();
+    }
+
+    /**
+     * 한 사용자당 refresh 토큰 1개만 유지 (기존 토큰은 폐기)
+     */
+    private Mono<IssuedRefreshToken> issueSingleSession(long userId, UserRole role) {
+        String newToken = RefreshTokens.issue(role, userId);
+        long ttl = props.refreshTtlSeconds();
+        byte[] payload = codec.encode(new RefreshTokenPayload(userId, role, Instant.now().getEpochSecond()));
+
+        // 기존 토큰 폐기 + 새 토큰/ACTIVE 저장 (스크립트 한 번)
+        return countIssue(op -> op.send(() -> execute(RefreshCommands.issueSingle(role, userId, newToken, payload, ttl, sessionProps.legacyKeys()))))
+                .thenReturn(new IssuedRefreshToken(newToken, ttl))
+                .onErrorMap(e -> new IllegalStateException("Failed to issue refresh token", e));
+    }
+
+    /**
+     * 멀티 디바이스 세션 발급 (스크립트 한 번)
+     */
+    private Mono<IssuedRefreshToken> issueMultiSession(long userId, UserRole role) {
+        String newToken = RefreshTokens.issue(role, userId);
+        long now = Instant.now().getEpochSecond();
+        long ttl = props.refreshTtlSeconds();
+        byte[] payload = codec.encode(new RefreshTokenPayload(userId, role, now));
+
+        return countIssue(op -> op.send(() -> execute(RefreshCommands.issueSession(userId, role, newToken, payload, now, ttl, sessionProps.maxSessions()))))
+                .thenReturn(new IssuedRefreshToken(newToken, ttl))
+                .onErrorMap(e -> new IllegalStateException("Failed to issue refresh token", e));
+    }
+
+    /**
+     * 서명된 refresh 발급 (버전을 올리므로 기존 토큰은 무효화)
+     */
+    private Mono<IssuedRefreshToken> issueSignedSession(long userId, UserRole role) {
+        Instant now = Instant.now();
+        long ttl = props.refreshTtlSeconds();
+        RefreshTokenPayload payload = new RefreshTokenPayload(userId, role, now.getEpochSecond());
+
+        return countIssue(op -> op.send(() -> execute(RefreshCommands.issueVersion(role, userId, now.toEpochMilli(), ttl))))
+                .map(version -> new IssuedRefreshToken(signedTokens.sign(payload, version, ttl), ttl))
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Empty refresh session version")))
+                .onErrorMap(e -> new IllegalStateException("Failed to issue refresh token", e));
+    }
+
+    /**
+     * 서명된 토큰 로테이션 (현재 버전일 때만 버전 증가 후 새 버전으로 서명)
+     */
+    private Mono<RotatedRefreshToken> rotateSignedSession(String refreshToken) {
+        SignedRefreshTokens.SignedRefreshToken parsed = signedTokens.parse(refreshToken);
+        if (parsed == null) return Mono.empty();
+
+        RefreshTokenPayload old = parsed.payload();
+        long ttl = props.refreshTtlSeconds();
+
+        return execute(RefreshCommands.rotateVersion(old.role(), old.userId(), parsed.version(), ttl))
+                .filter(version -> version > 0)
+                .map(version -> {
+                    RefreshTokenPayload payload = new RefreshTokenPayload(old.userId(), old.role(), Instant.now().getEpochSecond());
+                    return new RotatedRefreshToken(signedTokens.sign(payload, version, ttl), ttl, payload);
+                });
+    }
+
+    /**
+     * 서명된 토큰 로그아웃 (현재 토큰이면 버전만 올림, idempotent)
+     */
+    private Mono<Void> logoutSignedSession(String refreshToken) {
+        SignedRefreshTokens.SignedRefreshToken parsed = signedTokens.parse(refreshToken);
+        if (parsed == null) return Mono.empty();
+
+        RefreshTokenPayload payload = parsed.payload();
+        return execute(RefreshCommands.rotateVersion(payload.role(), payload.userId(), parsed.version(), props.refreshTtlSeconds()))
+                .then();
+    }
+
+    /**
+     * 싱글세션 토큰 검증 (ACTIVE에 등록된 토큰인지)
+     */
+    private Mono<RefreshTokenPayload> verifySingleSession(String refreshToken) {
+        if (!accepted(refreshToken)) return Mono.empty();
+
+        return payloadRedis.opsForValue().get(RefreshCommands.tokenKey(refreshToken))
+                .flatMap(stored -> {
+                    RefreshTokenPayload payload;
+                    try {
+                        payload = codec.decode(stored);
+                    } catch (Exception e) {
+                        return Mono.empty();
+                    }
+                    return redis.opsForValue().get(RefreshCommands.activeKeyOf(refreshToken, payload.role(), payload.userId()))
+                            .filter(refreshToken::equals)
+                            .map(active -> payload);
+                });
+    }
+
+    /**
+     * 로테이션할 새 토큰 (RefreshTokenService.nextToken과 같음)
+     */
+    private Mono<String> nextToken(String refreshToken) {
+        String next = RefreshTokens.next(refreshToken);
+        if (next != null) return Mono.just(next);
+        if (!accepted(refreshToken)) return Mono.empty();
+
+        return payloadRedis.opsForValue().get(RefreshCommands.tokenKey(refreshToken))
+                .flatMap(stored -> {
+                    try {
+                        RefreshTokenPayload payload = codec.decode(stored);
+                        return Mono.just(RefreshTokens.issue(payload.role(), payload.userId()));
+                    } catch (Exception e) {
+                        return redis.delete(RefreshCommands.tokenKey(refreshToken)).then(Mono.<String>empty());
+                    }
+                });
+    }
+
+    /**
+     * 발급(싱글/멀티/서명) 한 번당 Redis 왕복 수
+     */
+    public RedisRoundTrips.Stats issueStats() {
+        return issueRoundTrips.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.refresh.stats-log-interval-seconds:300}", timeUnit = TimeUnit.SECONDS)
+    public void logIssueStats() {
+        RedisRoundTrips.Stats s = issueStats();
+        if (s.operations() == 0) return;
+        log.info("refresh token issue: issues={} redisRoundTrips={} perIssue={}",
+                s.operations(), s.roundTrips(), String.format("%.2f", s.perOperation()));
+    }
+
+    private boolean accepted(String refreshToken) {
+        return sessionProps.legacyKeys() || !RefreshTokens.legacy(refreshToken);
+    }
+
+    private RefreshTokenPayload decode(byte[] stored, String message) {
+        try {
+            return codec.decode(stored);
+        } catch (Exception e) {
+            throw new IllegalStateException(message, e);
+        }
+    }
+
+    private boolean multiSession() {
+        return sessionProps.mode() == RefreshSessionProperties.Mode.MULTI;
+    }
+
+    private boolean signed() {
+        return sessionProps.mode() == RefreshSessionProperties.Mode.SIGNED;
+    }
+
+    /**
+     * 발급 한 번 (구독할 때 시작, 끝나면 보낸 명령 수 기록)
+     */
+    private <T> Mono<T> countIssue(Function<RedisRoundTrips.Operation, Mono<T>> issue) {
+        return Mono.using(issueRoundTrips::begin, issue, RedisRoundTrips.Operation::close);
+    }
+
+    private <T> Mono<T> execute(RefreshCommands.ScriptCall<T> call) {
+        return payloadRedis.execute(call.script(), call.keys(), call.args()).next();
+    }
+}
@@ -0,0 +1,217 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 구현 (원자 연산은 RefreshCommands의 Lua 스크립트 한 번)
+ * - 발급은 종류와 관계없이 왕복 1번 (발급 경로의 명령은 모두 issueRoundTrips를 거쳐 보냄 -> issueStats)
+ * - activeCache가 있으면 ACTIVE 포인터 확인은 프로세스 내 캐시(RESP3 추적)로
+ * - versionCache가 있으면 서명된 토큰의 버전 확인도 프로세스 내 캐시(pub/sub 갱신)로
+ * - 키는 사용자 해시 태그로 묶여 있어 Redis Cluster에서도 사용자 단위 연산이 한 슬롯 안에서 끝남 (RefreshCommands)
+ * - legacyKeys: 이전 형식(해시 태그 없음) 키도 함께 정리 -> 이전 형식 토큰이 모두 만료된 뒤 끄고 클러스터로 이전
+ */
+@Slf4j
+public class RedisRefreshSessionStore implements RefreshSessionStore {
+
+    private final StringRedisTemplate redis;                 // ACTIVE 포인터 (token 문자열)
+    private final RedisTemplate<String, byte[]> payloadRedis; // token -> payload (코덱이 만든 byte[]) + 스크립트 실행
+    private final ActiveTokenNearCache activeCache;          // null이면 매번 Redis 조회 (app.auth.refresh.active-cache)
+    private final boolean legacyKeys;                        // app.auth.refresh.legacy-keys
+    private final RefreshVersionCache versionCache;          // null이면 매번 Redis 조회 (app.auth.refresh.version-cache)
+    private final RedisRoundTrips issueRoundTrips = new RedisRoundTrips(); // 발급(로그인/가입)당 왕복 수
+
+    public RedisRefreshSessionStore(StringRedisTemplate redis, RedisTemplate<String, byte[]> payloadRedis) {
+        this(redis, payloadRedis, null, true);
+    }
+
+    public RedisRefreshSessionStore(StringRedisTemplate redis, RedisTemplate<String, byte[]> payloadRedis,
+                                    ActiveTokenNearCache activeCache, boolean legacyKeys) {
+        this(redis, payloadRedis, activeCache, legacyKeys, null);
+    }
+
+    public RedisRefreshSessionStore(StringRedisTemplate redis, RedisTemplate<String, byte[]> payloadRedis,
+                                    ActiveTokenNearCache activeCache, boolean legacyKeys, RefreshVersionCache versionCache) {
+        this.redis = redis;
+        this.payloadRedis = payloadRedis;
+        this.activeCache = activeCache;
+        this.legacyKeys = legacyKeys;
+        this.versionCache = versionCache;
+    }
+
+    @Override
+    public byte[] get(String token) {
+        return payloadRedis.opsForValue().get(RefreshCommands.tokenKey(token));
+    }
+
+    @Override
+    public String activeToken(UserRole role, long userId) {
+        String activeKey = RefreshCommands.activeKey(role, userId);
+        return activeCache != null ? activeCache.get(activeKey) : redis.opsForValue().get(activeKey);
+    }
+
+    @Override
+    public boolean isActive(UserRole role, long userId, String token) {
+        String activeKey = RefreshCommands.activeKeyOf(token, role, userId);
+        if (activeCache != null) return activeCache.isActive(activeKey, token);
+        return token.equals(redis.opsForValue().get(activeKey));
+    }
+
+    @Override
+    public void delete(String token) {
+        redis.delete(RefreshCommands.tokenKey(token));
+    }
+
+    @Override
+    public void clearActive(UserRole role, long userId) {
+        String activeKey = RefreshCommands.activeKey(role, userId);
+        if (legacyKeys) {
+            redis.delete(List.of(activeKey, RefreshCommands.legacyActiveKey(role, userId)));
+        } else {
+            redis.delete(activeKey);
+        }
+        invalidateLocal(activeKey);
+    }
+
+    @Override
+    public void issueSingle(UserRole role, long userId, String token, byte[] payload, long ttlSeconds) {
+        // 기존 토큰 폐기 + 새 토큰/ACTIVE 저장 (스크립트 한 번 -> 중간에 실패해도 ACTIVE 없는 토큰이 남지 않음)
+        try (var op = issueRoundTrips.begin()) {
+            op.send(() -> execute(RefreshCommands.issueSingle(role, userId, token, payload, ttlSeconds, legacyKeys)));
+        }
+        invalidateLocal(RefreshCommands.activeKey(role, userId));
+    }
+
+    @Override
+    public byte[] rotateSingle(String token, String newToken, long issuedAtEpochSec, long ttlSeconds) {
+        byte[] payload = execute(RefreshCommands.rotateSingle(token, newToken, issuedAtEpochSec, ttlSeconds));
+        if (payload != null && activeCache != null) {
+            // 교체된 토큰이 이 서버 캐시에서 계속 ACTIVE로 보이지 않도록 (isActive -> logout이 새 세션을 지우는 문제)
+            RefreshCommands.rotatedActiveKeys(token, newToken).forEach(this::invalidateLocal);
+        }
+        return payload;
+    }
+
+    @Override
+    public long issueSession(UserRole role, long userId, String token, byte[] payload, long issuedAtEpochSec, long ttlSeconds, int maxSessions) {
+        try (var op = issueRoundTrips.begin()) {
+            Long removed = op.send(() -> execute(RefreshCommands.issueSession(userId, role, token, payload, issuedAtEpochSec, ttlSeconds, maxSessions)));
+            return removed != null ? removed : 0;
+        }
+    }
+
+    @Override
+    public byte[] rotateSession(String token, String newToken, long issuedAtEpochSec, long ttlSeconds) {
+        return execute(RefreshCommands.rotateSession(token, newToken, issuedAtEpochSec, ttlSeconds));
+    }
+
+    @Override
+    public boolean revokeSession(String token) {
+        Long revoked = execute(RefreshCommands.revokeSession(token));
+        return revoked != null && revoked > 0;
+    }
+
+    @Override
+    public long revokeAll(UserRole role, long userId) {
+        Long removed = execute(RefreshCommands.logoutAll(userId, role, legacyKeys));
+        invalidateLocal(RefreshCommands.activeKey(role, userId));
+        return removed != null ? removed : 0;
+    }
+
+    @Override
+    public long currentVersion(UserRole role, long userId) {
+        if (versionCache != null) {
+            long cached = versionCache.get(RefreshTokens.ownerTag(role, userId));
+            if (cached > 0) return cached;
+        }
+        return loadVersion(role, userId);
+    }
+
+    /**
+     * 캐시가 같으면 바로 true, 캐시가 더 크면 바로 false (버전은 증가만 함)
+     * - 캐시가 작거나 없으면 (갱신 메시지가 아직 안 왔거나 놓침) Redis에서 다시 읽어서 확인
+     */
+    @Override
+    public boolean isCurrentVersion(UserRole role, long userId, long version) {
+        if (versionCache != null) {
+            long cached = versionCache.get(RefreshTokens.ownerTag(role, userId));
+            if (cached == version) return true;
+            if (cached > version) return false;
+        }
+        return version == loadVersion(role, userId);
+    }
+
+    @Override
+    public long issueVersion(UserRole role, long userId, long floor, long ttlSeconds) {
+        Long version;
+        try (var op = issueRoundTrips.begin()) {
+            version = op.send(() -> execute(RefreshCommands.issueVersion(role, userId, floor, ttlSeconds)));
+        }
+        if (version == null) throw new IllegalStateException("Failed to issue refresh session version");
+        advanceLocal(role, userId, version);
+        return version;
+    }
+
+    @Override
+    public long rotateVersion(UserRole role, long userId, long expected, long ttlSeconds) {
+        // 이미 더 큰 버전을 알고 있으면 Redis까지 가지 않고 실패 (교체/폐기된 토큰 재사용)
+        if (versionCache != null && versionCache.get(RefreshTokens.ownerTag(role, userId)) > expected) return 0;
+
+        Long version = execute(RefreshCommands.rotateVersion(role, userId, expected, ttlSeconds));
+        if (version == null || version == 0) return 0;
+        advanceLocal(role, userId, version);
+        return version;
+    }
+
+    @Override
+    public boolean revokeVersion(UserRole role, long userId) {
+        Long revoked = execute(RefreshCommands.revokeVersion(role, userId));
+        return revoked != null && revoked > 0; // 이 서버 캐시도 PUBLISH로 갱신됨
+    }
+
+    /**
+     * 발급(싱글/멀티/서명) 한 번당 Redis 왕복 수
+     */
+    public RedisRoundTrips.Stats issueStats() {
+        return issueRoundTrips.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.refresh.stats-log-interval-seconds:300}", timeUnit = TimeUnit.SECONDS)
+    public void logIssueStats() {
+        RedisRoundTrips.Stats s = issueStats();
+        if (s.operations() == 0) return;
+        log.info("refresh token issue: issues={} redisRoundTrips={} perIssue={}",
+                s.operations(), s.roundTrips(), String.format("%.2f", s.perOperation()));
+    }
+
+    private long loadVersion(UserRole role, long userId) {
+        String stored = redis.opsForValue().get(RefreshCommands.versionKey(role, userId));
+        long version = stored != null ? Long.parseLong(stored) : 0;
+        advanceLocal(role, userId, version);
+        return version;
+    }
+
+    /**
+     * 이 서버에서 바꾸거나 읽은 버전은 pub/sub 메시지를 기다리지 않고 바로 반영
+     */
+    private void advanceLocal(UserRole role, long userId, long version) {
+        if (versionCache != null) versionCache.advance(RefreshTokens.ownerTag(role, userId), version);
+    }
+
+    /**
+     * 이 서버에서 바꾼 ACTIVE 포인터는 invalidate 푸시를 기다리지 않고 바로 제거
+     */
+    private void invalidateLocal(String activeKey) {
+        if (activeCache != null) activeCache.invalidate(activeKey);
+    }
+
+    private <T> T execute(RefreshCommands.ScriptCall<T> call) {
+        return payloadRedis.execute(call.script(), call.keys(), call.argArray());
+    }
+}
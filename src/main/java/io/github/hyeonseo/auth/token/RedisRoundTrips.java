@@ -0,0 +1,58 @@
+package io.github.hyeonseo.auth.token;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 작업(로그인 발급 등)당 Redis 왕복 횟수 집계
+ * - 작업 하나를 begin ~ close로 감싸고, 그 안에서 Redis로 보내는 명령은 모두 send를 거침 -> 실제로 보낸 명령 수를 기록
+ *   (EVALSHA가 NOSCRIPT로 실패한 뒤의 EVAL 재시도는 템플릿 내부라 제외)
+ * - 로그인 지연은 왕복 수에 비례하므로 발급 경로가 다시 여러 번 왕복하게 바뀌면 perOperation으로 바로 보임
+ */
+public final class RedisRoundTrips {
+
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder roundTrips = new LongAdder();
+
+    public record Stats(long operations, long roundTrips) {
+
+        public double perOperation() {
+            return operations == 0 ? 0 : (double) roundTrips / operations;
+        }
+    }
+
+    /**
+     * 작업 하나 (한 스레드/한 구독 안에서만 사용)
+     */
+    public final class Operation implements AutoCloseable {
+
+        private int sent;
+
+        private Operation() {}
+
+        /**
+         * 명령(또는 스크립트) 하나를 보냄
+         */
+        public <T> T send(Supplier<T> command) {
+            sent++;
+            return command.get();
+        }
+
+        /**
+         * 성공/실패와 관계없이 보낸 명령 수를 기록
+         */
+        @Override
+        public void close() {
+            operations.increment();
+            roundTrips.add(sent);
+        }
+    }
+
+    public Operation begin() {
+        return new Operation();
+    }
+
+    public Stats stats() {
+        return new Stats(operations.sum(), roundTrips.sum());
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * refresh 토큰 Redis 키 구성 + 스크립트 호출 정의
+ * - 서블릿(RefreshTokenService)과 리액티브(ReactiveRefreshTokenService)가 같은 키/스크립트/인자를 쓰도록 한 곳에 모음
+ *   (실행 방식만 다르고 동작은 동일)
+ * - 한 사용자의 키(토큰/ACTIVE/세션 목록)는 해시 태그 {role ordinal + userId}를 공유 -> Redis Cluster에서도 같은 슬롯
+ *   스크립트에 넘기는 KEYS도 모두 같은 슬롯 (이전 형식 키를 함께 넘기는 마이그레이션 기간 제외)
+ */
+final class RefreshCommands {
+
+    static final String TOKEN_PREFIX = "auth:refresh:token:";       // token -> payload
+    static final String ACTIVE_PREFIX = "auth:refresh:active:";     // {tag} -> token (싱글세션용)
+    static final String SESSIONS_PREFIX = "auth:refresh:sessions:"; // {tag} -> ZSET(token, 발급 시각) (멀티세션용)
+    static final String VERSION_PREFIX = "auth:refresh:version:";   // {tag} -> 세션 버전 (서명된 토큰용)
+
+    /**
+     * 스크립트 한 번 실행에 필요한 것 (인자는 payload 템플릿의 값 직렬화를 그대로 통과하도록 byte[])
+     */
+    record ScriptCall<T>(RedisScript<T> script, List<String> keys, List<byte[]> args) {
+
+        Object[] argArray() {
+            return args.toArray();
+        }
+    }
+
+    private RefreshCommands() {}
+
+    /**
+     * 토큰 키 (새 형식: auth:refresh:token:{<tag>}:<uuid> / 이전 형식: auth:refresh:token:<uuid>)
+     */
+    static String tokenKey(String token) {
+        String tag = RefreshTokens.tag(token);
+        if (tag == null) return TOKEN_PREFIX + token;
+        return TOKEN_PREFIX + hashTag(tag) + ":" + token.substring(tag.length() + 1);
+    }
+
+    static String activeKey(UserRole role, long userId) {
+        return ACTIVE_PREFIX + hashTag(RefreshTokens.ownerTag(role, userId));
+    }
+
+    static String sessionsKey(UserRole role, long userId) {
+        return SESSIONS_PREFIX + hashTag(RefreshTokens.ownerTag(role, userId));
+    }
+
+    static String versionKey(UserRole role, long userId) {
+        return VERSION_PREFIX + hashTag(RefreshTokens.ownerTag(role, userId));
+    }
+
+    /**
+     * 토큰 형식에 맞는 ACTIVE 키 (이전 형식 토큰은 이전 ACTIVE 키에 등록돼 있음)
+     */
+    static String activeKeyOf(String token, UserRole role, long userId) {
+        return RefreshTokens.legacy(token) ? legacyActiveKey(role, userId) : activeKey(role, userId);
+    }
+
+    /**
+     * 싱글세션 로테이션이 바꾸는 ACTIVE 키 (새 토큰의 키 + 이전 형식 토큰을 옮긴 경우 이전 형식 키)
+     * - newToken은 항상 새 형식 (RefreshTokens.next / issue)
+     */
+    static List<String> rotatedActiveKeys(String refreshToken, String newToken) {
+        String tag = RefreshTokens.tag(newToken);
+        String activeKey = ACTIVE_PREFIX + hashTag(tag);
+        if (!RefreshTokens.legacy(refreshToken)) return List.of(activeKey);
+        return List.of(activeKey, legacyActiveKey(RefreshTokens.ownerRole(tag), RefreshTokens.ownerId(tag)));
+    }
+
+    /**
+     * 이전 형식 키 (해시 태그 없음, 마이그레이션 기간에만 사용)
+     */
+    static String legacyActiveKey(UserRole role, long userId) {
+        return ACTIVE_PREFIX + role.name() + ":" + userId;
+    }
+
+    static String legacySessionsKey(UserRole role, long userId) {
+        return SESSIONS_PREFIX + role.name() + ":" + userId;
+    }
+
+    /**
+     * 싱글세션 발급 (기존 토큰 폐기 + 새 토큰/ACTIVE 저장)
+     * @param legacyKeys 이전 형식 ACTIVE 포인터도 함께 삭제 (다른 슬롯이라 단일 노드에서만)
+     */
+    static ScriptCall<Long> issueSingle(UserRole role, long userId, String newToken, byte[] payload, long ttl, boolean legacyKeys) {
+        List<String> keys = legacyKeys
+                ? List.of(activeKey(role, userId), tokenKey(newToken), legacyActiveKey(role, userId))
+                : List.of(activeKey(role, userId), tokenKey(newToken));
+        return new ScriptCall<>(
+                RefreshScripts.ISSUE,
+                keys,
+                List.of(arg(newToken), payload, arg(ttl))
+        );
+    }
+
+    /**
+     * 싱글세션 로테이션 (검증 + 교체)
+     * - newToken은 refreshToken과 같은 사용자 tag (이전 형식 토큰이면 새 형식으로 옮겨짐)
+     */
+    static ScriptCall<byte[]> rotateSingle(String refreshToken, String newToken, long now, long ttl) {
+        return new ScriptCall<>(
+                RefreshScripts.ROTATE,
+                List.of(tokenKey(refreshToken), tokenKey(newToken)),
+                List.of(arg(refreshToken), arg(newToken), arg(now), arg(ttl))
+        );
+    }
+
+    /**
+     * 멀티세션 발급 (+ maxSessions 초과분 폐기)
+     */
+    static ScriptCall<Long> issueSession(long userId, UserRole role, String newToken, byte[] payload, long now, long ttl, int maxSessions) {
+        return new ScriptCall<>(
+                RefreshScripts.ISSUE_SESSION,
+                List.of(sessionsKey(role, userId), tokenKey(newToken)),
+                List.of(arg(newToken), payload, arg(now), arg(ttl), arg(maxSessions))
+        );
+    }
+
+    /**
+     * 멀티세션 로테이션 (해당 기기 세션만 교체)
+     */
+    static ScriptCall<byte[]> rotateSession(String refreshToken, String newToken, long now, long ttl) {
+        return new ScriptCall<>(
+                RefreshScripts.ROTATE_SESSION,
+                List.of(tokenKey(refreshToken), tokenKey(newToken)),
+                List.of(arg(refreshToken), arg(newToken), arg(now), arg(ttl))
+        );
+    }
+
+    /**
+     * 세션 하나 폐기
+     */
+    static ScriptCall<Long> revokeSession(String refreshToken) {
+        return new ScriptCall<>(
+                RefreshScripts.REVOKE_SESSION,
+                List.of(tokenKey(refreshToken)),
+                List.of(arg(refreshToken))
+        );
+    }
+
+    /**
+     * 사용자의 모든 세션 폐기 (싱글/멀티)
+     * @param legacyKeys 이전 형식 키도 함께 정리 (다른 슬롯이라 단일 노드에서만)
+     */
+    static ScriptCall<Long> logoutAll(long userId, UserRole role, boolean legacyKeys) {
+        List<String> keys = legacyKeys
+                ? List.of(sessionsKey(role, userId), activeKey(role, userId), legacySessionsKey(role, userId), legacyActiveKey(role, userId))
+                : List.of(sessionsKey(role, userId), activeKey(role, userId));
+        return new ScriptCall<>(RefreshScripts.LOGOUT_ALL, keys, List.of());
+    }
+
+    /**
+     * 서명된 토큰 발급: 버전 = max(현재 + 1, floor)
+     */
+    static ScriptCall<Long> issueVersion(UserRole role, long userId, long floor, long ttl) {
+        return new ScriptCall<>(
+                RefreshScripts.ISSUE_VERSION,
+                List.of(versionKey(role, userId)),
+                List.of(arg(floor), arg(ttl), arg(RefreshVersionCache.CHANNEL), arg(RefreshTokens.ownerTag(role, userId)))
+        );
+    }
+
+    /**
+     * 서명된 토큰 교체/로그아웃: 현재 버전이 expected일 때만 1 올림
+     */
+    static ScriptCall<Long> rotateVersion(UserRole role, long userId, long expected, long ttl) {
+        return new ScriptCall<>(
+                RefreshScripts.ROTATE_VERSION,
+                List.of(versionKey(role, userId)),
+                List.of(arg(expected), arg(ttl), arg(RefreshVersionCache.CHANNEL), arg(RefreshTokens.ownerTag(role, userId)))
+        );
+    }
+
+    /**
+     * 서명된 토큰 전체 폐기 (버전이 있으면 1 올림)
+     */
+    static ScriptCall<Long> revokeVersion(UserRole role, long userId) {
+        return new ScriptCall<>(
+                RefreshScripts.REVOKE_VERSION,
+                List.of(versionKey(role, userId)),
+                List.of(arg(RefreshVersionCache.CHANNEL), arg(RefreshTokens.ownerTag(role, userId)))
+        );
+    }
+
+    private static String hashTag(String tag) {
+        return "{" + tag + "}";
+    }
+
+    private static byte[] arg(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * refresh 토큰 Lua 스크립트 모음
+ * - payload 형식(JSON/바이너리)을 해석하는 공통 함수(redis/lib/refresh-payload.lua)를 각 스크립트 앞에 붙여서 로드
+ *   (키 prefix도 로드할 때 채움 -> 스크립트가 토큰/사용자 키를 RefreshCommands와 같은 규칙으로 구성)
+ * - 실행은 EVALSHA, 서버에 없으면 EVAL로 자동 재시도 (RedisTemplate.execute)
+ */
+final class RefreshScripts {
+
+    private static final String PAYLOAD_LIB = "redis/lib/refresh-payload.lua";
+
+    // 싱글세션: 발급(+기존 토큰 폐기) / 로테이션 (검증 + 교체)
+    static final RedisScript<Long> ISSUE = load("redis/issue-refresh-token.lua", Long.class);
+    static final RedisScript<byte[]> ROTATE = load("redis/rotate-refresh-token.lua", byte[].class);
+
+    // 멀티세션: 발급(+오래된 세션 폐기) / 로테이션 / 단건 폐기 / 전체 폐기
+    static final RedisScript<Long> ISSUE_SESSION = load("redis/issue-refresh-session.lua", Long.class);
+    static final RedisScript<byte[]> ROTATE_SESSION = load("redis/rotate-refresh-session.lua", byte[].class);
+    static final RedisScript<Long> REVOKE_SESSION = load("redis/revoke-refresh-session.lua", Long.class);
+    static final RedisScript<Long> LOGOUT_ALL = load("redis/logout-all-refresh-sessions.lua", Long.class);
+
+    // 서명된 토큰: 사용자 세션 버전 발급 / 교체(compare-and-increment) / 전체 폐기 (payload를 다루지 않아 공통 함수 없이 로드)
+    static final RedisScript<Long> ISSUE_VERSION = loadStandalone("redis/issue-refresh-version.lua", Long.class);
+    static final RedisScript<Long> ROTATE_VERSION = loadStandalone("redis/rotate-refresh-version.lua", Long.class);
+    static final RedisScript<Long> REVOKE_VERSION = loadStandalone("redis/revoke-refresh-version.lua", Long.class);
+
+    private RefreshScripts() {}
+
+    private static <T> RedisScript<T> load(String path, Class<T> resultType) {
+        String lib = read(PAYLOAD_LIB)
+                .replace("__ROLES__", rolesTable())
+                .replace("__TOKEN_PREFIX__", RefreshCommands.TOKEN_PREFIX)
+                .replace("__ACTIVE_PREFIX__", RefreshCommands.ACTIVE_PREFIX)
+                .replace("__SESSIONS_PREFIX__", RefreshCommands.SESSIONS_PREFIX);
+        return RedisScript.of(lib + "\n" + read(path), resultType);
+    }
+
+    private static <T> RedisScript<T> loadStandalone(String path, Class<T> resultType) {
+        return RedisScript.of(read(path), resultType);
+    }
+
+    /**
+     * UserRole.values() -> Lua 배열 리터럴 ({'CUSTOMER','OWNER'})
+     */
+    private static String rolesTable() {
+        return Arrays.stream(UserRole.values())
+                .map(r -> "'" + r.name() + "'")
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    private static String read(String path) {
+        try {
+            return new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load redis script: " + path, e);
+        }
+    }
+}
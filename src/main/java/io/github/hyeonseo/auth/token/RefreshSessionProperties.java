@@ -0,0 +1,22 @@
+package io.github.hyeonseo.auth.token;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.auth.refresh")
+public record RefreshSessionProperties(
+        Mode mode,        // SINGLE: 사용자당 세션 1개 (새 로그인 시 기존 기기 로그아웃) / MULTI: 기기별 세션
+                          // SIGNED: SINGLE과 같은 정책, 토큰은 서명된 JWT + 저장소에는 사용자별 버전 카운터만
+        int maxSessions,  // MULTI에서 사용자당 최대 세션 수 (넘으면 가장 오래된 세션부터 폐기)
+        Boolean legacyKeys // 해시 태그 없는 이전 형식 토큰/키도 인정 (재발급 시 새 형식으로 이전, 단일 노드 전용)
+) {
+
+    public enum Mode {
+        SINGLE, MULTI, SIGNED
+    }
+
+    public RefreshSessionProperties {
+        if (mode == null) mode = Mode.SINGLE;
+        if (maxSessions <= 0) maxSessions = 5;
+        if (legacyKeys == null) legacyKeys = true;
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+
+/**
+ * refresh 토큰 저장소 SPI (RefreshTokenService가 사용)
+ * - token -> payload, (role, userId) -> 현재 토큰(싱글세션) / 세션 목록(멀티세션) / 세션 버전(서명된 토큰)
+ * - 여러 키를 함께 바꾸는 연산(교체/폐기)은 구현체가 원자적으로 처리 (Redis: Lua 스크립트 / 메모리: 사용자별 락)
+ * - 구현: RedisRefreshSessionStore (기본) / InMemoryRefreshSessionStore (단일 서버, 테스트)
+ */
+public interface RefreshSessionStore {
+
+    /**
+     * @return 저장된 payload (없거나 만료됐으면 null)
+     */
+    byte[] get(String token);
+
+    /**
+     * @return 싱글세션 현재 토큰 (없으면 null)
+     */
+    String activeToken(UserRole role, long userId);
+
+    /**
+     * token이 싱글세션 현재 토큰인지 확인 (구현체가 캐시를 둘 수 있는 지점)
+     */
+    default boolean isActive(UserRole role, long userId, String token) {
+        return token.equals(activeToken(role, userId));
+    }
+
+    /**
+     * 토큰 키만 삭제
+     */
+    void delete(String token);
+
+    /**
+     * 싱글세션 현재 토큰 포인터 삭제
+     */
+    void clearActive(UserRole role, long userId);
+
+    /**
+     * 싱글세션 발급: 기존 현재 토큰 폐기 + 새 토큰 저장 + 현재 토큰 갱신 (같은 TTL)
+     */
+    void issueSingle(UserRole role, long userId, String token, byte[] payload, long ttlSeconds);
+
+    /**
+     * 싱글세션 교체 (검증 + 교체, 원자적)
+     * - 현재 토큰이 아니면 기존 토큰을 삭제하고 실패
+     * @return 발급 시각만 바뀐 새 payload (실패 시 null)
+     */
+    byte[] rotateSingle(String token, String newToken, long issuedAtEpochSec, long ttlSeconds);
+
+    /**
+     * 멀티세션 발급 (+ maxSessions 초과분은 오래된 세션부터 폐기)
+     * @return 밀려나서 폐기된 세션 수
+     */
+    long issueSession(UserRole role, long userId, String token, byte[] payload, long issuedAtEpochSec, long ttlSeconds, int maxSessions);
+
+    /**
+     * 멀티세션 교체 (해당 세션만, 싱글세션 현재 토큰이면 세션 목록으로 옮김)
+     * @return 발급 시각만 바뀐 새 payload (실패 시 null)
+     */
+    byte[] rotateSession(String token, String newToken, long issuedAtEpochSec, long ttlSeconds);
+
+    /**
+     * 세션 하나 폐기 (토큰 + 세션 목록 항목 + 현재 토큰이면 포인터도)
+     * @return 폐기했으면 true (이미 없으면 false)
+     */
+    boolean revokeSession(String token);
+
+    /**
+     * 사용자의 모든 세션 폐기 (싱글/멀티)
+     * @return 폐기한 세션 수
+     */
+    long revokeAll(UserRole role, long userId);
+
+    /**
+     * @return 서명된 토큰용 사용자 세션 버전 (없거나 만료됐으면 0)
+     */
+    long currentVersion(UserRole role, long userId);
+
+    /**
+     * version이 현재 버전인지 확인 (구현체가 캐시를 둘 수 있는 지점)
+     */
+    default boolean isCurrentVersion(UserRole role, long userId, long version) {
+        return version == currentVersion(role, userId);
+    }
+
+    /**
+     * 서명된 토큰 발급: 버전 = max(현재 + 1, floor) (이전 버전 토큰은 모두 무효)
+     * @param floor 최소 버전 (발급 시각 epoch ms -> 만료로 버전이 사라진 뒤에도 버전이 되돌아가지 않음)
+     * @return 새 버전
+     */
+    long issueVersion(UserRole role, long userId, long floor, long ttlSeconds);
+
+    /**
+     * 서명된 토큰 교체/로그아웃: 현재 버전이 expected일 때만 1 올림 (원자적)
+     * @return 새 버전 (현재 버전이 아니면 0)
+     */
+    long rotateVersion(UserRole role, long userId, long expected, long ttlSeconds);
+
+    /**
+     * 서명된 토큰 전체 폐기 (버전이 있으면 1 올림, TTL 유지)
+     * @return 폐기했으면 true (버전이 없으면 false)
+     */
+    boolean revokeVersion(UserRole role, long userId);
+}
@@ -0,0 +1,60 @@
+package io.github.hyeonseo.auth.token;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.codec.JsonPayloadCodec;
+import io.github.hyeonseo.auth.common.codec.PayloadCodec;
+import io.github.hyeonseo.auth.common.codec.PayloadCodecProperties;
+import io.github.hyeonseo.auth.common.codec.PayloadFormat;
+import io.github.hyeonseo.auth.common.codec.VarInts;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.token.RefreshTokenService.RefreshTokenPayload;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * refresh 토큰 payload 코덱
+ * 바이너리 v1: [0x01][role ordinal][varint userId][varint issuedAtEpochSec]
+ * - JSON(약 60바이트) 대비 보통 8~12바이트
+ * - issuedAt을 마지막에 두어 Lua 로테이션 스크립트가 앞부분을 그대로 두고 발급 시각만 교체할 수 있게 함
+ * - UserRole 순서(ordinal)가 저장 형식에 들어가므로 enum 순서를 바꾸면 안 됨 (추가는 맨 뒤에)
+ */
+@Component
+public class RefreshTokenPayloadCodec implements PayloadCodec<RefreshTokenPayload> {
+
+    static final byte VERSION_1 = 0x01;
+
+    private static final UserRole[] ROLES = UserRole.values();
+
+    private final JsonPayloadCodec<RefreshTokenPayload> json;
+    private final PayloadFormat format;
+
+    public RefreshTokenPayloadCodec(ObjectMapper objectMapper, PayloadCodecProperties props) {
+        this.json = new JsonPayloadCodec<>(objectMapper, RefreshTokenPayload.class);
+        this.format = props.format();
+    }
+
+    @Override
+    public byte[] encode(RefreshTokenPayload payload) {
+        if (format == PayloadFormat.JSON) return json.encode(payload);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16);
+        out.write(VERSION_1);
+        out.write(payload.role().ordinal());
+        VarInts.write(out, payload.userId());
+        VarInts.write(out, payload.issuedAtEpochSec());
+        return out.toByteArray();
+    }
+
+    @Override
+    public RefreshTokenPayload decode(byte[] bytes) {
+        if (JsonPayloadCodec.isJson(bytes)) return json.decode(bytes); // 형식 전환 전 저장된 값
+        if (bytes.length < 4 || bytes[0] != VERSION_1) throw new IllegalStateException("Unknown refresh token payload format");
+
+        int[] pos = {2};
+        UserRole role = ROLES[bytes[1]];
+        long userId = VarInts.read(bytes, pos);
+        long issuedAt = VarInts.read(bytes, pos);
+        return new RefreshTokenPayload(userId, role, issuedAt);
+    }
+}
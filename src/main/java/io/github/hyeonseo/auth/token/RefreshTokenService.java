@@ -1,28 +1,58 @@
 package io.github.hyeonseo.auth.token;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.token.SignedRefreshTokens.SignedRefreshToken;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.time.Instant;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-    private static final String TOKEN_PREFIX = "auth:refresh:token:";   // token -> payload
-    private static final String ACTIVE_PREFIX = "auth:refresh:active:"; // (role:id) -> token (싱글세션용)
-
-    private final StringRedisTemplate redis;
-    private final ObjectMapper objectMapper;
+    private final RefreshSessionStore store; // token -> payload, ACTIVE 포인터, 세션 목록 (app.store.type)
+    private final RefreshTokenPayloadCodec codec;
     private final JwtProperties props;
+    private final RefreshSessionProperties sessionProps;
+    private final SignedRefreshTokens signedTokens; // app.auth.refresh.mode=SIGNED
 
     public record RefreshTokenPayload(long userId, UserRole role, long issuedAtEpochSec) {}
     public record IssuedRefreshToken(String token, long ttlSeconds) {}
+    public record RotatedRefreshToken(String token, long ttlSeconds, RefreshTokenPayload payload) {}
+
+    /**
+     * 로그인/회원가입 시 refresh 발급 (app.auth.refresh.mode 정책에 따라)
+     */
+    public IssuedRefreshToken issue(long userId, UserRole role) {
+        return switch (sessionProps.mode()) {
+            case SINGLE -> issueSingleSession(userId, role);
+            case MULTI -> issueMultiSession(userId, role);
+            case SIGNED -> issueSignedSession(userId, role);
+        };
+    }
+
+    /**
+     * 재발급 (app.auth.refresh.mode 정책에 따라)
+     */
+    public RotatedRefreshToken rotate(String refreshToken) {
+        return switch (sessionProps.mode()) {
+            case SINGLE -> rotateSingleSession(refreshToken);
+            case MULTI -> rotateMultiSession(refreshToken);
+            case SIGNED -> rotateSignedSession(refreshToken);
+        };
+    }
+
+    /**
+     * 현재 기기 로그아웃 (app.auth.refresh.mode 정책에 따라)
+     */
+    public void logout(String refreshToken) {
+        switch (sessionProps.mode()) {
+            case SINGLE -> logoutSingleSession(refreshToken);
+            case MULTI -> revokeSession(refreshToken);
+            case SIGNED -> logoutSignedSession(refreshToken);
+        }
+    }
 
     /**
      * 한 사용자당 refresh 토큰 1개만 유지
@@ -32,26 +62,12 @@ public class RefreshTokenService {
      * @return
      */
     public IssuedRefreshToken issueSingleSession(long userId, UserRole role) {
-        String activeKey = ACTIVE_PREFIX + role.name() + ":" + userId;
-
-        // 기존 토큰 있으면 폐기
-        String oldToken = redis.opsForValue().get(activeKey);
-        if (oldToken != null && !oldToken.isBlank()) {
-            redis.delete(TOKEN_PREFIX + oldToken);
-        }
-
-        String newToken = UUID.randomUUID().toString();
-        String tokenKey = TOKEN_PREFIX + newToken;
-
+        String newToken = RefreshTokens.issue(role, userId);
         RefreshTokenPayload payload = new RefreshTokenPayload(userId, role, Instant.now().getEpochSecond());
-
         long ttl = props.refreshTtlSeconds();
-        Duration duration = Duration.ofSeconds(ttl);
 
         try {
-            String json = objectMapper.writeValueAsString(payload);
-            redis.opsForValue().set(tokenKey, json, duration);
-            redis.opsForValue().set(activeKey, newToken, duration); // activeKey도 같은 TTL
+            store.issueSingle(role, userId, newToken, codec.encode(payload), ttl); // 기존 토큰 폐기 + 새 토큰/ACTIVE 저장
             return new IssuedRefreshToken(newToken, ttl);
         } catch (Exception e) {
             throw new IllegalStateException("Failed to issue refresh token", e);
@@ -59,91 +75,186 @@ public class RefreshTokenService {
     }
 
     public RefreshTokenPayload verify(String refreshToken) {
-        String tokenKey = TOKEN_PREFIX + refreshToken;
+        if (sessionProps.mode() == RefreshSessionProperties.Mode.SIGNED) return verifySignedSession(refreshToken);
+        if (!accepted(refreshToken)) return null;
 
-        String json = redis.opsForValue().get(tokenKey);
-        if (json == null) return null;
+        byte[] stored = store.get(refreshToken);
+        if (stored == null) return null;
 
         try {
-            RefreshTokenPayload payload = objectMapper.readValue(json, RefreshTokenPayload.class);
+            RefreshTokenPayload payload = codec.decode(stored);
 
-            String activeKey = ACTIVE_PREFIX + payload.role().name() + ":" + payload.userId();
-            String activeToken = redis.opsForValue().get(activeKey);
+            // 멀티세션은 폐기/밀려난 세션의 토큰 키를 바로 지우므로 토큰 키가 있으면 유효
+            if (sessionProps.mode() == RefreshSessionProperties.Mode.MULTI) return payload;
 
             // ACTIVE에 등록된 토큰과 다르면(= 구세션/비정상) 바로 무효 처리
-            if (activeToken == null || !refreshToken.equals(activeToken)) {
-                redis.delete(tokenKey);
+            if (!store.isActive(payload.role(), payload.userId(), refreshToken)) {
+                store.delete(refreshToken);
                 return null;
             }
 
             return payload;
         } catch (Exception e) {
-            redis.delete(TOKEN_PREFIX + refreshToken);
+            store.delete(refreshToken);
             return null;
         }
     }
 
     /**
      * refresh 로테이션 (쿠키 기반 재발급에서 사용)
-     * 1) refreshToken -> payload 검증
+     * 저장소가 원자적으로 처리 (Redis: Lua 스크립트 한 번, 네트워크 왕복 1회)
+     * 1) refreshToken -> payload 조회
      * 2) ACTIVE(role:id)에 저장된 "현재 토큰"인지 확인
-     * 3) 새 토큰 발급 + TOKEN/ACTIVE 갱신 + 기존 토큰 삭제
+     * 3) 새 토큰 저장 + ACTIVE 갱신 + 기존 토큰 삭제
+     * - 동시에 두 탭에서 재발급해도 한쪽만 성공 (나머지는 null)
+     * @return 새 토큰 + 검증된 payload (실패 시 null)
      */
-    public IssuedRefreshToken rotateSingleSession(String refreshToken) {
+    public RotatedRefreshToken rotateSingleSession(String refreshToken) {
+        String newToken = nextToken(refreshToken);
+        if (newToken == null) return null;
+        long ttl = props.refreshTtlSeconds();
+
+        byte[] rotated = store.rotateSingle(refreshToken, newToken, Instant.now().getEpochSecond(), ttl);
+        if (rotated == null) return null;
+
+        try {
+            RefreshTokenPayload payload = codec.decode(rotated);
+            return new RotatedRefreshToken(newToken, ttl, payload);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to rotate refresh token", e);
+        }
+    }
+
+    /**
+     * 로그아웃용: TOKEN/ACTIVE 둘 다 제거
+     * - 로그아웃은 여러 번 호출되어도 성공(idempotent)하는 게 UX가 좋음
+     */
+    public void logoutSingleSession(String refreshToken) {
         RefreshTokenPayload payload = verify(refreshToken);
-        if (payload == null) return null;
 
-        String activeKey = ACTIVE_PREFIX + payload.role().name() + ":" + payload.userId();
-        String activeToken = redis.opsForValue().get(activeKey);
+        store.delete(refreshToken);
 
-        // ACTIVE에 등록된 토큰이 아니면 -> 무효 처리
-        if (activeToken == null || !activeToken.equals(refreshToken)) {
-            // 방어적으로 tokenKey도 삭제 시도(있으면)
-            redis.delete(TOKEN_PREFIX + refreshToken);
-            return null;
+        if (payload != null) {
+            store.clearActive(payload.role(), payload.userId());
         }
+    }
+
+    /**
+     * 멀티 디바이스 세션 발급
+     * - 사용자별 세션 인덱스(ZSET)에 등록, maxSessions를 넘으면 가장 오래된 세션부터 폐기
+     * - 인덱스 정리/토큰 저장/폐기를 원자적으로 처리
+     */
+    public IssuedRefreshToken issueMultiSession(long userId, UserRole role) {
+        String newToken = RefreshTokens.issue(role, userId);
+        long now = Instant.now().getEpochSecond();
+        long ttl = props.refreshTtlSeconds();
 
-        // 새 토큰 발급
-        String newToken = UUID.randomUUID().toString();
-        String newTokenKey = TOKEN_PREFIX + newToken;
+        try {
+            byte[] payload = codec.encode(new RefreshTokenPayload(userId, role, now));
+            store.issueSession(role, userId, newToken, payload, now, ttl, sessionProps.maxSessions());
+            return new IssuedRefreshToken(newToken, ttl);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to issue refresh token", e);
+        }
+    }
 
+    /**
+     * 멀티 디바이스 세션 로테이션 (해당 기기 세션만 교체)
+     * - 싱글세션으로 발급된 토큰도 ACTIVE와 일치하면 인덱스로 옮기면서 교체
+     * @return 새 토큰 + 검증된 payload (실패 시 null)
+     */
+    public RotatedRefreshToken rotateMultiSession(String refreshToken) {
+        String newToken = nextToken(refreshToken);
+        if (newToken == null) return null;
         long ttl = props.refreshTtlSeconds();
-        Duration duration = Duration.ofSeconds(ttl);
 
-        RefreshTokenPayload newPayload =
-                new RefreshTokenPayload(payload.userId(), payload.role(), Instant.now().getEpochSecond());
+        byte[] rotated = store.rotateSession(refreshToken, newToken, Instant.now().getEpochSecond(), ttl);
+        if (rotated == null) return null;
 
         try {
-            String json = objectMapper.writeValueAsString(newPayload);
-
-            // 1) 새 토큰 저장
-            redis.opsForValue().set(newTokenKey, json, duration);
+            RefreshTokenPayload payload = codec.decode(rotated);
+            return new RotatedRefreshToken(newToken, ttl, payload);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to rotate refresh token", e);
+        }
+    }
 
-            // 2) ACTIVE 갱신
-            redis.opsForValue().set(activeKey, newToken, duration);
+    /**
+     * 세션 하나만 폐기 (토큰 키 + 인덱스 항목) - 다른 기기 세션은 유지
+     * - 여러 번 호출해도 성공(idempotent)
+     */
+    public void revokeSession(String refreshToken) {
+        if (!accepted(refreshToken)) return;
+        store.revokeSession(refreshToken);
+    }
 
-            // 3) 기존 토큰 폐기
-            redis.delete(TOKEN_PREFIX + refreshToken);
+    /**
+     * 서명된 refresh 발급 (사용자당 세션 1개, 저장소에는 버전 카운터만)
+     * - 버전을 올리므로 기존 토큰은 무효화
+     */
+    public IssuedRefreshToken issueSignedSession(long userId, UserRole role) {
+        Instant now = Instant.now();
+        long ttl = props.refreshTtlSeconds();
 
-            return new IssuedRefreshToken(newToken, ttl);
+        try {
+            long version = store.issueVersion(role, userId, now.toEpochMilli(), ttl);
+            RefreshTokenPayload payload = new RefreshTokenPayload(userId, role, now.getEpochSecond());
+            return new IssuedRefreshToken(signedTokens.sign(payload, version, ttl), ttl);
         } catch (Exception e) {
-            throw new IllegalStateException("Failed to rotate refresh token", e);
+            throw new IllegalStateException("Failed to issue refresh token", e);
         }
     }
 
     /**
-     * 로그아웃용: TOKEN/ACTIVE 둘 다 제거
-     * - 로그아웃은 여러 번 호출되어도 성공(idempotent)하는 게 UX가 좋음
+     * 서명된 토큰 검증: 서명/만료 확인 + 토큰 버전이 현재 버전인지 (payload 조회 없음, 캐시가 있으면 Redis 조회도 없음)
      */
-    public void logoutSingleSession(String refreshToken) {
-        RefreshTokenPayload payload = verify(refreshToken);
+    public RefreshTokenPayload verifySignedSession(String refreshToken) {
+        SignedRefreshToken parsed = signedTokens.parse(refreshToken);
+        if (parsed == null) return null;
 
-        redis.delete(TOKEN_PREFIX + refreshToken);
+        RefreshTokenPayload payload = parsed.payload();
+        return store.isCurrentVersion(payload.role(), payload.userId(), parsed.version()) ? payload : null;
+    }
 
-        if (payload != null) {
-            String activeKey = ACTIVE_PREFIX + payload.role().name() + ":" + payload.userId();
-            redis.delete(activeKey);
+    /**
+     * 서명된 토큰 로테이션: 토큰 버전이 현재 버전일 때만 버전을 올리고 새 버전으로 서명
+     * - 동시에 두 탭에서 재발급해도 한쪽만 성공, 교체된 토큰을 다시 쓰면 실패 (null)
+     */
+    public RotatedRefreshToken rotateSignedSession(String refreshToken) {
+        SignedRefreshToken parsed = signedTokens.parse(refreshToken);
+        if (parsed == null) return null;
+
+        RefreshTokenPayload old = parsed.payload();
+        long ttl = props.refreshTtlSeconds();
+
+        long version = store.rotateVersion(old.role(), old.userId(), parsed.version(), ttl);
+        if (version == 0) return null;
+
+        RefreshTokenPayload payload = new RefreshTokenPayload(old.userId(), old.role(), Instant.now().getEpochSecond());
+        return new RotatedRefreshToken(signedTokens.sign(payload, version, ttl), ttl, payload);
+    }
+
+    /**
+     * 서명된 토큰 로그아웃: 현재 토큰이면 버전만 올려서 무효화 (idempotent)
+     */
+    public void logoutSignedSession(String refreshToken) {
+        SignedRefreshToken parsed = signedTokens.parse(refreshToken);
+        if (parsed == null) return;
+
+        RefreshTokenPayload payload = parsed.payload();
+        store.rotateVersion(payload.role(), payload.userId(), parsed.version(), props.refreshTtlSeconds());
+    }
+
+    /**
+     * 사용자의 모든 기기 로그아웃 (싱글/멀티 세션 모두, SIGNED면 버전을 올려서)
+     * - 세션 인덱스로 토큰을 찾으므로 키스페이스 SCAN 없음
+     * @return 폐기한 세션 수
+     */
+    public long logoutAll(long userId, UserRole role) {
+        if (sessionProps.mode() == RefreshSessionProperties.Mode.SIGNED) {
+            return store.revokeVersion(role, userId) ? 1 : 0;
         }
+        return store.revokeAll(role, userId);
     }
 
     /**
@@ -154,4 +265,31 @@ public class RefreshTokenService {
         return props.refreshTtlSeconds();
     }
 
+    /**
+     * 로테이션할 새 토큰 (같은 사용자 tag -> 같은 슬롯)
+     * - 이전 형식 토큰은 tag가 없으므로 payload에서 사용자를 읽어서 새 형식으로 발급 (마이그레이션 기간에만 조회 1회 추가)
+     * @return 새 토큰 (이전 형식 토큰을 인정하지 않거나 없는 토큰이면 null)
+     */
+    private String nextToken(String refreshToken) {
+        String next = RefreshTokens.next(refreshToken);
+        if (next != null || !accepted(refreshToken)) return next;
+
+        byte[] stored = store.get(refreshToken);
+        if (stored == null) return null;
+        try {
+            RefreshTokenPayload payload = codec.decode(stored);
+            return RefreshTokens.issue(payload.role(), payload.userId());
+        } catch (Exception e) {
+            store.delete(refreshToken);
+            return null;
+        }
+    }
+
+    /**
+     * 이전 형식 토큰은 app.auth.refresh.legacy-keys 동안만 인정
+     */
+    private boolean accepted(String refreshToken) {
+        return sessionProps.legacyKeys() || !RefreshTokens.legacy(refreshToken);
+    }
+
 }
@@ -0,0 +1,61 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+
+import java.util.UUID;
+
+/**
+ * refresh 토큰 문자열 형식: "<tag>.<uuid>"
+ * - tag = role ordinal + userId (10진) -> 토큰만 보고 사용자 키와 같은 해시 태그(= 클러스터 슬롯)를 구할 수 있음
+ * - 이전 형식(UUID만, '.' 없음) 토큰은 tag가 없음 (app.auth.refresh.legacy-keys 동안만 인정)
+ * - Lua 스크립트(redis/lib/refresh-payload.lua)도 같은 규칙으로 키를 구성
+ */
+final class RefreshTokens {
+
+    static final char SEPARATOR = '.';
+
+    private RefreshTokens() {}
+
+    /**
+     * 새 토큰 발급 (로그인/회원가입)
+     */
+    static String issue(UserRole role, long userId) {
+        return ownerTag(role, userId) + SEPARATOR + UUID.randomUUID();
+    }
+
+    /**
+     * 로테이션할 새 토큰 (같은 사용자 -> 같은 tag)
+     * @return 이전 형식 토큰이면 null (payload에서 사용자를 읽어서 issue로 발급해야 함)
+     */
+    static String next(String token) {
+        String tag = tag(token);
+        return tag != null ? tag + SEPARATOR + UUID.randomUUID() : null;
+    }
+
+    /**
+     * @return 토큰의 tag (이전 형식이면 null)
+     */
+    static String tag(String token) {
+        int separator = token.indexOf(SEPARATOR);
+        return separator > 0 ? token.substring(0, separator) : null;
+    }
+
+    static boolean legacy(String token) {
+        return tag(token) == null;
+    }
+
+    static String ownerTag(UserRole role, long userId) {
+        return role.ordinal() + Long.toString(userId); // role이 10개를 넘으면 형식 변경 필요
+    }
+
+    /**
+     * ownerTag의 반대 (tag 첫 글자 = role ordinal)
+     */
+    static UserRole ownerRole(String tag) {
+        return UserRole.values()[tag.charAt(0) - '0'];
+    }
+
+    static long ownerId(String tag) {
+        return Long.parseLong(tag, 1, tag.length(), 10);
+    }
+}
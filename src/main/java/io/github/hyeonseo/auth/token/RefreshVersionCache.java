@@ -0,0 +1,67 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.store.BoundedMap;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 사용자별 refresh 세션 버전(auth:refresh:version:{tag}) 프로세스 내 캐시 (app.auth.refresh.mode=SIGNED)
+ * - 버전을 바꾸는 스크립트가 CHANNEL로 "<tag>:<version>"을 PUBLISH -> 모든 서버가 받아서 갱신
+ * - 버전은 증가만 하므로 항상 큰 값으로 합침 (메시지/조회 결과가 늦게 도착해도 되돌아가지 않음)
+ * - pub/sub은 전달 보장이 없어서 (재연결 중 등) 엔트리는 localTtl 뒤 만료 -> 그 이상 옛 버전을 믿지 않음
+ */
+public class RefreshVersionCache implements MessageListener {
+
+    public static final String CHANNEL = "auth:refresh:version";
+
+    private final long localTtlMillis;
+
+    private final BoundedMap<String, Entry> local;
+
+    private record Entry(long version, long expiresAtMillis) {}
+
+    public RefreshVersionCache(RefreshVersionCacheProperties props) {
+        this.localTtlMillis = props.localTtlSeconds() * 1000;
+        this.local = new BoundedMap<>(props.maxSize(), Entry::expiresAtMillis);
+    }
+
+    /**
+     * @return 캐시된 버전 (없거나 만료됐으면 0)
+     */
+    public long get(String tag) {
+        Entry e = local.get(tag);
+        if (e == null) return 0;
+        if (e.expiresAtMillis() > System.currentTimeMillis()) return e.version();
+        local.remove(tag, e);
+        return 0;
+    }
+
+    /**
+     * Redis에서 읽었거나 이 서버에서 바꾼 버전 (기존 값보다 클 때만 반영)
+     */
+    public void advance(String tag, long version) {
+        if (version <= 0) return;
+        long now = System.currentTimeMillis();
+        local.merge(tag, new Entry(version, now + localTtlMillis),
+                (old, e) -> old.version() > e.version() ? new Entry(old.version(), e.expiresAtMillis()) : e);
+    }
+
+    /**
+     * 다른 서버(또는 이 서버)의 스크립트가 보낸 "<tag>:<version>"
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator <= 0) return;
+        try {
+            advance(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException ignored) {} // 다른 형식의 메시지는 무시
+    }
+
+    public int size() {
+        return local.size();
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.hyeonseo.auth.token;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.auth.refresh.version-cache")
+public record RefreshVersionCacheProperties(
+        boolean enabled,       // 기본 off (app.auth.refresh.mode=SIGNED + app.store.type=REDIS, 서블릿 모드에서만)
+        int maxSize,           // 최대 엔트리 수 (넘으면 일부 정리 후 다시 Redis에서 읽음)
+        long localTtlSeconds   // 엔트리 유지 시간 (pub/sub 메시지를 놓쳤을 때 옛 버전을 믿는 최대 시간)
+) {
+
+    public RefreshVersionCacheProperties {
+        if (maxSize <= 0) maxSize = 100_000;
+        if (localTtlSeconds <= 0) localTtlSeconds = 30;
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.token.RefreshTokenService.RefreshTokenPayload;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.util.Date;
+
+/**
+ * 서명된 refresh 토큰 (app.auth.refresh.mode=SIGNED)
+ * - payload(userId, role, 발급 시각) + 세션 버전을 토큰에 담고 access token과 같은 키 링으로 서명
+ *   -> 검증/교체 때 저장소에서 payload를 읽지 않고 사용자별 버전 카운터 하나만 비교
+ * - iss는 "<issuer>#refresh": access token 검증(requireIssuer / 빠른 경로)은 refresh 토큰을 거부하고, 반대도 마찬가지
+ */
+@Component
+public class SignedRefreshTokens {
+
+    static final String ISSUER_SUFFIX = "#refresh";
+    private static final String ROLE_CLAIM = "role";
+    private static final String VERSION_CLAIM = "ver";
+
+    private final JwtProperties props;
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
+
+    /**
+     * @param version 발급/교체 시점의 사용자 세션 버전 (저장소의 현재 버전과 같을 때만 유효)
+     */
+    public record SignedRefreshToken(RefreshTokenPayload payload, long version) {}
+
+    public SignedRefreshTokens(JwtProperties props, JwtKeyRing keyRing) {
+        this.props = props;
+        this.keyRing = keyRing;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(ProtectedHeader header) {
+                        return keyRing.verificationKey(header.getKeyId());
+                    }
+                })
+                .requireIssuer(issuer())
+                .build();
+    }
+
+    public String sign(RefreshTokenPayload payload, long version, long ttlSeconds) {
+        var key = keyRing.active();
+        long issuedAtMillis = payload.issuedAtEpochSec() * 1000;
+
+        return AccessTokenService.signWith(Jwts.builder()
+                        .header().keyId(key.kid()).and()
+                        .issuer(issuer())
+                        .subject(Long.toString(payload.userId()))
+                        .claim(ROLE_CLAIM, payload.role().name())
+                        .claim(VERSION_CLAIM, version)
+                        .issuedAt(new Date(issuedAtMillis))
+                        .expiration(new Date(issuedAtMillis + ttlSeconds * 1000)), key)
+                .compact();
+    }
+
+    /**
+     * 서명/iss/만료만 확인 (폐기 여부는 버전 비교로 따로 확인)
+     * @return 유효하지 않은 토큰(서명/형식 오류, 만료, 이전 방식 토큰)이면 null
+     */
+    public SignedRefreshToken parse(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Long version = claims.get(VERSION_CLAIM, Long.class);
+            if (version == null || version <= 0 || claims.getIssuedAt() == null) return null;
+
+            RefreshTokenPayload payload = new RefreshTokenPayload(
+                    Long.parseLong(claims.getSubject()),
+                    UserRole.valueOf(claims.get(ROLE_CLAIM, String.class)),
+                    claims.getIssuedAt().getTime() / 1000);
+            return new SignedRefreshToken(payload, version);
+        } catch (JwtException | IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    private String issuer() {
+        return props.issuer() + ISSUER_SUFFIX;
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+
+/**
+ * 검증이 끝난 access token에서 인증에 필요한 값만 꺼낸 결과
+ */
+public record VerifiedAccessToken(
+        long userId,            // sub
+        UserRole role,          // role
+        long expiresAtEpochSec, // exp
+        String jti              // jti (폐기 목록 확인용, jti 도입 전 토큰이면 null)
+) {}
@@ -1,5 +1,6 @@
 package io.github.hyeonseo.auth.user.domain;
 
+import io.github.hyeonseo.auth.common.id.TsidId;
 import io.github.hyeonseo.auth.common.types.AuthProvider;
 import io.github.hyeonseo.auth.common.types.Gender;
 
@@ -20,7 +21,7 @@ import java.time.LocalDateTime;
 public class Customer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId // 시간순 id를 insert 전에 할당 (IDENTITY는 JDBC batch insert가 꺼짐)
     @Column(name = "customer_id")
     private Long customerId;
 
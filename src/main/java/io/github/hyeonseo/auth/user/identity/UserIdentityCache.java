@@ -0,0 +1,142 @@
+package io.github.hyeonseo.auth.user.identity;
+
+import io.github.hyeonseo.auth.common.store.BoundedMap;
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * (role, providerType, providerId) -> userId 캐시 (로그인 시 DB 조회 생략)
+ * - 1단계: 프로세스 내 맵 (짧은 TTL) / 2단계: Redis (서버 간 공유)
+ * - 미가입 사용자도 NOT_REGISTERED로 짧게 캐시 -> 푸시 직후 로그인 폭주에도 DB는 신규 사용자만 조회
+ *   - 미가입 엔트리는 Redis에만 둠 (1단계에 두면 다른 서버에서 가입해도 그 서버는 localTtl 동안 가입 전 상태로 봄)
+ *   - SET NX로만 기록 -> DB 조회와 가입 커밋이 겹쳐도 가입자 엔트리를 미가입으로 덮어쓰지 않음
+ * - 가입 커밋 후 put, 탈퇴(soft delete) 커밋 후 evict
+ * - Redis 장애 시에는 캐시 미스로 보고 DB 조회 (로그인 자체는 막지 않음)
+ */
+@Component
+public class UserIdentityCache {
+
+    private static final String PREFIX = "auth:identity:"; // (role:provider:providerId) -> userId ("0" = 미가입)
+    private static final long NOT_REGISTERED = 0L;          // 실제 id는 항상 양수 (기존 AUTO_INCREMENT / TSID)
+
+    private final StringRedisTemplate redis;
+    private final boolean enabled;
+    private final long localTtlMillis;
+    private final Duration redisTtl;
+    private final Duration negativeTtl;
+
+    private final BoundedMap<String, Entry> local;
+
+    private record Entry(long userId, long expiresAtMillis) {}
+
+    public UserIdentityCache(StringRedisTemplate redis, UserIdentityCacheProperties props) {
+        this.redis = redis;
+        this.enabled = props.enabled();
+        this.localTtlMillis = props.localTtlSeconds() * 1000;
+        this.redisTtl = Duration.ofSeconds(props.redisTtlSeconds());
+        this.negativeTtl = Duration.ofSeconds(props.negativeTtlSeconds());
+        this.local = new BoundedMap<>(props.localMaxSize(), Entry::expiresAtMillis);
+    }
+
+    /**
+     * 1단계 -> 2단계 -> loader(DB) 순서로 userId 조회, 가입자는 두 단계 모두에, 미가입은 2단계에만 저장
+     * @param loader DB 조회 (미가입이면 null)
+     * @return userId (미가입이면 null)
+     */
+    public Long findUserId(UserRole role, AuthProvider providerType, String providerId, Supplier<Long> loader) {
+        if (!enabled) return loader.get();
+
+        String key = key(role, providerType, providerId);
+        long now = System.currentTimeMillis();
+
+        Entry cached = local.get(key);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) return toUserId(cached.userId());
+            local.remove(key, cached);
+        }
+
+        String shared = readShared(key);
+        if (shared != null) {
+            long userId = Long.parseLong(shared);
+            if (userId != NOT_REGISTERED) putLocal(key, userId, now);
+            return toUserId(userId);
+        }
+
+        Long loaded = loader.get();
+        if (loaded == null) {
+            writeNotRegistered(key);
+            return null;
+        }
+        writeShared(key, loaded);
+        putLocal(key, loaded, now);
+        return loaded;
+    }
+
+    /**
+     * 가입 완료 (Redis의 미가입 엔트리를 덮어씀, 다른 서버의 1단계에는 미가입 엔트리가 없으므로 바로 로그인 가능)
+     */
+    public void put(UserRole role, AuthProvider providerType, String providerId, long userId) {
+        if (!enabled) return;
+
+        String key = key(role, providerType, providerId);
+        writeShared(key, userId);
+        putLocal(key, userId, System.currentTimeMillis());
+    }
+
+    /**
+     * 탈퇴 등으로 매핑이 바뀌었을 때
+     * - 다른 서버의 1단계 엔트리는 localTtl 안에 만료됨
+     */
+    public void evict(UserRole role, AuthProvider providerType, String providerId) {
+        if (!enabled) return;
+
+        String key = key(role, providerType, providerId);
+        local.remove(key);
+        try {
+            redis.delete(key);
+        } catch (Exception ignored) {} // TTL로 만료
+    }
+
+    private String readShared(String key) {
+        try {
+            return redis.opsForValue().get(key);
+        } catch (Exception e) {
+            return null; // Redis 장애 -> 미스로 처리
+        }
+    }
+
+    private void writeShared(String key, long userId) {
+        try {
+            redis.opsForValue().set(key, String.valueOf(userId), redisTtl);
+        } catch (Exception ignored) {} // 다음 조회 때 다시 채움
+    }
+
+    /**
+     * 가입자 엔트리가 없을 때만 기록 (DB 조회 뒤에 끝난 가입의 put을 덮어쓰지 않도록)
+     */
+    private void writeNotRegistered(String key) {
+        try {
+            redis.opsForValue().setIfAbsent(key, String.valueOf(NOT_REGISTERED), negativeTtl);
+        } catch (Exception ignored) {} // 다음 조회 때 다시 채움
+    }
+
+    /**
+     * 가입자만 (미가입 엔트리는 다른 서버의 가입을 알 수 없으므로 1단계에 두지 않음)
+     */
+    private void putLocal(String key, long userId, long now) {
+        local.put(key, new Entry(userId, now + localTtlMillis));
+    }
+
+    private static Long toUserId(long cached) {
+        return cached == NOT_REGISTERED ? null : cached;
+    }
+
+    private static String key(UserRole role, AuthProvider providerType, String providerId) {
+        return PREFIX + role.name() + ":" + providerType.name() + ":" + providerId;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.hyeonseo.auth.user.identity;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.auth.identity-cache")
+public record UserIdentityCacheProperties(
+        boolean enabled,          // 기본 off
+        int localMaxSize,         // 1단계(프로세스 내) 최대 엔트리 수
+        long localTtlSeconds,     // 1단계 유지 시간 (다른 서버에서 무효화한 내용이 반영되기까지의 최대 지연)
+        long redisTtlSeconds,     // 2단계(Redis) 가입자 엔트리 유지 시간
+        long negativeTtlSeconds   // 미가입 엔트리 유지 시간 (2단계에만 둠)
+) {
+
+    public UserIdentityCacheProperties {
+        if (localMaxSize <= 0) localMaxSize = 100_000;
+        if (localTtlSeconds <= 0) localTtlSeconds = 30;
+        if (redisTtlSeconds <= 0) redisTtlSeconds = 86_400;
+        if (negativeTtlSeconds <= 0) negativeTtlSeconds = 60;
+    }
+}
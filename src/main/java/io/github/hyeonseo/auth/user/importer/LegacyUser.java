@@ -0,0 +1,21 @@
+package io.github.hyeonseo.auth.user.importer;
+
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.Gender;
+
+import java.time.LocalDate;
+
+/**
+ * 기존 시스템에서 옮겨오는 사용자 한 명
+ * @param pin 손님만 사용 (점주는 무시)
+ */
+public record LegacyUser(
+        AuthProvider providerType,
+        String providerId,
+        String email,
+        String phoneNumber,
+        LocalDate birth,
+        String name,
+        Gender gender,
+        Integer pin
+) {}
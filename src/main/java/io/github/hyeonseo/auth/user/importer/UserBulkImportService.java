@@ -0,0 +1,92 @@
+package io.github.hyeonseo.auth.user.importer;
+
+import io.github.hyeonseo.auth.common.id.TsidGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기존 시스템 사용자 일괄 등록 (백필/마이그레이션용)
+ * - JPA를 거치지 않고 JDBC batch insert (영속성 컨텍스트/엔티티 생성 비용 없음)
+ * - id는 엔티티와 같은 TSID 생성기로 미리 할당 -> insert 후 키를 다시 읽지 않음
+ * - batchSize개씩 트랜잭션 하나로 커밋 (실패하면 그 배치만 롤백, 앞 배치는 유지)
+ * - MySQL은 rewriteBatchedStatements=true여야 multi-row insert로 전송됨
+ */
+@Service
+@RequiredArgsConstructor
+public class UserBulkImportService {
+
+    private static final String INSERT_CUSTOMER = """
+            insert into customers (customer_id, provider_id, provider_type, email, phone_number, birth, name, gender, pin, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_OWNER = """
+            insert into owners (owner_id, provider_id, provider_type, email, phone_number, birth, name, gender, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @param rows 등록 결과 행 수
+     * @param elapsedMillis 전체 소요 시간
+     */
+    public record ImportResult(int rows, long elapsedMillis) {
+
+        public double rowsPerSecond() {
+            return elapsedMillis == 0 ? rows * 1000.0 : rows * 1000.0 / elapsedMillis;
+        }
+    }
+
+    public ImportResult importCustomers(List<LegacyUser> users, int batchSize) {
+        return importAll(INSERT_CUSTOMER, users, batchSize, true);
+    }
+
+    public ImportResult importOwners(List<LegacyUser> users, int batchSize) {
+        return importAll(INSERT_OWNER, users, batchSize, false);
+    }
+
+    private ImportResult importAll(String sql, List<LegacyUser> users, int batchSize, boolean withPin) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+
+        TsidGenerator ids = TsidGenerator.shared();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long start = System.nanoTime();
+
+        for (int from = 0; from < users.size(); from += batchSize) {
+            List<LegacyUser> chunk = users.subList(from, Math.min(from + batchSize, users.size()));
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(sql, chunk, chunk.size(), (ps, user) -> bind(ps, ids.next(), user, withPin, now)));
+        }
+
+        return new ImportResult(users.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void bind(PreparedStatement ps, long id, LegacyUser user, boolean withPin, Timestamp now) throws SQLException {
+        int i = 1;
+        ps.setLong(i++, id);
+        ps.setString(i++, user.providerId());
+        ps.setString(i++, user.providerType().name());
+        ps.setString(i++, user.email());
+        ps.setString(i++, user.phoneNumber());
+        ps.setDate(i++, Date.valueOf(user.birth()));
+        ps.setString(i++, user.name());
+        ps.setString(i++, user.gender().name());
+        if (withPin) {
+            if (user.pin() == null) ps.setNull(i++, Types.INTEGER);
+            else ps.setInt(i++, user.pin());
+        }
+        ps.setTimestamp(i++, now);
+        ps.setTimestamp(i, now);
+    }
+}
@@ -3,9 +3,28 @@ package io.github.hyeonseo.auth.user.repository;
 import io.github.hyeonseo.auth.common.types.AuthProvider;
 import io.github.hyeonseo.auth.user.domain.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     Optional<Customer> findByProviderTypeAndProviderId(AuthProvider providerType, String providerId);
+
+    /**
+     * 로그인/회원가입용 id만 조회 (findByProviderTypeAndProviderId와 같은 결과)
+     * - 엔티티를 만들지 않으므로 영속성 컨텍스트/dirty checking 비용 없음
+     * - uq_customers_provider 인덱스만 읽고 끝남 (InnoDB 보조 인덱스에는 PK가 포함됨)
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+            select c.customerId
+            from Customer c
+            where c.providerType = :providerType and c.providerId = :providerId
+            """)
+    Optional<Long> findIdByProvider(
+            @Param("providerType") AuthProvider providerType,
+            @Param("providerId") String providerId
+    );
 }
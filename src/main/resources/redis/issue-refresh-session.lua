@@ -0,0 +1,36 @@
+-- 멀티 디바이스 refresh 세션 발급 (사용자별 세션 인덱스 + 최대 개수 제한)
+-- KEYS[1] : 세션 인덱스 (auth:refresh:sessions:{<tag>}, ZSET member=token score=발급 시각)
+-- KEYS[2] : 새 토큰 키   (auth:refresh:token:{<tag>}:<uuid>)
+-- ARGV[1] : 새 토큰
+-- ARGV[2] : payload
+-- ARGV[3] : 발급 시각 (epoch sec)
+-- ARGV[4] : TTL (sec)
+-- ARGV[5] : 최대 세션 수
+-- return  : 밀려나서 폐기된 세션 수
+
+local now = tonumber(ARGV[3])
+local ttl = tonumber(ARGV[4])
+local max = tonumber(ARGV[5])
+
+-- TTL이 지나 토큰 키가 이미 사라진 인덱스 항목 정리
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - ttl)
+
+redis.call('SET', KEYS[2], ARGV[2], 'EX', ttl)
+redis.call('ZADD', KEYS[1], now, ARGV[1])
+
+-- 최대 개수를 넘으면 가장 오래된 세션부터 폐기 (같은 시각이면 방금 발급한 토큰은 제외)
+local excess = redis.call('ZCARD', KEYS[1]) - max
+local removed = 0
+if excess > 0 then
+    local oldest = redis.call('ZRANGE', KEYS[1], 0, excess)
+    for _, token in ipairs(oldest) do
+        if removed < excess and token ~= ARGV[1] then
+            redis.call('ZREM', KEYS[1], token)
+            redis.call('DEL', token_key(token))
+            removed = removed + 1
+        end
+    end
+end
+
+redis.call('EXPIRE', KEYS[1], ttl)
+return removed
@@ -0,0 +1,25 @@
+-- 싱글세션 refresh 토큰 발급 (기존 토큰 폐기 + 새 토큰/ACTIVE 저장을 한 번에, 원자적으로)
+-- KEYS[1] : ACTIVE 키   (auth:refresh:active:{<tag>})
+-- KEYS[2] : 새 토큰 키  (auth:refresh:token:{<tag>}:<uuid>, ACTIVE와 같은 슬롯)
+-- KEYS[3] : 이전 형식 ACTIVE 키 (마이그레이션 기간에만, 단일 노드 전용 - 없으면 생략)
+-- ARGV[1] : 새 토큰
+-- ARGV[2] : payload
+-- ARGV[3] : TTL (sec)
+-- return  : 폐기한 기존 토큰 수 (0 / 1)
+
+-- SET ... GET과 같은 동작 (포인터 교체 + 기존 값), 스크립트 안이라 사이에 다른 명령이 끼지 않음
+local old = redis.call('GET', KEYS[1])
+redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3])
+redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3]) -- ACTIVE도 같은 TTL
+
+local revoked = 0
+if old and old ~= '' and old ~= ARGV[1] then
+    revoked = redis.call('DEL', token_key(old))
+end
+
+-- 이전 형식 ACTIVE가 남아 있으면 그 토큰도 더 이상 인정하지 않도록 포인터 삭제
+if KEYS[3] then
+    redis.call('DEL', KEYS[3])
+end
+
+return revoked
@@ -0,0 +1,14 @@
+-- 서명된 refresh 토큰 발급: 사용자 세션 버전 올림 (이전에 발급한 토큰은 모두 무효)
+-- KEYS[1] : 버전 키 (auth:refresh:version:{<tag>})
+-- ARGV[1] : 최소 버전 (발급 시각 epoch ms -> 키가 만료돼 사라진 뒤에도 이전 버전보다 큼)
+-- ARGV[2] : TTL (sec)
+-- ARGV[3] : 버전 변경 채널
+-- ARGV[4] : 사용자 tag
+-- return  : 새 버전
+
+local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+local version = string.format('%.0f', math.max(current + 1, tonumber(ARGV[1])))
+
+redis.call('SET', KEYS[1], version, 'EX', ARGV[2])
+redis.call('PUBLISH', ARGV[3], ARGV[4] .. ':' .. version)
+return tonumber(version)
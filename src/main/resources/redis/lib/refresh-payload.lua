@@ -0,0 +1,137 @@
+-- refresh payload 공통 함수 (각 refresh 스크립트 앞에 붙여서 로드됨 - RefreshScripts)
+-- payload 형식
+--   JSON      : {"userId":1,"role":"CUSTOMER","issuedAtEpochSec":1700000000}
+--   바이너리 v1 : [0x01][role ordinal][varint userId][varint issuedAtEpochSec]
+
+-- 키 구성 (RefreshCommands와 같아야 함)
+--   토큰 "<tag>.<uuid>" (tag = role ordinal + userId -> 토큰만 보고 사용자 슬롯을 알 수 있음)
+--     token    : auth:refresh:token:{<tag>}:<uuid>
+--     active   : auth:refresh:active:{<tag>}
+--     sessions : auth:refresh:sessions:{<tag>}
+--     -> 한 사용자의 키는 해시 태그가 같아서 클러스터에서도 같은 슬롯
+--   이전 형식 토큰 "<uuid>" (마이그레이션 기간에만, 단일 노드 전용)
+--     token : auth:refresh:token:<uuid> / active, sessions : ...:<ROLE>:<userId>
+
+local ROLES = __ROLES__ -- UserRole.values() 순서 (로드할 때 Java에서 채움)
+local TOKEN_PREFIX = '__TOKEN_PREFIX__'
+local ACTIVE_PREFIX = '__ACTIVE_PREFIX__'
+local SESSIONS_PREFIX = '__SESSIONS_PREFIX__'
+
+-- varint(최대 64비트)를 10진 문자열로
+-- Lua 숫자는 double이라 2^53을 넘는 id는 정밀도를 잃으므로 7자리 단위로 나눠서 계산
+local function varint_decimal(s, pos)
+    local groups = {}
+    repeat
+        local b = string.byte(s, pos)
+        if not b then
+            return nil
+        end
+        groups[#groups + 1] = b % 128
+        pos = pos + 1
+    until b < 128
+
+    local limbs = { 0 }
+    for i = #groups, 1, -1 do
+        local carry = groups[i]
+        for j = 1, #limbs do
+            local v = limbs[j] * 128 + carry
+            limbs[j] = v % 10000000
+            carry = math.floor(v / 10000000)
+        end
+        while carry > 0 do
+            limbs[#limbs + 1] = carry % 10000000
+            carry = math.floor(carry / 10000000)
+        end
+    end
+
+    local out = string.format('%d', limbs[#limbs])
+    for j = #limbs - 1, 1, -1 do
+        out = out .. string.format('%07d', limbs[j])
+    end
+    return out, pos
+end
+
+local function varint_encode(n)
+    local out = {}
+    repeat
+        local b = n % 128
+        n = math.floor(n / 128)
+        if n > 0 then
+            b = b + 128
+        end
+        out[#out + 1] = string.char(b)
+    until n == 0
+    return table.concat(out)
+end
+
+-- payload -> role, userId(10진 문자열) (형식을 모르면 nil)
+local function payload_owner(payload)
+    local first = string.byte(payload, 1)
+    if first == 123 then -- '{'
+        local userId = string.match(payload, '"userId":(%d+)')
+        local role = string.match(payload, '"role":"([%u_]+)"')
+        if not userId or not role then
+            return nil
+        end
+        return role, userId
+    end
+
+    if first ~= 1 then
+        return nil
+    end
+    local role = ROLES[(string.byte(payload, 2) or -1) + 1]
+    local userId = varint_decimal(payload, 3)
+    if not role or not userId then
+        return nil
+    end
+    return role, userId
+end
+
+-- 토큰의 해시 태그 (이전 형식 토큰이면 nil)
+local function token_tag(token)
+    local dot = string.find(token, '.', 1, true)
+    if not dot or dot == 1 then
+        return nil
+    end
+    return string.sub(token, 1, dot - 1)
+end
+
+local function token_key(token)
+    local tag = token_tag(token)
+    if not tag then
+        return TOKEN_PREFIX .. token
+    end
+    return TOKEN_PREFIX .. '{' .. tag .. '}:' .. string.sub(token, string.len(tag) + 2)
+end
+
+local function owner_tag(role, userId)
+    for i, name in ipairs(ROLES) do
+        if name == role then
+            return (i - 1) .. userId
+        end
+    end
+    return nil
+end
+
+-- 토큰의 태그가 payload 사용자와 같은지 (이전 형식 토큰은 태그가 없으므로 통과)
+local function owns(token, role, userId)
+    local tag = token_tag(token)
+    return tag == nil or tag == owner_tag(role, userId)
+end
+
+-- 사용자 키 (ACTIVE / 세션 목록) - 토큰 형식에 맞춰서
+local function owner_key(prefix, token, role, userId)
+    if token_tag(token) then
+        return prefix .. '{' .. owner_tag(role, userId) .. '}'
+    end
+    return prefix .. role .. ':' .. userId
+end
+
+-- 같은 payload에서 발급 시각만 교체 (형식 유지)
+local function payload_with_issued_at(payload, issuedAt)
+    if string.byte(payload, 1) == 123 then
+        return (string.gsub(payload, '"issuedAtEpochSec":%d+', '"issuedAtEpochSec":' .. issuedAt))
+    end
+    local _, pos = varint_decimal(payload, 3)
+    return string.sub(payload, 1, pos - 1) .. varint_encode(tonumber(issuedAt))
+end
@@ -0,0 +1,23 @@
+-- 사용자의 모든 refresh 세션 폐기 (인덱스만 보면 되므로 키스페이스 SCAN 없음)
+-- KEYS[1] : 세션 인덱스 (auth:refresh:sessions:{<tag>})
+-- KEYS[2] : ACTIVE 키   (auth:refresh:active:{<tag>}) - 싱글세션 토큰
+-- KEYS[3], KEYS[4] : 이전 형식 세션 인덱스 / ACTIVE 키 (마이그레이션 기간에만, 단일 노드 전용)
+-- return  : 폐기한 세션 수
+
+local removed = 0
+
+for i = 1, #KEYS, 2 do
+    local tokens = redis.call('ZRANGE', KEYS[i], 0, -1)
+    for _, token in ipairs(tokens) do
+        removed = removed + redis.call('DEL', token_key(token))
+    end
+    redis.call('DEL', KEYS[i])
+
+    local active = redis.call('GET', KEYS[i + 1])
+    if active then
+        removed = removed + redis.call('DEL', token_key(active))
+        redis.call('DEL', KEYS[i + 1])
+    end
+end
+
+return removed
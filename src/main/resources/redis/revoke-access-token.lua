@@ -0,0 +1,16 @@
+-- access token 폐기 목록에 추가 (+ 지난 항목 정리 + 모든 서버에 알림)
+-- KEYS[1] : 폐기 목록 ZSET (member -> 폐기 유지 시각 epoch sec)
+-- ARGV[1] : member ("j:<jti>" 토큰 하나 / "u:<tag>" 사용자의 그 시각 이전 발급 토큰 전부)
+-- ARGV[2] : 유지 시각 (jti: 토큰 exp / 사용자: 폐기 시각 + access TTL)
+-- ARGV[3] : 현재 시각 (epoch sec)
+-- ARGV[4] : 알림 채널
+-- return  : 1
+
+local current = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if not current or tonumber(current) < tonumber(ARGV[2]) then
+    redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+end
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3])
+redis.call('PUBLISH', ARGV[4], ARGV[1] .. ' ' .. ARGV[2])
+return 1
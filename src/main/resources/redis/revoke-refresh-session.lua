@@ -0,0 +1,22 @@
+-- refresh 세션 하나만 폐기 (토큰 키 + 세션 목록 항목 / 싱글세션이면 ACTIVE도)
+-- KEYS[1] : 토큰 키 (auth:refresh:token:{<tag>}:<uuid>)
+-- ARGV[1] : 토큰
+-- return  : 폐기했으면 1, 이미 없으면 0
+
+local payload = redis.call('GET', KEYS[1])
+if not payload then
+    return 0
+end
+redis.call('DEL', KEYS[1])
+
+local role, userId = payload_owner(payload)
+if not role or not owns(ARGV[1], role, userId) then
+    return 1
+end
+
+redis.call('ZREM', owner_key(SESSIONS_PREFIX, ARGV[1], role, userId), ARGV[1])
+local activeKey = owner_key(ACTIVE_PREFIX, ARGV[1], role, userId)
+if redis.call('GET', activeKey) == ARGV[1] then
+    redis.call('DEL', activeKey)
+end
+return 1
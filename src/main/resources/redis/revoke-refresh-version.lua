@@ -0,0 +1,13 @@
+-- 서명된 refresh 토큰 전체 폐기: 버전이 있으면 1 올림 (TTL 유지)
+-- KEYS[1] : 버전 키 (auth:refresh:version:{<tag>})
+-- ARGV[1] : 버전 변경 채널
+-- ARGV[2] : 사용자 tag
+-- return  : 폐기했으면 1, 버전이 없으면(발급한 적 없음/만료) 0
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+
+local version = redis.call('INCR', KEYS[1])
+redis.call('PUBLISH', ARGV[1], ARGV[2] .. ':' .. version)
+return 1
@@ -0,0 +1,44 @@
+-- 멀티 디바이스 refresh 세션 로테이션 (해당 세션만 교체, 다른 기기 세션은 유지)
+-- KEYS[1] : 기존 토큰 키 (auth:refresh:token:{<tag>}:<uuid>)
+-- KEYS[2] : 새 토큰 키   (같은 사용자 -> 같은 해시 태그)
+-- ARGV[1] : 기존 토큰
+-- ARGV[2] : 새 토큰
+-- ARGV[3] : 새 발급 시각 (epoch sec)
+-- ARGV[4] : TTL (sec)
+-- return  : 새 payload (실패 시 nil)
+-- 세션 목록/ACTIVE 키는 payload의 사용자로 구성 (새 형식이면 토큰과 같은 슬롯)
+
+local payload = redis.call('GET', KEYS[1])
+if not payload then
+    return nil
+end
+
+local role, userId = payload_owner(payload)
+if not role or not owns(ARGV[1], role, userId) then
+    redis.call('DEL', KEYS[1])
+    return nil
+end
+
+local sessionsKey = owner_key(SESSIONS_PREFIX, ARGV[1], role, userId)
+
+if redis.call('ZSCORE', sessionsKey, ARGV[1]) then
+    redis.call('ZREM', sessionsKey, ARGV[1])
+else
+    -- 세션 목록에 없으면: 싱글세션 시절 ACTIVE 토큰만 인정하고 세션 목록으로 옮김
+    local activeKey = owner_key(ACTIVE_PREFIX, ARGV[1], role, userId)
+    if redis.call('GET', activeKey) ~= ARGV[1] then
+        redis.call('DEL', KEYS[1])
+        return nil
+    end
+    redis.call('DEL', activeKey)
+end
+
+local newPayload = payload_with_issued_at(payload, ARGV[3])
+local newSessionsKey = owner_key(SESSIONS_PREFIX, ARGV[2], role, userId)
+
+redis.call('SET', KEYS[2], newPayload, 'EX', ARGV[4])
+redis.call('ZADD', newSessionsKey, ARGV[3], ARGV[2])
+redis.call('EXPIRE', newSessionsKey, ARGV[4])
+redis.call('DEL', KEYS[1])
+
+return newPayload
@@ -0,0 +1,39 @@
+-- refresh 토큰 로테이션 (검증 + 교체 + 만료 설정을 한 번에, 원자적으로)
+-- KEYS[1] : 기존 토큰 키 (auth:refresh:token:{<tag>}:<uuid>)
+-- KEYS[2] : 새 토큰 키   (같은 사용자 -> 같은 해시 태그)
+-- ARGV[1] : 기존 토큰
+-- ARGV[2] : 새 토큰
+-- ARGV[3] : 새 발급 시각 (epoch sec)
+-- ARGV[4] : TTL (sec)
+-- return  : 새 payload (실패 시 nil)
+-- ACTIVE 키는 payload의 사용자로 구성 (새 형식이면 토큰과 같은 슬롯)
+
+local payload = redis.call('GET', KEYS[1])
+if not payload then
+    return nil
+end
+
+local role, userId = payload_owner(payload)
+if not role or not owns(ARGV[1], role, userId) then
+    redis.call('DEL', KEYS[1])
+    return nil
+end
+
+-- ACTIVE에 등록된 토큰이 아니면(= 구세션/동시 재발급에서 진 쪽) 무효 처리
+local activeKey = owner_key(ACTIVE_PREFIX, ARGV[1], role, userId)
+if redis.call('GET', activeKey) ~= ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    return nil
+end
+
+local newPayload = payload_with_issued_at(payload, ARGV[3])
+local newActiveKey = owner_key(ACTIVE_PREFIX, ARGV[2], role, userId)
+
+redis.call('SET', KEYS[2], newPayload, 'EX', ARGV[4])
+redis.call('SET', newActiveKey, ARGV[2], 'EX', ARGV[4])
+if newActiveKey ~= activeKey then
+    redis.call('DEL', activeKey) -- 이전 형식 토큰을 새 형식으로 옮긴 경우
+end
+redis.call('DEL', KEYS[1])
+
+return newPayload
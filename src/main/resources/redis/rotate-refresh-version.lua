@@ -0,0 +1,16 @@
+-- 서명된 refresh 토큰 교체/로그아웃: 토큰의 버전이 현재 버전일 때만 1 올림 (compare-and-increment)
+-- KEYS[1] : 버전 키 (auth:refresh:version:{<tag>})
+-- ARGV[1] : 토큰의 버전
+-- ARGV[2] : TTL (sec)
+-- ARGV[3] : 버전 변경 채널
+-- ARGV[4] : 사용자 tag
+-- return  : 새 버전 (현재 버전이 아니면 0 -> 이미 교체/폐기된 토큰)
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+
+local version = redis.call('INCR', KEYS[1])
+redis.call('EXPIRE', KEYS[1], ARGV[2])
+redis.call('PUBLISH', ARGV[3], ARGV[4] .. ':' .. version)
+return version
@@ -0,0 +1,50 @@
+package io.github.hyeonseo.auth.auth.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.token.JwksService;
+import io.github.hyeonseo.auth.token.JwtKeyRing;
+import io.github.hyeonseo.auth.token.JwtProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JWKS 조건부 요청 (If-None-Match)
+ */
+class JwksControllerTest {
+
+    private final JwtProperties props = new JwtProperties(
+            "kakao-oauth2-jwt", "test-secret-test-secret-test-secret-0123456789", null, List.of(), 900, 1209600);
+    private final JwksService jwksService =
+            new JwksService(new JwtKeyRing(props, new StandardEnvironment()), new ObjectMapper());
+    private final MockMvc mvc = MockMvcBuilders.standaloneSetup(new JwksController(jwksService)).build();
+
+    @Test
+    void returnsDocumentWithEtag() throws Exception {
+        mvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, jwksService.current().etag()))
+                .andExpect(content().json("{\"keys\":[]}"));
+    }
+
+    @Test
+    void matchingEtagGetsNotModified() throws Exception {
+        String etag = jwksService.current().etag();
+
+        mvc.perform(get("/.well-known/jwks.json").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mvc.perform(get("/.well-known/jwks.json").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.store.InMemoryTokenStore;
+import io.github.hyeonseo.auth.common.store.TokenStoreProperties;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.PkceParameterNames;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 없는 인가 요청 보관 (쿠키 / 저장소): 로그인 시작 서버와 콜백 서버가 달라도 이어지는지
+ */
+class AuthorizationRequestRepositoryTest {
+
+    private static final String CALLBACK = "/login/oauth2/code/kakao-customer";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final InMemoryTokenStore store =
+            new InMemoryTokenStore(new TokenStoreProperties(TokenStoreProperties.Type.MEMORY, 50, 64, 0));
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void cookieRoundTripsOnAnotherInstanceWithoutSession() {
+        AuthorizationRequestProperties props = props(AuthorizationRequestProperties.Mode.COOKIE);
+        var starting = new CookieAuthorizationRequestRepository(objectMapper, props);
+        var callback = new CookieAuthorizationRequestRepository(objectMapper, props); // 다른 서버 (같은 secret)
+
+        assertRoundTrip(starting, callback);
+    }
+
+    @Test
+    void cookieRejectsTamperingAndOtherSecrets() {
+        var repository = new CookieAuthorizationRequestRepository(objectMapper, props(AuthorizationRequestProperties.Mode.COOKIE));
+        String sealed = save(repository, authorizationRequest());
+
+        String tampered = sealed.substring(0, sealed.length() - 2) + (sealed.endsWith("AA") ? "BB" : "AA");
+        assertThat(repository.loadAuthorizationRequest(callbackRequest(tampered, "state-1"))).isNull();
+
+        var otherSecret = new CookieAuthorizationRequestRepository(objectMapper, new AuthorizationRequestProperties(
+                AuthorizationRequestProperties.Mode.COOKIE, "another-secret", 300, false, "Lax"));
+        assertThat(otherSecret.loadAuthorizationRequest(callbackRequest(sealed, "state-1"))).isNull();
+    }
+
+    @Test
+    void redisRoundTripsAndCanBeUsedOnce() {
+        AuthorizationRequestProperties props = props(AuthorizationRequestProperties.Mode.REDIS);
+        var starting = new RedisAuthorizationRequestRepository(store, objectMapper, props);
+        var callback = new RedisAuthorizationRequestRepository(store, objectMapper, props);
+
+        String id = assertRoundTrip(starting, callback);
+
+        // 이미 꺼낸 요청은 다시 쓸 수 없음
+        assertThat(callback.removeAuthorizationRequest(callbackRequest(id, "state-1"), new MockHttpServletResponse())).isNull();
+    }
+
+    @Test
+    void stateMustMatchStoredRequest() {
+        for (AuthorizationRequestRepository<OAuth2AuthorizationRequest> repository : repositories()) {
+            String value = save(repository, authorizationRequest());
+
+            assertThat(repository.loadAuthorizationRequest(callbackRequest(value, "state-2"))).isNull();
+            assertThat(repository.loadAuthorizationRequest(callbackRequest(value, null))).isNull();
+        }
+    }
+
+    /**
+     * 시작 서버에서 저장 -> 콜백 서버에서 꺼냄 (두 요청 모두 세션을 만들지 않음)
+     * @return 쿠키 값
+     */
+    private String assertRoundTrip(AuthorizationRequestRepository<OAuth2AuthorizationRequest> starting,
+                                   AuthorizationRequestRepository<OAuth2AuthorizationRequest> callback) {
+        OAuth2AuthorizationRequest original = authorizationRequest();
+
+        MockHttpServletRequest startRequest = new MockHttpServletRequest("GET", "/oauth2/authorization/kakao-customer");
+        MockHttpServletResponse startResponse = new MockHttpServletResponse();
+        starting.saveAuthorizationRequest(original, startRequest, startResponse);
+        String value = cookieValue(startResponse);
+
+        MockHttpServletRequest callbackRequest = callbackRequest(value, "state-1");
+        MockHttpServletResponse callbackResponse = new MockHttpServletResponse();
+        OAuth2AuthorizationRequest loaded = callback.removeAuthorizationRequest(callbackRequest, callbackResponse);
+
+        assertThat(loaded).usingRecursiveComparison().isEqualTo(original);
+        assertThat(callbackResponse.getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=0");
+        assertThat(startRequest.getSession(false)).isNull();
+        assertThat(callbackRequest.getSession(false)).isNull();
+        return value;
+    }
+
+    private AuthorizationRequestRepository<OAuth2AuthorizationRequest>[] repositories() {
+        @SuppressWarnings("unchecked")
+        AuthorizationRequestRepository<OAuth2AuthorizationRequest>[] repositories = new AuthorizationRequestRepository[]{
+                new CookieAuthorizationRequestRepository(objectMapper, props(AuthorizationRequestProperties.Mode.COOKIE)),
+                new RedisAuthorizationRequestRepository(store, objectMapper, props(AuthorizationRequestProperties.Mode.REDIS))
+        };
+        return repositories;
+    }
+
+    private static String save(AuthorizationRequestRepository<OAuth2AuthorizationRequest> repository, OAuth2AuthorizationRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(request, new MockHttpServletRequest(), response);
+        return cookieValue(response);
+    }
+
+    private static MockHttpServletRequest callbackRequest(String cookieValue, String state) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", CALLBACK);
+        request.setCookies(new Cookie(AuthorizationRequestCookie.NAME, cookieValue));
+        request.setParameter("code", "kakao-code");
+        if (state != null) request.setParameter("state", state);
+        return request;
+    }
+
+    private static String cookieValue(MockHttpServletResponse response) {
+        Cookie cookie = response.getCookie(AuthorizationRequestCookie.NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.isHttpOnly()).isTrue();
+        return cookie.getValue();
+    }
+
+    private static OAuth2AuthorizationRequest authorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .clientId("client-id")
+                .redirectUri("http://localhost:8080" + CALLBACK)
+                .scopes(Set.of("profile_nickname", "profile_image"))
+                .state("state-1")
+                .additionalParameters(Map.of(PkceParameterNames.CODE_CHALLENGE, "challenge",
+                        PkceParameterNames.CODE_CHALLENGE_METHOD, "S256"))
+                .attributes(Map.of("registration_id", "kakao-customer", PkceParameterNames.CODE_VERIFIER, "verifier"))
+                .build();
+    }
+
+    private static AuthorizationRequestProperties props(AuthorizationRequestProperties.Mode mode) {
+        return new AuthorizationRequestProperties(mode, "authorization-request-test-secret", 300, false, "Lax");
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.hyeonseo.auth.config.KakaoClientConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2AuthorizationException;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationExchange;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 카카오 서버로 토큰 교환/사용자 정보 조회 (재시도/제한 시간/지연 기록)
+ */
+class KakaoHttpClientTest {
+
+    private static final String TOKEN_RESPONSE = """
+            {"access_token":"kakao-access","token_type":"bearer","refresh_token":"kakao-refresh",
+             "expires_in":21599,"scope":"profile_nickname profile_image","refresh_token_expires_in":5183999}
+            """;
+
+    /**
+     * 스텁 응답 (요청마다 앞에서부터 하나씩 소비, 마지막 것은 계속 사용)
+     */
+    private record Stub(int status, String body, long delayMillis) {}
+
+    private final Queue<Stub> userInfo = new ConcurrentLinkedQueue<>();
+    private final Queue<Stub> token = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger userInfoRequests = new AtomicInteger();
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private HttpServer server;
+    private KakaoHttpClient kakaoHttpClient;
+    private ClientRegistration registration;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v2/user/me", exchange -> respond(exchange, userInfo, userInfoRequests));
+        server.createContext("/oauth/token", exchange -> respond(exchange, token, tokenRequests));
+        server.setExecutor(executor); // 늦은 응답 중에도 재시도 요청을 받도록
+        server.start();
+
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        registration = ClientRegistration.withRegistrationId("kakao-customer")
+                .clientId("client-id")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("http://localhost:8080/login/oauth2/code/kakao-customer")
+                .authorizationUri(base + "/oauth/authorize")
+                .tokenUri(base + "/oauth/token")
+                .userInfoUri(base + "/v2/user/me")
+                .userNameAttributeName("id")
+                .build();
+
+        // 빠른 재시도 + 짧은 응답 제한
+        kakaoHttpClient = new KakaoHttpClient(new KakaoHttpClientProperties(500, 300, 3, 1, 300));
+    }
+
+    @AfterEach
+    void tearDown() {
+        kakaoHttpClient.close();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void userInfoRetriesTransientFailures() throws IOException {
+        userInfo.add(new Stub(503, "", 0));
+        userInfo.add(new Stub(200, fixture("user-me-full.json"), 0));
+
+        KakaoOAuth2User user = (KakaoOAuth2User) userService().loadUser(userRequest());
+
+        assertThat(user.profile().id()).isEqualTo(3141592653L);
+        assertThat(user.getName()).isEqualTo("3141592653");
+        assertThat(userInfoRequests).hasValue(2);
+        assertThat(kakaoHttpClient.latency(KakaoHttpClient.Endpoint.USER_INFO).count()).isEqualTo(2);
+    }
+
+    @Test
+    void userInfoGivesUpAfterMaxAttemptsOnTimeout() {
+        userInfo.add(new Stub(200, "{\"id\":1}", 1_000)); // 응답 제한(300ms)보다 늦음
+
+        assertThatThrownBy(() -> userService().loadUser(userRequest())).isInstanceOf(OAuth2AuthenticationException.class);
+        assertThat(userInfoRequests).hasValue(3);
+    }
+
+    @Test
+    void userInfoDoesNotRetryClientErrors() {
+        userInfo.add(new Stub(401, "{\"msg\":\"this access token does not exist\",\"code\":-401}", 0));
+
+        assertThatThrownBy(() -> userService().loadUser(userRequest())).isInstanceOf(OAuth2AuthenticationException.class);
+        assertThat(userInfoRequests).hasValue(1);
+    }
+
+    @Test
+    void userInfoDoesNotRetryMalformedBody() throws IOException {
+        userInfo.add(new Stub(200, fixture("user-me-no-consent.json").replace("\"id\"", "\"uid\""), 0)); // id 없음
+        userInfo.add(new Stub(200, fixture("user-me-full.json"), 0));
+
+        assertThatThrownBy(() -> userService().loadUser(userRequest())).isInstanceOf(OAuth2AuthenticationException.class);
+        assertThat(userInfoRequests).hasValue(1); // 재시도했다면 두 번째 응답으로 성공했을 것
+
+        userInfoRequests.set(0);
+        userInfo.clear();
+        userInfo.add(new Stub(200, "{\"id\":", 0)); // 잘린 JSON
+        assertThatThrownBy(() -> userService().loadUser(userRequest())).isInstanceOf(OAuth2AuthenticationException.class);
+        assertThat(userInfoRequests).hasValue(1);
+    }
+
+    @Test
+    void tokenExchangeGoesThroughPooledClientWithoutRetry() {
+        OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> client =
+                new KakaoClientConfig().kakaoAccessTokenResponseClient(kakaoHttpClient);
+
+        token.add(new Stub(200, TOKEN_RESPONSE, 0));
+        OAuth2AccessTokenResponse response = client.getTokenResponse(codeGrantRequest());
+        assertThat(response.getAccessToken().getTokenValue()).isEqualTo("kakao-access");
+        assertThat(response.getRefreshToken()).isNotNull();
+
+        token.clear();
+        token.add(new Stub(500, "{\"error\":\"server_error\"}", 0));
+        assertThatThrownBy(() -> client.getTokenResponse(codeGrantRequest())).isInstanceOf(OAuth2AuthorizationException.class);
+
+        assertThat(tokenRequests).hasValue(2); // 실패한 교환도 한 번만
+        assertThat(kakaoHttpClient.latency(KakaoHttpClient.Endpoint.TOKEN).count()).isEqualTo(2);
+    }
+
+    private KakaoOAuth2UserService userService() {
+        return new KakaoOAuth2UserService(new ObjectMapper(), kakaoHttpClient);
+    }
+
+    private OAuth2UserRequest userRequest() {
+        Instant now = Instant.now();
+        return new OAuth2UserRequest(registration,
+                new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "kakao-access", now, now.plusSeconds(60)));
+    }
+
+    private OAuth2AuthorizationCodeGrantRequest codeGrantRequest() {
+        OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(registration.getProviderDetails().getAuthorizationUri())
+                .clientId(registration.getClientId())
+                .redirectUri(registration.getRedirectUri())
+                .state("state")
+                .build();
+        OAuth2AuthorizationResponse authorizationResponse = OAuth2AuthorizationResponse.success("code")
+                .redirectUri(registration.getRedirectUri())
+                .state("state")
+                .build();
+        return new OAuth2AuthorizationCodeGrantRequest(registration,
+                new OAuth2AuthorizationExchange(authorizationRequest, authorizationResponse));
+    }
+
+    private static void respond(HttpExchange exchange, Queue<Stub> stubs, AtomicInteger requests) throws IOException {
+        requests.incrementAndGet();
+        Stub stub = stubs.size() > 1 ? stubs.poll() : stubs.peek();
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            if (stub.delayMillis() > 0) Thread.sleep(stub.delayMillis());
+
+            byte[] body = stub.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(stub.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ignored) {} // 클라이언트가 제한 시간으로 먼저 끊은 경우
+    }
+
+    private static String fixture(String name) throws IOException {
+        try (InputStream in = KakaoHttpClientTest.class.getResourceAsStream("/kakao/" + name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.hyeonseo.auth.auth.oauth2;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 카카오 /v2/user/me 응답(기록해 둔 JSON) 스트리밍 디코딩
+ */
+class KakaoProfileTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readsProfileFromFullResponse() throws IOException {
+        assertThat(read(fixture("user-me-full.json"))).isEqualTo(new KakaoProfile(
+                3141592653L,
+                "홍길동",
+                "http://k.kakaocdn.net/dn/abc/img_110x110.jpg",
+                "http://k.kakaocdn.net/dn/abc/img_640x640.jpg"));
+    }
+
+    @Test
+    void missingConsentLeavesValuesNull() throws IOException {
+        assertThat(read(fixture("user-me-nickname-only.json")))
+                .isEqualTo(new KakaoProfile(1234567890L, "카카오", null, null));
+        assertThat(read(fixture("user-me-no-consent.json")))
+                .isEqualTo(new KakaoProfile(987654321L, null, null, null));
+    }
+
+    /**
+     * 기존 방식(Map으로 변환 후 kakao_account.profile을 따라감)과 같은 값
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"user-me-full.json", "user-me-nickname-only.json", "user-me-no-consent.json"})
+    void matchesMapBasedExtraction(String name) throws IOException {
+        byte[] json = fixture(name);
+        Map<?, ?> attrs = objectMapper.readValue(json, Map.class);
+        Map<?, ?> account = (Map<?, ?>) attrs.get("kakao_account");
+        Map<?, ?> profile = account != null ? (Map<?, ?>) account.get("profile") : null;
+
+        KakaoProfile read = read(json);
+
+        assertThat(read.id()).isEqualTo(((Number) attrs.get("id")).longValue());
+        assertThat(read.nickname()).isEqualTo(profile != null ? profile.get("nickname") : null);
+        assertThat(read.thumbnailImageUrl()).isEqualTo(profile != null ? profile.get("thumbnail_image_url") : null);
+        assertThat(read.profileImageUrl()).isEqualTo(profile != null ? profile.get("profile_image_url") : null);
+    }
+
+    @Test
+    void rejectsResponseWithoutId() {
+        byte[] json = "{\"kakao_account\":{\"profile\":{\"nickname\":\"x\"}}}".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> read(json)).isInstanceOf(JsonParseException.class);
+    }
+
+    private KakaoProfile read(byte[] json) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return KakaoProfile.read(parser);
+        }
+    }
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream in = KakaoProfileTest.class.getResourceAsStream("/kakao/" + name)) {
+            assertThat(in).as(name).isNotNull();
+            return in.readAllBytes();
+        }
+    }
+}
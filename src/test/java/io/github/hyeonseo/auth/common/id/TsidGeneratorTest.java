@@ -0,0 +1,143 @@
+package io.github.hyeonseo.auth.common.id;
+
+import io.github.hyeonseo.auth.common.store.TokenStoreProperties;
+import io.github.hyeonseo.auth.support.Concurrency;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TSID 발급: 비트 배치 / 시계 역행 / ms 내 순번 소진 / 동시 발급
+ * - 시계는 직접 움직임 (System.currentTimeMillis 대신 주입)
+ */
+class TsidGeneratorTest {
+
+    private static final long START = TsidGenerator.EPOCH_MILLIS + 1_000_000;
+    private static final long SEQUENCE_PER_MILLI = 1L << TsidGenerator.SEQUENCE_BITS;
+
+    private final AtomicLong clock = new AtomicLong(START);
+
+    @Test
+    void idCarriesTimeNodeAndSequence() {
+        TsidGenerator generator = new TsidGenerator(5, clock::get);
+
+        long first = generator.next();
+        long second = generator.next();
+
+        assertThat(first).isPositive();
+        assertThat(TsidGenerator.timestampMillis(first)).isEqualTo(START);
+        assertThat(node(first)).isEqualTo(5);
+        assertThat(sequence(first)).isZero();
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    void differentNodesNeverCollideInSameMillisecond() {
+        TsidGenerator a = new TsidGenerator(1, clock::get);
+        TsidGenerator b = new TsidGenerator(2, clock::get);
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(a.next());
+            ids.add(b.next());
+        }
+
+        assertThat(ids).hasSize(200);
+    }
+
+    @Test
+    void clockGoingBackwardsKeepsIdsIncreasing() {
+        TsidGenerator generator = new TsidGenerator(0, clock::get);
+        long before = generator.next();
+
+        clock.addAndGet(-5_000); // NTP 보정 등으로 5초 역행
+        long during = generator.next();
+        clock.set(START + 1);
+        long after = generator.next();
+
+        assertThat(during).isGreaterThan(before);
+        assertThat(TsidGenerator.timestampMillis(during)).isEqualTo(START); // 마지막 시각에서 이어서 발급
+        assertThat(after).isGreaterThan(during);
+        assertThat(TsidGenerator.timestampMillis(after)).isEqualTo(START + 1);
+        assertThat(sequence(after)).isZero();
+    }
+
+    @Test
+    void sequenceOverflowBorrowsNextMillisecond() {
+        TsidGenerator generator = new TsidGenerator(0, clock::get);
+
+        long last = 0;
+        for (int i = 0; i < SEQUENCE_PER_MILLI; i++) {
+            long id = generator.next();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+        assertThat(TsidGenerator.timestampMillis(last)).isEqualTo(START);
+        assertThat(sequence(last)).isEqualTo(SEQUENCE_PER_MILLI - 1);
+
+        long borrowed = generator.next(); // 시계는 그대로인데 순번이 다 떨어짐 -> 다음 ms를 당겨 씀
+        assertThat(TsidGenerator.timestampMillis(borrowed)).isEqualTo(START + 1);
+        assertThat(sequence(borrowed)).isZero();
+        assertThat(node(borrowed)).isZero(); // 순번이 노드 비트로 넘치지 않음
+
+        clock.set(START + 1); // 시계가 당겨 쓴 ms에 도착해도 겹치지 않음
+        assertThat(generator.next()).isEqualTo(borrowed + 1);
+    }
+
+    @Test
+    void concurrentCallersGetUniqueIncreasingIds() throws Exception {
+        TsidGenerator generator = new TsidGenerator(7);
+        int perThread = 20_000;
+
+        List<long[]> results = Concurrency.race(8, () -> {
+            long[] ids = new long[perThread];
+            for (int i = 0; i < perThread; i++) ids[i] = generator.next();
+            return ids;
+        });
+
+        Set<Long> all = new HashSet<>();
+        for (long[] ids : results) {
+            for (int i = 0; i < ids.length; i++) {
+                if (i > 0) assertThat(ids[i]).isGreaterThan(ids[i - 1]); // 스레드 안에서는 단조 증가
+                all.add(ids[i]);
+            }
+        }
+        assertThat(all).hasSize(8 * perThread);
+    }
+
+    @Test
+    void nodeIdOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> new TsidGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TsidGenerator(TsidGenerator.MAX_NODE + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nodeIdIsRequiredUnlessStoreIsSingleProcess() {
+        TokenStoreProperties redis = new TokenStoreProperties(TokenStoreProperties.Type.REDIS, 0, 0, 0);
+        TokenStoreProperties memory = new TokenStoreProperties(TokenStoreProperties.Type.MEMORY, 0, 0, 0);
+
+        assertThatThrownBy(() -> new IdConfig(new IdProperties(null), redis))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("app.id.node-id");
+
+        new IdConfig(new IdProperties(12), redis);
+        assertThat(node(TsidGenerator.shared().next())).isEqualTo(12);
+
+        new IdConfig(new IdProperties(null), memory);
+        assertThat(node(TsidGenerator.shared().next())).isZero();
+    }
+
+    private static long node(long id) {
+        return (id >>> TsidGenerator.SEQUENCE_BITS) & TsidGenerator.MAX_NODE;
+    }
+
+    private static long sequence(long id) {
+        return id & (SEQUENCE_PER_MILLI - 1);
+    }
+}
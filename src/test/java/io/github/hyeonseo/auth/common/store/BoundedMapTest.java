@@ -0,0 +1,55 @@
+package io.github.hyeonseo.auth.common.store;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedMapTest {
+
+    private record Timed(String value, long expiresAtMillis) {}
+
+    @Test
+    void dropsExpiredValuesBeforeLiveOnes() {
+        BoundedMap<String, Timed> map = new BoundedMap<>(10, Timed::expiresAtMillis);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) map.put("expired-" + i, new Timed("e", now - 1));
+        for (int i = 0; i < 5; i++) map.put("live-" + i, new Timed("l", now + 60_000));
+
+        map.put("new", new Timed("n", now + 60_000));
+
+        assertThat(map.size()).isEqualTo(6);
+        for (int i = 0; i < 5; i++) {
+            assertThat(map.get("expired-" + i)).isNull();
+            assertThat(map.get("live-" + i)).isNotNull();
+        }
+    }
+
+    @Test
+    void makesRoomForTenPercentWhenFull() {
+        BoundedMap<Integer, String> map = new BoundedMap<>(100);
+        for (int i = 0; i < 100; i++) map.put(i, "v" + i);
+
+        map.put(100, "v100");
+
+        assertThat(map.size()).isEqualTo(91); // 90까지 비우고 새 값 추가
+        assertThat(map.get(100)).isEqualTo("v100");
+
+        for (int i = 101; i < 110; i++) map.put(i, "v" + i);
+        assertThat(map.size()).isEqualTo(100); // 여유분을 다 쓸 때까지는 정리하지 않음
+    }
+
+    @Test
+    void replaceAndMergeKeepMapSemantics() {
+        BoundedMap<String, String> map = new BoundedMap<>(10);
+        map.put("k", "a");
+
+        assertThat(map.replace("k", "b", "c")).isFalse();
+        assertThat(map.replace("k", "a", "c")).isTrue();
+        map.merge("k", "d", (old, v) -> old + v);
+
+        assertThat(map.get("k")).isEqualTo("cd");
+        assertThat(map.remove("k", "x")).isFalse();
+        map.remove("k");
+        assertThat(map.size()).isZero();
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.hyeonseo.auth.common.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+
+class InMemoryTokenStoreTest extends TokenStoreConformanceTest {
+
+    @Override
+    protected TokenStore createStore() {
+        return new InMemoryTokenStore(new TokenStoreProperties(TokenStoreProperties.Type.MEMORY, 50, 64, 0));
+    }
+
+    @Override
+    protected void closeStore() {
+        ((InMemoryTokenStore) store).close();
+    }
+
+    @Test
+    void expiredEntriesAreReclaimed() {
+        InMemoryTokenStore memory = (InMemoryTokenStore) store;
+        for (int i = 0; i < 100; i++) {
+            memory.set("test:reclaim:" + i, "a".getBytes(StandardCharsets.UTF_8), Duration.ofMillis(100));
+        }
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> memory.size() == 0);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.hyeonseo.auth.common.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongObjectMapTest {
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        Random random = new Random(42);
+        LongObjectMap<String> map = new LongObjectMap<>();
+        Map<Long, String> expected = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000) - 2_500L; // 음수/0 포함, 충돌이 잦도록 좁은 범위
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(map.put(key, "v" + i)).isEqualTo(expected.put(key, "v" + i));
+                case 1 -> assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+                default -> assertThat(map.get(key)).isEqualTo(expected.get(key));
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+
+        expected.forEach((k, v) -> assertThat(map.get(k)).isEqualTo(v));
+    }
+
+    @Test
+    void sequentialIdsGrowAndShrink() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        long base = 600_000_000_000_000_000L; // TSID 범위
+
+        for (long i = 0; i < 100_000; i++) map.put(base + i, i);
+        for (long i = 0; i < 100_000; i += 2) map.remove(base + i);
+
+        assertThat(map.size()).isEqualTo(50_000);
+        for (long i = 0; i < 100_000; i++) {
+            assertThat(map.get(base + i)).isEqualTo(i % 2 == 0 ? null : i);
+        }
+    }
+}
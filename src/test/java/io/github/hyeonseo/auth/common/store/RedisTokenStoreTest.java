@@ -0,0 +1,19 @@
+package io.github.hyeonseo.auth.common.store;
+
+import io.github.hyeonseo.auth.support.InProcessRedis;
+
+class RedisTokenStoreTest extends TokenStoreConformanceTest {
+
+    private InProcessRedis redis;
+
+    @Override
+    protected TokenStore createStore() throws Exception {
+        redis = new InProcessRedis();
+        return new RedisTokenStore(redis.payloadTemplate());
+    }
+
+    @Override
+    protected void closeStore() throws Exception {
+        redis.close();
+    }
+}
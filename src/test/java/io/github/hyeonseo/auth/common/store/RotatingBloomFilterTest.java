@@ -0,0 +1,43 @@
+package io.github.hyeonseo.auth.common.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RotatingBloomFilterTest {
+
+    @Test
+    void keepsAddedItemsForOneRotationThenForgetsThem() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000, 0.001);
+        filter.add('j', "token-1");
+        filter.add('u', 42L);
+
+        assertThat(filter.mightContain('j', "token-1")).isTrue();
+        assertThat(filter.mightContain('u', 42L)).isTrue();
+        assertThat(filter.mightContain('u', "token-1")).isFalse(); // kind가 다르면 다른 항목
+
+        filter.rotate();
+        assertThat(filter.mightContain('j', "token-1")).isTrue();
+        assertThat(filter.mightContain('u', 42L)).isTrue();
+
+        filter.rotate();
+        assertThat(filter.mightContain('j', "token-1")).isFalse();
+        assertThat(filter.mightContain('u', 42L)).isFalse();
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        int n = 20_000;
+        RotatingBloomFilter filter = new RotatingBloomFilter(n, 0.01);
+        for (int i = 0; i < n; i++) filter.add('j', UUID.randomUUID().toString());
+
+        int trials = 200_000, positives = 0;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain('j', UUID.randomUUID().toString())) positives++;
+        }
+
+        assertThat((double) positives / trials).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.hyeonseo.auth.common.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static io.github.hyeonseo.auth.support.Concurrency.race;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenStore 구현 공통 동작 (구현마다 하위 클래스로 실행)
+ */
+abstract class TokenStoreConformanceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    protected TokenStore store;
+
+    protected abstract TokenStore createStore() throws Exception;
+
+    protected abstract void closeStore() throws Exception;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = createStore();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeStore();
+    }
+
+    @Test
+    void setThenGet() {
+        String key = key();
+        store.set(key, bytes("a"), TTL);
+
+        assertThat(store.get(key)).isEqualTo(bytes("a"));
+        assertThat(store.exists(key)).isTrue();
+    }
+
+    @Test
+    void missingKeyIsNull() {
+        String key = key();
+
+        assertThat(store.get(key)).isNull();
+        assertThat(store.exists(key)).isFalse();
+        assertThat(store.consume(key)).isNull();
+        assertThat(store.delete(key)).isFalse();
+    }
+
+    @Test
+    void setOverwrites() {
+        String key = key();
+        store.set(key, bytes("a"), TTL);
+        store.set(key, bytes("b"), TTL);
+
+        assertThat(store.get(key)).isEqualTo(bytes("b"));
+    }
+
+    @Test
+    void setIfAbsentOnlyFirstWins() {
+        String key = key();
+
+        assertThat(store.setIfAbsent(key, bytes("a"), TTL)).isTrue();
+        assertThat(store.setIfAbsent(key, bytes("b"), TTL)).isFalse();
+        assertThat(store.get(key)).isEqualTo(bytes("a"));
+    }
+
+    @Test
+    void consumeReturnsValueOnce() {
+        String key = key();
+        store.set(key, bytes("a"), TTL);
+
+        assertThat(store.consume(key)).isEqualTo(bytes("a"));
+        assertThat(store.consume(key)).isNull();
+        assertThat(store.get(key)).isNull();
+    }
+
+    @Test
+    void deleteRemovesKey() {
+        String key = key();
+        store.set(key, bytes("a"), TTL);
+
+        assertThat(store.delete(key)).isTrue();
+        assertThat(store.get(key)).isNull();
+        assertThat(store.setIfAbsent(key, bytes("b"), TTL)).isTrue();
+    }
+
+    @Test
+    void expiredKeyIsGone() throws Exception {
+        String key = key();
+        store.set(key, bytes("a"), Duration.ofSeconds(1));
+
+        Thread.sleep(1500);
+
+        assertThat(store.get(key)).isNull();
+        assertThat(store.consume(key)).isNull();
+        assertThat(store.setIfAbsent(key, bytes("b"), TTL)).isTrue(); // 만료된 키는 없는 키
+    }
+
+    @Test
+    void concurrentConsumeHasSingleWinner() throws Exception {
+        int threads = 8;
+        for (int round = 0; round < 20; round++) {
+            String key = key();
+            store.set(key, bytes("a"), TTL);
+
+            List<byte[]> results = race(threads, () -> store.consume(key));
+
+            assertThat(results.stream().filter(r -> r != null).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void concurrentSetIfAbsentHasSingleWinner() throws Exception {
+        int threads = 8;
+        for (int round = 0; round < 20; round++) {
+            String key = key();
+
+            List<Boolean> results = race(threads, () -> store.setIfAbsent(key, bytes("a"), TTL));
+
+            assertThat(results.stream().filter(Boolean::booleanValue).count()).isEqualTo(1);
+        }
+    }
+
+    private static String key() {
+        return "test:store:" + UUID.randomUUID();
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.hyeonseo.auth.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.HttpHandlerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.ReactiveWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리액티브 모드에서 실제로 뜨는 서버 (web + webflux 스타터가 모두 있는 이 프로젝트의 클래스패스 그대로)
+ */
+class ReactiveServerConfigTest {
+
+    @Test
+    void reactiveModeStartsNetty() {
+        try (var context = start(WebFluxServer.class, ReactiveServerConfig.class)) {
+            assertThat(context.getWebServer()).isInstanceOf(NettyWebServer.class);
+        }
+    }
+
+    @Test
+    void withoutConfigBootPicksTomcat() {
+        // ReactiveServerConfig가 필요한 이유 (Boot 기본 선택이 바뀌면 이 테스트로 알 수 있음)
+        try (var context = start(WebFluxServer.class)) {
+            assertThat(context.getWebServer()).isInstanceOf(TomcatWebServer.class);
+        }
+    }
+
+    private static ReactiveWebServerApplicationContext start(Class<?>... sources) {
+        return (ReactiveWebServerApplicationContext) new SpringApplicationBuilder(sources)
+                .web(WebApplicationType.REACTIVE)
+                .bannerMode(Banner.Mode.OFF)
+                .properties("server.port=0")
+                .run();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({
+            ReactiveWebServerFactoryAutoConfiguration.class,
+            HttpHandlerAutoConfiguration.class,
+            WebFluxAutoConfiguration.class
+    })
+    static class WebFluxServer {}
+}
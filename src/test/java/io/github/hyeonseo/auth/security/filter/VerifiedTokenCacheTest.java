@@ -0,0 +1,100 @@
+package io.github.hyeonseo.auth.security.filter;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.security.principal.UserPrincipal;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 검증된 access token 캐시: 만료 상한(토큰 exp / maxTtl), 크기 제한, 비활성 모드
+ */
+class VerifiedTokenCacheTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    void entryExpiresAtTokenExpBeforeMaxTtl() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new VerifiedTokenCacheProperties(true, 100, 60));
+        Function<String, VerifiedTokenCache.Entry> verifier = verifier(200); // 토큰 exp가 maxTtl(60초)보다 먼저
+
+        cache.getOrVerify("token", verifier);
+        cache.getOrVerify("token", verifier);
+        assertThat(verifications).hasValue(1);
+
+        Thread.sleep(300);
+        cache.getOrVerify("token", verifier);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void entryExpiresAtMaxTtlBeforeTokenExp() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new VerifiedTokenCacheProperties(true, 100, 1));
+        Function<String, VerifiedTokenCache.Entry> verifier = verifier(900_000);
+
+        cache.getOrVerify("token", verifier);
+        Thread.sleep(1100);
+        cache.getOrVerify("token", verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void expiredAndFailedTokensAreNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new VerifiedTokenCacheProperties(true, 100, 60));
+
+        cache.getOrVerify("expired", verifier(-1));
+        assertThatThrownBy(() -> cache.getOrVerify("tampered", t -> {
+            throw new JwtException("bad signature");
+        })).isInstanceOf(JwtException.class);
+
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void evictsWhenFullAndKeepsNewestEntry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new VerifiedTokenCacheProperties(true, 10, 60));
+        Function<String, VerifiedTokenCache.Entry> verifier = verifier(900_000);
+
+        for (int i = 0; i < 50; i++) {
+            cache.getOrVerify("token-" + i, verifier);
+            assertThat(cache.stats().size()).isLessThanOrEqualTo(10);
+        }
+        cache.getOrVerify("token-49", verifier);
+
+        assertThat(verifications).hasValue(50);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void disabledCacheVerifiesEveryTime() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new VerifiedTokenCacheProperties(false, 100, 60));
+        Function<String, VerifiedTokenCache.Entry> verifier = verifier(900_000);
+
+        cache.getOrVerify("token", verifier);
+        cache.getOrVerify("token", verifier);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.stats()).isEqualTo(new VerifiedTokenCache.Stats(0, 0, 0));
+    }
+
+    /**
+     * @param expiresInMillis 토큰 exp까지 남은 시간
+     */
+    private Function<String, VerifiedTokenCache.Entry> verifier(long expiresInMillis) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new VerifiedTokenCache.Entry(new UserPrincipal(42L, UserRole.CUSTOMER), List.of(),
+                    System.currentTimeMillis() + expiresInMillis, null);
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.hyeonseo.auth.signup.application;
+
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.Gender;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.signup.dto.CustomerSignupRequest;
+import io.github.hyeonseo.auth.signup.dto.OwnerSignupRequest;
+import io.github.hyeonseo.auth.signup.ticket.SignupTicketPayload;
+import io.github.hyeonseo.auth.user.identity.UserIdentityCache;
+import io.github.hyeonseo.auth.user.identity.UserIdentityCacheProperties;
+import io.github.hyeonseo.auth.user.repository.CustomerRepository;
+import io.github.hyeonseo.auth.user.repository.OwnerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 중복 가입 처리
+ * - id(TSID)를 미리 할당하면 save는 insert를 커밋까지 미룸 -> 저장소/트랜잭션 대역이 그 동작을 흉내 냄
+ *   (save: 커밋할 때 unique 위반, saveAndFlush: 그 자리에서 unique 위반)
+ */
+class SignupRegistrarTest {
+
+    private static final SignupTicketPayload CUSTOMER = new SignupTicketPayload(AuthProvider.KAKAO, "4242", UserRole.CUSTOMER, 0);
+    private static final SignupTicketPayload OWNER = new SignupTicketPayload(AuthProvider.KAKAO, "4242", UserRole.OWNER, 0);
+
+    private boolean pendingInsert; // flush 없이 save만 한 상태 (커밋할 때 insert)
+
+    @Test
+    void duplicateCustomerSignupGetsDuplicateError() {
+        SignupRegistrar registrar = registrar(null);
+
+        assertThatThrownBy(() -> registrar.registerCustomer(
+                new CustomerSignupRequest("ticket", "name", LocalDate.of(1990, 1, 1), Gender.FEMALE, "010-0000-0000", 1234), CUSTOMER))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Duplicate")
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void duplicateOwnerSignupGetsDuplicateError() {
+        SignupRegistrar registrar = registrar(null);
+
+        assertThatThrownBy(() -> registrar.registerOwner(
+                new OwnerSignupRequest("ticket", "name", LocalDate.of(1990, 1, 1), Gender.MALE, "010-0000-0000"), OWNER))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Duplicate")
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void alreadyRegisteredUserGetsExistingId() {
+        SignupRegistrar registrar = registrar(77L);
+
+        assertThat(registrar.registerCustomer(
+                new CustomerSignupRequest("ticket", "name", LocalDate.of(1990, 1, 1), Gender.FEMALE, "010-0000-0000", 1234), CUSTOMER))
+                .isEqualTo(77L);
+        assertThat(pendingInsert).isFalse();
+    }
+
+    /**
+     * @param existingId findIdByProvider 결과 (null이면 미가입 -> insert 시 unique 위반)
+     */
+    private SignupRegistrar registrar(Long existingId) {
+        return new SignupRegistrar(
+                repository(CustomerRepository.class, existingId),
+                repository(OwnerRepository.class, existingId),
+                new UserIdentityCache(null, new UserIdentityCacheProperties(false, 0, 0, 0, 0)),
+                new TransactionTemplate(new DeferredInsertTransactionManager()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T repository(Class<T> type, Long existingId) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "findIdByProvider" -> Optional.ofNullable(existingId);
+                    case "save" -> {
+                        pendingInsert = true;
+                        yield args[0];
+                    }
+                    case "saveAndFlush" -> throw duplicate();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static DataIntegrityViolationException duplicate() {
+        return new DataIntegrityViolationException("Duplicate entry '010-0000-0000' for key 'uq_customers_phone'");
+    }
+
+    /**
+     * 커밋할 때 미뤄둔 insert가 unique 위반 (JpaTransactionManager가 DataIntegrityViolationException으로 변환)
+     */
+    private class DeferredInsertTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            if (pendingInsert) throw duplicate();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            pendingInsert = false;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.hyeonseo.auth.signup.ticket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.codec.PayloadCodecProperties;
+import io.github.hyeonseo.auth.common.codec.PayloadFormat;
+import io.github.hyeonseo.auth.common.store.InMemoryTokenStore;
+import io.github.hyeonseo.auth.common.store.TokenStoreProperties;
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.support.Concurrency;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * STATELESS 회원가입 티켓 (dir + A256GCM)
+ * - 암복호화 / 위조 / 만료는 cipher, 1회 사용(사용 기록 SET NX)은 SignupTicketService로 확인
+ */
+class SignupTicketCipherTest {
+
+    private static final String SECRET = "signup-ticket-secret-signup-ticket-secret";
+
+    private final SignupTicketProperties props = new SignupTicketProperties(SignupTicketProperties.Mode.STATELESS, SECRET);
+    private final SignupTicketCipher cipher = new SignupTicketCipher(props);
+    private final InMemoryTokenStore store =
+            new InMemoryTokenStore(new TokenStoreProperties(TokenStoreProperties.Type.MEMORY, 50, 64, 0));
+    private final SignupTicketService tickets = new SignupTicketService(store,
+            new SignupTicketPayloadCodec(new ObjectMapper(), new PayloadCodecProperties(PayloadFormat.BINARY)), cipher, props);
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void roundTrip() {
+        SignupTicketPayload payload = payload(now());
+
+        SignupTicketCipher.DecryptedTicket decrypted = cipher.decrypt(cipher.encrypt(payload, SignupTicketService.TICKET_TTL));
+
+        assertThat(decrypted.payload()).isEqualTo(payload);
+        assertThat(decrypted.expiresAtEpochSec()).isEqualTo(payload.issuedAtEpochSec() + SignupTicketService.TICKET_TTL.toSeconds());
+        assertThat(decrypted.jti()).isNotBlank();
+    }
+
+    @Test
+    void ticketIsDirectA256GcmJwe() {
+        String[] parts = cipher.encrypt(payload(now()), SignupTicketService.TICKET_TTL).split("\\.", -1);
+
+        assertThat(parts).hasSize(5); // JWE compact
+        assertThat(parts[1]).isEmpty(); // dir: 암호화된 CEK 없음
+        assertThat(new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8))
+                .contains("\"alg\":\"dir\"", "\"enc\":\"A256GCM\"");
+    }
+
+    @Test
+    void tamperedTicketIsRejected() {
+        String ticket = cipher.encrypt(payload(now()), SignupTicketService.TICKET_TTL);
+        String[] parts = ticket.split("\\.", -1);
+
+        for (int part : new int[]{0, 2, 3, 4}) { // 헤더(AAD) / IV / 암호문 / 태그
+            String[] tampered = parts.clone();
+            tampered[part] = flipFirst(tampered[part]);
+            assertThat(cipher.decrypt(String.join(".", tampered))).as("part %d", part).isNull();
+        }
+        assertThat(cipher.decrypt(ticket.substring(0, ticket.length() - 1))).isNull();
+        assertThat(cipher.decrypt("not-a-ticket")).isNull();
+    }
+
+    @Test
+    void ticketFromOtherSecretIsRejected() {
+        SignupTicketCipher other = new SignupTicketCipher(
+                new SignupTicketProperties(SignupTicketProperties.Mode.STATELESS, SECRET + "-other"));
+
+        assertThat(cipher.decrypt(other.encrypt(payload(now()), SignupTicketService.TICKET_TTL))).isNull();
+    }
+
+    @Test
+    void expiredTicketIsRejected() {
+        long issuedAt = now() - SignupTicketService.TICKET_TTL.toSeconds() - 60;
+        String ticket = cipher.encrypt(payload(issuedAt), SignupTicketService.TICKET_TTL);
+
+        assertThat(cipher.decrypt(ticket)).isNull();
+        assertThat(tickets.consume(ticket)).isNull();
+    }
+
+    @Test
+    void ticketCanBeConsumedOnlyOnce() {
+        SignupTicketPayload payload = payload(now());
+        String ticket = tickets.create(payload, SignupTicketService.TICKET_TTL);
+        assertThat(tickets.getPayload(ticket)).isEqualTo(payload); // 조회만으로는 사용 처리되지 않음
+
+        SignupTicketService.ConsumedTicket consumed = tickets.consume(ticket);
+
+        assertThat(consumed.payload()).isEqualTo(payload);
+        assertThat(consumed.usedKey()).startsWith(SignupTicketService.USED_PREFIX);
+        assertThat(store.exists(consumed.usedKey())).isTrue();
+        assertThat(tickets.consume(ticket)).isNull();
+        assertThat(tickets.getPayload(ticket)).isNull();
+    }
+
+    @Test
+    void restoredTicketCanBeConsumedAgain() {
+        String ticket = tickets.create(payload(now()), SignupTicketService.TICKET_TTL);
+
+        tickets.restore(tickets.consume(ticket)); // 가입 트랜잭션 롤백
+
+        assertThat(tickets.getPayload(ticket)).isNotNull();
+        assertThat(tickets.consume(ticket)).isNotNull();
+    }
+
+    @Test
+    void concurrentConsumeHandsOutTicketOnce() throws Exception {
+        String ticket = tickets.create(payload(now()), SignupTicketService.TICKET_TTL);
+
+        List<SignupTicketService.ConsumedTicket> results = Concurrency.race(8, () -> tickets.consume(ticket));
+
+        assertThat(results.stream().filter(Objects::nonNull)).hasSize(1);
+    }
+
+    @Test
+    void shortSecretIsRejectedAtStartup() {
+        String shortSecret = "x".repeat(SignupTicketCipher.MIN_SECRET_BYTES - 1);
+
+        assertThatThrownBy(() -> new SignupTicketCipher(new SignupTicketProperties(SignupTicketProperties.Mode.STATELESS, shortSecret)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("at least");
+        assertThatThrownBy(() -> new SignupTicketCipher(new SignupTicketProperties(SignupTicketProperties.Mode.STATELESS, " ")))
+                .isInstanceOf(IllegalStateException.class);
+        new SignupTicketCipher(new SignupTicketProperties(SignupTicketProperties.Mode.REDIS, null)); // REDIS 모드는 secret 불필요
+    }
+
+    private static SignupTicketPayload payload(long issuedAt) {
+        return new SignupTicketPayload(AuthProvider.KAKAO, "4242", UserRole.CUSTOMER, issuedAt);
+    }
+
+    private static long now() {
+        return Instant.now().getEpochSecond();
+    }
+
+    private static String flipFirst(String segment) {
+        char c = segment.charAt(0);
+        return (c == 'A' ? 'B' : 'A') + segment.substring(1);
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.hyeonseo.auth.signup.ticket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.codec.PayloadCodecProperties;
+import io.github.hyeonseo.auth.common.codec.PayloadFormat;
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 회원가입 티켓 payload 바이너리 형식 + 형식 전환 전(JSON) 값 호환
+ */
+class SignupTicketPayloadCodecTest {
+
+    private final SignupTicketPayloadCodec binary = codec(PayloadFormat.BINARY);
+    private final SignupTicketPayloadCodec json = codec(PayloadFormat.JSON);
+
+    @Test
+    void binaryRoundTrip() {
+        String[] providerIds = {"4242424242", "", "108234567890123456789", "아이디-ø"};
+
+        for (UserRole role : UserRole.values()) {
+            for (AuthProvider provider : AuthProvider.values()) {
+                for (String providerId : providerIds) {
+                    SignupTicketPayload payload = new SignupTicketPayload(provider, providerId, role, 1_700_000_000L);
+                    assertThat(binary.decode(binary.encode(payload))).isEqualTo(payload);
+                }
+            }
+        }
+    }
+
+    @Test
+    void binaryLayoutIsStable() {
+        byte[] encoded = binary.encode(new SignupTicketPayload(AuthProvider.KAKAO, "42", UserRole.OWNER, 1_700_000_000L));
+
+        assertThat(encoded).containsExactly(0x01, 0x01, 0x01, 0x80, 0xE2, 0xCF, 0xAA, 0x06, '4', '2');
+    }
+
+    @Test
+    void decodesLegacyJsonWrittenBeforeSwitch() {
+        // 바이너리 형식 도입 전 SignupTicketService가 Jackson으로 저장하던 값 그대로
+        byte[] legacy = "{\"providerType\":\"KAKAO\",\"providerId\":\"4242\",\"role\":\"CUSTOMER\",\"issuedAtEpochSec\":1700000000}"
+                .getBytes(StandardCharsets.UTF_8);
+        SignupTicketPayload expected = new SignupTicketPayload(AuthProvider.KAKAO, "4242", UserRole.CUSTOMER, 1_700_000_000L);
+
+        assertThat(binary.decode(legacy)).isEqualTo(expected);
+        assertThat(json.decode(legacy)).isEqualTo(expected);
+    }
+
+    @Test
+    void eitherWriterIsReadableByEitherReader() {
+        SignupTicketPayload payload = new SignupTicketPayload(AuthProvider.GOOGLE, "g-123", UserRole.CUSTOMER, 1_700_000_000L);
+
+        assertThat(binary.decode(json.encode(payload))).isEqualTo(payload);
+        assertThat(json.decode(binary.encode(payload))).isEqualTo(payload);
+    }
+
+    @Test
+    void rejectsUnknownFormat() {
+        assertThatThrownBy(() -> binary.decode(new byte[]{0x02, 0x00, 0x00, 0x01})).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> binary.decode(new byte[]{0x01, 0x00})).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static SignupTicketPayloadCodec codec(PayloadFormat format) {
+        return new SignupTicketPayloadCodec(new ObjectMapper(), new PayloadCodecProperties(format));
+    }
+}
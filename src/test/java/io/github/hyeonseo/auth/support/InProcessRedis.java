@@ -0,0 +1,86 @@
+package io.github.hyeonseo.auth.support;
+
+import com.github.fppt.jedismock.RedisServer;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 프로세스 내 Redis (RESP, Lua 지원) + 앱과 같은 설정의 템플릿
+ * - 템플릿이 실제로 보낸 명령 종류를 순서대로 기록 (sentCommands, 왕복 수 확인용)
+ */
+public final class InProcessRedis implements AutoCloseable {
+
+    private final RedisServer server;
+    private final List<String> sentCommands = new CopyOnWriteArrayList<>();
+    private final ClientResources clientResources;
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate template;
+    private final RedisTemplate<String, byte[]> payloadTemplate;
+
+    public InProcessRedis() throws IOException {
+        server = RedisServer.newRedisServer().start();
+
+        clientResources = DefaultClientResources.builder()
+                .commandLatencyRecorder(new CommandLatencyRecorder() {
+                    @Override
+                    public void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
+                                                     long firstResponseLatency, long completionLatency) {
+                        sentCommands.add(commandType.toString()); // 응답을 받은 뒤, 호출자에게 완료를 알리기 전에 호출됨
+                    }
+                })
+                .build();
+
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(server.getHost(), server.getBindPort()),
+                LettuceClientConfiguration.builder().clientResources(clientResources).build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        template = new StringRedisTemplate(connectionFactory);
+
+        payloadTemplate = new RedisTemplate<>();
+        payloadTemplate.setConnectionFactory(connectionFactory);
+        payloadTemplate.setKeySerializer(RedisSerializer.string());
+        payloadTemplate.setValueSerializer(RedisSerializer.byteArray());
+        payloadTemplate.afterPropertiesSet();
+    }
+
+    public StringRedisTemplate template() {
+        return template;
+    }
+
+    public RedisTemplate<String, byte[]> payloadTemplate() {
+        return payloadTemplate;
+    }
+
+    /**
+     * 지금까지 보낸 명령 (EVALSHA, GET 등) / clearSentCommands 이후만
+     */
+    public List<String> sentCommands() {
+        return List.copyOf(sentCommands);
+    }
+
+    public void clearSentCommands() {
+        sentCommands.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        connectionFactory.destroy();
+        clientResources.shutdown();
+        server.stop();
+    }
+}
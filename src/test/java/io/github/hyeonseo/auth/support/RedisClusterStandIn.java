@@ -0,0 +1,60 @@
+package io.github.hyeonseo.auth.support;
+
+import io.lettuce.core.cluster.SlotHash;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 테스트용 Redis Cluster 대체: 프로세스 내 Redis 노드 여러 개 + 해시 슬롯 범위 분할
+ * - 클러스터 클라이언트처럼 키의 슬롯(CRC16, 해시 태그 반영)으로 노드를 골라서 보냄 (스크립트는 첫 번째 키 기준)
+ * - 노드에 자기 슬롯 범위 밖의 키가 생기면 = 한 번의 명령/스크립트가 다른 슬롯 키를 건드린 것 (실제 클러스터에선 CROSSSLOT)
+ */
+public final class RedisClusterStandIn implements AutoCloseable {
+
+    private final List<InProcessRedis> nodes = new ArrayList<>();
+
+    public RedisClusterStandIn(int size) throws IOException {
+        for (int i = 0; i < size; i++) {
+            nodes.add(new InProcessRedis());
+        }
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public InProcessRedis node(int index) {
+        return nodes.get(index);
+    }
+
+    /**
+     * 키가 속한 노드 (슬롯 범위를 노드 수로 균등 분할)
+     */
+    public int nodeIndex(String key) {
+        return SlotHash.getSlot(key) * nodes.size() / SlotHash.SLOT_COUNT;
+    }
+
+    /**
+     * 자기 슬롯 범위 밖에 저장된 키 (node 번호 -> 키)
+     */
+    public List<String> misplacedKeys() {
+        List<String> misplaced = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            Set<String> keys = nodes.get(i).template().keys("*");
+            for (String key : keys) {
+                if (nodeIndex(key) != i) misplaced.add(i + " -> " + key);
+            }
+        }
+        return misplaced;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (InProcessRedis node : nodes) {
+            node.close();
+        }
+    }
+}
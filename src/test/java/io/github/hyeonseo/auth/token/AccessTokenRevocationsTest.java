@@ -0,0 +1,90 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.support.InProcessRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * access token 폐기 목록 (Bloom filter + Redis 확인)
+ */
+class AccessTokenRevocationsTest {
+
+    private final JwtProperties props = new JwtProperties(
+            "kakao-oauth2-jwt", "test-secret-test-secret-test-secret-0123456789", null, List.of(), 900, 1209600);
+    private final JwtKeyRing keyRing = new JwtKeyRing(props, new StandardEnvironment());
+    private final AccessTokenService accessTokens =
+            new AccessTokenService(props, keyRing, new FastAccessTokenVerifier(props, keyRing));
+
+    private InProcessRedis redis;
+    private AccessTokenRevocations revocations;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new InProcessRedis();
+        revocations = newNode();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @Test
+    void revokedTokenIsRejectedAndOthersStayValid() {
+        String revoked = accessTokens.issueAccessToken("42", UserRole.CUSTOMER);
+        String other = accessTokens.issueAccessToken("42", UserRole.CUSTOMER);
+
+        revocations.revoke(revoked);
+
+        assertThat(revocations.isRevoked(accessTokens.verify(revoked))).isTrue();
+        assertThat(revocations.isRevoked(accessTokens.verify(other))).isFalse();
+    }
+
+    @Test
+    void unrevokedTokensNeverReachRedis() {
+        revocations.revoke(accessTokens.issueAccessToken("1", UserRole.CUSTOMER));
+
+        for (int i = 0; i < 100; i++) {
+            VerifiedAccessToken token = accessTokens.verify(accessTokens.issueAccessToken(String.valueOf(1000 + i), UserRole.OWNER));
+            assertThat(revocations.isRevoked(token)).isFalse();
+        }
+        assertThat(revocations.stats().lookups()).isZero();
+    }
+
+    @Test
+    void revokeUserRejectsTokensIssuedBefore() {
+        long exp = Instant.now().getEpochSecond() + props.accessTtlSeconds();
+        VerifiedAccessToken earlier = new VerifiedAccessToken(42L, UserRole.CUSTOMER, exp - 5, "earlier");
+        VerifiedAccessToken later = new VerifiedAccessToken(42L, UserRole.CUSTOMER, exp + 5, "later");
+        VerifiedAccessToken otherRole = new VerifiedAccessToken(42L, UserRole.OWNER, exp - 5, "owner");
+
+        revocations.revokeUser(UserRole.CUSTOMER, 42L);
+
+        assertThat(revocations.isRevoked(earlier)).isTrue();
+        assertThat(revocations.isRevoked(later)).isFalse(); // 폐기 이후에 발급된 토큰
+        assertThat(revocations.isRevoked(otherRole)).isFalse();
+    }
+
+    @Test
+    void newNodeLoadsExistingRevocationsOnStart() {
+        String revoked = accessTokens.issueAccessToken("42", UserRole.CUSTOMER);
+        revocations.revoke(revoked);
+
+        AccessTokenRevocations other = newNode();
+
+        assertThat(other.isRevoked(accessTokens.verify(revoked))).isTrue();
+    }
+
+    private AccessTokenRevocations newNode() {
+        return new AccessTokenRevocations(redis.template(), accessTokens,
+                new AccessTokenRevocationProperties(true, 1_000, 0.001, 30), props);
+    }
+}
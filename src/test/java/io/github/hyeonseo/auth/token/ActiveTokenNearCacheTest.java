@@ -0,0 +1,238 @@
+package io.github.hyeonseo.auth.token;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.codec.PayloadCodecProperties;
+import io.github.hyeonseo.auth.common.codec.PayloadFormat;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.support.InProcessRedis;
+import io.github.hyeonseo.auth.token.RefreshTokenService.RefreshTokenPayload;
+import io.lettuce.core.api.push.PushMessage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ACTIVE 포인터 캐시: 무효화 타이밍, 연결 끊김, 정리 + 저장소에서 옛 값을 믿지 않는지
+ */
+class ActiveTokenNearCacheTest {
+
+    private static final String KEY = "auth:refresh:active:{142}";
+    private static final long TTL = 600;
+
+    @Test
+    void invalidationDuringLoadDropsLoadedValue() {
+        FakeConnection redis = new FakeConnection();
+        ActiveTokenNearCache cache = new ActiveTokenNearCache(redis, props(100));
+        redis.values.put(KEY, "old");
+
+        // GET 응답과 저장 사이에 invalidate 푸시가 도착 (그 사이 다른 서버가 값을 바꿈)
+        redis.duringGet = key -> {
+            redis.values.put(key, "new");
+            cache.onPush(invalidate(List.of(key)));
+        };
+        assertThat(cache.get(KEY)).isEqualTo("old");
+        redis.duringGet = key -> {};
+
+        assertThat(cache.get(KEY)).isEqualTo("new"); // 읽은 옛 값은 저장되지 않아서 다시 읽음
+        assertThat(redis.gets).hasValue(2);
+        assertThat(cache.get(KEY)).isEqualTo("new");
+        assertThat(redis.gets).hasValue(2);
+    }
+
+    @Test
+    void disconnectBypassesCacheUntilTrackingIsBack() {
+        FakeConnection redis = new FakeConnection();
+        ActiveTokenNearCache cache = new ActiveTokenNearCache(redis, props(100));
+        redis.values.put(KEY, "a");
+        cache.get(KEY);
+
+        cache.onDisconnected();
+        assertThat(cache.stats().size()).isZero();
+
+        redis.values.put(KEY, "b"); // 끊긴 동안의 변경은 푸시로 오지 않음
+        assertThat(cache.get(KEY)).isEqualTo("b");
+        assertThat(cache.get(KEY)).isEqualTo("b");
+        assertThat(redis.gets).hasValue(3);
+        assertThat(cache.stats().size()).isZero();
+
+        CompletableFuture<String> retracked = new CompletableFuture<>();
+        redis.retrack = retracked;
+        cache.onReconnected();
+        cache.get(KEY);
+        assertThat(redis.gets).hasValue(4); // CLIENT TRACKING 응답 전에는 아직 캐시 안 함
+        assertThat(cache.stats().size()).isZero();
+
+        retracked.complete("OK");
+        cache.get(KEY);
+        cache.get(KEY);
+        assertThat(redis.gets).hasValue(5);
+        assertThat(cache.stats().size()).isOne();
+    }
+
+    @Test
+    void nullInvalidationFlushesEverything() {
+        FakeConnection redis = new FakeConnection();
+        ActiveTokenNearCache cache = new ActiveTokenNearCache(redis, props(100));
+        for (int i = 0; i < 10; i++) {
+            redis.values.put(KEY + i, "t" + i);
+            cache.get(KEY + i);
+        }
+
+        cache.onPush(invalidate(null)); // FLUSHALL 등
+
+        assertThat(cache.stats().size()).isZero();
+        assertThat(cache.stats().invalidations()).isEqualTo(10);
+    }
+
+    @Test
+    void evictsWhenFull() {
+        FakeConnection redis = new FakeConnection();
+        ActiveTokenNearCache cache = new ActiveTokenNearCache(redis, props(10));
+        for (int i = 0; i < 50; i++) {
+            redis.values.put(KEY + i, "t" + i);
+            assertThat(cache.get(KEY + i)).isEqualTo("t" + i);
+        }
+
+        assertThat(cache.stats().size()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void storeRereadsRedisWhenCachedPointerDiffers() throws Exception {
+        try (InProcessRedis redis = new InProcessRedis()) {
+            Node node = new Node(redis);
+            var otherNode = new RedisRefreshSessionStore(redis.template(), redis.payloadTemplate()); // 푸시가 아직 안 온 상황
+
+            String first = RefreshTokens.issue(UserRole.CUSTOMER, 42);
+            node.store.issueSingle(UserRole.CUSTOMER, 42, first, payload(), TTL);
+            assertThat(node.store.isActive(UserRole.CUSTOMER, 42, first)).isTrue();
+
+            String second = RefreshTokens.next(first);
+            assertThat(otherNode.rotateSingle(first, second, 200, TTL)).isNotNull();
+
+            assertThat(node.store.isActive(UserRole.CUSTOMER, 42, second)).isTrue();  // 캐시와 달라서 Redis 확인
+            assertThat(node.store.isActive(UserRole.CUSTOMER, 42, first)).isFalse();
+        }
+    }
+
+    @Test
+    void rotationOnThisNodeEvictsActivePointer() throws Exception {
+        try (InProcessRedis redis = new InProcessRedis()) {
+            Node node = new Node(redis);
+
+            String first = RefreshTokens.issue(UserRole.CUSTOMER, 42);
+            node.store.issueSingle(UserRole.CUSTOMER, 42, first, payload(), TTL);
+            assertThat(node.store.isActive(UserRole.CUSTOMER, 42, first)).isTrue();
+
+            String second = RefreshTokens.next(first);
+            assertThat(node.store.rotateSingle(first, second, 200, TTL)).isNotNull();
+
+            // 푸시를 기다리지 않아도 교체된 토큰은 ACTIVE가 아님
+            assertThat(node.store.isActive(UserRole.CUSTOMER, 42, first)).isFalse();
+            assertThat(node.store.isActive(UserRole.CUSTOMER, 42, second)).isTrue();
+        }
+    }
+
+    @Test
+    void legacyRotationOnThisNodeEvictsLegacyPointer() throws Exception {
+        try (InProcessRedis redis = new InProcessRedis()) {
+            Node node = new Node(redis);
+
+            String legacy = UUID.randomUUID().toString();
+            redis.payloadTemplate().opsForValue().set("auth:refresh:token:" + legacy, payload(), Duration.ofSeconds(TTL));
+            redis.template().opsForValue().set("auth:refresh:active:CUSTOMER:42", legacy, Duration.ofSeconds(TTL));
+            assertThat(node.store.isActive(UserRole.CUSTOMER, 42, legacy)).isTrue();
+
+            assertThat(node.store.rotateSingle(legacy, RefreshTokens.issue(UserRole.CUSTOMER, 42), 200, TTL)).isNotNull();
+
+            assertThat(node.store.isActive(UserRole.CUSTOMER, 42, legacy)).isFalse();
+        }
+    }
+
+    /**
+     * 캐시를 켠 서버 하나 (추적 연결은 같은 프로세스 내 Redis를 읽고, 푸시는 오지 않음)
+     */
+    private static final class Node {
+        final RedisRefreshSessionStore store;
+
+        Node(InProcessRedis redis) {
+            FakeConnection connection = new FakeConnection();
+            connection.reader = key -> redis.template().opsForValue().get(key);
+            ActiveTokenNearCache cache = new ActiveTokenNearCache(connection, props(100));
+            this.store = new RedisRefreshSessionStore(redis.template(), redis.payloadTemplate(), cache, true);
+        }
+    }
+
+    private static byte[] payload() {
+        return new RefreshTokenPayloadCodec(new ObjectMapper(), new PayloadCodecProperties(PayloadFormat.BINARY))
+                .encode(new RefreshTokenPayload(42, UserRole.CUSTOMER, 100));
+    }
+
+    private static ActiveTokenCacheProperties props(int maxSize) {
+        return new ActiveTokenCacheProperties(true, maxSize, 300);
+    }
+
+    private static PushMessage invalidate(List<String> keys) {
+        List<Object> content = Arrays.asList("invalidate", keys == null ? null : new ArrayList<Object>(keys));
+        return new PushMessage() {
+            @Override
+            public String getType() {
+                return "invalidate";
+            }
+
+            @Override
+            public List<Object> getContent() {
+                return content;
+            }
+
+            @Override
+            public List<Object> getContent(Function<ByteBuffer, Object> decodeFunction) {
+                return content;
+            }
+        };
+    }
+
+    /**
+     * 추적 연결 대체 (GET 횟수 기록, GET 도중 끼어들 동작 지정)
+     */
+    private static final class FakeConnection implements ActiveTokenNearCache.TrackedConnection {
+        final Map<String, String> values = new ConcurrentHashMap<>();
+        final AtomicInteger gets = new AtomicInteger();
+        UnaryOperator<String> reader = values::get;
+        Consumer<String> duringGet = key -> {};
+        CompletionStage<?> retrack = CompletableFuture.completedFuture("OK");
+
+        @Override
+        public void open(ActiveTokenNearCache cache) {}
+
+        @Override
+        public String get(String key) {
+            gets.incrementAndGet();
+            String value = reader.apply(key);
+            duringGet.accept(key);
+            return value;
+        }
+
+        @Override
+        public CompletionStage<?> retrack() {
+            return retrack;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,240 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.github.hyeonseo.auth.support.Concurrency.race;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 빠른 경로와 jjwt 경로가 같은 토큰을 받아들이고 거부하는지
+ * - 빠른 경로 결과가 null이 아니면 jjwt도 받아들이고 값도 같아야 함
+ * - jjwt가 거부하는 토큰은 빠른 경로도 항상 null (-> AccessTokenService.verify가 jjwt 예외를 그대로 던짐)
+ * - 빠른 경로가 판단하지 않는 토큰(null)은 jjwt 결과를 그대로 씀
+ */
+class FastAccessTokenVerifierTest {
+
+    private static final String ISSUER = "kakao-oauth2-jwt";
+    private static final String SECRET = "test-secret-test-secret-test-secret-0123456789"; // 368비트 -> HS256만 가능
+    private static final String HEADER = "{\"kid\":\"default\",\"alg\":\"HS256\"}";
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+    private final JwtProperties props = new JwtProperties(ISSUER, SECRET, null, List.of(), 900, 1209600);
+    private final JwtKeyRing keyRing = new JwtKeyRing(props, new StandardEnvironment());
+    private final FastAccessTokenVerifier fastVerifier = new FastAccessTokenVerifier(props, keyRing);
+    private final AccessTokenService accessTokens = new AccessTokenService(props, keyRing, fastVerifier);
+    private final long now = Instant.now().getEpochSecond();
+
+    @Test
+    void acceptsWellFormedTokensOnFastPath() {
+        String issued = accessTokens.issueAccessToken("42", UserRole.CUSTOMER);
+        String handBuilt = sign(HEADER, claims(exp(900)));
+        String withoutKid = sign("{\"alg\":\"HS256\"}", claims(exp(900)));
+        String spaced = sign("{ \"typ\" : \"JWT\" ,\n \"alg\" : \"HS256\" }", claims(exp(900) + ", \"flag\" : true, \"n\": null"));
+
+        assertThat(fastVerifier.verify(issued)).isNotNull().isEqualTo(assertAgrees(issued));
+        assertThat(fastVerifier.verify(handBuilt))
+                .isEqualTo(new VerifiedAccessToken(42L, UserRole.CUSTOMER, now + 900, "j-1"))
+                .isEqualTo(assertAgrees(handBuilt));
+        assertThat(fastVerifier.verify(withoutKid)).isNotNull().isEqualTo(assertAgrees(withoutKid));
+        assertThat(fastVerifier.verify(spaced)).isNotNull().isEqualTo(assertAgrees(spaced));
+    }
+
+    @Test
+    void rejectsTamperedSignatureAndPayload() {
+        String token = sign(HEADER, claims(exp(900)));
+        String other = sign(HEADER, claims(exp(900)).replace("\"sub\":\"42\"", "\"sub\":\"43\""));
+        int sig = token.lastIndexOf('.') + 1;
+
+        assertRejected(token.substring(0, sig + 2) + flip(token.charAt(sig + 2)) + token.substring(sig + 3));
+        assertRejected(other.substring(0, other.lastIndexOf('.')) + token.substring(token.lastIndexOf('.')));
+        assertRejected(token.substring(0, token.length() - 2));
+        assertRejected(token.substring(0, sig));
+    }
+
+    @Test
+    void rejectsWrongNoneAndUnknownKeyAlgorithms() {
+        String payload = claims(exp(900));
+        String token = sign(HEADER, payload);
+        String unsecured = b64("{\"alg\":\"none\"}") + "." + b64(payload) + ".";
+
+        assertRejected(unsecured);
+        assertRejected(unsecured + token.substring(token.lastIndexOf('.') + 1));
+        assertRejected(sign("{\"kid\":\"default\",\"alg\":\"HS384\"}", payload, "HmacSHA384")); // 키가 384비트보다 짧음
+        assertRejected(sign("{\"kid\":\"default\",\"alg\":\"HS512\"}", payload));
+        assertRejected(sign("{\"kid\":\"default\",\"alg\":\"ES256\"}", payload));
+        assertRejected(sign("{\"kid\":\"unknown\",\"alg\":\"HS256\"}", payload));
+    }
+
+    @Test
+    void rejectsExpiredAndPrematureTokensAndLeavesOtherTimeClaimsToJjwt() {
+        assertRejected(sign(HEADER, claims(exp(-60))));
+        assertRejected(sign(HEADER, claims(exp(900) + ",\"nbf\":" + (now + 600))));
+
+        assertFallback(sign(HEADER, claims(exp(900) + ",\"nbf\":" + (now - 60))));
+        assertThat(assertFallback(sign(HEADER, claims(""))).expiresAtEpochSec()).isZero(); // exp 없는 토큰
+        assertFastPathDeclines(sign(HEADER, claims(",\"exp\":" + (now + 900) + ".5")));
+        assertFastPathDeclines(sign(HEADER, claims(",\"exp\":\"" + (now + 900) + "\"")));
+    }
+
+    @Test
+    void fastPathDeclinesNonCanonicalBase64AndPadding() {
+        String payload = claims(exp(900));
+        String token = sign(HEADER, payload);
+        char last = token.charAt(token.length() - 1);
+        char nonCanonical = ALPHABET.charAt(ALPHABET.indexOf(last) | 1); // 쓰이지 않는 하위 비트만 바꿈 -> 같은 바이트로 디코딩
+
+        assertFastPathDeclines(token.substring(0, token.length() - 1) + nonCanonical);
+        assertFastPathDeclines(token + "=");
+        assertFastPathDeclines(signEncoded(Base64.getUrlEncoder().encodeToString(ascii(HEADER)) + "." + b64(payload), "HmacSHA256"));
+    }
+
+    @Test
+    void fastPathDeclinesEscapesDuplicatesAndNonStrictJson() {
+        String payload = claims(exp(900));
+
+        assertThat(assertFallback(sign(HEADER, payload.replace("\"j-1\"", "\"a\\\"b\""))).jti()).isEqualTo("a\"b");
+        assertThat(assertFallback(sign(HEADER, payload.replace("\"CUSTOMER\"", "\"CUST\\u004fMER\""))).role())
+                .isEqualTo(UserRole.CUSTOMER);
+        assertFallback(sign(HEADER, claims(exp(900) + ",\"name\":\"홍길동\"")));
+
+        // 같은 key가 두 번: 어느 값을 쓸지는 jjwt가 정함
+        assertFastPathDeclines(sign(HEADER, claims(exp(900) + ",\"sub\":\"43\"")));
+        assertFastPathDeclines(sign(HEADER, claims(exp(900) + ",\"x\":1,\"x\":2")));
+        assertFastPathDeclines(sign("{\"alg\":\"HS256\",\"kid\":\"default\",\"alg\":\"HS256\"}", payload));
+
+        // JSON이 아닌 입력
+        assertFastPathDeclines(sign(HEADER, claims(exp(900) + ",\"n\":007")));
+        assertFastPathDeclines(sign(HEADER, claims(exp(900) + ",\"flag\":tru")));
+        assertFastPathDeclines(sign(HEADER, claims(exp(900) + ",")));
+    }
+
+    @Test
+    void fastPathDeclinesOversizedSegments() {
+        StringBuilder manyClaims = new StringBuilder(exp(900));
+        for (int i = 0; i < 16; i++) manyClaims.append(",\"c").append(i).append("\":").append(i);
+
+        assertFallback(sign(HEADER, claims(exp(900) + ",\"pad\":\"" + "x".repeat(1600) + "\""))); // 토큰 2048자 초과
+        assertFallback(sign("{\"kid\":\"default\",\"alg\":\"HS256\",\"typ\":\"" + "x".repeat(300) + "\"}", claims(exp(900))));
+        assertFallback(sign(HEADER, claims(manyClaims.toString())));
+    }
+
+    @Test
+    void platformAndVirtualThreadsGetTheirOwnResults() throws Exception {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) tokens.add(accessTokens.issueAccessToken(String.valueOf(i), UserRole.CUSTOMER));
+
+        List<Boolean> platform = race(8, () -> {
+            for (int i = 0; i < tokens.size(); i++) {
+                if (fastVerifier.verify(tokens.get(i)).userId() != i + 1) return false;
+            }
+            return true;
+        });
+        assertThat(platform).containsOnly(true);
+
+        try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<VerifiedAccessToken>> results = new ArrayList<>();
+            for (int round = 0; round < 5; round++) {
+                for (String token : tokens) results.add(virtual.submit(() -> fastVerifier.verify(token)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get().userId()).isEqualTo(i % tokens.size() + 1);
+            }
+        }
+    }
+
+    /**
+     * 두 경로의 결과 비교
+     * @return jjwt가 받아들이면 그 결과, 거부하면 null
+     */
+    private VerifiedAccessToken assertAgrees(String token) {
+        VerifiedAccessToken fast = fastVerifier.verify(token);
+        VerifiedAccessToken expected;
+        try {
+            Claims claims = accessTokens.parseClaims(token);
+            long exp = claims.getExpiration() != null ? claims.getExpiration().getTime() / 1000 : 0L;
+            expected = new VerifiedAccessToken(Long.parseLong(claims.getSubject()), accessTokens.extractRole(claims), exp, claims.getId());
+        } catch (RuntimeException rejected) {
+            assertThat(fast).as("fast path accepted a token jjwt rejects (%s)", rejected).isNull();
+            assertThatThrownBy(() -> accessTokens.verify(token)).isInstanceOf(rejected.getClass());
+            return null;
+        }
+
+        if (fast != null) assertThat(fast).isEqualTo(expected);
+        assertThat(accessTokens.verify(token)).isEqualTo(expected);
+        return expected;
+    }
+
+    private void assertRejected(String token) {
+        assertThat(fastVerifier.verify(token)).isNull();
+        assertThat(assertAgrees(token)).as("jjwt result").isNull();
+    }
+
+    private void assertFastPathDeclines(String token) {
+        assertThat(fastVerifier.verify(token)).isNull();
+        assertAgrees(token);
+    }
+
+    /**
+     * 빠른 경로는 판단하지 않고 jjwt가 받아들이는 토큰
+     */
+    private VerifiedAccessToken assertFallback(String token) {
+        assertThat(fastVerifier.verify(token)).isNull();
+        VerifiedAccessToken verified = assertAgrees(token);
+        assertThat(verified).as("jjwt result").isNotNull();
+        return verified;
+    }
+
+    private static String claims(String extra) {
+        return "{\"jti\":\"j-1\",\"iss\":\"" + ISSUER + "\",\"sub\":\"42\",\"role\":\"CUSTOMER\"" + extra + "}";
+    }
+
+    private String exp(long fromNowSeconds) {
+        return ",\"exp\":" + (now + fromNowSeconds);
+    }
+
+    private static String sign(String header, String payload) {
+        return sign(header, payload, "HmacSHA256");
+    }
+
+    private static String sign(String header, String payload, String macAlgorithm) {
+        return signEncoded(b64(header) + "." + b64(payload), macAlgorithm);
+    }
+
+    private static String signEncoded(String signingInput, String macAlgorithm) {
+        try {
+            Mac mac = Mac.getInstance(macAlgorithm);
+            mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), macAlgorithm));
+            return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(ascii(signingInput)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String b64(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static char flip(char c) {
+        return c == 'A' ? 'B' : 'A';
+    }
+}
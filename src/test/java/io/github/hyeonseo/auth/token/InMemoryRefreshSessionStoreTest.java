@@ -0,0 +1,16 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.store.TokenStoreProperties;
+
+class InMemoryRefreshSessionStoreTest extends RefreshSessionStoreConformanceTest {
+
+    @Override
+    protected RefreshSessionStore createStore() {
+        return new InMemoryRefreshSessionStore(codec, new TokenStoreProperties(TokenStoreProperties.Type.MEMORY, 50, 64, 4));
+    }
+
+    @Override
+    protected void closeStore() {
+        ((InMemoryRefreshSessionStore) store).close();
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.hyeonseo.auth.token;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비대칭 서명 모드 + JWKS 문서
+ * - 공개된 JWK만으로 (PEM 없이) 키를 다시 만들어서 발급된 토큰을 검증할 수 있는지
+ */
+class JwksServiceTest {
+
+    private static final String ISSUER = "kakao-oauth2-jwt";
+    private static final String HMAC_SECRET = "test-secret-test-secret-test-secret-0123456789";
+    private static final byte[] ED25519_SPKI_PREFIX = HexFormat.of().parseHex("302a300506032b6570032100"); // X.509 헤더 + 32바이트 공개키
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void es256JwkVerifiesIssuedToken() throws Exception {
+        JwtProperties props = props("es-1", signingKey("es-1", JwtAlgorithm.ES256, ecKeyPair()));
+        JwtKeyRing keyRing = new JwtKeyRing(props, new StandardEnvironment());
+        AccessTokenService accessTokens = new AccessTokenService(props, keyRing, new FastAccessTokenVerifier(props, keyRing));
+        String token = accessTokens.issueAccessToken("42", UserRole.OWNER);
+
+        JsonNode jwk = onlyKey(new JwksService(keyRing, objectMapper).current());
+
+        assertThat(jwk.get("kty").asText()).isEqualTo("EC");
+        assertThat(jwk.get("crv").asText()).isEqualTo("P-256");
+        assertThat(jwk.get("kid").asText()).isEqualTo("es-1");
+        assertThat(jwk.get("alg").asText()).isEqualTo("ES256");
+        assertThat(jwk.get("use").asText()).isEqualTo("sig");
+        assertThat(unsignedBytes(jwk, "x")).hasSize(32);
+        assertThat(unsignedBytes(jwk, "y")).hasSize(32);
+
+        assertThat(verifyWith(ecPublicKey(jwk), token)).isEqualTo("42");
+        assertThat(accessTokens.verify(token).role()).isEqualTo(UserRole.OWNER); // 서비스 자신의 검증 경로 (jjwt)
+    }
+
+    @Test
+    void ed25519JwkVerifiesIssuedToken() throws Exception {
+        JwtProperties props = props("ed-1", signingKey("ed-1", JwtAlgorithm.ED25519, KeyPairGenerator.getInstance("Ed25519").generateKeyPair()));
+        JwtKeyRing keyRing = new JwtKeyRing(props, new StandardEnvironment());
+        AccessTokenService accessTokens = new AccessTokenService(props, keyRing, new FastAccessTokenVerifier(props, keyRing));
+        String token = accessTokens.issueAccessToken("42", UserRole.CUSTOMER);
+
+        JsonNode jwk = onlyKey(new JwksService(keyRing, objectMapper).current());
+
+        assertThat(jwk.get("kty").asText()).isEqualTo("OKP");
+        assertThat(jwk.get("crv").asText()).isEqualTo("Ed25519");
+        assertThat(jwk.get("kid").asText()).isEqualTo("ed-1");
+        assertThat(jwk.get("alg").asText()).isEqualTo("EdDSA");
+        assertThat(jwk.has("y")).isFalse();
+
+        byte[] x = unsignedBytes(jwk, "x");
+        byte[] spki = new byte[ED25519_SPKI_PREFIX.length + x.length];
+        System.arraycopy(ED25519_SPKI_PREFIX, 0, spki, 0, ED25519_SPKI_PREFIX.length);
+        System.arraycopy(x, 0, spki, ED25519_SPKI_PREFIX.length, x.length);
+        PublicKey publicKey = KeyFactory.getInstance("Ed25519").generatePublic(new X509EncodedKeySpec(spki));
+
+        assertThat(verifyWith(publicKey, token)).isEqualTo("42");
+        assertThat(accessTokens.verify(token).userId()).isEqualTo(42L);
+    }
+
+    @Test
+    void hmacKeysAreNeverPublished() {
+        JwtProperties props = new JwtProperties(ISSUER, HMAC_SECRET, null, List.of(), 900, 1209600);
+        JwtKeyRing keyRing = new JwtKeyRing(props, new StandardEnvironment());
+
+        assertThat(new JwksService(keyRing, objectMapper).current().json()).isEqualTo("{\"keys\":[]}");
+    }
+
+    @Test
+    void etagChangesOnlyWhenKeyRingChanges() throws Exception {
+        JwtProperties.SigningKey first = signingKey("es-1", JwtAlgorithm.ES256, ecKeyPair());
+        JwtProperties.SigningKey second = signingKey("es-2", JwtAlgorithm.ES256, ecKeyPair());
+        JwtKeyRing keyRing = new JwtKeyRing(props("es-1", first), new StandardEnvironment());
+        JwksService jwksService = new JwksService(keyRing, objectMapper);
+
+        JwksService.Jwks before = jwksService.current();
+        assertThat(jwksService.current()).isSameAs(before); // 키 링이 그대로면 다시 만들지 않음
+
+        keyRing.reload(props("es-1", first)); // 같은 설정 -> 교체 없음
+        assertThat(jwksService.current().etag()).isEqualTo(before.etag());
+
+        keyRing.reload(props("es-2", first, second));
+        JwksService.Jwks after = jwksService.current();
+
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(objectMapper.readTree(after.json()).get("keys")).hasSize(2);
+    }
+
+    private static JwtProperties props(String activeKid, JwtProperties.SigningKey... keys) {
+        return new JwtProperties(ISSUER, null, activeKid, List.of(keys), 900, 1209600);
+    }
+
+    private static JwtProperties.SigningKey signingKey(String kid, JwtAlgorithm algorithm, KeyPair keyPair) {
+        return new JwtProperties.SigningKey(kid, algorithm, null,
+                pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()),
+                pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n" + Base64.getMimeEncoder().encodeToString(der) + "\n-----END " + type + "-----\n";
+    }
+
+    private JsonNode onlyKey(JwksService.Jwks jwks) throws Exception {
+        JsonNode keys = objectMapper.readTree(jwks.json()).get("keys");
+        assertThat(keys).hasSize(1);
+        return keys.get(0);
+    }
+
+    private static byte[] unsignedBytes(JsonNode jwk, String field) {
+        return Base64.getUrlDecoder().decode(jwk.get(field).asText());
+    }
+
+    private static PublicKey ecPublicKey(JsonNode jwk) throws Exception {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        ECPoint point = new ECPoint(new BigInteger(1, unsignedBytes(jwk, "x")), new BigInteger(1, unsignedBytes(jwk, "y")));
+        return KeyFactory.getInstance("EC")
+                .generatePublic(new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+    }
+
+    /**
+     * 다른 서비스가 하는 것처럼 JWK로 만든 공개키만으로 검증
+     * @return sub
+     */
+    private static String verifyWith(PublicKey publicKey, String token) {
+        return Jwts.parser()
+                .verifyWith(publicKey)
+                .requireIssuer(ISSUER)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * kid 기반 키 링 로테이션: 이전 키/폐기된 키/모르는 키 + 설정 재바인딩
+ * - 검증은 빠른 경로(verify)와 jjwt 파서(parseClaims) 둘 다 확인
+ */
+class JwtKeyRingTest {
+
+    private static final String ISSUER = "kakao-oauth2-jwt";
+    private static final String OLD_SECRET = "old-secret-old-secret-old-secret-0123456789";
+    private static final String NEW_SECRET = "new-secret-new-secret-new-secret-0123456789";
+
+    private final MockEnvironment environment = new MockEnvironment();
+
+    @Test
+    void tokenSignedUnderPreviousKidStillVerifiesAfterRotation() {
+        JwtProperties before = props("k1", hmac("k1", OLD_SECRET));
+        JwtKeyRing keyRing = new JwtKeyRing(before, environment);
+        FastAccessTokenVerifier fastVerifier = new FastAccessTokenVerifier(before, keyRing);
+        AccessTokenService accessTokens = new AccessTokenService(before, keyRing, fastVerifier);
+        String old = accessTokens.issueAccessToken("42", UserRole.CUSTOMER);
+
+        keyRing.reload(props("k2", hmac("k1", OLD_SECRET), hmac("k2", NEW_SECRET)));
+        String rotated = accessTokens.issueAccessToken("43", UserRole.OWNER);
+
+        assertThat(keyRing.version()).isEqualTo(2);
+        assertThat(header(old)).contains("\"kid\":\"k1\"");
+        assertThat(header(rotated)).contains("\"kid\":\"k2\"");
+
+        assertThat(accessTokens.parseClaims(old).getSubject()).isEqualTo("42");
+        assertThat(accessTokens.parseClaims(rotated).getSubject()).isEqualTo("43");
+        assertThat(fastVerifier.verify(old)).isNotNull(); // 키 링 버전이 바뀌어도 빠른 경로가 이전 kid를 다시 찾음
+        assertThat(fastVerifier.verify(rotated).role()).isEqualTo(UserRole.OWNER);
+    }
+
+    @Test
+    void retiredKidIsRejected() {
+        JwtProperties before = props("k1", hmac("k1", OLD_SECRET), hmac("k2", NEW_SECRET));
+        JwtKeyRing keyRing = new JwtKeyRing(before, environment);
+        FastAccessTokenVerifier fastVerifier = new FastAccessTokenVerifier(before, keyRing);
+        AccessTokenService accessTokens = new AccessTokenService(before, keyRing, fastVerifier);
+        String old = accessTokens.issueAccessToken("42", UserRole.CUSTOMER);
+        assertThat(fastVerifier.verify(old)).isNotNull(); // k1을 빠른 경로 캐시에 올려둠
+
+        keyRing.reload(props("k2", hmac("k2", NEW_SECRET)));
+
+        assertThat(fastVerifier.verify(old)).isNull();
+        assertThatThrownBy(() -> accessTokens.verify(old)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> accessTokens.parseClaims(old)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void unknownKidIsRejected() {
+        JwtProperties props = props("k1", hmac("k1", OLD_SECRET));
+        JwtKeyRing keyRing = new JwtKeyRing(props, environment);
+        FastAccessTokenVerifier fastVerifier = new FastAccessTokenVerifier(props, keyRing);
+        AccessTokenService accessTokens = new AccessTokenService(props, keyRing, fastVerifier);
+
+        // 서명 키는 맞지만 헤더의 kid가 키 링에 없음
+        String token = Jwts.builder()
+                .header().keyId("k9").and()
+                .issuer(ISSUER)
+                .subject("42")
+                .claim("role", UserRole.CUSTOMER.name())
+                .expiration(Date.from(Instant.now().plusSeconds(900)))
+                .signWith(Keys.hmacShaKeyFor(OLD_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThat(fastVerifier.verify(token)).isNull();
+        assertThatThrownBy(() -> accessTokens.verify(token)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> keyRing.verificationKey("k9")).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void newKeyTakesEffectAfterReloadFromEnvironment() {
+        environment.withProperty("app.auth.jwt.issuer", ISSUER)
+                .withProperty("app.auth.jwt.access-ttl-seconds", "900")
+                .withProperty("app.auth.jwt.refresh-ttl-seconds", "1209600")
+                .withProperty("app.auth.jwt.keys[0].kid", "k1")
+                .withProperty("app.auth.jwt.keys[0].secret", OLD_SECRET);
+        JwtProperties props = Binder.get(environment).bind("app.auth.jwt", JwtProperties.class).get();
+        JwtKeyRing keyRing = new JwtKeyRing(props, environment);
+        AccessTokenService accessTokens =
+                new AccessTokenService(props, keyRing, new FastAccessTokenVerifier(props, keyRing));
+        String old = accessTokens.issueAccessToken("42", UserRole.CUSTOMER);
+
+        keyRing.reloadFromEnvironment(); // 설정이 그대로면 교체하지 않음
+        assertThat(keyRing.version()).isEqualTo(1);
+
+        environment.setProperty("app.auth.jwt.keys[1].kid", "k2");
+        environment.setProperty("app.auth.jwt.keys[1].secret", NEW_SECRET);
+        environment.setProperty("app.auth.jwt.active-kid", "k2");
+        keyRing.reloadFromEnvironment();
+
+        assertThat(keyRing.version()).isEqualTo(2);
+        assertThat(keyRing.active().kid()).isEqualTo("k2");
+        String rotated = accessTokens.issueAccessToken("43", UserRole.CUSTOMER);
+        assertThat(header(rotated)).contains("\"kid\":\"k2\"");
+        assertThat(accessTokens.verify(rotated).userId()).isEqualTo(43L);
+        assertThat(accessTokens.verify(old).userId()).isEqualTo(42L);
+    }
+
+    private static JwtProperties props(String activeKid, JwtProperties.SigningKey... keys) {
+        return new JwtProperties(ISSUER, null, activeKid, List.of(keys), 900, 1209600);
+    }
+
+    private static JwtProperties.SigningKey hmac(String kid, String secret) {
+        return new JwtProperties.SigningKey(kid, JwtAlgorithm.HMAC, secret, null, null);
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.hyeonseo.auth.token;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.codec.PayloadCodecProperties;
+import io.github.hyeonseo.auth.common.codec.PayloadFormat;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.support.RedisClusterStandIn;
+import io.github.hyeonseo.auth.token.RefreshTokenService.RefreshTokenPayload;
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 해시 태그 키 구성이 클러스터에서 동작하는지 (노드 3개짜리 대체 클러스터)
+ * - 사용자 단위 연산은 사용자 키(ACTIVE/세션 목록)의 노드로, 토큰 단위 연산은 토큰만 보고 구한 노드로 보냄
+ */
+class RedisClusterKeyLayoutTest {
+
+    private static final long TTL = 600;
+    private static final int USERS = 100;
+
+    private final RefreshTokenPayloadCodec codec =
+            new RefreshTokenPayloadCodec(new ObjectMapper(), new PayloadCodecProperties(PayloadFormat.BINARY));
+
+    private RedisClusterStandIn cluster;
+    private final List<RefreshSessionStore> stores = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cluster = new RedisClusterStandIn(3);
+        for (int i = 0; i < cluster.size(); i++) {
+            stores.add(new RedisRefreshSessionStore(
+                    cluster.node(i).template(), cluster.node(i).payloadTemplate(), null, false));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        cluster.close();
+    }
+
+    @Test
+    void userKeysAndScriptKeysShareOneSlot() {
+        for (int i = 0; i < USERS; i++) {
+            UserRole role = randomRole();
+            long userId = randomUserId();
+            String token = RefreshTokens.issue(role, userId);
+            String next = RefreshTokens.next(token);
+
+            assertOneSlot(List.of(RefreshCommands.tokenKey(token), RefreshCommands.tokenKey(next),
+                    RefreshCommands.activeKey(role, userId), RefreshCommands.sessionsKey(role, userId)));
+
+            assertOneSlot(RefreshCommands.rotateSingle(token, next, 1, TTL).keys());
+            assertOneSlot(RefreshCommands.rotateSession(token, next, 1, TTL).keys());
+            assertOneSlot(RefreshCommands.revokeSession(token).keys());
+            assertOneSlot(RefreshCommands.issueSession(userId, role, token, new byte[0], 1, TTL, 5).keys());
+            assertOneSlot(RefreshCommands.logoutAll(userId, role, false).keys());
+        }
+    }
+
+    @Test
+    void sessionsWorkWhenRoutedByTokenAlone() {
+        Set<Integer> usedNodes = new HashSet<>();
+
+        for (int i = 0; i < USERS; i++) {
+            UserRole role = randomRole();
+            long userId = randomUserId();
+            usedNodes.add(cluster.nodeIndex(RefreshCommands.activeKey(role, userId)));
+
+            // 싱글세션: 발급은 사용자 노드, 검증/교체는 토큰만 보고 고른 노드
+            String token = RefreshTokens.issue(role, userId);
+            byUser(role, userId).issueSingle(role, userId, token, payload(role, userId, 100), TTL);
+
+            assertThat(byToken(token).get(token)).isNotNull();
+            assertThat(byToken(token).isActive(role, userId, token)).isTrue();
+
+            String rotated = RefreshTokens.next(token);
+            assertThat(byToken(token).rotateSingle(token, rotated, 200, TTL)).isNotNull();
+            assertThat(byToken(rotated).isActive(role, userId, rotated)).isTrue();
+            assertThat(byToken(token).get(token)).isNull();
+
+            // 멀티세션
+            String a = RefreshTokens.issue(role, userId);
+            String b = RefreshTokens.issue(role, userId);
+            byUser(role, userId).issueSession(role, userId, a, payload(role, userId, 300), 300, TTL, 5);
+            byUser(role, userId).issueSession(role, userId, b, payload(role, userId, 301), 301, TTL, 5);
+
+            String next = RefreshTokens.next(a);
+            assertThat(codec.decode(byToken(a).rotateSession(a, next, 400, TTL)))
+                    .isEqualTo(new RefreshTokenPayload(userId, role, 400));
+            assertThat(byToken(b).revokeSession(b)).isTrue();
+
+            assertThat(cluster.misplacedKeys()).isEmpty();
+
+            // 남은 세션: 싱글세션 1 + 멀티세션 1
+            assertThat(byUser(role, userId).revokeAll(role, userId)).isEqualTo(2);
+            assertThat(byToken(rotated).get(rotated)).isNull();
+            assertThat(byToken(next).get(next)).isNull();
+        }
+
+        assertThat(usedNodes).hasSizeGreaterThan(1);
+    }
+
+    private RefreshSessionStore byToken(String token) {
+        return stores.get(cluster.nodeIndex(RefreshCommands.tokenKey(token)));
+    }
+
+    private RefreshSessionStore byUser(UserRole role, long userId) {
+        return stores.get(cluster.nodeIndex(RefreshCommands.activeKey(role, userId)));
+    }
+
+    private byte[] payload(UserRole role, long userId, long issuedAt) {
+        return codec.encode(new RefreshTokenPayload(userId, role, issuedAt));
+    }
+
+    private static void assertOneSlot(List<String> keys) {
+        assertThat(keys.stream().map(SlotHash::getSlot).distinct()).as("slots of %s", keys).hasSize(1);
+    }
+
+    private static UserRole randomRole() {
+        UserRole[] roles = UserRole.values();
+        return roles[ThreadLocalRandom.current().nextInt(roles.length)];
+    }
+
+    private static long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+    }
+}
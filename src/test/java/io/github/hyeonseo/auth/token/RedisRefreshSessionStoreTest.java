@@ -0,0 +1,151 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.support.InProcessRedis;
+import io.github.hyeonseo.auth.token.RefreshTokenService.RefreshTokenPayload;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisRefreshSessionStoreTest extends RefreshSessionStoreConformanceTest {
+
+    private static final long USER_ID = 42;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    // 해시 태그 도입 전 키 형식
+    private static final String LEGACY_TOKEN_PREFIX = "auth:refresh:token:";
+    private static final String LEGACY_ACTIVE_KEY = "auth:refresh:active:CUSTOMER:42";
+    private static final String LEGACY_SESSIONS_KEY = "auth:refresh:sessions:CUSTOMER:42";
+
+    private InProcessRedis redis;
+
+    @Override
+    protected RefreshSessionStore createStore() throws Exception {
+        redis = new InProcessRedis();
+        return new RedisRefreshSessionStore(redis.template(), redis.payloadTemplate());
+    }
+
+    @Override
+    protected void closeStore() throws Exception {
+        redis.close();
+    }
+
+    @Test
+    void rotateSingleMovesLegacyTokenToTaggedKeys() {
+        String legacy = legacyToken();
+        redis.template().opsForValue().set(LEGACY_ACTIVE_KEY, legacy, TTL);
+        assertThat(store.isActive(UserRole.CUSTOMER, USER_ID, legacy)).isTrue();
+
+        String next = RefreshTokens.issue(UserRole.CUSTOMER, USER_ID);
+        byte[] rotated = store.rotateSingle(legacy, next, 300, TTL.toSeconds());
+
+        assertThat(codec.decode(rotated)).isEqualTo(new RefreshTokenPayload(USER_ID, UserRole.CUSTOMER, 300));
+        assertThat(store.activeToken(UserRole.CUSTOMER, USER_ID)).isEqualTo(next);
+        assertThat(redis.template().hasKey(LEGACY_ACTIVE_KEY)).isFalse();
+        assertThat(store.get(legacy)).isNull();
+    }
+
+    @Test
+    void rotateSingleReadsJsonPayloadWrittenBeforeBinaryFormat() {
+        // 바이너리 형식 도입 전 값: Jackson JSON 문자열
+        String legacy = UUID.randomUUID().toString();
+        redis.template().opsForValue().set(LEGACY_TOKEN_PREFIX + legacy,
+                "{\"userId\":42,\"role\":\"CUSTOMER\",\"issuedAtEpochSec\":100}", TTL);
+        redis.template().opsForValue().set(LEGACY_ACTIVE_KEY, legacy, TTL);
+
+        byte[] rotated = store.rotateSingle(legacy, RefreshTokens.issue(UserRole.CUSTOMER, USER_ID), 300, TTL.toSeconds());
+
+        assertThat(rotated[0]).isEqualTo((byte) '{'); // 스크립트는 형식을 유지하고 발급 시각만 바꿈
+        assertThat(codec.decode(rotated)).isEqualTo(new RefreshTokenPayload(USER_ID, UserRole.CUSTOMER, 300));
+    }
+
+    @Test
+    void rotateSessionMovesLegacySessionToTaggedKeys() {
+        String legacy = legacyToken();
+        redis.template().opsForZSet().add(LEGACY_SESSIONS_KEY, legacy, 100);
+
+        String next = RefreshTokens.issue(UserRole.CUSTOMER, USER_ID);
+        assertThat(store.rotateSession(legacy, next, 300, TTL.toSeconds())).isNotNull();
+
+        assertThat(redis.template().opsForZSet().score(LEGACY_SESSIONS_KEY, legacy)).isNull();
+        assertThat(redis.template().opsForZSet().score(RefreshCommands.sessionsKey(UserRole.CUSTOMER, USER_ID), next)).isEqualTo(300.0);
+    }
+
+    @Test
+    void issueSingleRevokesLegacyActiveToken() {
+        String legacy = legacyToken();
+        redis.template().opsForValue().set(LEGACY_ACTIVE_KEY, legacy, TTL);
+
+        store.issueSingle(UserRole.CUSTOMER, USER_ID, RefreshTokens.issue(UserRole.CUSTOMER, USER_ID),
+                codec.encode(new RefreshTokenPayload(USER_ID, UserRole.CUSTOMER, 200)), TTL.toSeconds());
+
+        assertThat(store.isActive(UserRole.CUSTOMER, USER_ID, legacy)).isFalse();
+        assertThat(store.rotateSingle(legacy, RefreshTokens.issue(UserRole.CUSTOMER, USER_ID), 300, TTL.toSeconds())).isNull();
+    }
+
+    @Test
+    void issueKeepsTokenWithActivePointer() {
+        String first = RefreshTokens.issue(UserRole.CUSTOMER, USER_ID);
+        String second = RefreshTokens.issue(UserRole.CUSTOMER, USER_ID);
+        byte[] payload = codec.encode(new RefreshTokenPayload(USER_ID, UserRole.CUSTOMER, 200));
+
+        store.issueSingle(UserRole.CUSTOMER, USER_ID, first, payload, TTL.toSeconds());
+        store.issueSingle(UserRole.CUSTOMER, USER_ID, second, payload, TTL.toSeconds());
+
+        assertThat(store.get(first)).isNull();
+        assertThat(store.activeToken(UserRole.CUSTOMER, USER_ID)).isEqualTo(second);
+        assertThat(redis.template().getExpire(RefreshCommands.activeKey(UserRole.CUSTOMER, USER_ID))).isPositive();
+    }
+
+    @Test
+    void issueStatsMatchCommandsActuallySent() {
+        RedisRefreshSessionStore redisStore = (RedisRefreshSessionStore) store;
+        byte[] payload = codec.encode(new RefreshTokenPayload(USER_ID, UserRole.CUSTOMER, 200));
+        List<Runnable> issues = List.of(
+                () -> redisStore.issueSingle(UserRole.CUSTOMER, USER_ID, RefreshTokens.issue(UserRole.CUSTOMER, USER_ID), payload, TTL.toSeconds()),
+                () -> redisStore.issueSession(UserRole.CUSTOMER, USER_ID, RefreshTokens.issue(UserRole.CUSTOMER, USER_ID), payload, 200, TTL.toSeconds(), 5),
+                () -> redisStore.issueVersion(UserRole.CUSTOMER, USER_ID, 0, TTL.toSeconds())
+        );
+
+        for (Runnable issue : issues) {
+            issue.run(); // 스크립트 캐시 채우기
+            RedisRoundTrips.Stats before = redisStore.issueStats();
+            redis.clearSentCommands();
+
+            issue.run();
+
+            RedisRoundTrips.Stats after = redisStore.issueStats();
+            // NOSCRIPT 후 EVAL 재시도는 집계 대상이 아님 -> 그 외에 보낸 명령은 스크립트 한 번뿐이어야 함
+            List<String> sent = redis.sentCommands().stream().filter(command -> !command.equals("EVAL")).toList();
+            assertThat(sent).containsExactly("EVALSHA");
+            assertThat(after.operations() - before.operations()).isEqualTo(1);
+            assertThat(after.roundTrips() - before.roundTrips()).isEqualTo(sent.size());
+        }
+    }
+
+    @Test
+    void revokeAllIncludesLegacySessions() {
+        String single = legacyToken();
+        String session = legacyToken();
+        redis.template().opsForValue().set(LEGACY_ACTIVE_KEY, single, TTL);
+        redis.template().opsForZSet().add(LEGACY_SESSIONS_KEY, session, 100);
+
+        assertThat(store.revokeAll(UserRole.CUSTOMER, USER_ID)).isEqualTo(2);
+        assertThat(store.get(single)).isNull();
+        assertThat(store.get(session)).isNull();
+    }
+
+    /**
+     * 이전 형식 토큰 (UUID만) + payload 저장
+     */
+    private String legacyToken() {
+        String token = UUID.randomUUID().toString();
+        redis.payloadTemplate().opsForValue().set(LEGACY_TOKEN_PREFIX + token,
+                codec.encode(new RefreshTokenPayload(USER_ID, UserRole.CUSTOMER, 100)), TTL);
+        return token;
+    }
+}
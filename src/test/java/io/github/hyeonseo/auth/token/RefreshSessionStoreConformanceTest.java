@@ -0,0 +1,259 @@
+package io.github.hyeonseo.auth.token;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.codec.PayloadCodecProperties;
+import io.github.hyeonseo.auth.common.codec.PayloadFormat;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.token.RefreshTokenService.RefreshTokenPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.github.hyeonseo.auth.support.Concurrency.race;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RefreshSessionStore 구현 공통 동작 (구현마다 하위 클래스로 실행)
+ */
+abstract class RefreshSessionStoreConformanceTest {
+
+    private static final long TTL = 600;
+    private static final UserRole ROLE = UserRole.CUSTOMER;
+
+    protected final RefreshTokenPayloadCodec codec =
+            new RefreshTokenPayloadCodec(new ObjectMapper(), new PayloadCodecProperties(PayloadFormat.BINARY));
+
+    protected RefreshSessionStore store;
+    private long userId;
+
+    protected abstract RefreshSessionStore createStore() throws Exception;
+
+    protected abstract void closeStore() throws Exception;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = createStore();
+        userId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE); // 2^53 넘는 id도 Lua에서 정확히 처리되는지
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeStore();
+    }
+
+    @Test
+    void issueSingleSetsTokenAndActivePointer() {
+        String token = token();
+        store.issueSingle(ROLE, userId, token, payload(100), TTL);
+
+        assertThat(decode(store.get(token))).isEqualTo(new RefreshTokenPayload(userId, ROLE, 100));
+        assertThat(store.activeToken(ROLE, userId)).isEqualTo(token);
+        assertThat(store.activeToken(UserRole.OWNER, userId)).isNull(); // role별로 분리
+    }
+
+    @Test
+    void issueSingleRevokesPreviousToken() {
+        String first = token();
+        String second = token();
+        store.issueSingle(ROLE, userId, first, payload(100), TTL);
+        store.issueSingle(ROLE, userId, second, payload(200), TTL);
+
+        assertThat(store.get(first)).isNull();
+        assertThat(store.activeToken(ROLE, userId)).isEqualTo(second);
+    }
+
+    @Test
+    void rotateSingleSwapsTokenAndKeepsOwner() {
+        String token = token();
+        String next = token();
+        store.issueSingle(ROLE, userId, token, payload(100), TTL);
+
+        byte[] rotated = store.rotateSingle(token, next, 300, TTL);
+
+        assertThat(decode(rotated)).isEqualTo(new RefreshTokenPayload(userId, ROLE, 300));
+        assertThat(store.get(token)).isNull();
+        assertThat(decode(store.get(next))).isEqualTo(new RefreshTokenPayload(userId, ROLE, 300));
+        assertThat(store.activeToken(ROLE, userId)).isEqualTo(next);
+    }
+
+    @Test
+    void rotateSingleRejectsUnknownAndStaleTokens() {
+        assertThat(store.rotateSingle(token(), token(), 300, TTL)).isNull();
+
+        String token = token();
+        store.issueSingle(ROLE, userId, token, payload(100), TTL);
+        store.rotateSingle(token, token(), 200, TTL);
+
+        // 이미 교체된 토큰으로 다시 시도
+        assertThat(store.rotateSingle(token, token(), 300, TTL)).isNull();
+    }
+
+    @Test
+    void rotateSingleDeletesTokenThatIsNotActive() {
+        String stale = token();
+        store.issueSingle(ROLE, userId, stale, payload(100), TTL);
+        store.clearActive(ROLE, userId);
+
+        assertThat(store.rotateSingle(stale, token(), 300, TTL)).isNull();
+        assertThat(store.get(stale)).isNull();
+    }
+
+    @Test
+    void concurrentRotateSingleHasSingleWinner() throws Exception {
+        String token = token();
+        store.issueSingle(ROLE, userId, token, payload(100), TTL);
+
+        List<byte[]> results = race(8, () -> store.rotateSingle(token, token(), 200, TTL));
+
+        assertThat(results.stream().filter(r -> r != null).count()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteAndClearActive() {
+        String token = token();
+        store.issueSingle(ROLE, userId, token, payload(100), TTL);
+
+        store.delete(token);
+        store.clearActive(ROLE, userId);
+
+        assertThat(store.get(token)).isNull();
+        assertThat(store.activeToken(ROLE, userId)).isNull();
+    }
+
+    @Test
+    void issueSessionEvictsOldestBeyondMax() {
+        String a = token();
+        String b = token();
+        String c = token();
+
+        assertThat(store.issueSession(ROLE, userId, a, payload(100), 100, TTL, 2)).isZero();
+        assertThat(store.issueSession(ROLE, userId, b, payload(101), 101, TTL, 2)).isZero();
+        assertThat(store.issueSession(ROLE, userId, c, payload(102), 102, TTL, 2)).isEqualTo(1);
+
+        assertThat(store.get(a)).isNull();
+        assertThat(store.get(b)).isNotNull();
+        assertThat(store.get(c)).isNotNull();
+    }
+
+    @Test
+    void rotateSessionKeepsOtherSessions() {
+        String a = token();
+        String b = token();
+        String next = token();
+        store.issueSession(ROLE, userId, a, payload(100), 100, TTL, 5);
+        store.issueSession(ROLE, userId, b, payload(101), 101, TTL, 5);
+
+        byte[] rotated = store.rotateSession(a, next, 300, TTL);
+
+        assertThat(decode(rotated)).isEqualTo(new RefreshTokenPayload(userId, ROLE, 300));
+        assertThat(store.get(a)).isNull();
+        assertThat(store.get(b)).isNotNull();
+        assertThat(store.get(next)).isNotNull();
+        assertThat(store.rotateSession(a, token(), 400, TTL)).isNull();
+    }
+
+    @Test
+    void rotateSessionMigratesSingleSessionToken() {
+        String single = token();
+        String next = token();
+        store.issueSingle(ROLE, userId, single, payload(100), TTL);
+
+        assertThat(store.rotateSession(single, next, 300, TTL)).isNotNull();
+        assertThat(store.activeToken(ROLE, userId)).isNull();
+
+        // 옮겨진 세션은 세션 목록으로 폐기됨
+        assertThat(store.revokeAll(ROLE, userId)).isEqualTo(1);
+        assertThat(store.get(next)).isNull();
+    }
+
+    @Test
+    void revokeSessionIsIdempotent() {
+        String a = token();
+        String b = token();
+        store.issueSession(ROLE, userId, a, payload(100), 100, TTL, 5);
+        store.issueSession(ROLE, userId, b, payload(101), 101, TTL, 5);
+
+        assertThat(store.revokeSession(a)).isTrue();
+        assertThat(store.revokeSession(a)).isFalse();
+        assertThat(store.get(a)).isNull();
+        assertThat(store.get(b)).isNotNull();
+    }
+
+    @Test
+    void revokeSessionClearsActivePointer() {
+        String token = token();
+        store.issueSingle(ROLE, userId, token, payload(100), TTL);
+
+        assertThat(store.revokeSession(token)).isTrue();
+        assertThat(store.activeToken(ROLE, userId)).isNull();
+    }
+
+    @Test
+    void revokeAllRemovesSingleAndMultiSessions() {
+        String single = token();
+        String a = token();
+        String b = token();
+        store.issueSingle(ROLE, userId, single, payload(100), TTL);
+        store.issueSession(ROLE, userId, a, payload(101), 101, TTL, 5);
+        store.issueSession(ROLE, userId, b, payload(102), 102, TTL, 5);
+
+        assertThat(store.revokeAll(ROLE, userId)).isEqualTo(3);
+        assertThat(store.get(single)).isNull();
+        assertThat(store.get(a)).isNull();
+        assertThat(store.get(b)).isNull();
+        assertThat(store.activeToken(ROLE, userId)).isNull();
+        assertThat(store.revokeAll(ROLE, userId)).isZero();
+    }
+
+    @Test
+    void issueVersionInvalidatesPreviousVersion() {
+        long floor = System.currentTimeMillis();
+        long first = store.issueVersion(ROLE, userId, floor, TTL);
+        long second = store.issueVersion(ROLE, userId, floor, TTL);
+
+        assertThat(first).isEqualTo(floor);
+        assertThat(second).isEqualTo(floor + 1); // 같은 ms에 다시 발급해도 증가
+        assertThat(store.isCurrentVersion(ROLE, userId, first)).isFalse();
+        assertThat(store.isCurrentVersion(ROLE, userId, second)).isTrue();
+        assertThat(store.currentVersion(UserRole.OWNER, userId)).isZero(); // role별로 분리
+    }
+
+    @Test
+    void rotateVersionOnlyFromCurrentVersion() throws Exception {
+        long version = store.issueVersion(ROLE, userId, System.currentTimeMillis(), TTL);
+
+        List<Long> results = race(8, () -> store.rotateVersion(ROLE, userId, version, TTL));
+
+        assertThat(results).containsOnlyOnce(version + 1);
+        assertThat(results.stream().filter(v -> v == 0)).hasSize(7);
+        assertThat(store.rotateVersion(ROLE, userId, version, TTL)).isZero(); // 교체된 토큰 재사용
+        assertThat(store.currentVersion(ROLE, userId)).isEqualTo(version + 1);
+    }
+
+    @Test
+    void revokeVersionInvalidatesCurrentVersion() {
+        assertThat(store.revokeVersion(ROLE, userId)).isFalse();
+
+        long version = store.issueVersion(ROLE, userId, System.currentTimeMillis(), TTL);
+        assertThat(store.revokeVersion(ROLE, userId)).isTrue();
+
+        assertThat(store.isCurrentVersion(ROLE, userId, version)).isFalse();
+        assertThat(store.rotateVersion(ROLE, userId, version, TTL)).isZero();
+    }
+
+    private byte[] payload(long issuedAt) {
+        return codec.encode(new RefreshTokenPayload(userId, ROLE, issuedAt));
+    }
+
+    private RefreshTokenPayload decode(byte[] bytes) {
+        assertThat(bytes).isNotNull();
+        return codec.decode(bytes);
+    }
+
+    private String token() {
+        return RefreshTokens.issue(ROLE, userId);
+    }
+}
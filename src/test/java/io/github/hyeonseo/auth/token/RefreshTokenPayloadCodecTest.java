@@ -0,0 +1,74 @@
+package io.github.hyeonseo.auth.token;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.hyeonseo.auth.common.codec.PayloadCodecProperties;
+import io.github.hyeonseo.auth.common.codec.PayloadFormat;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.token.RefreshTokenService.RefreshTokenPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * refresh payload 바이너리 형식 + 형식 전환 전(JSON) 값 호환
+ */
+class RefreshTokenPayloadCodecTest {
+
+    private final RefreshTokenPayloadCodec binary = codec(PayloadFormat.BINARY);
+    private final RefreshTokenPayloadCodec json = codec(PayloadFormat.JSON);
+
+    @Test
+    void binaryRoundTrip() {
+        long[] userIds = {1, 127, 128, 16_384, (1L << 53) + 1, 600_000_000_000_000_000L, Long.MAX_VALUE};
+        long[] issuedAts = {0, 1_700_000_000L};
+
+        for (UserRole role : UserRole.values()) {
+            for (long userId : userIds) {
+                for (long issuedAt : issuedAts) {
+                    RefreshTokenPayload payload = new RefreshTokenPayload(userId, role, issuedAt);
+                    assertThat(binary.decode(binary.encode(payload))).isEqualTo(payload);
+                }
+            }
+        }
+    }
+
+    @Test
+    void binaryLayoutIsStable() {
+        // Lua 스크립트(refresh-payload.lua)도 이 배치를 그대로 읽으므로 바뀌면 안 됨
+        byte[] encoded = binary.encode(new RefreshTokenPayload(300, UserRole.OWNER, 1_700_000_000L));
+
+        assertThat(encoded).containsExactly(0x01, 0x01, 0xAC, 0x02, 0x80, 0xE2, 0xCF, 0xAA, 0x06);
+    }
+
+    @Test
+    void decodesLegacyJsonWrittenBeforeSwitch() {
+        // 바이너리 형식 도입 전 RefreshTokenService가 Jackson으로 저장하던 값 그대로
+        byte[] legacy = "{\"userId\":42,\"role\":\"OWNER\",\"issuedAtEpochSec\":1700000000}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(binary.decode(legacy)).isEqualTo(new RefreshTokenPayload(42, UserRole.OWNER, 1_700_000_000L));
+        assertThat(json.decode(legacy)).isEqualTo(new RefreshTokenPayload(42, UserRole.OWNER, 1_700_000_000L));
+    }
+
+    @Test
+    void eitherWriterIsReadableByEitherReader() {
+        RefreshTokenPayload payload = new RefreshTokenPayload(600_000_000_000_000_001L, UserRole.CUSTOMER, 1_700_000_000L);
+
+        assertThat(json.encode(payload)[0]).isEqualTo((byte) '{');
+        assertThat(binary.decode(json.encode(payload))).isEqualTo(payload);
+        assertThat(json.decode(binary.encode(payload))).isEqualTo(payload); // 다시 JSON으로 되돌려도 읽을 수 있음
+    }
+
+    @Test
+    void rejectsUnknownOrTruncatedPayload() {
+        assertThatThrownBy(() -> binary.decode(new byte[]{0x02, 0x00, 0x01, 0x01})).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> binary.decode(new byte[]{0x01, 0x00, (byte) 0x80, (byte) 0x80})).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> binary.decode(new byte[]{0x01, 0x00})).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static RefreshTokenPayloadCodec codec(PayloadFormat format) {
+        return new RefreshTokenPayloadCodec(new ObjectMapper(), new PayloadCodecProperties(format));
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.hyeonseo.auth.token;
+
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.token.RefreshTokenService.RefreshTokenPayload;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서명된 refresh 토큰: 왕복 + access token과 서로 바꿔 쓸 수 없는지
+ */
+class SignedRefreshTokensTest {
+
+    private static final long TTL = 600;
+
+    private final JwtProperties props = new JwtProperties(
+            "kakao-oauth2-jwt", "test-secret-test-secret-test-secret-0123456789", null, List.of(), 900, 1209600);
+    private final JwtKeyRing keyRing = new JwtKeyRing(props, new StandardEnvironment());
+    private final SignedRefreshTokens signedTokens = new SignedRefreshTokens(props, keyRing);
+    private final AccessTokenService accessTokens =
+            new AccessTokenService(props, keyRing, new FastAccessTokenVerifier(props, keyRing));
+
+    @Test
+    void parseReturnsSignedPayloadAndVersion() {
+        RefreshTokenPayload payload = new RefreshTokenPayload(42L, UserRole.OWNER, Instant.now().getEpochSecond());
+
+        String token = signedTokens.sign(payload, 1_700_000_000_123L, TTL);
+
+        assertThat(signedTokens.parse(token))
+                .isEqualTo(new SignedRefreshTokens.SignedRefreshToken(payload, 1_700_000_000_123L));
+    }
+
+    @Test
+    void rejectsTamperedExpiredAndOpaqueTokens() {
+        long now = Instant.now().getEpochSecond();
+        String token = signedTokens.sign(new RefreshTokenPayload(42L, UserRole.CUSTOMER, now), 1, TTL);
+        String expired = signedTokens.sign(new RefreshTokenPayload(42L, UserRole.CUSTOMER, now - TTL - 1), 1, TTL);
+
+        assertThat(signedTokens.parse(token.substring(0, token.length() - 2) + "AA")).isNull();
+        assertThat(signedTokens.parse(expired)).isNull();
+        assertThat(signedTokens.parse(RefreshTokens.issue(UserRole.CUSTOMER, 42L))).isNull();
+    }
+
+    @Test
+    void refreshAndAccessTokensAreNotInterchangeable() {
+        String refresh = signedTokens.sign(new RefreshTokenPayload(42L, UserRole.CUSTOMER, Instant.now().getEpochSecond()), 1, TTL);
+        String access = accessTokens.issueAccessToken("42", UserRole.CUSTOMER);
+
+        assertThatThrownBy(() -> accessTokens.verify(refresh)).isInstanceOf(JwtException.class);
+        assertThat(signedTokens.parse(access)).isNull();
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.hyeonseo.auth.user.identity;
+
+import io.github.hyeonseo.auth.common.types.AuthProvider;
+import io.github.hyeonseo.auth.common.types.UserRole;
+import io.github.hyeonseo.auth.support.InProcessRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미가입 캐시가 가입 직후 로그인을 막지 않는지 (서버 2대가 Redis 하나를 공유)
+ */
+class UserIdentityCacheTest {
+
+    private static final UserRole ROLE = UserRole.CUSTOMER;
+    private static final AuthProvider PROVIDER = AuthProvider.KAKAO;
+    private static final String PROVIDER_ID = "3141592653";
+
+    private InProcessRedis redis;
+    private UserIdentityCache nodeA;
+    private UserIdentityCache nodeB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new InProcessRedis();
+        UserIdentityCacheProperties props = new UserIdentityCacheProperties(true, 0, 0, 0, 0);
+        nodeA = new UserIdentityCache(redis.template(), props);
+        nodeB = new UserIdentityCache(redis.template(), props);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @Test
+    void signupOnAnotherNodeIsVisibleRightAway() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(nodeA.findUserId(ROLE, PROVIDER, PROVIDER_ID, () -> { loads.incrementAndGet(); return null; })).isNull();
+        assertThat(nodeA.findUserId(ROLE, PROVIDER, PROVIDER_ID, () -> { loads.incrementAndGet(); return null; })).isNull();
+        assertThat(loads).hasValue(1); // 미가입도 Redis에 캐시
+
+        nodeB.put(ROLE, PROVIDER, PROVIDER_ID, 42L);
+
+        assertThat(nodeA.findUserId(ROLE, PROVIDER, PROVIDER_ID, () -> { loads.incrementAndGet(); return null; })).isEqualTo(42L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void lateNegativeDoesNotOverwriteSignup() {
+        // nodeA가 가입 커밋 전에 DB를 읽고, 그 사이 nodeB에서 가입이 끝남
+        Long found = nodeA.findUserId(ROLE, PROVIDER, PROVIDER_ID, () -> {
+            nodeB.put(ROLE, PROVIDER, PROVIDER_ID, 42L);
+            return null;
+        });
+
+        assertThat(found).isNull();
+        assertThat(nodeA.findUserId(ROLE, PROVIDER, PROVIDER_ID, () -> null)).isEqualTo(42L);
+    }
+}